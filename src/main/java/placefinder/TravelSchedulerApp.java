@@ -1,18 +1,36 @@
 package placefinder;
 
 import javax.swing.SwingUtilities;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.List;
 
+import placefinder.frameworks_drivers.api.ApiEndpoints;
 import placefinder.frameworks_drivers.api.GoogleMapsRouteGatewayImpl;
+import placefinder.frameworks_drivers.api.HttpUtil;
 import placefinder.frameworks_drivers.database.Database;
 import placefinder.frameworks_drivers.dataaccess.SqliteUserDataAccess;
 import placefinder.frameworks_drivers.dataaccess.SqlitePreferenceDataAccess;
 import placefinder.frameworks_drivers.dataaccess.SqlitePlanDataAccess;
 import placefinder.frameworks_drivers.dataaccess.SmtpEmailDataAccess;
 import placefinder.frameworks_drivers.dataaccess.EmailConfig;
+import placefinder.frameworks_drivers.dataaccess.SqliteApiUsage;
 
 import placefinder.frameworks_drivers.api.OpenCageGeocodingGateway;
 import placefinder.frameworks_drivers.api.GeoApifyGatewayImpl;
 import placefinder.frameworks_drivers.api.OpenMeteoWeatherGatewayImpl;
+import placefinder.frameworks_drivers.cache.CachingGeocodingGateway;
+import placefinder.frameworks_drivers.cache.CachingPlacesGateway;
+import placefinder.frameworks_drivers.cache.CachingPlanGateway;
+import placefinder.frameworks_drivers.cache.CachingPreferenceGateway;
+import placefinder.frameworks_drivers.cache.CachingRouteGateway;
+import placefinder.frameworks_drivers.cache.CachingWeatherGateway;
+import placefinder.frameworks_drivers.replay.ReplayGeocodingGateway;
+import placefinder.frameworks_drivers.replay.ReplayPlacesGateway;
+import placefinder.frameworks_drivers.replay.ReplayRouteGateway;
+import placefinder.frameworks_drivers.replay.ReplayWeatherGateway;
+import placefinder.frameworks_drivers.replay.TrafficTape;
+import placefinder.frameworks_drivers.resilience.*;
 
 import placefinder.usecases.dataacessinterfaces.*;
 import placefinder.usecases.favouritelocation.AddFavoriteInputBoundary;
@@ -22,6 +40,7 @@ import placefinder.usecases.favouritelocation.DeleteFavoriteInteractor;
 
 // login & register
 import placefinder.usecases.login.*;
+import placefinder.usecases.warmup.*;
 import placefinder.usecases.register.*;
 
 // preferences
@@ -30,6 +49,11 @@ import placefinder.usecases.preferences.*;
 // search places + build/save plan
 import placefinder.usecases.searchplaces.*;
 import placefinder.usecases.buildplan.*;
+import placefinder.usecases.autoplan.*;
+import placefinder.usecases.alternatives.*;
+import placefinder.usecases.alongroute.*;
+import placefinder.usecases.bestorigin.*;
+import placefinder.usecases.routing.WalkingFeasibility;
 import placefinder.usecases.saveplan.*;
 
 // plans
@@ -41,11 +65,14 @@ import placefinder.usecases.listplans.*;
 
 // weather advice
 import placefinder.usecases.weatheradvice.*;
+import placefinder.usecases.bestday.*;
 
 // verify email
 import placefinder.usecases.verify.*;
 
 // logging
+import placefinder.usecases.logging.AppLogger;
+import placefinder.usecases.logging.StructuredPlacesLogger;
 import placefinder.usecases.logging.SwitchablePlacesLogger;
 
 // interface adapters
@@ -53,7 +80,13 @@ import placefinder.interface_adapters.controllers.*;
 import placefinder.interface_adapters.viewmodels.*;
 import placefinder.interface_adapters.presenters.*;
 
+import placefinder.frameworks_drivers.logging.AsyncJsonLogger;
+import placefinder.frameworks_drivers.metrics.FlightRecorderInterceptors;
 import placefinder.frameworks_drivers.view.frames.AppFrame;
+import placefinder.usecases.instrumentation.Instrumentation;
+import placefinder.usecases.instrumentation.SlowCallLogger;
+import placefinder.usecases.metrics.MetricsRegistry;
+import placefinder.usecases.tracing.Tracer;
 import placefinder.frameworks_drivers.view.frames.SplashScreen;
 
 public class TravelSchedulerApp {
@@ -69,25 +102,121 @@ public class TravelSchedulerApp {
         }
 
         // ========== GATEWAYS (Frameworks & Drivers) ==========
-        UserDataAccessInterface userDataAccessInterface = new SqliteUserDataAccess();
-        PreferenceDataAccessInterface preferenceDataAccessInterface = new SqlitePreferenceDataAccess();
-        PlanDataAccessInterface planDataAccessInterface = new SqlitePlanDataAccess();
-        GeocodingDataAccessInterface geocodingDataAccessInterface = new OpenCageGeocodingGateway();
-
-        // Create switchable logger - starts with console logging enabled
-        SwitchablePlacesLogger placesLogger = new SwitchablePlacesLogger(true);
+        // Application and places logs are JSON lines that a background thread writes to
+        // logs/placefinder.log (see AsyncJsonLogger); logging does no I/O on request threads
+        AppLogger appLogger = openAppLogger();
+
+        // Every data access interface and input boundary is wrapped in a chain of
+        // interceptors: timing and error counts (see the Diagnostics window), Flight Recorder
+        // events (category PlaceFinder) and a warning in the log for slow calls. Cache
+        // lookups, API calls and database statements are measured where they happen.
+        // Each use case call also starts a trace that collects the spans of the gateway,
+        // HTTP and SQL calls it makes (see the Traces tab of the Diagnostics window)
+        MetricsRegistry metrics = MetricsRegistry.global();
+        Tracer tracer = Tracer.global();
+        Instrumentation gateways = Instrumentation.of(tracer.gateways(), metrics.timing(),
+                FlightRecorderInterceptors.gateways());
+        Instrumentation database = gateways.then(new SlowCallLogger(appLogger, 250));
+        Instrumentation providers = gateways.then(new SlowCallLogger(appLogger, 3_000));
+        Instrumentation useCases = Instrumentation.of(tracer.useCases(), metrics.timing(),
+                FlightRecorderInterceptors.useCases(), new SlowCallLogger(appLogger, 5_000));
+        UserDataAccessInterface userDataAccessInterface = database.wrap(
+                UserDataAccessInterface.class,
+                new SqliteUserDataAccess(appLogger),
+                "gateway.user");
+        // Each provider gets a circuit breaker: after repeated failures its calls fail at once
+        // (or fall back) for a while instead of each waiting out a timeout
+        CircuitBreakers circuitBreakers = new CircuitBreakers(3, 30_000);
+        circuitBreakers.addListener((breaker, from, to) ->
+                appLogger.warn("provider.circuit", "provider", breaker.getName(), "from", from, "to", to));
+        RetryPolicy providerRetry = new RetryPolicy(3, 250, 2_000);
+
+        // Provider traffic can be recorded to a file, or replayed from one instead of calling
+        // the providers (see TrafficTape); by default the tape is off and calls pass through.
+        // The tape sits outside the provider guards, so replayed calls use no rate limit
+        // slots or quota
+        TrafficTape trafficTape = openTrafficTape();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                trafficTape.close();
+            } catch (IOException e) {
+                System.err.println("Could not finish the traffic recording: " + e.getMessage());
+            }
+        }));
+
+        // Each provider key has its own request rate and daily budget, applied to every HTTP
+        // request sent (a split route or a hedged request sends several); requests are counted
+        // per day and user in the database, and prefetching stops once a budget is nearly spent
+        SqliteApiUsage apiUsage = new SqliteApiUsage();
+        ProviderGuard openCageGuard = providerGuard("OpenCage", ApiEndpoints.OPENCAGE, 1, 2_500,
+                circuitBreakers, providerRetry, apiUsage, appLogger);
+        ProviderGuard geoapifyGuard = providerGuard("Geoapify", ApiEndpoints.GEOAPIFY, 5, 3_000,
+                circuitBreakers, providerRetry, apiUsage, appLogger);
+        ProviderGuard googleRoutesGuard = providerGuard("Google Routes", ApiEndpoints.GOOGLE_ROUTES, 10, 1_000,
+                circuitBreakers, providerRetry, apiUsage, appLogger);
+        ProviderGuard openMeteoGuard = providerGuard("Open-Meteo", ApiEndpoints.OPEN_METEO, 10, 10_000,
+                circuitBreakers, providerRetry, apiUsage, appLogger);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (ProviderGuard guard : List.of(openCageGuard, geoapifyGuard, googleRoutesGuard, openMeteoGuard)) {
+                guard.getQuota().flush();
+            }
+        }));
+
+        // Preferences, plan lists and geocoded addresses are kept in memory; the warm-up after
+        // login fills them so the first screens don't wait on the database or the geocoder
+        PreferenceDataAccessInterface preferenceDataAccessInterface = database.wrap(
+                PreferenceDataAccessInterface.class,
+                new CachingPreferenceGateway(new SqlitePreferenceDataAccess()),
+                "gateway.preference");
+        PlanDataAccessInterface planDataAccessInterface = database.wrap(
+                PlanDataAccessInterface.class,
+                new CachingPlanGateway(new SqlitePlanDataAccess()),
+                "gateway.plan");
+        GeocodingDataAccessInterface geocodingDataAccessInterface = providers.wrap(
+                GeocodingDataAccessInterface.class,
+                new CachingGeocodingGateway(new ReplayGeocodingGateway(
+                        new ResilientGeocodingGateway(new OpenCageGeocodingGateway(), openCageGuard),
+                        trafficTape)),
+                "gateway.geocoding");
+
+        // Create switchable logger - starts with logging to the log file enabled
+        SwitchablePlacesLogger placesLogger = new SwitchablePlacesLogger(new StructuredPlacesLogger(appLogger), true);
         //  PlacesApiLogger placesLogger = new ConsolePlacesLogger();
         // PlacesApiLogger placesLogger = new InactivePlacesLogger();
 
-        PlacesDataAccessInterface placesDataAccessInterface = new GeoApifyGatewayImpl(placesLogger);
-        RouteDataAccessInterface routeDataAccessInterface = new GoogleMapsRouteGatewayImpl();
-        WeatherDataAccessInterface weatherDataAccessInterface = new OpenMeteoWeatherGatewayImpl();
+        // Places and forecasts are cached in memory so repeated searches of an area are free;
+        // routes are also persisted since they are the most expensive calls we make
+        // A provider that is down answers from its last good results, or for routes from a
+        // local estimate; the estimate sits outside the route cache so it is never stored
+        PlacesDataAccessInterface placesDataAccessInterface = providers.wrap(
+                PlacesDataAccessInterface.class,
+                new CachingPlacesGateway(new ReplayPlacesGateway(
+                        new ResilientPlacesGateway(new GeoApifyGatewayImpl(placesLogger), geoapifyGuard),
+                        trafficTape)),
+                "gateway.places");
+        RouteDataAccessInterface routeDataAccessInterface = providers.wrap(
+                RouteDataAccessInterface.class,
+                new FallbackRouteGateway(
+                        new CachingRouteGateway(new ReplayRouteGateway(
+                                new ResilientRouteGateway(new GoogleMapsRouteGatewayImpl(), googleRoutesGuard),
+                                trafficTape)),
+                        new EstimatedRouteGateway()),
+                "gateway.route");
+        WeatherDataAccessInterface weatherDataAccessInterface = providers.wrap(
+                WeatherDataAccessInterface.class,
+                new CachingWeatherGateway(new ReplayWeatherGateway(
+                        new ResilientWeatherGateway(new OpenMeteoWeatherGatewayImpl(), openMeteoGuard),
+                        trafficTape)),
+                "gateway.weather");
 
         EmailConfig emailConfig = new EmailConfig();
-        EmailDataAccessInterface emailDataAccessInterface = new SmtpEmailDataAccess(
-                emailConfig.getUsername(),
-                emailConfig.getPassword()
-        );
+        EmailDataAccessInterface emailDataAccessInterface = providers.wrap(
+                EmailDataAccessInterface.class,
+                new SmtpEmailDataAccess(
+                        emailConfig.getUsername(),
+                        emailConfig.getPassword()
+                ),
+                "gateway.email");
 
         // ========== VIEW MODELS ==========
         LoginViewModel loginVM = new LoginViewModel();
@@ -102,38 +231,67 @@ public class TravelSchedulerApp {
 
         // ========== PRESENTERS & INTERACTORS & CONTROLLERS ==========
 
-        // ---- Login ----
+        // Plan builder and weather advice requests run on virtual threads; their presenters
+        // are called back on the Swing thread, and a newer request cancels an older one
+        UseCaseExecutor useCaseExecutor = new UseCaseExecutor(SwingUtilities::invokeLater, metrics);
+
+        // ---- Login (then warm up the user's data in the background) ----
+        WarmUpInputBoundary warmUpInteractor = useCases.wrap(
+                WarmUpInputBoundary.class,
+                new WarmUpInteractor(
+                        preferenceDataAccessInterface,
+                        planDataAccessInterface,
+                        geocodingDataAccessInterface,
+                        new WarmUpPresenter()
+                ),
+                "usecase.warmUp");
+        WarmUpController warmUpController = new WarmUpController(warmUpInteractor, useCaseExecutor);
+
         LoginPresenter loginPresenter = new LoginPresenter(loginVM);
-        LoginInputBoundary loginInteractor =
-                new LoginInteractor(userDataAccessInterface, loginPresenter);
+        LoginInputBoundary loginInteractor = useCases.wrap(
+                LoginInputBoundary.class,
+                new LoginInteractor(userDataAccessInterface, loginPresenter),
+                "usecase.login");
         LoginController loginController =
-                new LoginController(loginInteractor, loginVM);
+                new LoginController(loginInteractor, loginVM, warmUpController);
 
         // ---- Register (uses EmailGateway) ----
         RegisterPresenter registerPresenter = new RegisterPresenter(registerVM);
-        RegisterInputBoundary registerInteractor =
-                new RegisterInteractor(userDataAccessInterface, registerPresenter, emailDataAccessInterface);
+        RegisterInputBoundary registerInteractor = useCases.wrap(
+                RegisterInputBoundary.class,
+                new RegisterInteractor(userDataAccessInterface, registerPresenter, emailDataAccessInterface),
+                "usecase.register");
         RegisterController registerController =
                 new RegisterController(registerInteractor, registerVM);
 
         // ---- Verify Email ----
         VerifyEmailPresenter verifyPresenter = new VerifyEmailPresenter(verifyVM);
-        VerifyEmailInputBoundary verifyInteractor =
-                new VerifyEmailInteractor(userDataAccessInterface, verifyPresenter);
+        VerifyEmailInputBoundary verifyInteractor = useCases.wrap(
+                VerifyEmailInputBoundary.class,
+                new VerifyEmailInteractor(userDataAccessInterface, verifyPresenter, appLogger),
+                "usecase.verifyEmail");
         VerifyEmailController verifyController =
                 new VerifyEmailController(verifyInteractor, verifyVM);
 
         // ---- Preferences (Get / Update / Add / Delete Favorite) ----
         PreferencesPresenter preferencesPresenter = new PreferencesPresenter(preferencesVM);
 
-        GetPreferencesInputBoundary getPrefsInteractor =
-                new GetPreferencesInteractor(preferenceDataAccessInterface, preferencesPresenter);
-        UpdatePreferencesInputBoundary updatePrefsInteractor =
-                new UpdatePreferencesInteractor(preferenceDataAccessInterface, preferencesPresenter);
-        AddFavoriteInputBoundary addFavoriteInteractor =
-                new AddFavoriteInteractor(preferenceDataAccessInterface, geocodingDataAccessInterface, preferencesPresenter);
-        DeleteFavoriteInputBoundary deleteFavoriteInteractor =
-                new DeleteFavoriteInteractor(preferenceDataAccessInterface, preferencesPresenter);
+        GetPreferencesInputBoundary getPrefsInteractor = useCases.wrap(
+                GetPreferencesInputBoundary.class,
+                new GetPreferencesInteractor(preferenceDataAccessInterface, preferencesPresenter),
+                "usecase.getPreferences");
+        UpdatePreferencesInputBoundary updatePrefsInteractor = useCases.wrap(
+                UpdatePreferencesInputBoundary.class,
+                new UpdatePreferencesInteractor(preferenceDataAccessInterface, preferencesPresenter),
+                "usecase.updatePreferences");
+        AddFavoriteInputBoundary addFavoriteInteractor = useCases.wrap(
+                AddFavoriteInputBoundary.class,
+                new AddFavoriteInteractor(preferenceDataAccessInterface, geocodingDataAccessInterface, preferencesPresenter),
+                "usecase.addFavorite");
+        DeleteFavoriteInputBoundary deleteFavoriteInteractor = useCases.wrap(
+                DeleteFavoriteInputBoundary.class,
+                new DeleteFavoriteInteractor(preferenceDataAccessInterface, preferencesPresenter),
+                "usecase.deleteFavorite");
 
         PreferencesController preferencesController = new PreferencesController(
                 getPrefsInteractor,
@@ -144,45 +302,122 @@ public class TravelSchedulerApp {
         );
 
         // ---- Search Places / Build Plan / Save Plan ----
-        SearchPlacesPresenter searchPlacesPresenter = new SearchPlacesPresenter(planCreationVM);
-        BuildPlanPresenter buildPlanPresenter = new BuildPlanPresenter(planCreationVM);
+        SearchPlacesOutputBoundary searchPlacesPresenter = useCaseExecutor.onUiThread(
+                SearchPlacesOutputBoundary.class, new SearchPlacesPresenter(planCreationVM));
+        BuildPlanOutputBoundary buildPlanPresenter = useCaseExecutor.onUiThread(
+                BuildPlanOutputBoundary.class, new BuildPlanPresenter(planCreationVM));
         SavePlanPresenter savePlanPresenter = new SavePlanPresenter(planCreationVM);
-
-        SearchPlacesInputBoundary searchPlacesInteractor =
-                new SearchPlacesInteractor(
+        AutoPlanOutputBoundary autoPlanPresenter = useCaseExecutor.onUiThread(
+                AutoPlanOutputBoundary.class, new AutoPlanPresenter(planCreationVM));
+        GenerateAlternativesOutputBoundary generateAlternativesPresenter = useCaseExecutor.onUiThread(
+                GenerateAlternativesOutputBoundary.class, new GenerateAlternativesPresenter(planCreationVM));
+        FindPlacesAlongRouteOutputBoundary findPlacesAlongRoutePresenter = useCaseExecutor.onUiThread(
+                FindPlacesAlongRouteOutputBoundary.class, new FindPlacesAlongRoutePresenter(planCreationVM));
+        FindBestOriginOutputBoundary findBestOriginPresenter = useCaseExecutor.onUiThread(
+                FindBestOriginOutputBoundary.class, new FindBestOriginPresenter(planCreationVM));
+
+        // one search geocodes once and fetches places and the weather advice in parallel
+        WeatherAdviceOutputBoundary weatherAdvicePresenter = useCaseExecutor.onUiThread(
+                WeatherAdviceOutputBoundary.class, new WeatherAdvicePresenter(weatherAdviceVM));
+        SearchPlacesInputBoundary searchPlacesInteractor = useCases.wrap(
+                SearchPlacesInputBoundary.class,
+                new SearchPipelineInteractor(
                         preferenceDataAccessInterface,
                         geocodingDataAccessInterface,
                         placesDataAccessInterface,
                         weatherDataAccessInterface,
-                        searchPlacesPresenter
-                );
+                        searchPlacesPresenter,
+                        weatherAdvicePresenter
+                ),
+                "usecase.searchPlaces");
+
+        BuildPlanInputBoundary buildPlanInteractor = useCases.wrap(
+                BuildPlanInputBoundary.class,
+                new SpeculativeBuildPlanInteractor(
+                        presenter -> new BuildPlanInteractor(
+                                preferenceDataAccessInterface,
+                                geocodingDataAccessInterface,
+                                routeDataAccessInterface,
+                                weatherDataAccessInterface,
+                                new WalkingFeasibility(),
+                                presenter
+                        ),
+                        buildPlanPresenter
+                ),
+                "usecase.buildPlan");
 
-        BuildPlanInputBoundary buildPlanInteractor =
-                new BuildPlanInteractor(
+        AutoPlanInputBoundary autoPlanInteractor = useCases.wrap(
+                AutoPlanInputBoundary.class,
+                new AutoPlanInteractor(
                         preferenceDataAccessInterface,
                         geocodingDataAccessInterface,
                         routeDataAccessInterface,
-                        buildPlanPresenter
-                );
+                        DwellTimes.defaults(),
+                        autoPlanPresenter
+                ),
+                "usecase.autoPlan");
+
+        GenerateAlternativesInputBoundary generateAlternativesInteractor = useCases.wrap(
+                GenerateAlternativesInputBoundary.class,
+                new GenerateAlternativesInteractor(
+                        preferenceDataAccessInterface,
+                        geocodingDataAccessInterface,
+                        routeDataAccessInterface,
+                        DwellTimes.defaults(),
+                        generateAlternativesPresenter
+                ),
+                "usecase.generateAlternatives");
+
+        FindPlacesAlongRouteInputBoundary findPlacesAlongRouteInteractor = useCases.wrap(
+                FindPlacesAlongRouteInputBoundary.class,
+                new FindPlacesAlongRouteInteractor(
+                        placesDataAccessInterface,
+                        findPlacesAlongRoutePresenter
+                ),
+                "usecase.findPlacesAlongRoute");
 
-        SavePlanInputBoundary savePlanInteractor =
+        FindBestOriginInputBoundary findBestOriginInteractor = useCases.wrap(
+                FindBestOriginInputBoundary.class,
+                new FindBestOriginInteractor(
+                        preferenceDataAccessInterface,
+                        routeDataAccessInterface,
+                        findBestOriginPresenter
+                ),
+                "usecase.findBestOrigin");
+
+        SavePlanInputBoundary savePlanInteractor = useCases.wrap(
+                SavePlanInputBoundary.class,
                 new SavePlanInteractor(
                         planDataAccessInterface,
                         savePlanPresenter
-                );
+                ),
+                "usecase.savePlan");
 
         SearchPlacesController searchPlacesController =
-                new SearchPlacesController(searchPlacesInteractor, planCreationVM);
+                new SearchPlacesController(searchPlacesInteractor, planCreationVM, useCaseExecutor);
         BuildPlanController buildPlanController =
-                new BuildPlanController(buildPlanInteractor, planCreationVM);
+                new BuildPlanController(buildPlanInteractor, planCreationVM, useCaseExecutor);
         SavePlanController savePlanController =
                 new SavePlanController(savePlanInteractor, planCreationVM);
+        AutoPlanController autoPlanController =
+                new AutoPlanController(autoPlanInteractor, planCreationVM, useCaseExecutor);
+        GenerateAlternativesController generateAlternativesController =
+                new GenerateAlternativesController(generateAlternativesInteractor, planCreationVM, useCaseExecutor);
+        FindPlacesAlongRouteController findPlacesAlongRouteController =
+                new FindPlacesAlongRouteController(findPlacesAlongRouteInteractor, planCreationVM,
+                        useCaseExecutor);
+        FindBestOriginController findBestOriginController =
+                new FindBestOriginController(findBestOriginInteractor, planCreationVM, useCaseExecutor);
 
         PlanCreationController planCreationController =
                 new PlanCreationController(
                         searchPlacesController,
                         buildPlanController,
-                        savePlanController
+                        savePlanController,
+                        autoPlanController,
+                        generateAlternativesController,
+                        findPlacesAlongRouteController,
+                        findBestOriginController
                 );
 
         // ---- Plans Dashboard / Details / Delete / Apply Prefs ----
@@ -194,21 +429,31 @@ public class TravelSchedulerApp {
                 new GetPlanDetailsPresenter(planDetailsVM);
         GetRouteDetailsPresenter routePresenter = new GetRouteDetailsPresenter(directionsVM);
 
-        ListPlansInputBoundary listPlansInteractor =
-                new ListPlansInteractor(planDataAccessInterface, listPlansPresenter);
-        DeletePlanInputBoundary deletePlanInteractor =
-                new DeletePlanInteractor(planDataAccessInterface, deletePlanPresenter);
-        ApplyPreferencesFromPlanInputBoundary applyPrefsFromPlanInteractor =
+        ListPlansInputBoundary listPlansInteractor = useCases.wrap(
+                ListPlansInputBoundary.class,
+                new ListPlansInteractor(planDataAccessInterface, listPlansPresenter),
+                "usecase.listPlans");
+        DeletePlanInputBoundary deletePlanInteractor = useCases.wrap(
+                DeletePlanInputBoundary.class,
+                new DeletePlanInteractor(planDataAccessInterface, deletePlanPresenter),
+                "usecase.deletePlan");
+        ApplyPreferencesFromPlanInputBoundary applyPrefsFromPlanInteractor = useCases.wrap(
+                ApplyPreferencesFromPlanInputBoundary.class,
                 new ApplyPreferencesFromPlanInteractor(
                         planDataAccessInterface,
                         preferenceDataAccessInterface,
                         applyPreferencesFromPlanPresenter
-                );
-        GetPlanDetailsInputBoundary getPlanDetailsInteractor =
-                new GetPlanDetailsInteractor(planDataAccessInterface, getPlanDetailsPresenter);
-
-        GetRouteDetailsInputBoundary routeInteractor =
-                new GetRouteDetailsInteractor(planDataAccessInterface, routePresenter);
+                ),
+                "usecase.applyPreferencesFromPlan");
+        GetPlanDetailsInputBoundary getPlanDetailsInteractor = useCases.wrap(
+                GetPlanDetailsInputBoundary.class,
+                new GetPlanDetailsInteractor(planDataAccessInterface, getPlanDetailsPresenter),
+                "usecase.getPlanDetails");
+
+        GetRouteDetailsInputBoundary routeInteractor = useCases.wrap(
+                GetRouteDetailsInputBoundary.class,
+                new GetRouteDetailsInteractor(planDataAccessInterface, routePresenter),
+                "usecase.getRouteDetails");
 
         ListPlansController listPlansController = new ListPlansController(
                 listPlansInteractor,
@@ -236,12 +481,28 @@ public class TravelSchedulerApp {
                 );
 
         // ---- Weather Advice ----
-        WeatherAdvicePresenter weatherAdvicePresenter = new WeatherAdvicePresenter(weatherAdviceVM);
-
-        WeatherAdviceInputBoundary weatherAdviceInteractor =
-                new WeatherAdviceInteractor(geocodingDataAccessInterface, weatherDataAccessInterface, weatherAdvicePresenter);
+        WeatherAdviceInputBoundary weatherAdviceInteractor = useCases.wrap(
+                WeatherAdviceInputBoundary.class,
+                new WeatherAdviceInteractor(geocodingDataAccessInterface, weatherDataAccessInterface, weatherAdvicePresenter),
+                "usecase.weatherAdvice");
         WeatherAdviceController weatherAdviceController =
-                new WeatherAdviceController(weatherAdviceInteractor, weatherAdviceVM);
+                new WeatherAdviceController(weatherAdviceInteractor, weatherAdviceVM, useCaseExecutor);
+
+        // ---- Best Day ----
+        FindBestDayPresenter findBestDayPresenter = new FindBestDayPresenter(weatherAdviceVM);
+        FindBestDayInputBoundary findBestDayInteractor = useCases.wrap(
+                FindBestDayInputBoundary.class,
+                new FindBestDayInteractor(
+                        preferenceDataAccessInterface,
+                        geocodingDataAccessInterface,
+                        placesDataAccessInterface,
+                        weatherDataAccessInterface,
+                        findBestDayPresenter,
+                        Clock.systemUTC()
+                ),
+                "usecase.findBestDay");
+        FindBestDayController findBestDayController =
+                new FindBestDayController(findBestDayInteractor, weatherAdviceVM);
 
         // ========== START UI ==========
         SwingUtilities.invokeLater(() -> {
@@ -259,6 +520,7 @@ public class TravelSchedulerApp {
                     getPlanDetailsController,
                     routeController,
                     weatherAdviceController,
+                    findBestDayController,
                     loginVM,
                     registerVM,
                     verifyVM,
@@ -268,10 +530,51 @@ public class TravelSchedulerApp {
                     planDetailsVM,
                     directionsVM,
                     weatherAdviceVM,
-                    placesLogger
+                    placesLogger,
+                    metrics,
+                    tracer,
+                    List.of(openCageGuard, geoapifyGuard, googleRoutesGuard, openMeteoGuard)
             );
 
             splash.showSplash(() -> frame.setVisible(true));
         });
     }
+
+    private static AppLogger openAppLogger() {
+        try {
+            AsyncJsonLogger logger = AsyncJsonLogger.fromSystemProperties();
+            Runtime.getRuntime().addShutdownHook(new Thread(logger::close));
+            return logger;
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not open the log file, logging is off: " + e.getMessage());
+            return AppLogger.none();
+        }
+    }
+
+    private static TrafficTape openTrafficTape() {
+        try {
+            return TrafficTape.fromSystemProperties();
+        } catch (IOException e) {
+            System.err.println("Could not open the traffic recording, calling the providers: " + e.getMessage());
+            return TrafficTape.off();
+        }
+    }
+
+    /**
+     * A guard for the provider, installed as the gate of its HTTP requests.
+     *
+     * @param endpoint the provider as {@link ApiEndpoints#providerOf} names it
+     */
+    private static ProviderGuard providerGuard(String provider, String endpoint, double permitsPerSecond,
+                                               int dailyBudget, CircuitBreakers circuitBreakers, RetryPolicy retry,
+                                               SqliteApiUsage apiUsage, AppLogger appLogger) {
+        ProviderGuard guard = new ProviderGuard(
+                circuitBreakers.forProvider(provider),
+                retry,
+                new RateLimiter(provider, permitsPerSecond, (int) Math.ceil(permitsPerSecond), 10_000),
+                new ApiQuota(provider, dailyBudget, apiUsage, appLogger)
+        );
+        HttpUtil.setExchangeGate(endpoint, guard::beforeExchange);
+        return guard;
+    }
 }
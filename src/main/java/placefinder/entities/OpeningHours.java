@@ -0,0 +1,76 @@
+package placefinder.entities;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+
+/**
+ * Weekly opening hours of a place, kept as sorted {@code [open, close)} minute-of-day
+ * pairs per weekday. Intervals that run past midnight are split at 24:00 and continue
+ * on the next day.
+ */
+public class OpeningHours {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private final int[][] minutesByDay; // index 0 = Monday; {open1, close1, open2, close2, ...}
+
+    /**
+     * @param minutesByDay seven arrays (Monday first) of open/close minute pairs,
+     *                     sorted and not overlapping
+     */
+    public OpeningHours(int[][] minutesByDay) {
+        if (minutesByDay.length != 7) {
+            throw new IllegalArgumentException("Opening hours need exactly seven days");
+        }
+        this.minutesByDay = new int[7][];
+        for (int d = 0; d < 7; d++) {
+            this.minutesByDay[d] = minutesByDay[d] != null ? minutesByDay[d].clone() : new int[0];
+        }
+    }
+
+    public static OpeningHours alwaysOpen() {
+        int[][] days = new int[7][];
+        for (int d = 0; d < 7; d++) {
+            days[d] = new int[] {0, MINUTES_PER_DAY};
+        }
+        return new OpeningHours(days);
+    }
+
+    /** Open/close minute pairs for the given day; empty when closed all day. */
+    public int[] intervals(DayOfWeek day) {
+        return minutesByDay[day.getValue() - 1].clone();
+    }
+
+    public boolean isClosedAllDay(DayOfWeek day) {
+        return minutesByDay[day.getValue() - 1].length == 0;
+    }
+
+    /**
+     * Earliest time, not before {@code secondOfDay}, at which a visit of
+     * {@code visitSeconds} can start and end within one opening interval.
+     *
+     * @return the start as second of day, or -1 if no such visit fits that day
+     */
+    public int earliestVisitStart(DayOfWeek day, int secondOfDay, int visitSeconds) {
+        int[] intervals = minutesByDay[day.getValue() - 1];
+        for (int i = 0; i + 1 < intervals.length; i += 2) {
+            int open = intervals[i] * 60;
+            int close = intervals[i + 1] * 60;
+            int start = Math.max(open, secondOfDay);
+            if (start + visitSeconds <= close) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof OpeningHours other && Arrays.deepEquals(minutesByDay, other.minutesByDay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.deepHashCode(minutesByDay);
+    }
+}
@@ -15,6 +15,7 @@ public class Place {
     private double distanceKm;
     private IndoorOutdoorType indoorOutdoorType;
     private List<String> categories = new ArrayList<>();
+    private OpeningHours openingHours; // null when unknown
 
     public Place() {
     }
@@ -62,6 +63,9 @@ public class Place {
         this.categories = categories != null ? new ArrayList<>(categories) : new ArrayList<>();
     }
 
+    public OpeningHours getOpeningHours() { return openingHours; }
+    public void setOpeningHours(OpeningHours openingHours) { this.openingHours = openingHours; }
+
     @Override
     public String toString() {
         return name != null ? name : super.toString();
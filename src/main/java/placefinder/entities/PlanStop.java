@@ -10,6 +10,7 @@ public class PlanStop {
     private Place place;
     private LocalTime startTime;
     private LocalTime endTime;
+    private WeatherSummary weather;   // forecast at arrival, null when unknown
 
     public PlanStop(int sequenceNumber, Place place,
                     LocalTime startTime, LocalTime endTime) {
@@ -30,4 +31,7 @@ public class PlanStop {
 
     public LocalTime getEndTime() { return endTime; }
     public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+
+    public WeatherSummary getWeather() { return weather; }
+    public void setWeather(WeatherSummary weather) { this.weather = weather; }
 }
@@ -0,0 +1,92 @@
+package placefinder.frameworks_drivers.api;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Flight Recorder event for one HTTP exchange with an external API, from sending the
+ * request to having the whole body (or the failure). A hedged GET shows up as two events,
+ * the losing one failing with a {@code CancellationException}.
+ *
+ * <p>The URL is recorded as a template: query values are left out, so API keys and the
+ * user's locations never end up in a recording.
+ */
+@Name("placefinder.ApiCall")
+@Label("API Call")
+@Category({"PlaceFinder", "External APIs"})
+@Description("An HTTP request to an external API")
+@StackTrace(false)
+final class ApiCallEvent extends Event {
+
+    @Label("Provider")
+    String provider;
+
+    @Label("URL Template")
+    String urlTemplate;
+
+    @Label("Method")
+    String method;
+
+    @Label("Status")
+    @Description("HTTP status code, 0 if no response arrived")
+    int status;
+
+    @Label("Response Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Error")
+    String error;
+
+    /**
+     * Ends the event and commits it if it is being recorded; everything beyond the timing is
+     * only worked out in that case.
+     *
+     * @param response the response, or null if the exchange failed
+     * @param error    why the exchange failed, or null
+     */
+    void finish(HttpRequest request, HttpResponse<String> response, Throwable error) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        provider = ApiEndpoints.providerOf(request.uri());
+        urlTemplate = template(request.uri());
+        method = request.method();
+        if (response != null) {
+            status = response.statusCode();
+            bytes = response.body() == null ? 0 : response.body().getBytes(StandardCharsets.UTF_8).length;
+        }
+        if (error != null) {
+            this.error = error.getClass().getSimpleName();
+        }
+        commit();
+    }
+
+    /** e.g. {@code https://api.opencagedata.com/geocode/v1/json?q=...&key=...} */
+    static String template(URI uri) {
+        StringBuilder template = new StringBuilder()
+                .append(uri.getScheme()).append("://").append(uri.getRawAuthority())
+                .append(uri.getRawPath() == null ? "" : uri.getRawPath());
+        String query = uri.getRawQuery();
+        if (query != null && !query.isEmpty()) {
+            char separator = '?';
+            for (String parameter : query.split("&")) {
+                int equals = parameter.indexOf('=');
+                template.append(separator).append(equals < 0 ? parameter : parameter.substring(0, equals) + "=...");
+                separator = '&';
+            }
+        }
+        return template.toString();
+    }
+}
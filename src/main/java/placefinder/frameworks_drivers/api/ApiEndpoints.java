@@ -0,0 +1,66 @@
+package placefinder.frameworks_drivers.api;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Base URLs of the external APIs. Each can be overridden with the system property
+ * {@code placefinder.api.<provider>.url}, or all at once with {@code placefinder.api.url},
+ * e.g. to point the app at a local stub server for load tests. The paths the gateways
+ * append are the providers' own, so one server can answer for all four.
+ */
+public final class ApiEndpoints {
+
+    public static final String GEOAPIFY = "geoapify";
+    public static final String OPENCAGE = "opencage";
+    public static final String OPEN_METEO = "openmeteo";
+    public static final String GOOGLE_ROUTES = "googleroutes";
+
+    /** Path prefix of each provider's API; the paths tell providers apart even behind one stub server. */
+    private static final Map<String, String> PATHS = new LinkedHashMap<>();
+
+    static {
+        PATHS.put("/v2/places", GEOAPIFY);
+        PATHS.put("/geocode/", OPENCAGE);
+        PATHS.put("/v1/forecast", OPEN_METEO);
+        PATHS.put("/directions/", GOOGLE_ROUTES);
+    }
+
+    private ApiEndpoints() {
+    }
+
+    public static String geoapify() {
+        return baseUrl(GEOAPIFY, "https://api.geoapify.com");
+    }
+
+    public static String openCage() {
+        return baseUrl(OPENCAGE, "https://api.opencagedata.com");
+    }
+
+    public static String openMeteo() {
+        return baseUrl(OPEN_METEO, "https://api.open-meteo.com");
+    }
+
+    public static String googleRoutes() {
+        return baseUrl(GOOGLE_ROUTES, "https://routes.googleapis.com");
+    }
+
+    /** @return the provider a request is addressed to, or its host if the path is not one of theirs */
+    public static String providerOf(URI uri) {
+        String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        for (Map.Entry<String, String> entry : PATHS.entrySet()) {
+            if (path.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return String.valueOf(uri.getHost());
+    }
+
+    /** Read on every call, so a setting made after start-up applies to the next request. */
+    private static String baseUrl(String provider, String defaultUrl) {
+        String url = System.getProperty("placefinder.api." + provider + ".url",
+                System.getProperty("placefinder.api.url", defaultUrl));
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -51,88 +51,132 @@ public class GeoApifyGatewayImpl implements PlacesDataAccessInterface {
             double radiusMeters = radiusKm * 1000.0;
             String categoriesParam = buildCategoriesParam(selectedCategories);
 
-            String url = "https://api.geoapify.com/v2/places?categories=" + categoriesParam +
+            String url = ApiEndpoints.geoapify() + "/v2/places?categories=" + categoriesParam +
                     "&filter=circle:" + lon + "," + lat + "," + (int) radiusMeters +
                     "&bias=proximity:" + lon + "," + lat +
                     "&limit=40&apiKey=" + apiKey;
-
-            String json = HttpUtil.get(url);
-            JsonObject root = JsonParser.parseString(json).getAsJsonObject();
-            JsonArray features = root.getAsJsonArray("features");
-            List<Place> places = new ArrayList<>();
-            if (features == null) {
-                long responseTime = System.currentTimeMillis() - startTime;
-                if (logger != null) {
-                    logger.logSearchResponse(places, responseTime);
-                }
-                return places;
+            return requestPlaces(url, startTime);
+        } catch (Exception e) {
+            if (logger != null) {
+                logger.logError(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
             }
+            throw e;
+        }
+    }
 
-            for (JsonElement featureEl : features) {
-                JsonObject feature = featureEl.getAsJsonObject();
-                JsonObject props = feature.getAsJsonObject("properties");
-                if (props == null) continue;
-
-                List<String> catStrings = new ArrayList<>();
-                if (props.has("categories") && props.get("categories").isJsonArray()) {
-                    for (JsonElement c : props.getAsJsonArray("categories")) {
-                        catStrings.add(c.getAsString());
-                    }
-                } else if (props.has("category")) {
-                    catStrings.add(props.get("category").getAsString());
-                }
+    @Override
+    public List<Place> searchPlacesInRect(double south, double west, double north, double east,
+                                          Map<String, List<String>> selectedCategories) throws Exception {
+        long startTime = System.currentTimeMillis();
 
-                String id = props.has("place_id") ? props.get("place_id").getAsString() : null;
-                String rawName = props.has("name") ? props.get("name").getAsString() : null;
-                String name;
-                if (rawName == null || rawName.trim().isEmpty()) {
-                    if (!catStrings.isEmpty())
-                    {
-                        name = DayTripExperienceCategories.getDisplayName(catStrings.get(0));
-                    }
-                    else
-                    {
-                        name = "(unknown)";
-                    }
-                }
-                else {
-                    name = rawName;
-                }
-                String address = props.has("formatted") ? props.get("formatted").getAsString() : "";
-                double plat = props.has("lat") ? props.get("lat").getAsDouble()
-                        : feature.getAsJsonObject("geometry")
-                        .getAsJsonArray("coordinates").get(1).getAsDouble();
-                double plon = props.has("lon") ? props.get("lon").getAsDouble()
-                        : feature.getAsJsonObject("geometry")
-                        .getAsJsonArray("coordinates").get(0).getAsDouble();
-                double distanceKm = props.has("distance") ? props.get("distance").getAsDouble() / 1000.0 : 0.0;
-
-                IndoorOutdoorType type = classifyIndoorOutdoor(catStrings);
-
-                Place place = new Place();
-                place.setId(id);
-                place.setName(name);
-                place.setAddress(address);
-                place.setLat(plat);
-                place.setLon(plon);
-                place.setDistanceKm(distanceKm);
-                place.setIndoorOutdoorType(type);
-                place.setCategories(catStrings);
-                places.add(place);
+        String location = String.format("rect (%.4f, %.4f)-(%.4f, %.4f)", south, west, north, east);
+        if (logger != null) {
+            logger.logSearchRequest(location, "N/A");
+        }
+
+        try {
+            String url = ApiEndpoints.geoapify() + "/v2/places?categories=" + buildCategoriesParam(selectedCategories) +
+                    "&filter=rect:" + west + "," + north + "," + east + "," + south +
+                    "&limit=100&apiKey=" + apiKey;
+            return requestPlaces(url, startTime);
+        } catch (Exception e) {
+            if (logger != null) {
+                logger.logError(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
             }
+            throw e;
+        }
+    }
 
+    private List<Place> requestPlaces(String url, long startTime) throws Exception {
+        String json = HttpUtil.getHedged(url);
+        JsonObject root = JsonParser.parseString(json).getAsJsonObject();
+        JsonArray features = root.getAsJsonArray("features");
+        List<Place> places = new ArrayList<>();
+        if (features == null) {
             long responseTime = System.currentTimeMillis() - startTime;
             if (logger != null) {
                 logger.logSearchResponse(places, responseTime);
             }
-
             return places;
-        } catch (Exception e) {
-            if (logger != null) {
-                logger.logError(e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+        }
+
+        for (JsonElement featureEl : features) {
+            JsonObject feature = featureEl.getAsJsonObject();
+            JsonObject props = feature.getAsJsonObject("properties");
+            if (props == null) continue;
+
+            List<String> catStrings = new ArrayList<>();
+            if (props.has("categories") && props.get("categories").isJsonArray()) {
+                for (JsonElement c : props.getAsJsonArray("categories")) {
+                    catStrings.add(c.getAsString());
+                }
+            } else if (props.has("category")) {
+                catStrings.add(props.get("category").getAsString());
+            }
+
+            String id = props.has("place_id") ? props.get("place_id").getAsString() : null;
+            String rawName = props.has("name") ? props.get("name").getAsString() : null;
+            String name;
+            if (rawName == null || rawName.trim().isEmpty()) {
+                if (!catStrings.isEmpty())
+                {
+                    name = DayTripExperienceCategories.getDisplayName(catStrings.get(0));
+                }
+                else
+                {
+                    name = "(unknown)";
+                }
+            }
+            else {
+                name = rawName;
+            }
+            String address = props.has("formatted") ? props.get("formatted").getAsString() : "";
+            double plat = props.has("lat") ? props.get("lat").getAsDouble()
+                    : feature.getAsJsonObject("geometry")
+                    .getAsJsonArray("coordinates").get(1).getAsDouble();
+            double plon = props.has("lon") ? props.get("lon").getAsDouble()
+                    : feature.getAsJsonObject("geometry")
+                    .getAsJsonArray("coordinates").get(0).getAsDouble();
+            double distanceKm = props.has("distance") ? props.get("distance").getAsDouble() / 1000.0 : 0.0;
+
+            IndoorOutdoorType type = classifyIndoorOutdoor(catStrings);
+
+            Place place = new Place();
+            place.setId(id);
+            place.setName(name);
+            place.setAddress(address);
+            place.setLat(plat);
+            place.setLon(plon);
+            place.setDistanceKm(distanceKm);
+            place.setIndoorOutdoorType(type);
+            place.setCategories(catStrings);
+            place.setOpeningHours(OpeningHoursParser.parse(openingHoursText(props)));
+            places.add(place);
+        }
+
+        long responseTime = System.currentTimeMillis() - startTime;
+        if (logger != null) {
+            logger.logSearchResponse(places, responseTime);
+        }
+
+        return places;
+    }
+
+    /** GeoApify copies OSM's opening_hours to the top level for most places, else it sits in the raw tags. */
+    private String openingHoursText(JsonObject props) {
+        if (props.has("opening_hours") && props.get("opening_hours").isJsonPrimitive()) {
+            return props.get("opening_hours").getAsString();
+        }
+        if (props.has("datasource") && props.get("datasource").isJsonObject()) {
+            JsonObject datasource = props.getAsJsonObject("datasource");
+            if (datasource.has("raw") && datasource.get("raw").isJsonObject()) {
+                JsonObject raw = datasource.getAsJsonObject("raw");
+                if (raw.has("opening_hours") && raw.get("opening_hours").isJsonPrimitive()) {
+                    return raw.get("opening_hours").getAsString();
+                }
             }
-            throw e;
         }
+        return null;
     }
 
     private String firstCategory(List<String> categories) {
@@ -5,15 +5,28 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import placefinder.entities.*;
+import placefinder.usecases.concurrency.ParallelCalls;
 import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+import placefinder.usecases.routing.PolylineCodec;
+import placefinder.usecases.routing.RouteTimeline;
+import placefinder.usecases.routing.SweepClusterer;
+import placefinder.usecases.routing.WalkingEstimator;
 
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 
 public class GoogleMapsRouteGatewayImpl implements RouteDataAccessInterface {
+    /**
+     * Largest number of intermediates sent in one request. The API accepts up to 25,
+     * but requests with more than 10 are billed at a higher rate and answer slower,
+     * so larger plans are split into several smaller requests.
+     */
+    private static final int MAX_INTERMEDIATES_PER_REQUEST = 10;
+
     private final String apiKey;
 
     public GoogleMapsRouteGatewayImpl() {
@@ -24,13 +37,23 @@ public class GoogleMapsRouteGatewayImpl implements RouteDataAccessInterface {
         this.apiKey = apiKey;
     }
 
-    @SuppressWarnings("checkstyle:FinalLocalVariable")
     @Override
     public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places) throws Exception {
+        return computeRoute(origin, startTime, places, true);
+    }
+
+    @SuppressWarnings("checkstyle:FinalLocalVariable")
+    @Override
+    public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places,
+                              boolean optimizeOrder) throws Exception {
+        if (places.size() > MAX_INTERMEDIATES_PER_REQUEST) {
+            return optimizeOrder ? computeStitchedRoute(origin, startTime, places)
+                    : computeChunkedRoute(origin, startTime, places);
+        }
         PlanStop originStop = new PlanStop(0, new Place(), startTime, startTime);
 
         String fieldMask = "*";
-        String url = "https://routes.googleapis.com/directions/v2:computeRoutes"
+        String url = ApiEndpoints.googleRoutes() + "/directions/v2:computeRoutes"
                 + "?key=" + apiKey
                 + "&fields=" + fieldMask;
 
@@ -52,7 +75,7 @@ public class GoogleMapsRouteGatewayImpl implements RouteDataAccessInterface {
         inputJson.add("intermediates", intermediates);
 
         inputJson.addProperty("travelMode", "WALK");
-        inputJson.addProperty("optimizeWaypointOrder", true);
+        inputJson.addProperty("optimizeWaypointOrder", optimizeOrder);
 
         // calling API
         String json = HttpUtil.post(url, inputJson.toString(), headers);
@@ -67,10 +90,14 @@ public class GoogleMapsRouteGatewayImpl implements RouteDataAccessInterface {
 
         JsonArray orderJson = routeObj.getAsJsonArray("optimizedIntermediateWaypointIndex");
 
-        // optimized order of stops
+        // optimized order of stops (absent when the order is fixed)
         List<Place> order = new ArrayList<>();
-        for (JsonElement element : orderJson) {
-            order.add(places.get(element.getAsInt()));
+        if (orderJson == null) {
+            order.addAll(places);
+        } else {
+            for (JsonElement element : orderJson) {
+                order.add(places.get(element.getAsInt()));
+            }
         }
 
         // creating list of legs for the route
@@ -79,28 +106,7 @@ public class GoogleMapsRouteGatewayImpl implements RouteDataAccessInterface {
         for (int legNum = 0; legNum < routeObj.getAsJsonArray("legs").size(); legNum++) {
             JsonObject legObj = routeObj.getAsJsonArray("legs").get(legNum).getAsJsonObject();
 
-            // creating list of steps for leg
-            // Build each Step
-            List<Step> steps = new ArrayList<>();
-            JsonArray stepsArray = legObj.getAsJsonArray("steps");
-            for (JsonElement elem : stepsArray) {
-                JsonObject stepObj = elem.getAsJsonObject();
-                JsonObject navInst = stepObj.getAsJsonObject("navigationInstruction");
-
-                String instr = navInst != null
-                        ? navInst.getAsJsonPrimitive("instructions").getAsString()
-                        : "Instruction unavailable.";
-
-                Step step = new StepBuilder()
-                        .withDistance(stepObj.getAsJsonPrimitive("distanceMeters").getAsInt())
-                        .withDuration(Double.parseDouble(stepObj.getAsJsonPrimitive("staticDuration")
-                                .getAsString().replace("s", "")))
-                        .withInstruction(instr)
-                        .build();
-
-                steps.add(step);
-            }
-
+            List<Step> steps = parseSteps(legObj);
             double legDuration = Double.parseDouble(legObj.getAsJsonPrimitive("duration").getAsString()
                     .replace("s", ""));
 
@@ -159,6 +165,258 @@ public class GoogleMapsRouteGatewayImpl implements RouteDataAccessInterface {
 
     }
 
+    /**
+     * Routes a large stop set as several smaller requests and joins the results.
+     * Places are grouped into sectors around the origin (see {@link SweepClusterer}) and
+     * the sectors are visited in sweep order. Each group ends at the place closest to the
+     * next group, which is also where the next sub-route starts, so the sub-routes have
+     * fixed end points and can be computed in parallel.
+     */
+    private Route computeStitchedRoute(GeocodeResult origin, LocalTime startTime, List<Place> places)
+            throws Exception {
+        List<List<Place>> clusters = SweepClusterer.partition(origin.getLat(), origin.getLon(), places,
+                MAX_INTERMEDIATES_PER_REQUEST);
+
+        // choose the hand-over place of every group but the last
+        List<Place> exits = new ArrayList<>();
+        for (int k = 0; k < clusters.size() - 1; k++) {
+            exits.add(closestTo(clusters.get(k), centroid(clusters.get(k + 1))));
+        }
+        return stitch(origin, startTime, clusters, exits, true);
+    }
+
+    /**
+     * Routes a large stop set whose order is fixed as consecutive runs of stops. The last
+     * stop of each run is where the next sub-route starts, and no sub-route reorders its
+     * stops, so the joined route visits the places exactly in the given order.
+     */
+    private Route computeChunkedRoute(GeocodeResult origin, LocalTime startTime, List<Place> places)
+            throws Exception {
+        List<List<Place>> chunks = new ArrayList<>();
+        List<Place> exits = new ArrayList<>();
+        for (int from = 0; from < places.size(); from += MAX_INTERMEDIATES_PER_REQUEST) {
+            List<Place> chunk = places.subList(from, Math.min(places.size(), from + MAX_INTERMEDIATES_PER_REQUEST));
+            chunks.add(chunk);
+            if (from + chunk.size() < places.size()) {
+                exits.add(chunk.get(chunk.size() - 1));
+            }
+        }
+        return stitch(origin, startTime, chunks, exits, false);
+    }
+
+    /**
+     * Requests one sub-route per group in parallel and joins them. Group {@code k} is
+     * walked from the exit of group {@code k - 1} (the origin for the first) to its own
+     * exit (the origin for the last), with its other places as intermediates.
+     */
+    private Route stitch(GeocodeResult origin, LocalTime startTime, List<List<Place>> clusters,
+                         List<Place> exits, boolean optimizeOrder) throws Exception {
+        List<Callable<SubRoute>> requests = new ArrayList<>();
+        for (int k = 0; k < clusters.size(); k++) {
+            JsonObject from = k == 0 ? geocodeToWaypoint(origin) : placeToWaypoint(exits.get(k - 1));
+            JsonObject to = k == clusters.size() - 1 ? geocodeToWaypoint(origin) : placeToWaypoint(exits.get(k));
+            List<Place> intermediates = new ArrayList<>(clusters.get(k));
+            if (k < exits.size()) {
+                intermediates.remove(exits.get(k));
+            }
+            requests.add(() -> requestSubRoute(from, to, intermediates, optimizeOrder));
+        }
+
+        List<SubRoute> parts = ParallelCalls.runAll(requests);
+
+        List<PlanStop> stops = new ArrayList<>();
+        List<Leg> legs = new ArrayList<>();
+        List<String> polylines = new ArrayList<>();
+        int distance = 0;
+        double duration = 0;
+        for (int k = 0; k < parts.size(); k++) {
+            SubRoute part = parts.get(k);
+            if (part == null) {
+                return null;
+            }
+            for (Place place : part.order) {
+                stops.add(new PlanStop(stops.size(), place, null, null));
+            }
+            if (k < exits.size()) {
+                stops.add(new PlanStop(stops.size(), exits.get(k), null, null));
+            }
+            legs.addAll(part.legs);
+            polylines.add(part.polyline);
+            distance += part.distance;
+            duration += part.duration;
+        }
+
+        Route stitched = new RouteBuilder()
+                .withStops(stops)
+                .withLegs(legs)
+                .withDistance(distance)
+                .withDuration(duration)
+                .withEncodedPolyline(PolylineCodec.concat(polylines))
+                .build();
+        // links the legs to the stops and applies the usual one hour per stop
+        return RouteTimeline.retime(stitched, startTime);
+    }
+
+    /** Result of one sub-route request; legs are not yet linked to stops. */
+    private static final class SubRoute {
+        private final List<Place> order = new ArrayList<>();
+        private final List<Leg> legs = new ArrayList<>();
+        private int distance;
+        private double duration;
+        private String polyline;
+    }
+
+    private SubRoute requestSubRoute(JsonObject from, JsonObject to, List<Place> intermediates,
+                                     boolean optimizeOrder) throws Exception {
+        JsonObject inputJson = new JsonObject();
+        inputJson.add("origin", from);
+        inputJson.add("destination", to);
+        JsonArray intermediatesJson = new JsonArray();
+        for (Place place : intermediates) {
+            intermediatesJson.add(placeToWaypoint(place));
+        }
+        inputJson.add("intermediates", intermediatesJson);
+        inputJson.addProperty("travelMode", "WALK");
+        inputJson.addProperty("optimizeWaypointOrder", optimizeOrder && intermediates.size() > 1);
+
+        JsonArray routeList = postComputeRoutes(inputJson).getAsJsonArray("routes");
+        if (routeList == null || routeList.isEmpty()) {
+            return null;
+        }
+        JsonObject routeObj = routeList.get(0).getAsJsonObject();
+
+        SubRoute result = new SubRoute();
+        JsonArray orderJson = routeObj.getAsJsonArray("optimizedIntermediateWaypointIndex");
+        if (orderJson != null && orderJson.size() == intermediates.size()) {
+            for (JsonElement element : orderJson) {
+                result.order.add(intermediates.get(element.getAsInt()));
+            }
+        } else {
+            result.order.addAll(intermediates);
+        }
+
+        for (JsonElement el : routeObj.getAsJsonArray("legs")) {
+            JsonObject legObj = el.getAsJsonObject();
+            result.legs.add(new LegBuilder()
+                    .withDistance(legObj.has("distanceMeters")
+                            ? legObj.getAsJsonPrimitive("distanceMeters").getAsInt() : 0)
+                    .withDuration(Double.parseDouble(legObj.getAsJsonPrimitive("duration").getAsString()
+                            .replace("s", "")))
+                    .withEncodedPolyline(
+                            legObj.getAsJsonObject("polyline")
+                                    .getAsJsonPrimitive("encodedPolyline").getAsString())
+                    .withSteps(parseSteps(legObj))
+                    .build());
+        }
+        result.distance = routeObj.has("distanceMeters") ? routeObj.getAsJsonPrimitive("distanceMeters").getAsInt() : 0;
+        result.duration = Double.parseDouble(routeObj.getAsJsonPrimitive("duration").getAsString().replace("s", ""));
+        result.polyline = routeObj.getAsJsonObject("polyline").getAsJsonPrimitive("encodedPolyline").getAsString();
+        return result;
+    }
+
+    private static double[] centroid(List<Place> places) {
+        double lat = 0;
+        double lon = 0;
+        for (Place place : places) {
+            lat += place.getLat();
+            lon += place.getLon();
+        }
+        return new double[] {lat / places.size(), lon / places.size()};
+    }
+
+    private static Place closestTo(List<Place> places, double[] point) {
+        Place best = places.get(0);
+        double bestMeters = Double.MAX_VALUE;
+        for (Place place : places) {
+            double meters = WalkingEstimator.haversineMeters(place.getLat(), place.getLon(), point[0], point[1]);
+            if (meters < bestMeters) {
+                bestMeters = meters;
+                best = place;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Computes a single walking leg with a request that has no intermediates.
+     */
+    @Override
+    public Leg computeLeg(double fromLat, double fromLon, double toLat, double toLon) throws Exception {
+        JsonObject inputJson = new JsonObject();
+        inputJson.add("origin", latLngToWaypoint(fromLat, fromLon));
+        inputJson.add("destination", latLngToWaypoint(toLat, toLon));
+        inputJson.addProperty("travelMode", "WALK");
+
+        JsonArray routeList = postComputeRoutes(inputJson).getAsJsonArray("routes");
+        if (routeList == null || routeList.isEmpty()) {
+            return null;
+        }
+        JsonArray legsJson = routeList.get(0).getAsJsonObject().getAsJsonArray("legs");
+        if (legsJson == null || legsJson.isEmpty()) {
+            return null;
+        }
+        JsonObject legObj = legsJson.get(0).getAsJsonObject();
+        // origin == destination comes back without distance
+        int distance = legObj.has("distanceMeters") ? legObj.getAsJsonPrimitive("distanceMeters").getAsInt() : 0;
+        return new LegBuilder()
+                .withDistance(distance)
+                .withDuration(Double.parseDouble(legObj.getAsJsonPrimitive("duration").getAsString()
+                        .replace("s", "")))
+                .withEncodedPolyline(
+                        legObj.getAsJsonObject("polyline")
+                                .getAsJsonPrimitive("encodedPolyline").getAsString())
+                .withSteps(parseSteps(legObj))
+                .build();
+    }
+
+    private JsonObject postComputeRoutes(JsonObject inputJson) throws Exception {
+        String fieldMask = "*";
+        String url = ApiEndpoints.googleRoutes() + "/directions/v2:computeRoutes"
+                + "?key=" + apiKey
+                + "&fields=" + fieldMask;
+
+        Map<String,String> headers = new HashMap<>();
+        headers.put("X-Goog-Api-Key", apiKey);
+        headers.put("X-Goog-FieldMask", fieldMask);
+
+        String json = HttpUtil.post(url, inputJson.toString(), headers);
+        return JsonParser.parseString(json).getAsJsonObject();
+    }
+
+    private List<Step> parseSteps(JsonObject legObj) {
+        // Build each Step
+        List<Step> steps = new ArrayList<>();
+        JsonArray stepsArray = legObj.getAsJsonArray("steps");
+        if (stepsArray == null) {
+            return steps;
+        }
+        for (JsonElement elem : stepsArray) {
+            JsonObject stepObj = elem.getAsJsonObject();
+            JsonObject navInst = stepObj.getAsJsonObject("navigationInstruction");
+
+            String instr = navInst != null
+                    ? navInst.getAsJsonPrimitive("instructions").getAsString()
+                    : "Instruction unavailable.";
+
+            Step step = new StepBuilder()
+                    .withDistance(stepObj.getAsJsonPrimitive("distanceMeters").getAsInt())
+                    .withDuration(Double.parseDouble(stepObj.getAsJsonPrimitive("staticDuration")
+                            .getAsString().replace("s", "")))
+                    .withInstruction(instr)
+                    .build();
+
+            steps.add(step);
+        }
+        return steps;
+    }
+
+    private JsonObject latLngToWaypoint(double lat, double lon) {
+        Place point = new Place();
+        point.setLat(lat);
+        point.setLon(lon);
+        return placeToWaypoint(point);
+    }
+
     private JsonObject placeToWaypoint(Place place){
         JsonObject waypoint = new JsonObject();
 
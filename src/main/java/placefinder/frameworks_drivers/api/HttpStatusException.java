@@ -0,0 +1,28 @@
+package placefinder.frameworks_drivers.api;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link HttpUtil} when a provider answers with a non-2xx status.
+ */
+public class HttpStatusException extends IOException {
+
+    private final int status;
+
+    public HttpStatusException(int status, String body) {
+        super("HTTP " + status + ": " + body);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * True for statuses that say the provider itself is in trouble (5xx) or overloaded
+     * (429), as opposed to a request it will never accept.
+     */
+    public boolean isProviderFault() {
+        return status >= 500 || status == 429;
+    }
+}
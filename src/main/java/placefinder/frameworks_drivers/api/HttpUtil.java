@@ -1,16 +1,78 @@
 package placefinder.frameworks_drivers.api;
 
+import placefinder.usecases.tracing.Span;
+import placefinder.usecases.tracing.Tracer;
+
 import java.io.*;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Utility class for making HTTP requests.
+ *
+ * <p>All requests share one {@link HttpClient}, so connections are reused. Calls block the
+ * calling thread, which is cheap on a virtual thread; interrupting the thread (e.g. when a
+ * newer request replaces the one waiting) aborts the exchange instead of waiting it out.
+ *
+ * <p>Response times are tracked per provider (see {@link LatencyTracker}), told apart by
+ * path so that providers behind one stub server keep separate histories. Once a provider
+ * has enough history, its timeout is a few times its p99 instead of the fixed default, and
+ * {@link #getHedged} can send a second copy of a slow request.
+ *
+ * <p>Each request first passes its provider's {@link ExchangeGate}, if one is set, which is
+ * where rate limits and daily quotas are applied.
+ *
+ * <p>Each exchange is also a Flight Recorder event ({@link ApiCallEvent}) and, inside a
+ * trace, a span ({@code http.<provider>.<method>}).
  */
 public class HttpUtil {
 
+    private static final long GET_TIMEOUT_MILLIS = 10_000;
+    private static final long POST_TIMEOUT_MILLIS = 15_000;
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private static final Map<String, LatencyTracker> LATENCY = new ConcurrentHashMap<>();
+    private static final Map<String, ExchangeGate> GATES = new ConcurrentHashMap<>();
+
+    /** Admits each request to a provider, e.g. by waiting for a rate limit slot. */
+    public interface ExchangeGate {
+        /** @throws IOException to refuse the request, which then fails with that exception */
+        void beforeExchange() throws IOException, InterruptedException;
+    }
+
+    /**
+     * Makes every request to the provider (see {@link ApiEndpoints#providerOf}) pass the
+     * gate first, including each part of a split request and each hedged copy.
+     *
+     * @param gate the gate, or null to let requests through
+     */
+    public static void setExchangeGate(String provider, ExchangeGate gate) {
+        if (gate == null) {
+            GATES.remove(provider);
+        } else {
+            GATES.put(provider, gate);
+        }
+    }
+
     /**
      * Performs an HTTP GET request to the specified URL.
      *
@@ -19,37 +81,59 @@ public class HttpUtil {
      * @throws Exception if the request fails
      */
     public static String get(String urlString) throws Exception {
-        URL url = new URL(urlString);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setConnectTimeout(10000);
-        conn.setReadTimeout(10000);
-
-        int status = conn.getResponseCode();
-
-        InputStream is = (status >= 200 && status < 300)
-                ? conn.getInputStream()
-                : conn.getErrorStream();   // <– read error body if not 2xx
+        URI uri = URI.create(urlString);
+        LatencyTracker tracker = trackerFor(uri);
+        return send(getRequest(uri, tracker), tracker);
+    }
 
-        if (is == null) {
-            throw new IOException("No response from server, HTTP status " + status);
+    /**
+     * Same as {@link #get}, but if no response has arrived after the provider's p95 latency,
+     * a second identical request is sent and whichever answers first is used; the other is
+     * cancelled. Only for idempotent requests. Providers without enough history are not
+     * hedged, and hedges are capped to a small share of a provider's requests, so a provider
+     * that is slow across the board is not sent twice the load.
+     *
+     * @param urlString The URL to request
+     * @return The response body as a String
+     * @throws Exception if both requests fail
+     */
+    public static String getHedged(String urlString) throws Exception {
+        URI uri = URI.create(urlString);
+        LatencyTracker tracker = trackerFor(uri);
+        long hedgeDelay = tracker.hedgeDelayMillis();
+        if (hedgeDelay < 0) {
+            return send(getRequest(uri, tracker), tracker);
         }
 
-        StringBuilder response = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(is, StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                response.append(line);
+        HttpRequest request = getRequest(uri, tracker);
+        try {
+            admit(uri);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request cancelled: " + urlString);
+        }
+        CompletableFuture<HttpResponse<String>> first = sendAsync(request, tracker);
+        CompletableFuture<HttpResponse<String>> second = null;
+        try {
+            HttpResponse<String> response;
+            try {
+                response = first.get(hedgeDelay, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException slow) {
+                second = tracker.tryHedge() ? hedge(request, tracker) : null;
+                response = second == null ? first.get() : firstSuccessful(List.of(first, second)).get();
             }
+            return bodyOf(response);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request cancelled: " + urlString);
         } finally {
-            conn.disconnect();
-        }
-
-        if (status >= 200 && status < 300) {
-            return response.toString();
-        } else {
-            throw new IOException("HTTP " + status + ": " + response);
+            // cancelling a future from sendAsync aborts its exchange
+            first.cancel(true);
+            if (second != null) {
+                second.cancel(true);
+            }
         }
     }
 
@@ -81,64 +165,177 @@ public class HttpUtil {
      */
     public static String post(String urlString, String body,
                               Map<String, String> extraHeaders) throws IOException {
-        HttpURLConnection conn = null;
-        try {
-            URL url = new URL(urlString);
-            conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("POST");
-            conn.setConnectTimeout(15000);
-            conn.setReadTimeout(15000);
-            conn.setDoOutput(true);
-
-            // Set baseline headers; values can be overridden by extraHeaders
-            conn.setRequestProperty("User-Agent", "PlaceFinder/1.0");
-            conn.setRequestProperty("Accept", "application/json");
-            conn.setRequestProperty("Content-Type", "application/json; charset=UTF-8");
-
-            // Apply any user‑provided headers, overriding defaults if necessary
-            if (extraHeaders != null) {
-                for (Map.Entry<String, String> entry : extraHeaders.entrySet()) {
-                    conn.setRequestProperty(entry.getKey(), entry.getValue());
-                }
-            }
+        URI uri = URI.create(urlString);
+        LatencyTracker tracker = trackerFor(uri);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(tracker.timeoutMillis(POST_TIMEOUT_MILLIS)))
+                .POST(HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+
+        // Set baseline headers; values can be overridden by extraHeaders
+        builder.setHeader("User-Agent", "PlaceFinder/1.0");
+        builder.setHeader("Accept", "application/json");
+        builder.setHeader("Content-Type", "application/json; charset=UTF-8");
 
-            // Write request body
-            try (OutputStream os = conn.getOutputStream()) {
-                byte[] input = body.getBytes(StandardCharsets.UTF_8);
-                os.write(input);
-                os.flush();
+        // Apply any user‑provided headers, overriding defaults if necessary
+        if (extraHeaders != null) {
+            for (Map.Entry<String, String> entry : extraHeaders.entrySet()) {
+                builder.setHeader(entry.getKey(), entry.getValue());
             }
+        }
 
-            int status = conn.getResponseCode();
-            InputStream is = (status >= 200 && status < 300)
-                    ? conn.getInputStream()
-                    : conn.getErrorStream();
+        try {
+            return send(builder.build(), tracker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request cancelled: " + urlString);
+        }
+    }
 
-            if (is == null) {
-                throw new IOException("No response from server, HTTP status " + status);
-            }
+    /** Latency history of every provider called so far, by provider (see {@link ApiEndpoints#providerOf}). */
+    public static Map<String, LatencyTracker> latencyByProvider() {
+        return new TreeMap<>(LATENCY);
+    }
 
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(is, StandardCharsets.UTF_8))) {
+    static LatencyTracker trackerFor(URI uri) {
+        return LATENCY.computeIfAbsent(ApiEndpoints.providerOf(uri), provider -> new LatencyTracker());
+    }
 
-                StringBuilder sb = new StringBuilder();
-                String line;
+    /** Forgets all latency history; for tests. */
+    static void clearLatency() {
+        LATENCY.clear();
+    }
 
-                while ((line = reader.readLine()) != null) {
-                    sb.append(line);
-                }
+    private static HttpRequest getRequest(URI uri, LatencyTracker tracker) {
+        return HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofMillis(tracker.timeoutMillis(GET_TIMEOUT_MILLIS)))
+                .GET()
+                .build();
+    }
 
-                if (status >= 200 && status < 300) {
-                    return sb.toString();
-                } else {
-                    throw new IOException("HTTP " + status + ": " + sb);
-                }
+    /** Passes the provider's gate, if it has one. */
+    private static void admit(URI uri) throws IOException, InterruptedException {
+        ExchangeGate gate = GATES.get(ApiEndpoints.providerOf(uri));
+        if (gate != null) {
+            gate.beforeExchange();
+        }
+    }
+
+    /** Sends the hedged copy, or returns null if the gate refuses it; the first copy is still waited for. */
+    private static CompletableFuture<HttpResponse<String>> hedge(HttpRequest request, LatencyTracker tracker)
+            throws InterruptedException {
+        try {
+            admit(request.uri());
+        } catch (IOException refused) {
+            return null;
+        }
+        return sendAsync(request, tracker);
+    }
+
+    private static String send(HttpRequest request, LatencyTracker tracker) throws IOException, InterruptedException {
+        admit(request.uri());
+        ApiCallEvent event = new ApiCallEvent();
+        event.begin();
+        Span span = startSpan(request);
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = CLIENT.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException | InterruptedException e) {
+            if (e instanceof HttpTimeoutException) {
+                // a timeout is a (lower bound of a) response time too; leaving it out would
+                // make a slow host look fast
+                tracker.record(elapsedMillis(start));
             }
+            event.finish(request, null, e);
+            endSpan(span, null, e);
+            throw e;
+        }
+        tracker.record(elapsedMillis(start));
+        event.finish(request, response, null);
+        endSpan(span, response, null);
+        return bodyOf(response);
+    }
 
-        } finally {
-            if (conn != null) {
-                conn.disconnect();
+    private static CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request, LatencyTracker tracker) {
+        ApiCallEvent event = new ApiCallEvent();
+        event.begin();
+        Span span = startSpan(request);
+        long start = System.nanoTime();
+        CompletableFuture<HttpResponse<String>> exchange =
+                CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        exchange.whenComplete((response, error) -> {
+            Throwable cause = unwrapCompletion(error);
+            if (response != null || cause instanceof HttpTimeoutException) {
+                tracker.record(elapsedMillis(start));
             }
+            event.finish(request, response, cause);
+            endSpan(span, response, cause);
+        });
+        return exchange;
+    }
+
+    /** A tracing span for the exchange, if the calling thread is in a trace. */
+    private static Span startSpan(HttpRequest request) {
+        return Tracer.global().startChild("http." + ApiEndpoints.providerOf(request.uri()) + "." + request.method());
+    }
+
+    private static void endSpan(Span span, HttpResponse<String> response, Throwable error) {
+        if (span == null) {
+            return;
+        }
+        if (error != null) {
+            span.fail(error);
+        } else if (!isSuccess(response)) {
+            span.fail("HTTP " + response.statusCode());
+        }
+        span.end();
+    }
+
+    /**
+     * Completes with the first 2xx response, or, once every attempt has answered or failed
+     * without one, with the last of them.
+     */
+    private static CompletableFuture<HttpResponse<String>> firstSuccessful(
+            List<CompletableFuture<HttpResponse<String>>> attempts) {
+        CompletableFuture<HttpResponse<String>> result = new CompletableFuture<>();
+        AtomicInteger done = new AtomicInteger();
+        for (CompletableFuture<HttpResponse<String>> attempt : attempts) {
+            attempt.whenComplete((response, error) -> {
+                boolean last = done.incrementAndGet() == attempts.size();
+                if (error == null && (isSuccess(response) || last)) {
+                    result.complete(response);
+                } else if (error != null && last) {
+                    result.completeExceptionally(error);
+                }
+            });
+        }
+        return result;
+    }
+
+    private static boolean isSuccess(HttpResponse<String> response) {
+        return response.statusCode() >= 200 && response.statusCode() < 300;
+    }
+
+    private static String bodyOf(HttpResponse<String> response) throws HttpStatusException {
+        if (isSuccess(response)) {
+            return response.body();
+        }
+        throw new HttpStatusException(response.statusCode(), response.body());
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static Throwable unwrapCompletion(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static Exception unwrap(Throwable error) {
+        Throwable cause = unwrapCompletion(error);
+        if (cause instanceof Exception exception) {
+            return exception;
         }
+        throw new IllegalStateException(cause);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package placefinder.frameworks_drivers.api;
+
+import java.util.Arrays;
+
+/**
+ * Response times of one provider over its last {@value #WINDOW} requests, used to size
+ * timeouts and hedging from what the provider actually does rather than fixed numbers.
+ * Until {@value #MIN_SAMPLES} responses have been seen, callers keep their defaults.
+ */
+public class LatencyTracker {
+
+    static final int WINDOW = 200;
+    static final int MIN_SAMPLES = 20;
+
+    /** Timeouts never go below this, however fast the provider usually is. */
+    static final long MIN_TIMEOUT_MILLIS = 2_000;
+
+    /** A timeout is this many times the provider's p99. */
+    private static final int TIMEOUT_FACTOR = 3;
+
+    /** Hedged requests may be at most this share of all requests. */
+    static final double HEDGE_BUDGET = 0.05;
+
+    private final long[] samples = new long[WINDOW];
+    private int count;
+    private int next;
+    private long recorded;
+    private long hedges;
+
+    public synchronized void record(long millis) {
+        samples[next] = millis;
+        next = (next + 1) % WINDOW;
+        count = Math.min(count + 1, WINDOW);
+        recorded++;
+    }
+
+    /** @return the p-th percentile (0 &lt; p &le; 1) in milliseconds, or -1 with too few samples */
+    public synchronized long percentile(double p) {
+        if (count < MIN_SAMPLES) {
+            return -1;
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(p * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    public synchronized int sampleCount() {
+        return count;
+    }
+
+    /**
+     * A timeout a few times the provider's p99, so normal slow responses still make it
+     * while a stuck request is given up well before {@code defaultMillis}.
+     */
+    public long timeoutMillis(long defaultMillis) {
+        long p99 = percentile(0.99);
+        if (p99 < 0) {
+            return defaultMillis;
+        }
+        return Math.max(MIN_TIMEOUT_MILLIS, Math.min(defaultMillis, p99 * TIMEOUT_FACTOR));
+    }
+
+    /** @return how long to wait before hedging a request (the p95), or -1 to not hedge yet */
+    public long hedgeDelayMillis() {
+        return percentile(0.95);
+    }
+
+    /**
+     * Takes one hedge from the budget.
+     *
+     * @return false if hedging now would exceed {@value #HEDGE_BUDGET} of the requests seen
+     */
+    public synchronized boolean tryHedge() {
+        if (hedges + 1 > recorded * HEDGE_BUDGET) {
+            return false;
+        }
+        hedges++;
+        return true;
+    }
+
+    public synchronized long hedgeCount() {
+        return hedges;
+    }
+}
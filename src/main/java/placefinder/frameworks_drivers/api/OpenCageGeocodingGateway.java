@@ -28,10 +28,10 @@ public class OpenCageGeocodingGateway implements GeocodingDataAccessInterface {
         }
 
         String encoded = URLEncoder.encode(query, StandardCharsets.UTF_8);
-        String url = "https://api.opencagedata.com/geocode/v1/json?q=" + encoded +
+        String url = ApiEndpoints.openCage() + "/geocode/v1/json?q=" + encoded +
                 "&key=" + apiKey + "&limit=1";
 
-        String json = HttpUtil.get(url);
+        String json = HttpUtil.getHedged(url);
         JsonObject root = JsonParser.parseString(json).getAsJsonObject();
         JsonArray results = root.getAsJsonArray("results");
         if (results == null || results.size() == 0) {
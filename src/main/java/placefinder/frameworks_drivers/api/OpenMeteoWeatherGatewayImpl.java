@@ -1,49 +1,68 @@
 package placefinder.frameworks_drivers.api;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import placefinder.entities.Place;
 import placefinder.entities.WeatherSummary;
 import placefinder.usecases.dataacessinterfaces.WeatherDataAccessInterface;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
 
 public class OpenMeteoWeatherGatewayImpl implements WeatherDataAccessInterface {
 
     @Override
     public WeatherSummary getDailyWeather(double lat, double lon, LocalDate date) throws Exception {
-        String url = "https://api.open-meteo.com/v1/forecast?latitude=" + lat +
+        List<WeatherSummary> forecast = getDailyForecast(lat, lon, date, 1);
+        return forecast.isEmpty() ? null : forecast.get(0);
+    }
+
+    /**
+     * Fetches the whole date range with one request instead of one call per day.
+     */
+    @Override
+    public List<WeatherSummary> getDailyForecast(double lat, double lon, LocalDate startDate, int days)
+            throws Exception {
+        String url = ApiEndpoints.openMeteo() + "/v1/forecast?latitude=" + lat +
                 "&longitude=" + lon +
                 "&daily=temperature_2m_max,temperature_2m_min,precipitation_probability_max,uv_index_max,weathercode" +
-                "&timezone=auto&start_date=" + date + "&end_date=" + date;
+                "&timezone=auto&start_date=" + startDate + "&end_date=" + startDate.plusDays(days - 1);
 
-        String json = HttpUtil.get(url);
+        String json = HttpUtil.getHedged(url);
         JsonObject root = JsonParser.parseString(json).getAsJsonObject();
         JsonObject daily = root.getAsJsonObject("daily");
+        List<WeatherSummary> result = new ArrayList<>();
         if (daily == null) {
-            return null;
+            return result;
+        }
+        for (int i = 0; i < days; i++) {
+            result.add(dailySummary(daily, i));
         }
+        return result;
+    }
 
+    private WeatherSummary dailySummary(JsonObject daily, int day) {
         JsonArray tmaxArr = daily.getAsJsonArray("temperature_2m_max");
         JsonArray tminArr = daily.getAsJsonArray("temperature_2m_min");
         JsonArray precipArr = daily.getAsJsonArray("precipitation_probability_max");
         JsonArray uvArr = daily.getAsJsonArray("uv_index_max");
         JsonArray codeArr = daily.getAsJsonArray("weathercode");
 
-        if (tmaxArr == null || tmaxArr.size() == 0 ||
-            tminArr == null || tminArr.size() == 0 ||
-            precipArr == null || precipArr.size() == 0 ||
-            uvArr == null || uvArr.size() == 0 ||
-            codeArr == null || codeArr.size() == 0) {
+        if (!hasValue(tmaxArr, day) || !hasValue(tminArr, day) || !hasValue(precipArr, day) ||
+            !hasValue(uvArr, day) || !hasValue(codeArr, day)) {
             return null;
         }
 
-        double tmax = tmaxArr.get(0).getAsDouble();
-        double tmin = tminArr.get(0).getAsDouble();
+        double tmax = tmaxArr.get(day).getAsDouble();
+        double tmin = tminArr.get(day).getAsDouble();
         double tempC = (tmax + tmin) / 2.0;
-        int precipProb = precipArr.get(0).getAsInt();
-        double uvIndex = uvArr.get(0).getAsDouble();
-        int code = codeArr.get(0).getAsInt();
+        int precipProb = precipArr.get(day).getAsInt();
+        double uvIndex = uvArr.get(day).getAsDouble();
+        int code = codeArr.get(day).getAsInt();
 
         String conditions = mapWeatherCode(code);
         boolean precipLikely = isPrecipitationCode(code) || precipProb >= 50;
@@ -51,6 +70,81 @@ public class OpenMeteoWeatherGatewayImpl implements WeatherDataAccessInterface {
         return new WeatherSummary(tempC, conditions, uvIndex, precipLikely);
     }
 
+    /**
+     * Fetches the whole day for all places with the same multi-location request.
+     */
+    @Override
+    public List<List<WeatherSummary>> getHourlyWeather(List<Place> places, LocalDate date) throws Exception {
+        List<List<WeatherSummary>> result = new ArrayList<>();
+        if (places.isEmpty()) {
+            return result;
+        }
+        List<JsonObject> hourly = fetchHourly(places, date);
+        for (int n = 0; n < places.size(); n++) {
+            List<WeatherSummary> hours = new ArrayList<>();
+            for (int hour = 0; hour < 24; hour++) {
+                hours.add(n < hourly.size() ? hourlySummary(hourly.get(n), hour) : null);
+            }
+            result.add(hours);
+        }
+        return result;
+    }
+
+    /** @return the {@code hourly} block for each place, in order (entries may be null) */
+    private List<JsonObject> fetchHourly(List<Place> places, LocalDate date) throws Exception {
+        StringJoiner lats = new StringJoiner(",");
+        StringJoiner lons = new StringJoiner(",");
+        for (Place place : places) {
+            lats.add(String.valueOf(place.getLat()));
+            lons.add(String.valueOf(place.getLon()));
+        }
+        String url = ApiEndpoints.openMeteo() + "/v1/forecast?latitude=" + lats +
+                "&longitude=" + lons +
+                "&hourly=temperature_2m,precipitation_probability,uv_index,weathercode" +
+                "&timezone=auto&start_date=" + date + "&end_date=" + date;
+
+        String json = HttpUtil.getHedged(url);
+        JsonElement parsed = JsonParser.parseString(json);
+        // a single coordinate pair comes back as an object, several as an array
+        JsonArray locations = new JsonArray();
+        if (parsed.isJsonArray()) {
+            locations = parsed.getAsJsonArray();
+        } else {
+            locations.add(parsed);
+        }
+        List<JsonObject> hourly = new ArrayList<>();
+        for (JsonElement location : locations) {
+            hourly.add(location.getAsJsonObject().getAsJsonObject("hourly"));
+        }
+        return hourly;
+    }
+
+    private WeatherSummary hourlySummary(JsonObject hourly, int hour) {
+        if (hourly == null) {
+            return null;
+        }
+        JsonArray tempArr = hourly.getAsJsonArray("temperature_2m");
+        JsonArray precipArr = hourly.getAsJsonArray("precipitation_probability");
+        JsonArray uvArr = hourly.getAsJsonArray("uv_index");
+        JsonArray codeArr = hourly.getAsJsonArray("weathercode");
+
+        if (!hasValue(tempArr, hour) || !hasValue(codeArr, hour)) {
+            return null;
+        }
+
+        double tempC = tempArr.get(hour).getAsDouble();
+        int code = codeArr.get(hour).getAsInt();
+        int precipProb = hasValue(precipArr, hour) ? precipArr.get(hour).getAsInt() : 0;
+        double uvIndex = hasValue(uvArr, hour) ? uvArr.get(hour).getAsDouble() : 0.0;
+
+        boolean precipLikely = isPrecipitationCode(code) || precipProb >= 50;
+        return new WeatherSummary(tempC, mapWeatherCode(code), uvIndex, precipLikely);
+    }
+
+    private boolean hasValue(JsonArray arr, int index) {
+        return arr != null && arr.size() > index && !arr.get(index).isJsonNull();
+    }
+
     private String mapWeatherCode(int code) {
         // based on Open-Meteo / WMO weather codes
         return switch (code) {
@@ -0,0 +1,197 @@
+package placefinder.frameworks_drivers.api;
+
+import placefinder.entities.OpeningHours;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Parses the OpenStreetMap {@code opening_hours} values that GeoApify passes through,
+ * e.g. {@code "Mo-Fr 09:00-17:00; Sa 10:00-14:00; Su off"} or {@code "24/7"}.
+ *
+ * <p>Only weekday and time rules are understood. Rules with other selectors (months,
+ * public holidays, week numbers, ...) are skipped, and a value with no usable rule
+ * gives null so the place is treated as having unknown hours. As in OSM, a later rule
+ * replaces the hours of the days it names.
+ */
+public final class OpeningHoursParser {
+
+    private static final String[] DAYS = {"mo", "tu", "we", "th", "fr", "sa", "su"};
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private OpeningHoursParser() {
+    }
+
+    public static OpeningHours parse(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.equals("24/7")) {
+            return OpeningHours.alwaysOpen();
+        }
+
+        List<List<int[]>> days = new ArrayList<>();
+        for (int d = 0; d < 7; d++) {
+            days.add(new ArrayList<>());
+        }
+        List<List<int[]>> spill = new ArrayList<>(); // parts of overnight intervals, by the day they fall on
+        for (int d = 0; d < 7; d++) {
+            spill.add(new ArrayList<>());
+        }
+
+        boolean any = false;
+        for (String rule : text.split(";|\\|\\|")) {
+            if (applyRule(rule.trim(), days, spill)) {
+                any = true;
+            }
+        }
+        if (!any) {
+            return null;
+        }
+
+        int[][] minutes = new int[7][];
+        for (int d = 0; d < 7; d++) {
+            List<int[]> intervals = new ArrayList<>(days.get(d));
+            intervals.addAll(spill.get(d));
+            minutes[d] = merge(intervals);
+        }
+        return new OpeningHours(minutes);
+    }
+
+    /** @return true if the rule was understood and applied */
+    private static boolean applyRule(String rule, List<List<int[]>> days, List<List<int[]>> spill) {
+        if (rule.isEmpty()) {
+            return false;
+        }
+        String[] parts = rule.split("\\s+", 2);
+        boolean[] selected;
+        String times;
+        if (Character.isDigit(parts[0].charAt(0))) {
+            selected = new boolean[] {true, true, true, true, true, true, true};
+            times = rule;
+        } else {
+            selected = parseDays(parts[0]);
+            if (selected == null) {
+                return false;
+            }
+            times = parts.length > 1 ? parts[1].trim() : "00:00-24:00";
+        }
+
+        List<int[]> intervals = new ArrayList<>();
+        if (!times.equals("off") && !times.equals("closed")) {
+            for (String range : times.split(",")) {
+                int[] interval = parseRange(range.trim());
+                if (interval == null) {
+                    return false;
+                }
+                intervals.add(interval);
+            }
+        }
+
+        for (int d = 0; d < 7; d++) {
+            if (!selected[d]) {
+                continue;
+            }
+            days.get(d).clear();
+            spill.get((d + 1) % 7).clear();
+            for (int[] interval : intervals) {
+                if (interval[1] <= MINUTES_PER_DAY) {
+                    days.get(d).add(interval);
+                } else {
+                    days.get(d).add(new int[] {interval[0], MINUTES_PER_DAY});
+                    spill.get((d + 1) % 7).add(new int[] {0, interval[1] - MINUTES_PER_DAY});
+                }
+            }
+        }
+        return true;
+    }
+
+    /** "mo-fr", "sa,su", "fr-mo"; null if the selector is not a weekday list. */
+    private static boolean[] parseDays(String selector) {
+        boolean[] selected = new boolean[7];
+        for (String item : selector.split(",")) {
+            String[] ends = item.split("-");
+            int from = dayIndex(ends[0]);
+            int to = ends.length > 1 ? dayIndex(ends[1]) : from;
+            if (from < 0 || to < 0 || ends.length > 2) {
+                return null;
+            }
+            for (int d = from; ; d = (d + 1) % 7) {
+                selected[d] = true;
+                if (d == to) {
+                    break;
+                }
+            }
+        }
+        return selected;
+    }
+
+    private static int dayIndex(String day) {
+        for (int i = 0; i < DAYS.length; i++) {
+            if (DAYS[i].equals(day)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** "09:00-17:30", "18:00-02:00" (past midnight), "17:00+" (open end); close may exceed 24:00. */
+    private static int[] parseRange(String range) {
+        if (range.endsWith("+")) {
+            int open = parseTime(range.substring(0, range.length() - 1));
+            return open < 0 ? null : new int[] {open, MINUTES_PER_DAY};
+        }
+        String[] ends = range.split("-");
+        if (ends.length != 2) {
+            return null;
+        }
+        int open = parseTime(ends[0]);
+        int close = parseTime(ends[1]);
+        if (open < 0 || close < 0) {
+            return null;
+        }
+        if (close <= open) {
+            close += MINUTES_PER_DAY;
+        }
+        return new int[] {open, close};
+    }
+
+    private static int parseTime(String time) {
+        String[] hm = time.trim().split(":");
+        if (hm.length != 2) {
+            return -1;
+        }
+        try {
+            int hours = Integer.parseInt(hm[0]);
+            int minutes = Integer.parseInt(hm[1]);
+            if (hours < 0 || hours > 24 || minutes < 0 || minutes > 59) {
+                return -1;
+            }
+            return hours * 60 + minutes;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /** Sorts and merges overlapping intervals into the flat pair array used by {@link OpeningHours}. */
+    private static int[] merge(List<int[]> intervals) {
+        intervals.sort((a, b) -> Integer.compare(a[0], b[0]));
+        List<int[]> merged = new ArrayList<>();
+        for (int[] interval : intervals) {
+            int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && interval[0] <= last[1]) {
+                last[1] = Math.max(last[1], interval[1]);
+            } else {
+                merged.add(new int[] {interval[0], interval[1]});
+            }
+        }
+        int[] flat = new int[merged.size() * 2];
+        for (int i = 0; i < merged.size(); i++) {
+            flat[2 * i] = merged.get(i)[0];
+            flat[2 * i + 1] = merged.get(i)[1];
+        }
+        return flat;
+    }
+}
@@ -0,0 +1,37 @@
+package placefinder.frameworks_drivers.cache;
+
+import placefinder.entities.GeocodeResult;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+
+import java.util.Locale;
+
+/**
+ * Geocoding gateway decorator that remembers resolved addresses in memory.
+ * The same location text is geocoded by nearly every plan builder action, and
+ * addresses don't move, so results are kept for a day. Lookups are keyed by the
+ * trimmed, lower-cased query; queries that found nothing are asked again next time.
+ */
+public class CachingGeocodingGateway implements GeocodingDataAccessInterface {
+
+    private static final long DEFAULT_TTL_MILLIS = 24 * 60 * 60 * 1000L;
+
+    private final GeocodingDataAccessInterface delegate;
+    private final ReadThroughCache<String, GeocodeResult> results;
+
+    public CachingGeocodingGateway(GeocodingDataAccessInterface delegate) {
+        this(delegate, DEFAULT_TTL_MILLIS);
+    }
+
+    public CachingGeocodingGateway(GeocodingDataAccessInterface delegate, long ttlMillis) {
+        this.delegate = delegate;
+        this.results = new ReadThroughCache<>("geocoding", ttlMillis);
+    }
+
+    @Override
+    public GeocodeResult geocode(String query) throws Exception {
+        if (query == null) {
+            return delegate.geocode(null);
+        }
+        return results.get(query.trim().toLowerCase(Locale.ROOT), key -> delegate.geocode(query));
+    }
+}
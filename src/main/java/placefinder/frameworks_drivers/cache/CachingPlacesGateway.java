@@ -0,0 +1,68 @@
+package placefinder.frameworks_drivers.cache;
+
+import placefinder.entities.Place;
+import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Places gateway decorator that keeps the candidate pool for a search area in memory.
+ * Repeating a search for the same area, radius and categories (for example when
+ * comparing several days) reuses the pool instead of calling the places API again.
+ */
+public class CachingPlacesGateway implements PlacesDataAccessInterface {
+
+    private static final long DEFAULT_TTL_MILLIS = 15 * 60 * 1000L;
+
+    private final PlacesDataAccessInterface delegate;
+    private final ReadThroughCache<String, List<Place>> pools;
+
+    public CachingPlacesGateway(PlacesDataAccessInterface delegate) {
+        this(delegate, DEFAULT_TTL_MILLIS);
+    }
+
+    public CachingPlacesGateway(PlacesDataAccessInterface delegate, long ttlMillis) {
+        this.delegate = delegate;
+        this.pools = new ReadThroughCache<>("places", ttlMillis);
+    }
+
+    @Override
+    public List<Place> searchPlaces(double lat, double lon, double radiusKm,
+                                    Map<String, List<String>> selectedCategories) throws Exception {
+        List<Place> pool = pools.get(key(lat, lon, radiusKm, selectedCategories),
+                key -> delegate.searchPlaces(lat, lon, radiusKm, selectedCategories));
+        // callers sort and trim the list, so hand out a copy
+        return pool == null ? null : new ArrayList<>(pool);
+    }
+
+    @Override
+    public List<Place> searchPlacesInRect(double south, double west, double north, double east,
+                                          Map<String, List<String>> selectedCategories) throws Exception {
+        String rect = String.format(Locale.ROOT, "rect:%.4f,%.4f,%.4f,%.4f", south, west, north, east);
+        List<Place> pool = pools.get(rect + categoriesKey(selectedCategories),
+                key -> delegate.searchPlacesInRect(south, west, north, east, selectedCategories));
+        return pool == null ? null : new ArrayList<>(pool);
+    }
+
+    private static String key(double lat, double lon, double radiusKm, Map<String, List<String>> categories) {
+        return String.format(Locale.ROOT, "%.3f,%.3f,%.1f", lat, lon, radiusKm) + categoriesKey(categories);
+    }
+
+    private static String categoriesKey(Map<String, List<String>> categories) {
+        StringBuilder sb = new StringBuilder();
+        if (categories != null) {
+            for (Map.Entry<String, List<String>> entry : new TreeMap<>(categories).entrySet()) {
+                sb.append('|').append(entry.getKey()).append('=');
+                if (entry.getValue() != null) {
+                    sb.append(String.join(",", new TreeSet<>(entry.getValue())));
+                }
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package placefinder.frameworks_drivers.cache;
+
+import placefinder.entities.Plan;
+import placefinder.usecases.dataacessinterfaces.PlanDataAccessInterface;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plan gateway decorator that keeps each user's plan list in memory, so returning to
+ * the dashboard doesn't reload it. Saving or deleting a plan drops the user's list.
+ * Single plans with their stops are always read from the delegate.
+ */
+public class CachingPlanGateway implements PlanDataAccessInterface {
+
+    private static final long DEFAULT_TTL_MILLIS = 30 * 60 * 1000L;
+
+    private final PlanDataAccessInterface delegate;
+    private final ReadThroughCache<Integer, List<Plan>> plansByUser;
+
+    public CachingPlanGateway(PlanDataAccessInterface delegate) {
+        this(delegate, DEFAULT_TTL_MILLIS);
+    }
+
+    public CachingPlanGateway(PlanDataAccessInterface delegate, long ttlMillis) {
+        this.delegate = delegate;
+        this.plansByUser = new ReadThroughCache<>("plans", ttlMillis);
+    }
+
+    @Override
+    public void savePlan(Plan plan) throws Exception {
+        try {
+            delegate.savePlan(plan);
+        } finally {
+            plansByUser.invalidate(plan.getUserId());
+        }
+    }
+
+    @Override
+    public List<Plan> findPlansByUser(int userId) throws Exception {
+        List<Plan> plans = plansByUser.get(userId, key -> delegate.findPlansByUser(userId));
+        return plans == null ? null : new ArrayList<>(plans);
+    }
+
+    @Override
+    public Plan findPlanWithStops(int planId) throws Exception {
+        return delegate.findPlanWithStops(planId);
+    }
+
+    @Override
+    public void deletePlan(int planId, int userId) throws Exception {
+        try {
+            delegate.deletePlan(planId, userId);
+        } finally {
+            plansByUser.invalidate(userId);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package placefinder.frameworks_drivers.cache;
+
+import placefinder.entities.FavoriteLocation;
+import placefinder.entities.PreferenceProfile;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Preference gateway decorator that keeps each user's profile and favorites in memory.
+ * Most plan builder actions read the profile, so this saves a database round trip per
+ * action. Any write for a user drops that user's entries, so reads never go stale.
+ */
+public class CachingPreferenceGateway implements PreferenceDataAccessInterface {
+
+    private static final long DEFAULT_TTL_MILLIS = 30 * 60 * 1000L;
+
+    private final PreferenceDataAccessInterface delegate;
+    private final ReadThroughCache<Integer, PreferenceProfile> profiles;
+    private final ReadThroughCache<Integer, List<FavoriteLocation>> favorites;
+
+    public CachingPreferenceGateway(PreferenceDataAccessInterface delegate) {
+        this(delegate, DEFAULT_TTL_MILLIS);
+    }
+
+    public CachingPreferenceGateway(PreferenceDataAccessInterface delegate, long ttlMillis) {
+        this.delegate = delegate;
+        this.profiles = new ReadThroughCache<>("preferences", ttlMillis);
+        this.favorites = new ReadThroughCache<>("favorites", ttlMillis);
+    }
+
+    @Override
+    public PreferenceProfile loadForUser(int userId) throws Exception {
+        PreferenceProfile profile = profiles.get(userId, key -> delegate.loadForUser(userId));
+        // callers update the profile before saving it, so hand out a copy
+        return profile == null ? null
+                : new PreferenceProfile(profile.getUserId(), profile.getRadiusKm(), profile.getSelectedCategories());
+    }
+
+    @Override
+    public void saveForUser(PreferenceProfile profile) throws Exception {
+        try {
+            delegate.saveForUser(profile);
+        } finally {
+            profiles.invalidate(profile.getUserId());
+        }
+    }
+
+    @Override
+    public List<FavoriteLocation> listFavorites(int userId) throws Exception {
+        List<FavoriteLocation> list = favorites.get(userId, key -> delegate.listFavorites(userId));
+        return list == null ? null : new ArrayList<>(list);
+    }
+
+    @Override
+    public FavoriteLocation addFavorite(int userId, String name, String address, double lat, double lon)
+            throws Exception {
+        try {
+            return delegate.addFavorite(userId, name, address, lat, lon);
+        } finally {
+            favorites.invalidate(userId);
+        }
+    }
+
+    @Override
+    public void deleteFavorite(int favoriteId, int userId) throws Exception {
+        try {
+            delegate.deleteFavorite(favoriteId, userId);
+        } finally {
+            favorites.invalidate(userId);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package placefinder.frameworks_drivers.cache;
+
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Leg;
+import placefinder.entities.Place;
+import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
+import placefinder.frameworks_drivers.dataaccess.SqliteRouteCache;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+import placefinder.usecases.routing.PlaceKey;
+import placefinder.usecases.routing.RouteTimeline;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Route gateway decorator that remembers computed routes by origin and stop set.
+ * The key ignores the order of the places (the provider optimizes the order anyway,
+ * except for fixed-order requests, which are keyed by order) and the start time; on a
+ * hit the cached legs are simply re-timed. Routes are kept in memory and in SQLite, so
+ * they survive restarts and are reused when a saved plan is edited or regenerated for
+ * another date.
+ */
+public class CachingRouteGateway implements RouteDataAccessInterface {
+
+    private static final long MEMORY_TTL_MILLIS = 24 * 60 * 60 * 1000L;
+    private static final long STORED_TTL_MILLIS = 30L * 24 * 60 * 60 * 1000L;
+
+    private final RouteDataAccessInterface delegate;
+    private final SqliteRouteCache store;
+    private final ReadThroughCache<String, Route> routes = new ReadThroughCache<>("routes", MEMORY_TTL_MILLIS);
+
+    public CachingRouteGateway(RouteDataAccessInterface delegate) {
+        this(delegate, new SqliteRouteCache());
+    }
+
+    /**
+     * @param store persistent storage, or null to keep routes in memory only
+     */
+    public CachingRouteGateway(RouteDataAccessInterface delegate, SqliteRouteCache store) {
+        this.delegate = delegate;
+        this.store = store;
+    }
+
+    @Override
+    public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places) throws Exception {
+        return computeRoute(origin, startTime, places, true);
+    }
+
+    @Override
+    public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places,
+                              boolean optimizeOrder) throws Exception {
+        String key = optimizeOrder ? cacheKey(origin, places) : "ordered|" + orderedCacheKey(origin, places);
+        Route cached = routes.get(key, k -> loadOrCompute(k, origin, startTime, places, optimizeOrder));
+        if (cached == null) {
+            return null;
+        }
+
+        Route route = RouteTimeline.retime(cached, startTime);
+        // hand back the caller's own Place objects rather than the cached copies
+        Map<String, Place> byKey = new HashMap<>();
+        for (Place place : places) {
+            byKey.put(PlaceKey.of(place), place);
+        }
+        for (PlanStop stop : route.getStops()) {
+            Place own = byKey.get(PlaceKey.of(stop.getPlace()));
+            if (own != null) {
+                stop.setPlace(own);
+            }
+        }
+        return route;
+    }
+
+    @Override
+    public Leg computeLeg(double fromLat, double fromLon, double toLat, double toLon) throws Exception {
+        return delegate.computeLeg(fromLat, fromLon, toLat, toLon);
+    }
+
+    private Route loadOrCompute(String key, GeocodeResult origin, LocalTime startTime,
+                                List<Place> places, boolean optimizeOrder) throws Exception {
+        if (store != null) {
+            try {
+                String json = store.load(key, STORED_TTL_MILLIS);
+                if (json != null) {
+                    return RouteJson.fromJson(json);
+                }
+            } catch (Exception e) {
+                // a broken cache row only costs us a fresh route computation
+            }
+        }
+
+        Route route = optimizeOrder
+                ? delegate.computeRoute(origin, startTime, places)
+                : delegate.computeRoute(origin, startTime, places, false);
+        if (route != null && store != null) {
+            try {
+                store.save(key, RouteJson.toJson(route));
+            } catch (Exception e) {
+                // persisting is best effort; the in-memory copy still serves this session
+            }
+        }
+        return route;
+    }
+
+    static String cacheKey(GeocodeResult origin, List<Place> places) {
+        List<String> keys = new ArrayList<>();
+        for (Place place : places) {
+            keys.add(PlaceKey.of(place));
+        }
+        keys.sort(null);
+        return keyOf(origin, keys);
+    }
+
+    static String orderedCacheKey(GeocodeResult origin, List<Place> places) {
+        List<String> keys = new ArrayList<>();
+        for (Place place : places) {
+            keys.add(PlaceKey.of(place));
+        }
+        return keyOf(origin, keys);
+    }
+
+    private static String keyOf(GeocodeResult origin, List<String> keys) {
+        return String.format(Locale.ROOT, "%.4f,%.4f", origin.getLat(), origin.getLon())
+                + "|" + String.join(";", keys);
+    }
+}
@@ -0,0 +1,67 @@
+package placefinder.frameworks_drivers.cache;
+
+import placefinder.entities.Place;
+import placefinder.entities.WeatherSummary;
+import placefinder.usecases.dataacessinterfaces.WeatherDataAccessInterface;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Weather gateway decorator that keeps daily forecasts in memory.
+ * Daily lookups for a day inside an already cached forecast range are answered
+ * from that range, so a 16-day comparison followed by a single-day lookup costs
+ * one API call. Hourly per-stop forecasts are passed through unchanged.
+ */
+public class CachingWeatherGateway implements WeatherDataAccessInterface {
+
+    private static final long DEFAULT_TTL_MILLIS = 30 * 60 * 1000L;
+
+    private final WeatherDataAccessInterface delegate;
+    private final ReadThroughCache<String, List<WeatherSummary>> forecasts;
+    private final ReadThroughCache<String, WeatherSummary> days;
+
+    public CachingWeatherGateway(WeatherDataAccessInterface delegate) {
+        this(delegate, DEFAULT_TTL_MILLIS);
+    }
+
+    public CachingWeatherGateway(WeatherDataAccessInterface delegate, long ttlMillis) {
+        this.delegate = delegate;
+        this.forecasts = new ReadThroughCache<>("weather.forecast", ttlMillis);
+        this.days = new ReadThroughCache<>("weather.day", ttlMillis);
+    }
+
+    @Override
+    public WeatherSummary getDailyWeather(double lat, double lon, LocalDate date) throws Exception {
+        LocalDate today = LocalDate.now();
+        List<WeatherSummary> range = forecasts.peek(forecastKey(lat, lon, today, MAX_FORECAST_DAYS));
+        int offset = (int) (date.toEpochDay() - today.toEpochDay());
+        if (range != null && offset >= 0 && offset < range.size()) {
+            return range.get(offset);
+        }
+        return days.get(locationKey(lat, lon) + "@" + date,
+                key -> delegate.getDailyWeather(lat, lon, date));
+    }
+
+    @Override
+    public List<WeatherSummary> getDailyForecast(double lat, double lon, LocalDate startDate, int days)
+            throws Exception {
+        return forecasts.get(forecastKey(lat, lon, startDate, days),
+                key -> delegate.getDailyForecast(lat, lon, startDate, days));
+    }
+
+    @Override
+    public List<List<WeatherSummary>> getHourlyWeather(List<Place> places, LocalDate date) throws Exception {
+        return delegate.getHourlyWeather(places, date);
+    }
+
+    private static String forecastKey(double lat, double lon, LocalDate startDate, int days) {
+        return locationKey(lat, lon) + "@" + startDate + "+" + days;
+    }
+
+    // ~100 m buckets: forecasts don't change between neighbouring points
+    private static String locationKey(double lat, double lon) {
+        return String.format(Locale.ROOT, "%.3f,%.3f", lat, lon);
+    }
+}
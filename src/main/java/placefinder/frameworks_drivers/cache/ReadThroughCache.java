@@ -0,0 +1,135 @@
+package placefinder.frameworks_drivers.cache;
+
+import placefinder.usecases.metrics.MetricsRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Small in-memory read-through cache with a fixed time-to-live.
+ * Concurrent lookups for the same missing key share one load instead of each
+ * calling the underlying API. Failed loads are not cached. A named cache counts its hits
+ * and misses as {@code cache.<name>.hit} and {@code cache.<name>.miss} in the global
+ * {@link MetricsRegistry}.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ReadThroughCache<K, V> {
+
+    /**
+     * Loads the value for a key on a cache miss.
+     */
+    public interface Loader<K, V> {
+        V load(K key) throws Exception;
+    }
+
+    private static final class Entry<V> {
+        private final CompletableFuture<V> value = new CompletableFuture<>();
+        private volatile long loadedAt;
+    }
+
+    private final String name;   // null: not counted
+    private final long ttlMillis;
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    public ReadThroughCache(long ttlMillis) {
+        this(null, ttlMillis);
+    }
+
+    public ReadThroughCache(String name, long ttlMillis) {
+        this.name = name;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public V get(K key, Loader<K, V> loader) throws Exception {
+        while (true) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.value.isDone() && isExpired(entry)) {
+                entries.remove(key, entry);
+                continue;
+            }
+            if (entry == null) {
+                Entry<V> created = new Entry<>();
+                entry = entries.putIfAbsent(key, created);
+                if (entry == null) {
+                    count("miss");
+                    return load(key, created, loader);
+                }
+            }
+            // joining a load that is still running saves a call too, so it counts as a hit
+            count("hit");
+            try {
+                return entry.value.get();
+            } catch (ExecutionException e) {
+                // waiters share the failure of the load they joined
+                throw rethrow(e);
+            }
+        }
+    }
+
+    /**
+     * Returns the cached value without loading, or null when absent or expired.
+     */
+    public V peek(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || !entry.value.isDone() || entry.value.isCompletedExceptionally() || isExpired(entry)) {
+            return null;
+        }
+        return entry.value.getNow(null);
+    }
+
+    /**
+     * Drops the entry for one key; a load already under way for it still completes for its
+     * waiters, but is not kept.
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    private V load(K key, Entry<V> entry, Loader<K, V> loader) throws Exception {
+        boolean keep = false;
+        try {
+            V value = loader.load(key);
+            entry.loadedAt = System.currentTimeMillis();
+            entry.value.complete(value);
+            // don't keep "no result" around; the next call asks again
+            keep = value != null;
+            return value;
+        } catch (Throwable t) {
+            // errors too, or callers that joined this load would wait forever
+            entry.value.completeExceptionally(t);
+            throw t;
+        } finally {
+            if (!keep) {
+                entries.remove(key, entry);
+            }
+        }
+    }
+
+    private void count(String outcome) {
+        if (name != null) {
+            MetricsRegistry.global().counter("cache." + name + "." + outcome).increment();
+        }
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return System.currentTimeMillis() - entry.loadedAt > ttlMillis;
+    }
+
+    private static Exception rethrow(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Exception) {
+            return (Exception) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        throw new IllegalStateException(cause);
+    }
+}
@@ -0,0 +1,179 @@
+package placefinder.frameworks_drivers.cache;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import placefinder.entities.IndoorOutdoorType;
+import placefinder.entities.Leg;
+import placefinder.entities.LegBuilder;
+import placefinder.entities.Place;
+import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
+import placefinder.entities.RouteBuilder;
+import placefinder.entities.Step;
+import placefinder.entities.StepBuilder;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts a {@link Route} to and from JSON.
+ * Legs refer to their end points by stop index (-1 for the origin), so the shared
+ * {@link PlanStop} objects are restored as shared objects.
+ */
+public final class RouteJson {
+
+    private static final int ORIGIN = -1;
+
+    private RouteJson() {
+    }
+
+    public static String toJson(Route route) {
+        JsonObject root = new JsonObject();
+        root.addProperty("distance", route.getDistance());
+        root.addProperty("duration", route.getDuration());
+        root.addProperty("polyline", route.getEncodedPolyline());
+
+        PlanStop origin = route.getLegs().isEmpty() ? null : route.getLegs().get(0).getStartLocation();
+        if (origin != null) {
+            root.add("origin", stopToJson(origin));
+        }
+
+        JsonArray stops = new JsonArray();
+        for (PlanStop stop : route.getStops()) {
+            stops.add(stopToJson(stop));
+        }
+        root.add("stops", stops);
+
+        JsonArray legs = new JsonArray();
+        for (Leg leg : route.getLegs()) {
+            JsonObject legObj = new JsonObject();
+            legObj.addProperty("distance", leg.getDistance());
+            legObj.addProperty("duration", leg.getDuration());
+            legObj.addProperty("polyline", leg.getEncodedPolyline());
+            legObj.addProperty("start", route.getStops().indexOf(leg.getStartLocation()));
+            legObj.addProperty("end", route.getStops().indexOf(leg.getEndLocation()));
+
+            JsonArray steps = new JsonArray();
+            if (leg.getSteps() != null) {
+                for (Step step : leg.getSteps()) {
+                    JsonObject stepObj = new JsonObject();
+                    stepObj.addProperty("distance", step.getDistance());
+                    stepObj.addProperty("duration", step.getDuration());
+                    stepObj.addProperty("instruction", step.getNavInstruction());
+                    steps.add(stepObj);
+                }
+            }
+            legObj.add("steps", steps);
+            legs.add(legObj);
+        }
+        root.add("legs", legs);
+        return root.toString();
+    }
+
+    public static Route fromJson(String json) {
+        JsonObject root = JsonParser.parseString(json).getAsJsonObject();
+
+        PlanStop origin = root.has("origin")
+                ? stopFromJson(root.getAsJsonObject("origin"))
+                : new PlanStop(0, new Place(), LocalTime.MIDNIGHT, LocalTime.MIDNIGHT);
+
+        List<PlanStop> stops = new ArrayList<>();
+        for (JsonElement el : root.getAsJsonArray("stops")) {
+            stops.add(stopFromJson(el.getAsJsonObject()));
+        }
+
+        List<Leg> legs = new ArrayList<>();
+        for (JsonElement el : root.getAsJsonArray("legs")) {
+            JsonObject legObj = el.getAsJsonObject();
+            List<Step> steps = new ArrayList<>();
+            for (JsonElement stepEl : legObj.getAsJsonArray("steps")) {
+                JsonObject stepObj = stepEl.getAsJsonObject();
+                steps.add(new StepBuilder()
+                        .withDistance(stepObj.get("distance").getAsInt())
+                        .withDuration(stepObj.get("duration").getAsDouble())
+                        .withInstruction(string(stepObj, "instruction"))
+                        .build());
+            }
+            legs.add(new LegBuilder()
+                    .withDistance(legObj.get("distance").getAsInt())
+                    .withDuration(legObj.get("duration").getAsDouble())
+                    .withEncodedPolyline(string(legObj, "polyline"))
+                    .withStartLocation(stopAt(stops, origin, legObj.get("start").getAsInt()))
+                    .withEndLocation(stopAt(stops, origin, legObj.get("end").getAsInt()))
+                    .withSteps(steps)
+                    .build());
+        }
+
+        return new RouteBuilder()
+                .withStops(stops)
+                .withLegs(legs)
+                .withDistance(root.get("distance").getAsInt())
+                .withDuration(root.get("duration").getAsDouble())
+                .withEncodedPolyline(string(root, "polyline"))
+                .build();
+    }
+
+    private static PlanStop stopAt(List<PlanStop> stops, PlanStop origin, int index) {
+        return index == ORIGIN ? origin : stops.get(index);
+    }
+
+    private static JsonObject stopToJson(PlanStop stop) {
+        JsonObject obj = new JsonObject();
+        obj.addProperty("seq", stop.getSequenceNumber());
+        obj.addProperty("start", stop.getStartTime() != null ? stop.getStartTime().toString() : null);
+        obj.addProperty("end", stop.getEndTime() != null ? stop.getEndTime().toString() : null);
+
+        Place place = stop.getPlace() != null ? stop.getPlace() : new Place();
+        JsonObject placeObj = new JsonObject();
+        placeObj.addProperty("id", place.getId());
+        placeObj.addProperty("name", place.getName());
+        placeObj.addProperty("address", place.getAddress());
+        placeObj.addProperty("lat", place.getLat());
+        placeObj.addProperty("lon", place.getLon());
+        placeObj.addProperty("distanceKm", place.getDistanceKm());
+        if (place.getIndoorOutdoorType() != null) {
+            placeObj.addProperty("type", place.getIndoorOutdoorType().name());
+        }
+        JsonArray categories = new JsonArray();
+        if (place.getCategories() != null) {
+            place.getCategories().forEach(categories::add);
+        }
+        placeObj.add("categories", categories);
+        obj.add("place", placeObj);
+        return obj;
+    }
+
+    private static PlanStop stopFromJson(JsonObject obj) {
+        JsonObject placeObj = obj.getAsJsonObject("place");
+        Place place = new Place();
+        place.setId(string(placeObj, "id"));
+        place.setName(string(placeObj, "name"));
+        place.setAddress(string(placeObj, "address"));
+        place.setLat(placeObj.get("lat").getAsDouble());
+        place.setLon(placeObj.get("lon").getAsDouble());
+        place.setDistanceKm(placeObj.get("distanceKm").getAsDouble());
+        String type = string(placeObj, "type");
+        if (type != null) {
+            place.setIndoorOutdoorType(IndoorOutdoorType.valueOf(type));
+        }
+        List<String> categories = new ArrayList<>();
+        for (JsonElement c : placeObj.getAsJsonArray("categories")) {
+            categories.add(c.getAsString());
+        }
+        place.setCategories(categories);
+
+        String start = string(obj, "start");
+        String end = string(obj, "end");
+        return new PlanStop(obj.get("seq").getAsInt(), place,
+                start != null ? LocalTime.parse(start) : null,
+                end != null ? LocalTime.parse(end) : null);
+    }
+
+    private static String string(JsonObject obj, String member) {
+        JsonElement el = obj.get(member);
+        return el == null || el.isJsonNull() ? null : el.getAsString();
+    }
+}
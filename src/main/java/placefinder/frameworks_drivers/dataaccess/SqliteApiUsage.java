@@ -0,0 +1,50 @@
+package placefinder.frameworks_drivers.dataaccess;
+
+import placefinder.frameworks_drivers.database.Database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * SQLite accounting of provider calls, counted per day, provider and user.
+ * Calls made while nobody is logged in are counted under user 0.
+ */
+public class SqliteApiUsage {
+
+    /**
+     * Adds calls to the day's counts in one batch.
+     *
+     * @param callsByUser number of calls by user id (0 when nobody was logged in)
+     */
+    public void add(LocalDate day, String provider, Map<Integer, Integer> callsByUser) throws Exception {
+        String sql = "INSERT INTO api_usage(day, provider, user_id, calls) VALUES (?, ?, ?, ?) "
+                + "ON CONFLICT(day, provider, user_id) DO UPDATE SET calls = calls + excluded.calls";
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            for (Map.Entry<Integer, Integer> entry : callsByUser.entrySet()) {
+                ps.setString(1, day.toString());
+                ps.setString(2, provider);
+                ps.setInt(3, entry.getKey());
+                ps.setInt(4, entry.getValue());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    /** Total calls to the provider on that day, by all users. */
+    public int callsOn(LocalDate day, String provider) throws Exception {
+        String sql = "SELECT COALESCE(SUM(calls), 0) FROM api_usage WHERE day = ? AND provider = ?";
+        try (Connection conn = Database.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, day.toString());
+            ps.setString(2, provider);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
+}
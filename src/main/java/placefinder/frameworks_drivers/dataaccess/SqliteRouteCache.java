@@ -0,0 +1,60 @@
+package placefinder.frameworks_drivers.dataaccess;
+
+import placefinder.frameworks_drivers.database.Database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.function.LongSupplier;
+
+/**
+ * SQLite storage for serialized routes, keyed by an opaque cache key.
+ */
+public class SqliteRouteCache {
+
+    /** Opens a connection to the database holding the {@code route_cache} table. */
+    interface ConnectionSource {
+        Connection open() throws SQLException;
+    }
+
+    private final ConnectionSource connections;
+    private final LongSupplier clock;
+
+    public SqliteRouteCache() {
+        this(Database::getConnection, System::currentTimeMillis);
+    }
+
+    SqliteRouteCache(ConnectionSource connections, LongSupplier clock) {
+        this.connections = connections;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the stored route JSON, or null when there is none newer than maxAgeMillis.
+     */
+    public String load(String key, long maxAgeMillis) throws Exception {
+        String sql = "SELECT route_json, created_at FROM route_cache WHERE cache_key = ?";
+        try (Connection conn = connections.open();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, key);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (rs.next() && clock.getAsLong() - rs.getLong("created_at") <= maxAgeMillis) {
+                    return rs.getString("route_json");
+                }
+            }
+        }
+        return null;
+    }
+
+    public void save(String key, String routeJson) throws Exception {
+        String sql = "INSERT OR REPLACE INTO route_cache(cache_key, route_json, created_at) VALUES (?, ?, ?)";
+        try (Connection conn = connections.open();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setString(1, key);
+            ps.setString(2, routeJson);
+            ps.setLong(3, clock.getAsLong());
+            ps.executeUpdate();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package placefinder.frameworks_drivers.dataaccess;
 import placefinder.entities.User;
 import placefinder.frameworks_drivers.database.Database;
 import placefinder.usecases.dataacessinterfaces.UserDataAccessInterface;
+import placefinder.usecases.logging.AppLogger;
 
 import java.sql.*;
 
@@ -12,6 +13,16 @@ import java.sql.*;
  */
 public class SqliteUserDataAccess implements UserDataAccessInterface {
 
+    private final AppLogger logger;
+
+    public SqliteUserDataAccess() {
+        this(AppLogger.none());
+    }
+
+    public SqliteUserDataAccess(AppLogger logger) {
+        this.logger = logger;
+    }
+
     @Override
     public User findByEmail(String email) throws Exception {
         String sql = "SELECT id, name, email, password_hash, home_city, " +
@@ -25,10 +36,10 @@ public class SqliteUserDataAccess implements UserDataAccessInterface {
             try (ResultSet rs = ps.executeQuery()) {
                 if (rs.next()) {
                     User user = mapRowToUser(rs);
-                    System.out.println("[GATEWAY] findByEmail(" + email + ") -> id=" + user.getId());
+                    logger.debug("user.findByEmail", "email", email, "id", user.getId());
                     return user;
                 } else {
-                    System.out.println("[GATEWAY] findByEmail(" + email + ") -> null");
+                    logger.debug("user.findByEmail", "email", email, "id", null);
                     return null;
                 }
             }
@@ -87,8 +98,7 @@ public class SqliteUserDataAccess implements UserDataAccessInterface {
                 }
             }
 
-            System.out.println("[GATEWAY] insert user email=" + user.getEmail()
-                    + " id=" + user.getId());
+            logger.info("user.insert", "email", user.getEmail(), "id", user.getId());
         }
     }
 
@@ -116,9 +126,8 @@ public class SqliteUserDataAccess implements UserDataAccessInterface {
 
             ps.executeUpdate();
 
-            System.out.println("[GATEWAY] update user id=" + user.getId()
-                    + " verified=" + user.isVerified()
-                    + " code=" + user.getVerificationCode());
+            // the verification code is a credential, so it is not logged
+            logger.info("user.update", "id", user.getId(), "verified", user.isVerified());
         }
     }
 
@@ -1,5 +1,7 @@
 package placefinder.frameworks_drivers.database;
 
+import placefinder.usecases.metrics.MetricsRegistry;
+
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
@@ -18,8 +20,12 @@ public class Database {
         init();
     }
 
+    /**
+     * Opens a connection. Statements run on it are timed in the global
+     * {@link MetricsRegistry} (see {@link TimedConnection}).
+     */
     public static Connection getConnection() throws SQLException {
-        return DriverManager.getConnection(DB_URL);
+        return TimedConnection.wrap(DriverManager.getConnection(DB_URL), MetricsRegistry.global());
     }
 
     private static void init() {
@@ -140,6 +146,22 @@ public class Database {
                     "FOREIGN KEY(plan_id) REFERENCES plans(id) ON DELETE CASCADE" +
                     ")");
 
+            // Computed routes keyed by origin and stop set, reused across plans and dates
+            stmt.execute("CREATE TABLE IF NOT EXISTS route_cache (" +
+                    "cache_key TEXT PRIMARY KEY," +
+                    "route_json TEXT NOT NULL," +
+                    "created_at INTEGER NOT NULL" +
+                    ")");
+
+            // Calls to paid providers per day and user, for quotas and cost tracking
+            stmt.execute("CREATE TABLE IF NOT EXISTS api_usage (" +
+                    "day TEXT NOT NULL," +
+                    "provider TEXT NOT NULL," +
+                    "user_id INTEGER NOT NULL," +
+                    "calls INTEGER NOT NULL DEFAULT 0," +
+                    "PRIMARY KEY(day, provider, user_id)" +
+                    ")");
+
         } catch (SQLException e) {
             e.printStackTrace();
         }
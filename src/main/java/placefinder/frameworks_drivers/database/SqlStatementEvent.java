@@ -0,0 +1,59 @@
+package placefinder.frameworks_drivers.database;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one SQLite statement execution. For a query it lasts until
+ * the result set is closed, so reading the rows is part of it.
+ */
+@Name("placefinder.SqlStatement")
+@Label("SQL Statement")
+@Category({"PlaceFinder", "SQLite"})
+@Description("A statement run against the SQLite database")
+@StackTrace(false)
+final class SqlStatementEvent extends Event {
+
+    @Label("DAO Method")
+    @Description("First method outside the database package on the stack, e.g. SqlitePlanDataAccess.findPlansByUser")
+    String daoMethod;
+
+    @Label("SQL")
+    String sql;
+
+    @Label("Rows")
+    @Description("Rows read or changed, -1 if not known")
+    long rows;
+
+    @Label("Error")
+    String error;
+
+    /**
+     * Ends the event and commits it if it is being recorded; the caller is only looked up
+     * in that case.
+     */
+    void finish(String sql, long rows, Throwable error) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.sql = sql;
+        this.rows = rows;
+        this.error = error == null ? null : error.getClass().getSimpleName();
+        this.daoMethod = StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("placefinder.")
+                        && !frame.getClassName().startsWith(SqlStatementEvent.class.getPackageName()))
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse(null));
+        commit();
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
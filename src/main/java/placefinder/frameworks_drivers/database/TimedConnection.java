@@ -0,0 +1,157 @@
+package placefinder.frameworks_drivers.database;
+
+import placefinder.usecases.metrics.MetricsRegistry;
+import placefinder.usecases.tracing.Span;
+import placefinder.usecases.tracing.Tracer;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Wraps a JDBC connection so that every statement execution is timed as
+ * {@code db.<verb>.<table>}, e.g. {@code db.select.plans} or {@code db.insert.plan_stops}.
+ * Only the execute calls are measured; iterating a result set is not.
+ *
+ * <p>Inside a trace, each execution is a span named like its timing. Executions are also
+ * Flight Recorder events ({@link SqlStatementEvent}). While one is
+ * being recorded, a query's result set is wrapped as well, to count its rows and end the
+ * event when it is closed.
+ */
+final class TimedConnection {
+
+    private static final Pattern TABLE = Pattern.compile(
+            "\\b(?:FROM|INTO|UPDATE|TABLE(?: IF NOT EXISTS)?)\\s+([A-Za-z_][A-Za-z0-9_]*)",
+            Pattern.CASE_INSENSITIVE);
+
+    private TimedConnection() {
+    }
+
+    static Connection wrap(Connection connection, MetricsRegistry metrics) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof PreparedStatement prepared && args != null && args[0] instanceof String sql) {
+                return timedStatement(PreparedStatement.class, prepared, sql, metrics);
+            }
+            if (result instanceof Statement statement && !(result instanceof PreparedStatement)) {
+                return timedStatement(Statement.class, statement, null, metrics);
+            }
+            return result;
+        });
+    }
+
+    /** @param sql the prepared SQL, or null for a plain statement that gets it per call */
+    private static <S extends Statement> S timedStatement(Class<S> type, S statement, String sql,
+                                                         MetricsRegistry metrics) {
+        return proxy(type, statement, (method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            String executed = sql != null ? sql : args != null && args.length > 0 ? String.valueOf(args[0]) : "";
+            String name = metricName(executed);
+            SqlStatementEvent event = new SqlStatementEvent();
+            event.begin();
+            Span span = Tracer.global().startChild(name);
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = invoke(statement, method, args);
+            } catch (Throwable e) {
+                metrics.counter(name + ".errors").increment();
+                event.finish(executed, -1, e);
+                if (span != null) {
+                    span.fail(e);
+                }
+                throw e;
+            } finally {
+                metrics.latency(name).recordNanos(System.nanoTime() - start);
+                if (span != null) {
+                    span.end();
+                }
+            }
+            if (result instanceof ResultSet rows && event.isEnabled()) {
+                return countingRows(rows, executed, event);
+            }
+            event.finish(executed, rowCount(result), null);
+            return result;
+        });
+    }
+
+    /** Counts the rows read and finishes the event when the result set is closed. */
+    private static ResultSet countingRows(ResultSet rows, String sql, SqlStatementEvent event) {
+        long[] read = {0};
+        boolean[] finished = {false};
+        return proxy(ResultSet.class, rows, (method, args) -> {
+            Object result = invoke(rows, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                read[0]++;
+            } else if (method.getName().equals("close") && !finished[0]) {
+                finished[0] = true;
+                event.finish(sql, read[0], null);
+            }
+            return result;
+        });
+    }
+
+    /** Rows changed according to an execute call's result, -1 if it does not say. */
+    private static long rowCount(Object result) {
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(0, count);
+            }
+            return total;
+        }
+        if (result instanceof long[] counts) {
+            long total = 0;
+            for (long count : counts) {
+                total += Math.max(0, count);
+            }
+            return total;
+        }
+        return -1;
+    }
+
+    static String metricName(String sql) {
+        String trimmed = sql.strip();
+        int space = trimmed.indexOf(' ');
+        String verb = (space < 0 ? trimmed : trimmed.substring(0, space)).toLowerCase(Locale.ROOT);
+        Matcher table = TABLE.matcher(trimmed);
+        return table.find()
+                ? "db." + verb + "." + table.group(1).toLowerCase(Locale.ROOT)
+                : "db." + verb;
+    }
+
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("unwrap") || method.getName().equals("isWrapperFor")) {
+                        return invoke(target, method, args);
+                    }
+                    return handler.handle(method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
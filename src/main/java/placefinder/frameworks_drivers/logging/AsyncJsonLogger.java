@@ -0,0 +1,356 @@
+package placefinder.frameworks_drivers.logging;
+
+import placefinder.usecases.logging.AppLogger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * {@link AppLogger} that writes JSON lines to a {@link RollingFile} from a background
+ * thread. Logging only copies the record into a preallocated ring buffer, without locks;
+ * when the buffer is full the record is dropped and counted rather than making the caller
+ * wait. Records below the minimum level are discarded before anything is copied, and
+ * chatty events can be sampled (see {@link #sample}).
+ *
+ * <p>Field values are turned into JSON on the writer thread, so they must not be changed
+ * after being logged. Numbers, booleans, null, arrays and collections keep their JSON
+ * types; anything else is written as its {@code toString()}.
+ */
+public class AsyncJsonLogger implements AppLogger, AutoCloseable {
+
+    private static final int BATCH = 1_024;
+    private static final long IDLE_PARK_NANOS = 100_000_000;
+
+    private final RollingFile file;
+    private final Map<String, Sampler> sampling = new ConcurrentHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private volatile Level minLevel;
+    private volatile boolean closed;
+    private volatile boolean writerIdle;
+
+    // ring buffer; a slot may be filled when its sequence equals the claiming position and
+    // read once it is one more (see Vyukov's bounded MPMC queue, here with one consumer)
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final Level[] levels;
+    private final long[] times;
+    private final String[] threadNames;
+    private final long[] threadIds;
+    private final String[] events;
+    private final Object[][] fields;
+    private final AtomicLong tail = new AtomicLong();
+    private long head;   // writer thread only
+
+    private final StringBuilder line = new StringBuilder(512);   // writer thread only
+    private volatile Thread writer;   // set once, by open()
+    private boolean writeFailed;
+
+    /** One in every {@code oneIn} records of an event is kept. */
+    private static final class Sampler {
+        private final int oneIn;
+        private final AtomicLong seen = new AtomicLong();
+
+        Sampler(int oneIn) {
+            this.oneIn = oneIn;
+        }
+    }
+
+    private AsyncJsonLogger(Path path, Level minLevel, int capacity, long maxFileBytes, int keepFiles)
+            throws IOException {
+        this.file = new RollingFile(path, maxFileBytes, keepFiles);
+        this.minLevel = minLevel;
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.levels = new Level[size];
+        this.times = new long[size];
+        this.threadNames = new String[size];
+        this.threadIds = new long[size];
+        this.events = new String[size];
+        this.fields = new Object[size][];
+    }
+
+    /**
+     * Opens the file and starts the writer thread.
+     *
+     * @param capacity     records the buffer holds, rounded up to a power of two
+     * @param maxFileBytes size after which the file is rolled over
+     * @param keepFiles    rolled-over files kept besides the current one
+     */
+    public static AsyncJsonLogger open(Path path, Level minLevel, int capacity, long maxFileBytes, int keepFiles)
+            throws IOException {
+        AsyncJsonLogger logger = new AsyncJsonLogger(path, minLevel, capacity, maxFileBytes, keepFiles);
+        logger.startWriter();
+        return logger;
+    }
+
+    /**
+     * A logger configured by system properties: {@code placefinder.log.file} (default
+     * {@code logs/placefinder.log}), {@code placefinder.log.level} (default INFO), and
+     * {@code placefinder.log.sample.<event>=<n>} to keep one in n records of an event.
+     */
+    public static AsyncJsonLogger fromSystemProperties() throws IOException {
+        Path path = Path.of(System.getProperty("placefinder.log.file", "logs/placefinder.log"));
+        Level level = Level.valueOf(System.getProperty("placefinder.log.level", "INFO").toUpperCase(Locale.ROOT));
+        AsyncJsonLogger logger = open(path, level, 8_192, 10L * 1024 * 1024, 5);
+        String prefix = "placefinder.log.sample.";
+        for (String name : System.getProperties().stringPropertyNames()) {
+            if (name.startsWith(prefix)) {
+                logger.sample(name.substring(prefix.length()), Integer.parseInt(System.getProperty(name).trim()));
+            }
+        }
+        return logger;
+    }
+
+    public void setLevel(Level level) {
+        this.minLevel = level;
+    }
+
+    /**
+     * Keeps only one in every {@code oneIn} DEBUG and INFO records of an event; warnings and
+     * errors are always kept. 1 keeps them all again.
+     */
+    public void sample(String event, int oneIn) {
+        if (oneIn <= 1) {
+            sampling.remove(event);
+        } else {
+            sampling.put(event, new Sampler(oneIn));
+        }
+    }
+
+    /** @return records dropped because the buffer was full or the file could not be written */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public boolean isEnabled(Level level) {
+        return level.compareTo(minLevel) >= 0 && !closed;
+    }
+
+    @Override
+    public void log(Level level, String event, Object... fields) {
+        if (!isEnabled(level) || !sampled(level, event)) {
+            return;
+        }
+        if (!offer(level, event, fields)) {
+            dropped.increment();
+            return;
+        }
+        if (writerIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /** Stops accepting records and waits (briefly) until the buffered ones are written. */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(5_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** Started here rather than in the constructor, so the thread never sees a half-built logger. */
+    private void startWriter() {
+        Thread thread = new Thread(this::writeLoop, "log-writer");
+        thread.setDaemon(true);
+        writer = thread;
+        thread.start();
+    }
+
+    private boolean sampled(Level level, String event) {
+        if (level.compareTo(Level.WARN) >= 0 || sampling.isEmpty()) {
+            return true;
+        }
+        Sampler sampler = sampling.get(event);
+        return sampler == null || sampler.seen.getAndIncrement() % sampler.oneIn == 0;
+    }
+
+    private boolean offer(Level level, String event, Object[] recordFields) {
+        long position = tail.get();
+        while (true) {
+            int slot = (int) (position & mask);
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    Thread thread = Thread.currentThread();
+                    levels[slot] = level;
+                    times[slot] = System.currentTimeMillis();
+                    threadNames[slot] = thread.getName();
+                    threadIds[slot] = thread.threadId();
+                    events[slot] = event;
+                    fields[slot] = recordFields;
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;   // full
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private void writeLoop() {
+        while (true) {
+            if (writeAvailable() > 0) {
+                continue;
+            }
+            if (closed) {
+                break;
+            }
+            writerIdle = true;
+            if (sequences.get((int) (head & mask)) != head + 1) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            writerIdle = false;
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            reportWriteFailure(e);
+        }
+    }
+
+    /** Writes up to one batch of buffered records and flushes them; returns how many. */
+    private int writeAvailable() {
+        int written = 0;
+        while (written < BATCH) {
+            int slot = (int) (head & mask);
+            if (sequences.get(slot) != head + 1) {
+                break;
+            }
+            format(slot);
+            fields[slot] = null;
+            events[slot] = null;
+            threadNames[slot] = null;
+            sequences.set(slot, head + mask + 1);
+            head++;
+            written++;
+            try {
+                file.append(line);
+            } catch (IOException e) {
+                dropped.increment();
+                reportWriteFailure(e);
+            }
+        }
+        if (written > 0) {
+            try {
+                file.flush();
+            } catch (IOException e) {
+                reportWriteFailure(e);
+            }
+        }
+        return written;
+    }
+
+    private void reportWriteFailure(IOException e) {
+        if (!writeFailed) {
+            writeFailed = true;
+            System.err.println("Could not write the log file: " + e.getMessage());
+        }
+    }
+
+    private void format(int slot) {
+        line.setLength(0);
+        line.append("{\"time\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(times[slot]), line);
+        line.append("\",\"level\":\"").append(levels[slot].name()).append("\",\"thread\":");
+        String threadName = threadNames[slot];
+        if (threadName == null || threadName.isEmpty()) {
+            line.append("\"#").append(threadIds[slot]).append('"');   // virtual threads are unnamed
+        } else {
+            string(threadName);
+        }
+        line.append(",\"event\":");
+        string(events[slot]);
+        Object[] recordFields = fields[slot];
+        if (recordFields != null) {
+            for (int i = 0; i + 1 < recordFields.length; i += 2) {
+                line.append(',');
+                string(String.valueOf(recordFields[i]));
+                line.append(':');
+                value(recordFields[i + 1]);
+            }
+        }
+        line.append("}\n");
+    }
+
+    private void value(Object value) {
+        if (value == null) {
+            line.append("null");
+        } else if (value instanceof Boolean
+                || value instanceof Integer || value instanceof Long
+                || value instanceof Short || value instanceof Byte) {
+            line.append(value);
+        } else if (value instanceof Number number) {
+            double d = number.doubleValue();
+            if (Double.isFinite(d)) {
+                line.append(value);
+            } else {
+                string(value.toString());
+            }
+        } else if (value instanceof Iterable<?> items) {
+            line.append('[');
+            boolean first = true;
+            for (Object item : items) {
+                if (!first) {
+                    line.append(',');
+                }
+                first = false;
+                value(item);
+            }
+            line.append(']');
+        } else if (value instanceof Object[] items) {
+            line.append('[');
+            for (int i = 0; i < items.length; i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                value(items[i]);
+            }
+            line.append(']');
+        } else {
+            string(value.toString());
+        }
+    }
+
+    private void string(String text) {
+        line.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+}
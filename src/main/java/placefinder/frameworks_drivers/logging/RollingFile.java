@@ -0,0 +1,107 @@
+package placefinder.frameworks_drivers.logging;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An append-only text file that is rolled over once it grows past a size: {@code app.log}
+ * becomes {@code app.log.1}, the previous {@code app.log.1} becomes {@code app.log.2}, and
+ * so on; the oldest is deleted. Only used from one thread.
+ */
+final class RollingFile implements AutoCloseable {
+
+    private final Path file;
+    private final long maxBytes;
+    private final int keep;
+    private CountingStream bytes;
+    private Writer out;
+
+    /**
+     * @param maxBytes size after which the file is rolled over
+     * @param keep     number of rolled-over files kept besides the current one
+     */
+    RollingFile(Path file, long maxBytes, int keep) throws IOException {
+        this.file = file;
+        this.maxBytes = maxBytes;
+        this.keep = keep;
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        open();
+    }
+
+    void append(CharSequence text) throws IOException {
+        out.append(text);
+    }
+
+    /** Flushes what was appended, then rolls the file over if it has grown too big. */
+    void flush() throws IOException {
+        out.flush();
+        if (bytes.count >= maxBytes) {
+            roll();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void open() throws IOException {
+        bytes = new CountingStream(Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND),
+                Files.exists(file) ? Files.size(file) : 0);
+        out = new BufferedWriter(new OutputStreamWriter(bytes, StandardCharsets.UTF_8), 64 * 1024);
+    }
+
+    private void roll() throws IOException {
+        out.close();
+        Files.deleteIfExists(rolled(keep));
+        for (int i = keep - 1; i >= 1; i--) {
+            if (Files.exists(rolled(i))) {
+                Files.move(rolled(i), rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (keep > 0) {
+            Files.move(file, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(file);
+        }
+        open();
+    }
+
+    private Path rolled(int index) {
+        return file.resolveSibling(file.getFileName() + "." + index);
+    }
+
+    /** Counts the bytes written, starting from the file's size when it was opened. */
+    private static final class CountingStream extends FilterOutputStream {
+        private long count;
+
+        CountingStream(OutputStream out, long count) {
+            super(out);
+            this.count = count;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package placefinder.frameworks_drivers.metrics;
+
+import placefinder.usecases.instrumentation.CallInterceptor;
+import placefinder.usecases.instrumentation.Invocation;
+
+import java.lang.reflect.Method;
+
+/**
+ * Interceptors that record calls as Flight Recorder events: {@link UseCaseEvent}s for input
+ * boundaries and {@link GatewayCallEvent}s for data access interfaces. While no recording
+ * is running, a call costs one check more.
+ *
+ * <p>Interactors report errors to their presenters rather than throwing, so a use case's
+ * outcome only tells a call that returned from one that threw or was cancelled.
+ */
+public final class FlightRecorderInterceptors {
+
+    /** Each input data class's {@code getUserId()}, or null if it has none. */
+    private static final ClassValue<Method> USER_ID = new ClassValue<>() {
+        @Override
+        protected Method computeValue(Class<?> type) {
+            try {
+                Method getter = type.getMethod("getUserId");
+                Class<?> returned = getter.getReturnType();
+                return returned == int.class || returned == long.class || Number.class.isAssignableFrom(returned)
+                        ? getter
+                        : null;
+            } catch (NoSuchMethodException e) {
+                return null;
+            }
+        }
+    };
+
+    private static final CallInterceptor USE_CASES = FlightRecorderInterceptors::recordUseCase;
+    private static final CallInterceptor GATEWAYS = FlightRecorderInterceptors::recordGatewayCall;
+
+    private FlightRecorderInterceptors() {
+    }
+
+    /** For input boundaries: records each call as a {@code placefinder.UseCase} event. */
+    public static CallInterceptor useCases() {
+        return USE_CASES;
+    }
+
+    /** For data access interfaces: records each call as a {@code placefinder.GatewayCall} event. */
+    public static CallInterceptor gateways() {
+        return GATEWAYS;
+    }
+
+    private static Object recordUseCase(Invocation invocation) throws Throwable {
+        UseCaseEvent event = new UseCaseEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        String outcome = "completed";
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            outcome = "failed: " + e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.useCase = invocation.getType().getSimpleName() + "." + invocation.getMethod().getName();
+                event.interactor = invocation.getTarget().getClass();
+                event.userId = userId(invocation.getArgs());
+                event.outcome = Thread.currentThread().isInterrupted() ? "cancelled" : outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private static Object recordGatewayCall(Invocation invocation) throws Throwable {
+        GatewayCallEvent event = new GatewayCallEvent();
+        if (!event.isEnabled()) {
+            return invocation.proceed();
+        }
+        event.begin();
+        String error = null;
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            error = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.call = invocation.getName();
+                event.implementation = invocation.getTarget().getClass();
+                event.error = error;
+                event.commit();
+            }
+        }
+    }
+
+    private static long userId(Object[] args) {
+        if (args == null || args.length == 0 || args[0] == null) {
+            return -1;
+        }
+        Method getter = USER_ID.get(args[0].getClass());
+        if (getter == null) {
+            return -1;
+        }
+        try {
+            Object id = getter.invoke(args[0]);
+            return id instanceof Number number ? number.longValue() : -1;
+        } catch (ReflectiveOperationException e) {
+            return -1;
+        }
+    }
+}
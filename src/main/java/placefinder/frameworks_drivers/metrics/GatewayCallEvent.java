@@ -0,0 +1,31 @@
+package placefinder.frameworks_drivers.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one call through a data access interface, including any
+ * caching, retries and fallbacks behind it. The API calls and SQL statements it made
+ * fall within its time span on the same thread.
+ */
+@Name("placefinder.GatewayCall")
+@Label("Gateway Call")
+@Category({"PlaceFinder", "Gateways"})
+@Description("A call through a data access interface")
+@StackTrace(false)
+final class GatewayCallEvent extends Event {
+
+    @Label("Call")
+    @Description("Gateway and method, e.g. gateway.plan.findPlansByUser")
+    String call;
+
+    @Label("Implementation")
+    Class<?> implementation;
+
+    @Label("Error")
+    String error;
+}
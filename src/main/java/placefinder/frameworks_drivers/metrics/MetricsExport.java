@@ -0,0 +1,82 @@
+package placefinder.frameworks_drivers.metrics;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import placefinder.usecases.metrics.LatencyHistogram;
+import placefinder.usecases.metrics.MetricsSnapshot;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes a {@link MetricsSnapshot} as JSON or in the Prometheus text exposition format.
+ */
+public final class MetricsExport {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private MetricsExport() {
+    }
+
+    /** Counters as numbers; latencies in milliseconds with count, mean, max and percentiles. */
+    public static String toJson(MetricsSnapshot snapshot) {
+        JsonObject root = new JsonObject();
+        JsonObject counters = new JsonObject();
+        snapshot.getCounters().forEach(counters::addProperty);
+        root.add("counters", counters);
+
+        JsonObject latencies = new JsonObject();
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : snapshot.getLatencies().entrySet()) {
+            LatencyHistogram.Snapshot histogram = entry.getValue();
+            JsonObject obj = new JsonObject();
+            obj.addProperty("count", histogram.getCount());
+            obj.addProperty("meanMs", histogram.getMeanMicros() / 1_000.0);
+            obj.addProperty("maxMs", histogram.getMaxMicros() / 1_000.0);
+            for (double p : PERCENTILES) {
+                obj.addProperty("p" + label(p) + "Ms", histogram.percentileMicros(p) / 1_000.0);
+            }
+            latencies.add(entry.getKey(), obj);
+        }
+        root.add("latencies", latencies);
+        return new GsonBuilder().setPrettyPrinting().create().toJson(root);
+    }
+
+    /**
+     * Counters become {@code placefinder_<name>_total}; latencies become summaries in seconds,
+     * {@code placefinder_<name>_seconds}, with quantiles, sum and count.
+     */
+    public static String toPrometheus(MetricsSnapshot snapshot) {
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<String, Long> entry : snapshot.getCounters().entrySet()) {
+            String metric = "placefinder_" + sanitize(entry.getKey()) + "_total";
+            out.append("# TYPE ").append(metric).append(" counter\n");
+            out.append(metric).append(' ').append(entry.getValue()).append('\n');
+        }
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : snapshot.getLatencies().entrySet()) {
+            String metric = "placefinder_" + sanitize(entry.getKey()) + "_seconds";
+            LatencyHistogram.Snapshot histogram = entry.getValue();
+            out.append("# TYPE ").append(metric).append(" summary\n");
+            for (double p : PERCENTILES) {
+                out.append(metric).append("{quantile=\"").append(p / 100).append("\"} ")
+                        .append(seconds(histogram.percentileMicros(p))).append('\n');
+            }
+            out.append(metric).append("_sum ").append(seconds(histogram.getSumMicros())).append('\n');
+            out.append(metric).append("_count ").append(histogram.getCount()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String sanitize(String name) {
+        return name.replaceAll("[^A-Za-z0-9_]", "_");
+    }
+
+    private static String seconds(long micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / 1_000_000.0);
+    }
+
+    private static String label(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? String.valueOf((long) percentile)
+                : String.valueOf(percentile).replace('.', '_');
+    }
+}
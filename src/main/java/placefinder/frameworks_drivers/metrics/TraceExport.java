@@ -0,0 +1,53 @@
+package placefinder.frameworks_drivers.metrics;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import placefinder.usecases.tracing.Span;
+import placefinder.usecases.tracing.Trace;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Writes traces as JSON: per trace its start time, duration and spans, each span with its
+ * parent, thread and timing in milliseconds from the start of the trace.
+ */
+public final class TraceExport {
+
+    private TraceExport() {
+    }
+
+    public static String toJson(List<Trace> traces) {
+        JsonArray root = new JsonArray();
+        for (Trace trace : traces) {
+            JsonObject obj = new JsonObject();
+            obj.addProperty("id", trace.getId());
+            obj.addProperty("name", trace.getName());
+            obj.addProperty("start", Instant.ofEpochMilli(trace.getStartEpochMillis()).toString());
+            obj.addProperty("durationMs", millis(trace.getDurationNanos()));
+            obj.addProperty("droppedSpans", trace.getDroppedSpans());
+            JsonArray spans = new JsonArray();
+            for (Span span : trace.getSpans()) {
+                JsonObject s = new JsonObject();
+                s.addProperty("id", span.getId());
+                s.addProperty("parentId", span.getParentId());
+                s.addProperty("name", span.getName());
+                s.addProperty("thread", span.getThreadName());
+                s.addProperty("startMs", millis(span.getStartOffsetNanos()));
+                s.addProperty("durationMs", millis(span.getDurationNanos()));
+                if (span.getError() != null) {
+                    s.addProperty("error", span.getError());
+                }
+                spans.add(s);
+            }
+            obj.add("spans", spans);
+            root.add(obj);
+        }
+        return new GsonBuilder().setPrettyPrinting().create().toJson(root);
+    }
+
+    private static double millis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
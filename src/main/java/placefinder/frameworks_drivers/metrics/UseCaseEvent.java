@@ -0,0 +1,36 @@
+package placefinder.frameworks_drivers.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for one call of a use case's input boundary. The API calls and SQL
+ * statements it made run on the same thread (or on virtual threads it started) within its
+ * time span.
+ */
+@Name("placefinder.UseCase")
+@Label("Use Case")
+@Category({"PlaceFinder", "Use Cases"})
+@Description("A call to a use case's input boundary")
+@StackTrace(false)
+final class UseCaseEvent extends Event {
+
+    @Label("Use Case")
+    @Description("Input boundary and method, e.g. SearchPlacesInputBoundary.execute")
+    String useCase;
+
+    @Label("Interactor")
+    Class<?> interactor;
+
+    @Label("User Id")
+    @Description("User the input data belongs to, -1 if it names none")
+    long userId;
+
+    @Label("Outcome")
+    @Description("completed, cancelled (the caller's thread was interrupted) or failed: <exception>")
+    String outcome;
+}
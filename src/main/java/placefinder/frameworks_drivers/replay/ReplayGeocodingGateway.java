@@ -0,0 +1,28 @@
+package placefinder.frameworks_drivers.replay;
+
+import placefinder.entities.GeocodeResult;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+
+/**
+ * Geocoding gateway decorator that records calls to, or replays them from, a {@link TrafficTape}.
+ */
+public class ReplayGeocodingGateway implements GeocodingDataAccessInterface {
+
+    private final GeocodingDataAccessInterface delegate;
+    private final TrafficTape tape;
+
+    /**
+     * @param delegate the real gateway; not called while replaying
+     */
+    public ReplayGeocodingGateway(GeocodingDataAccessInterface delegate, TrafficTape tape) {
+        this.delegate = delegate;
+        this.tape = tape;
+    }
+
+    @Override
+    public GeocodeResult geocode(String query) throws Exception {
+        return tape.call("geocoding.geocode", TrafficTape.args(query),
+                () -> delegate.geocode(query),
+                TrafficJson::geocode, TrafficJson::geocode);
+    }
+}
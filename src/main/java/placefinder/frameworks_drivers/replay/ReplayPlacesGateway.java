@@ -0,0 +1,58 @@
+package placefinder.frameworks_drivers.replay;
+
+import placefinder.entities.Place;
+import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Places gateway decorator that records calls to, or replays them from, a {@link TrafficTape}.
+ */
+public class ReplayPlacesGateway implements PlacesDataAccessInterface {
+
+    private final PlacesDataAccessInterface delegate;
+    private final TrafficTape tape;
+
+    /**
+     * @param delegate the real gateway; not called while replaying
+     */
+    public ReplayPlacesGateway(PlacesDataAccessInterface delegate, TrafficTape tape) {
+        this.delegate = delegate;
+        this.tape = tape;
+    }
+
+    @Override
+    public List<Place> searchPlaces(double lat, double lon, double radiusKm,
+                                    Map<String, List<String>> selectedCategories) throws Exception {
+        return tape.call("places.searchPlaces",
+                TrafficTape.args(lat, lon, radiusKm, categories(selectedCategories)),
+                () -> delegate.searchPlaces(lat, lon, radiusKm, selectedCategories),
+                TrafficJson::places, TrafficJson::places);
+    }
+
+    @Override
+    public List<Place> searchPlacesInRect(double south, double west, double north, double east,
+                                          Map<String, List<String>> selectedCategories) throws Exception {
+        return tape.call("places.searchPlacesInRect",
+                TrafficTape.args(south, west, north, east, categories(selectedCategories)),
+                () -> delegate.searchPlacesInRect(south, west, north, east, selectedCategories),
+                TrafficJson::places, TrafficJson::places);
+    }
+
+    /** The categories in a fixed order, so the same selection always gives the same key. */
+    private static String categories(Map<String, List<String>> selectedCategories) {
+        if (selectedCategories == null) {
+            return "";
+        }
+        Map<String, List<String>> sorted = new TreeMap<>();
+        for (Map.Entry<String, List<String>> entry : selectedCategories.entrySet()) {
+            List<String> values = new ArrayList<>(entry.getValue());
+            values.sort(null);
+            sorted.put(entry.getKey(), values);
+        }
+        return sorted.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package placefinder.frameworks_drivers.replay;
+
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Leg;
+import placefinder.entities.Place;
+import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+import placefinder.usecases.routing.PlaceKey;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Route gateway decorator that records calls to, or replays them from, a {@link TrafficTape}.
+ * Replayed routes get the caller's own {@link Place} objects back, as the route cache does.
+ */
+public class ReplayRouteGateway implements RouteDataAccessInterface {
+
+    private final RouteDataAccessInterface delegate;
+    private final TrafficTape tape;
+
+    /**
+     * @param delegate the real gateway; not called while replaying
+     */
+    public ReplayRouteGateway(RouteDataAccessInterface delegate, TrafficTape tape) {
+        this.delegate = delegate;
+        this.tape = tape;
+    }
+
+    @Override
+    public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places) throws Exception {
+        return computeRoute(origin, startTime, places, true);
+    }
+
+    @Override
+    public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places,
+                              boolean optimizeOrder) throws Exception {
+        List<String> keys = new ArrayList<>();
+        for (Place place : places) {
+            keys.add(PlaceKey.of(place));
+        }
+        Route route = tape.call("routes.computeRoute",
+                TrafficTape.args(origin.getLat(), origin.getLon(), startTime, keys, optimizeOrder),
+                () -> optimizeOrder
+                        ? delegate.computeRoute(origin, startTime, places)
+                        : delegate.computeRoute(origin, startTime, places, false),
+                TrafficJson::route, TrafficJson::route);
+        if (route != null && tape.isReplaying()) {
+            Map<String, Place> byKey = new HashMap<>();
+            for (Place place : places) {
+                byKey.put(PlaceKey.of(place), place);
+            }
+            for (PlanStop stop : route.getStops()) {
+                Place own = byKey.get(PlaceKey.of(stop.getPlace()));
+                if (own != null) {
+                    stop.setPlace(own);
+                }
+            }
+        }
+        return route;
+    }
+
+    @Override
+    public Leg computeLeg(double fromLat, double fromLon, double toLat, double toLon) throws Exception {
+        return tape.call("routes.computeLeg", TrafficTape.args(fromLat, fromLon, toLat, toLon),
+                () -> delegate.computeLeg(fromLat, fromLon, toLat, toLon),
+                TrafficJson::leg, TrafficJson::leg);
+    }
+}
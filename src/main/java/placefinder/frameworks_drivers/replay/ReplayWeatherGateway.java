@@ -0,0 +1,52 @@
+package placefinder.frameworks_drivers.replay;
+
+import placefinder.entities.Place;
+import placefinder.entities.WeatherSummary;
+import placefinder.usecases.dataacessinterfaces.WeatherDataAccessInterface;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Weather gateway decorator that records calls to, or replays them from, a {@link TrafficTape}.
+ */
+public class ReplayWeatherGateway implements WeatherDataAccessInterface {
+
+    private final WeatherDataAccessInterface delegate;
+    private final TrafficTape tape;
+
+    /**
+     * @param delegate the real gateway; not called while replaying
+     */
+    public ReplayWeatherGateway(WeatherDataAccessInterface delegate, TrafficTape tape) {
+        this.delegate = delegate;
+        this.tape = tape;
+    }
+
+    @Override
+    public WeatherSummary getDailyWeather(double lat, double lon, LocalDate date) throws Exception {
+        return tape.call("weather.getDailyWeather", TrafficTape.args(lat, lon, date),
+                () -> delegate.getDailyWeather(lat, lon, date),
+                TrafficJson::weather, TrafficJson::weather);
+    }
+
+    @Override
+    public List<WeatherSummary> getDailyForecast(double lat, double lon, LocalDate startDate, int days)
+            throws Exception {
+        return tape.call("weather.getDailyForecast", TrafficTape.args(lat, lon, startDate, days),
+                () -> delegate.getDailyForecast(lat, lon, startDate, days),
+                TrafficJson::weatherList, TrafficJson::weatherList);
+    }
+
+    @Override
+    public List<List<WeatherSummary>> getHourlyWeather(List<Place> places, LocalDate date) throws Exception {
+        List<String> points = new ArrayList<>();
+        for (Place place : places) {
+            points.add(place.getLat() + "," + place.getLon());
+        }
+        return tape.call("weather.getHourlyWeather", TrafficTape.args(date, points),
+                () -> delegate.getHourlyWeather(places, date),
+                TrafficJson::weatherTable, TrafficJson::weatherTable);
+    }
+}
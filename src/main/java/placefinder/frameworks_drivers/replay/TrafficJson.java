@@ -0,0 +1,224 @@
+package placefinder.frameworks_drivers.replay;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.IndoorOutdoorType;
+import placefinder.entities.Leg;
+import placefinder.entities.LegBuilder;
+import placefinder.entities.OpeningHours;
+import placefinder.entities.Place;
+import placefinder.entities.Route;
+import placefinder.entities.Step;
+import placefinder.entities.StepBuilder;
+import placefinder.entities.WeatherSummary;
+import placefinder.frameworks_drivers.cache.RouteJson;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON forms of the gateway results kept on a {@link TrafficTape}. Routes use
+ * {@link RouteJson}, like the route cache.
+ */
+final class TrafficJson {
+
+    private TrafficJson() {
+    }
+
+    static JsonElement places(List<Place> places) {
+        JsonArray array = new JsonArray();
+        for (Place place : places) {
+            array.add(place(place));
+        }
+        return array;
+    }
+
+    static List<Place> places(JsonElement json) {
+        List<Place> places = new ArrayList<>();
+        for (JsonElement el : json.getAsJsonArray()) {
+            places.add(place(el.getAsJsonObject()));
+        }
+        return places;
+    }
+
+    private static JsonObject place(Place place) {
+        JsonObject obj = new JsonObject();
+        obj.addProperty("id", place.getId());
+        obj.addProperty("name", place.getName());
+        obj.addProperty("address", place.getAddress());
+        obj.addProperty("lat", place.getLat());
+        obj.addProperty("lon", place.getLon());
+        obj.addProperty("distanceKm", place.getDistanceKm());
+        if (place.getIndoorOutdoorType() != null) {
+            obj.addProperty("type", place.getIndoorOutdoorType().name());
+        }
+        JsonArray categories = new JsonArray();
+        if (place.getCategories() != null) {
+            place.getCategories().forEach(categories::add);
+        }
+        obj.add("categories", categories);
+        if (place.getOpeningHours() != null) {
+            JsonArray days = new JsonArray();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                JsonArray minutes = new JsonArray();
+                for (int minute : place.getOpeningHours().intervals(day)) {
+                    minutes.add(minute);
+                }
+                days.add(minutes);
+            }
+            obj.add("hours", days);
+        }
+        return obj;
+    }
+
+    private static Place place(JsonObject obj) {
+        Place place = new Place();
+        place.setId(string(obj, "id"));
+        place.setName(string(obj, "name"));
+        place.setAddress(string(obj, "address"));
+        place.setLat(obj.get("lat").getAsDouble());
+        place.setLon(obj.get("lon").getAsDouble());
+        place.setDistanceKm(obj.get("distanceKm").getAsDouble());
+        String type = string(obj, "type");
+        if (type != null) {
+            place.setIndoorOutdoorType(IndoorOutdoorType.valueOf(type));
+        }
+        List<String> categories = new ArrayList<>();
+        for (JsonElement c : obj.getAsJsonArray("categories")) {
+            categories.add(c.getAsString());
+        }
+        place.setCategories(categories);
+        if (obj.has("hours")) {
+            JsonArray days = obj.getAsJsonArray("hours");
+            int[][] minutesByDay = new int[7][];
+            for (int d = 0; d < 7; d++) {
+                JsonArray minutes = days.get(d).getAsJsonArray();
+                minutesByDay[d] = new int[minutes.size()];
+                for (int i = 0; i < minutes.size(); i++) {
+                    minutesByDay[d][i] = minutes.get(i).getAsInt();
+                }
+            }
+            place.setOpeningHours(new OpeningHours(minutesByDay));
+        }
+        return place;
+    }
+
+    static JsonElement geocode(GeocodeResult result) {
+        JsonObject obj = new JsonObject();
+        obj.addProperty("lat", result.getLat());
+        obj.addProperty("lon", result.getLon());
+        obj.addProperty("formatted", result.getFormattedAddress());
+        return obj;
+    }
+
+    static GeocodeResult geocode(JsonElement json) {
+        JsonObject obj = json.getAsJsonObject();
+        return new GeocodeResult(obj.get("lat").getAsDouble(), obj.get("lon").getAsDouble(),
+                string(obj, "formatted"));
+    }
+
+    static JsonElement weather(WeatherSummary summary) {
+        JsonObject obj = new JsonObject();
+        obj.addProperty("tempC", summary.getTemperatureC());
+        obj.addProperty("conditions", summary.getConditions());
+        obj.addProperty("uv", summary.getUvIndex());
+        obj.addProperty("precipitation", summary.isPrecipitationLikely());
+        return obj;
+    }
+
+    static WeatherSummary weather(JsonElement json) {
+        JsonObject obj = json.getAsJsonObject();
+        return new WeatherSummary(obj.get("tempC").getAsDouble(), string(obj, "conditions"),
+                obj.get("uv").getAsDouble(), obj.get("precipitation").getAsBoolean());
+    }
+
+    /** A list of summaries whose entries may be null. */
+    static JsonElement weatherList(List<WeatherSummary> summaries) {
+        JsonArray array = new JsonArray();
+        for (WeatherSummary summary : summaries) {
+            array.add(summary == null ? null : weather(summary));
+        }
+        return array;
+    }
+
+    static List<WeatherSummary> weatherList(JsonElement json) {
+        List<WeatherSummary> summaries = new ArrayList<>();
+        for (JsonElement el : json.getAsJsonArray()) {
+            summaries.add(el.isJsonNull() ? null : weather(el));
+        }
+        return summaries;
+    }
+
+    /** A list per place, as returned by {@code getHourlyWeather}. */
+    static JsonElement weatherTable(List<List<WeatherSummary>> table) {
+        JsonArray array = new JsonArray();
+        for (List<WeatherSummary> row : table) {
+            array.add(row == null ? null : weatherList(row));
+        }
+        return array;
+    }
+
+    static List<List<WeatherSummary>> weatherTable(JsonElement json) {
+        List<List<WeatherSummary>> table = new ArrayList<>();
+        for (JsonElement el : json.getAsJsonArray()) {
+            table.add(el.isJsonNull() ? null : weatherList(el));
+        }
+        return table;
+    }
+
+    static JsonElement route(Route route) {
+        return JsonParser.parseString(RouteJson.toJson(route));
+    }
+
+    static Route route(JsonElement json) {
+        return RouteJson.fromJson(json.toString());
+    }
+
+    /** A single leg, without its end points (as returned by {@code computeLeg}). */
+    static JsonElement leg(Leg leg) {
+        JsonObject obj = new JsonObject();
+        obj.addProperty("distance", leg.getDistance());
+        obj.addProperty("duration", leg.getDuration());
+        obj.addProperty("polyline", leg.getEncodedPolyline());
+        JsonArray steps = new JsonArray();
+        if (leg.getSteps() != null) {
+            for (Step step : leg.getSteps()) {
+                JsonObject stepObj = new JsonObject();
+                stepObj.addProperty("distance", step.getDistance());
+                stepObj.addProperty("duration", step.getDuration());
+                stepObj.addProperty("instruction", step.getNavInstruction());
+                steps.add(stepObj);
+            }
+        }
+        obj.add("steps", steps);
+        return obj;
+    }
+
+    static Leg leg(JsonElement json) {
+        JsonObject obj = json.getAsJsonObject();
+        List<Step> steps = new ArrayList<>();
+        for (JsonElement el : obj.getAsJsonArray("steps")) {
+            JsonObject stepObj = el.getAsJsonObject();
+            steps.add(new StepBuilder()
+                    .withDistance(stepObj.get("distance").getAsInt())
+                    .withDuration(stepObj.get("duration").getAsDouble())
+                    .withInstruction(string(stepObj, "instruction"))
+                    .build());
+        }
+        return new LegBuilder()
+                .withDistance(obj.get("distance").getAsInt())
+                .withDuration(obj.get("duration").getAsDouble())
+                .withEncodedPolyline(string(obj, "polyline"))
+                .withSteps(steps)
+                .build();
+    }
+
+    private static String string(JsonObject obj, String member) {
+        JsonElement el = obj.get(member);
+        return el == null || el.isJsonNull() ? null : el.getAsString();
+    }
+}
@@ -0,0 +1,234 @@
+package placefinder.frameworks_drivers.replay;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import placefinder.frameworks_drivers.api.HttpStatusException;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A session of gateway traffic on disk: one gzipped JSON line per call with the
+ * operation, its arguments, when in the session it was made, how long it took and its
+ * result or error.
+ *
+ * <p>While recording, calls go to the real gateway and are appended as they finish. A
+ * failure to write the tape never fails the call: recording stops, and the failure is
+ * thrown from {@link #close()}.
+ * While replaying, nothing is called: each call is answered with the recorded response
+ * for the same operation and arguments, no sooner than it was answered in the recorded
+ * session (so the gaps between calls are replayed too) and never faster than the
+ * recorded duration, both multiplied by the time scale (1 for the original timing, 0 for
+ * none). Identical calls get their recordings in the order they were made, the last one
+ * repeating, so a replay is deterministic. A call that was never recorded fails.
+ *
+ * <p>Set up from the command line with {@code -Dplacefinder.replay.record=<file>} or
+ * {@code -Dplacefinder.replay.from=<file>} (plus {@code -Dplacefinder.replay.timeScale=<x>}).
+ */
+public class TrafficTape implements Closeable {
+
+    private enum Mode { OFF, RECORD, REPLAY }
+
+    private static final TrafficTape OFF = new TrafficTape(Mode.OFF, null, new HashMap<>(), 0);
+
+    private final Mode mode;
+    private final Writer out;                               // RECORD only; guarded by itself
+    private final Map<String, Deque<JsonObject>> recorded;  // REPLAY only; guarded by itself
+    private final double timeScale;
+    private final long startNanos = System.nanoTime();
+    private volatile IOException writeFailure;              // RECORD only; the first one
+
+    private TrafficTape(Mode mode, Writer out, Map<String, Deque<JsonObject>> recorded, double timeScale) {
+        this.mode = mode;
+        this.out = out;
+        this.recorded = recorded;
+        this.timeScale = timeScale;
+    }
+
+    /** Passes every call through untouched. */
+    public static TrafficTape off() {
+        return OFF;
+    }
+
+    public static TrafficTape recordTo(Path file) throws IOException {
+        Writer out = new BufferedWriter(new OutputStreamWriter(
+                new GZIPOutputStream(Files.newOutputStream(file), true), StandardCharsets.UTF_8));
+        return new TrafficTape(Mode.RECORD, out, null, 0);
+    }
+
+    /**
+     * @param timeScale factor for the recorded durations: 1 replays with the original
+     *                  latency, 0.1 ten times faster, 0 without waiting
+     */
+    public static TrafficTape replayFrom(Path file, double timeScale) throws IOException {
+        Map<String, Deque<JsonObject>> recorded = new HashMap<>();
+        try (BufferedReader in = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonObject entry = JsonParser.parseString(line).getAsJsonObject();
+                recorded.computeIfAbsent(keyOf(entry.get("op").getAsString(), entry.get("args").getAsString()),
+                        k -> new ArrayDeque<>()).add(entry);
+            }
+        } catch (EOFException e) {
+            // a session that was not closed cleanly lacks the gzip trailer; every line
+            // written before that was flushed and has been read
+        }
+        return new TrafficTape(Mode.REPLAY, null, recorded, timeScale);
+    }
+
+    /** The tape selected by the {@code placefinder.replay.*} system properties, or {@link #off()}. */
+    public static TrafficTape fromSystemProperties() throws IOException {
+        String record = System.getProperty("placefinder.replay.record");
+        String replay = System.getProperty("placefinder.replay.from");
+        if (replay != null) {
+            return replayFrom(Path.of(replay),
+                    Double.parseDouble(System.getProperty("placefinder.replay.timeScale", "1")));
+        }
+        return record != null ? recordTo(Path.of(record)) : off();
+    }
+
+    public boolean isReplaying() {
+        return mode == Mode.REPLAY;
+    }
+
+    /**
+     * Runs one gateway call through the tape.
+     *
+     * @param operation names the gateway method, e.g. {@code places.searchPlaces}
+     * @param args      the call's arguments as a canonical string
+     * @param live      the real call, not used while replaying
+     */
+    <T> T call(String operation, String args, Callable<T> live,
+               Function<T, JsonElement> toJson, Function<JsonElement, T> fromJson) throws Exception {
+        if (mode == Mode.REPLAY) {
+            return replay(operation, args, fromJson);
+        }
+        if (mode == Mode.OFF) {
+            return live.call();
+        }
+
+        long offset = System.nanoTime() - startNanos;
+        long start = System.nanoTime();
+        JsonObject entry = new JsonObject();
+        entry.addProperty("op", operation);
+        entry.addProperty("args", args);
+        entry.addProperty("at", offset / 1_000_000);
+        try {
+            T result = live.call();
+            entry.addProperty("ms", (System.nanoTime() - start) / 1_000_000);
+            entry.add("result", result == null ? JsonNull.INSTANCE : toJson.apply(result));
+            append(entry);
+            return result;
+        } catch (InterruptedException | InterruptedIOException e) {
+            // a cancelled call says nothing about the provider
+            throw e;
+        } catch (Exception e) {
+            entry.addProperty("ms", (System.nanoTime() - start) / 1_000_000);
+            entry.addProperty("error", e.getMessage());
+            if (e instanceof HttpStatusException status) {
+                entry.addProperty("status", status.getStatus());
+            }
+            append(entry);
+            throw e;
+        }
+    }
+
+    private <T> T replay(String operation, String args, Function<JsonElement, T> fromJson) throws Exception {
+        JsonObject entry;
+        synchronized (recorded) {
+            Deque<JsonObject> entries = recorded.get(keyOf(operation, args));
+            if (entries == null) {
+                throw new IOException("Not in the recording: " + operation + "(" + args + ")");
+            }
+            entry = entries.size() > 1 ? entries.poll() : entries.peek();
+        }
+        long duration = entry.get("ms").getAsLong();
+        long answeredAt = entry.has("at") ? entry.get("at").getAsLong() + duration : 0;
+        long elapsed = (System.nanoTime() - startNanos) / 1_000_000;
+        long delay = Math.max(Math.round(duration * timeScale), Math.round(answeredAt * timeScale) - elapsed);
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+        if (entry.has("error")) {
+            String message = entry.get("error").isJsonNull() ? null : entry.get("error").getAsString();
+            if (entry.has("status")) {
+                int status = entry.get("status").getAsInt();
+                String prefix = "HTTP " + status + ": ";
+                throw new HttpStatusException(status,
+                        message != null && message.startsWith(prefix) ? message.substring(prefix.length()) : message);
+            }
+            throw new IOException(message);
+        }
+        JsonElement result = entry.get("result");
+        return result == null || result.isJsonNull() ? null : fromJson.apply(result);
+    }
+
+    /** Writes one entry; after a failed write, nothing more is written. */
+    private void append(JsonObject entry) {
+        synchronized (out) {
+            if (writeFailure != null) {
+                return;
+            }
+            try {
+                out.write(entry.toString());
+                out.write('\n');
+                // flushed per call so that a session ended by closing the window is still usable
+                out.flush();
+            } catch (IOException e) {
+                writeFailure = e;
+            }
+        }
+    }
+
+    private static String keyOf(String operation, String args) {
+        return operation + "|" + args;
+    }
+
+    /** Joins a call's arguments into the string that identifies it on the tape. */
+    static String args(Object... parts) {
+        List<String> strings = new ArrayList<>();
+        for (Object part : parts) {
+            strings.add(String.valueOf(part));
+        }
+        return String.join("|", strings);
+    }
+
+    /** @throws IOException if writing the recording failed, now or during the session */
+    @Override
+    public void close() throws IOException {
+        if (out != null) {
+            synchronized (out) {
+                out.close();
+            }
+            if (writeFailure != null) {
+                throw new IOException("Recording stopped early: " + writeFailure.getMessage(), writeFailure);
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package placefinder.frameworks_drivers.resilience;
+
+import placefinder.frameworks_drivers.dataaccess.SqliteApiUsage;
+import placefinder.usecases.logging.AppLogger;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Daily call budget of one provider key. Calls are counted in memory and written to
+ * SQLite per day and user (see {@link SqliteApiUsage}) in batches, a few seconds after
+ * the first unwritten call, by a background thread, so counting a call costs the caller
+ * no I/O. Once {@value #NEARLY_EXHAUSTED_PERCENT}% of the budget is used, the budget
+ * counts as nearly exhausted and callers switch to saving calls.
+ */
+public class ApiQuota {
+
+    static final int NEARLY_EXHAUSTED_PERCENT = 90;
+
+    /** How long counted calls wait before they are written, so they are written together. */
+    static final long FLUSH_DELAY_MILLIS = 5_000;
+
+    private static final class Flusher {
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "api-usage-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private final String provider;
+    private final int dailyBudget;
+    private final SqliteApiUsage store;
+    private final AppLogger logger;
+    private final Supplier<LocalDate> today;
+
+    private LocalDate day;                                                   // guarded by this
+    private final AtomicInteger usedToday = new AtomicInteger();
+    private final Map<LocalDate, Map<Integer, Integer>> unwritten = new TreeMap<>();  // guarded by this
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /**
+     * @param store where calls are recorded, or null to count in memory only
+     */
+    public ApiQuota(String provider, int dailyBudget, SqliteApiUsage store) {
+        this(provider, dailyBudget, store, AppLogger.none());
+    }
+
+    /**
+     * @param logger told when counts could not be written; they are kept for the next try
+     */
+    public ApiQuota(String provider, int dailyBudget, SqliteApiUsage store, AppLogger logger) {
+        this(provider, dailyBudget, store, logger, LocalDate::now);
+    }
+
+    ApiQuota(String provider, int dailyBudget, SqliteApiUsage store, AppLogger logger, Supplier<LocalDate> today) {
+        this.provider = provider;
+        this.dailyBudget = dailyBudget;
+        this.store = store;
+        this.logger = logger;
+        this.today = today;
+    }
+
+    /** Counts one call for the user (null when nobody is logged in). */
+    public void record(Integer userId) {
+        LocalDate date = rollOver();
+        usedToday.incrementAndGet();
+        if (store == null) {
+            return;
+        }
+        synchronized (this) {
+            unwritten.computeIfAbsent(date, d -> new HashMap<>()).merge(userId == null ? 0 : userId, 1, Integer::sum);
+        }
+        if (flushScheduled.compareAndSet(false, true)) {
+            Flusher.EXECUTOR.schedule(this::flush, FLUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the calls counted so far. Runs in the background after calls are counted;
+     * call it directly at shutdown so the last calls are not lost.
+     */
+    public void flush() {
+        flushScheduled.set(false);
+        if (store == null) {
+            return;
+        }
+        Map<LocalDate, Map<Integer, Integer>> batch;
+        synchronized (this) {
+            if (unwritten.isEmpty()) {
+                return;
+            }
+            batch = new TreeMap<>(unwritten);
+            unwritten.clear();
+        }
+        for (Map.Entry<LocalDate, Map<Integer, Integer>> entry : batch.entrySet()) {
+            try {
+                store.add(entry.getKey(), provider, entry.getValue());
+            } catch (Exception e) {
+                logger.warn("api_usage.write_failed", "provider", provider, "day", entry.getKey(),
+                        "error", e.toString());
+                keepUnwritten(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private synchronized void keepUnwritten(LocalDate date, Map<Integer, Integer> calls) {
+        Map<Integer, Integer> counts = unwritten.computeIfAbsent(date, d -> new HashMap<>());
+        calls.forEach((user, n) -> counts.merge(user, n, Integer::sum));
+    }
+
+    public boolean isNearlyExhausted() {
+        rollOver();
+        return usedToday.get() * 100L >= (long) dailyBudget * NEARLY_EXHAUSTED_PERCENT;
+    }
+
+    public int getUsedToday() {
+        rollOver();
+        return usedToday.get();
+    }
+
+    public int getDailyBudget() {
+        return dailyBudget;
+    }
+
+    public String getProvider() {
+        return provider;
+    }
+
+    /**
+     * Starts counting from the stored total on the first call of each day.
+     *
+     * @return today
+     */
+    private synchronized LocalDate rollOver() {
+        LocalDate date = today.get();
+        if (date.equals(day)) {
+            return date;
+        }
+        day = date;
+        int stored = 0;
+        if (store != null) {
+            try {
+                stored = store.callsOn(date, provider);
+            } catch (Exception e) {
+                // start from zero; the stored rows are still added to
+            }
+        }
+        for (int calls : unwritten.getOrDefault(date, Map.of()).values()) {
+            stored += calls;
+        }
+        usedToday.set(stored);
+        return date;
+    }
+}
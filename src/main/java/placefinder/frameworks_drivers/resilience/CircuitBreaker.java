@@ -0,0 +1,155 @@
+package placefinder.frameworks_drivers.resilience;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker for one provider. After {@code failureThreshold} provider faults in a
+ * row the circuit opens and calls fail at once with {@link CircuitOpenException} instead
+ * of waiting out another timeout. After {@code openMillis} the circuit is half-open: one
+ * call is let through as a probe, and its outcome closes the circuit or opens it again.
+ *
+ * <p>Only provider faults count (see {@link Failures}); a rejected request or a cancelled
+ * call leaves the state alone.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /** Notified after every state change, on the thread that caused it. */
+    public interface Listener {
+        void stateChanged(CircuitBreaker breaker, State from, State to);
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    // guarded by this
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this(name, failureThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, long openMillis, LongSupplier clock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clock = clock;
+    }
+
+    public <T> T call(Callable<T> call) throws Exception {
+        boolean probe = acquire();
+        try {
+            T result = call.call();
+            onSuccess(probe);
+            return result;
+        } catch (Exception e) {
+            if (Failures.isProviderFault(e)) {
+                onFailure(probe);
+            } else if (probe) {
+                releaseProbe();
+            }
+            throw e;
+        }
+    }
+
+    /** @return true if this call is the half-open probe */
+    private boolean acquire() throws CircuitOpenException {
+        State from;
+        synchronized (this) {
+            from = state;
+            if (state == State.CLOSED) {
+                return false;
+            }
+            long waited = clock.getAsLong() - openedAt;
+            if (state == State.OPEN && waited < openMillis) {
+                throw new CircuitOpenException(name, openMillis - waited);
+            }
+            if (probeInFlight) {
+                throw new CircuitOpenException(name, 0);
+            }
+            probeInFlight = true;
+            state = State.HALF_OPEN;
+        }
+        fire(from, State.HALF_OPEN);
+        return true;
+    }
+
+    /**
+     * Only the probe, or a call that finds the circuit still closed, changes the state: a
+     * call let through before the circuit opened says nothing about the provider now.
+     */
+    private void onSuccess(boolean probe) {
+        State from;
+        State to;
+        synchronized (this) {
+            from = state;
+            if (probe) {
+                probeInFlight = false;
+                state = State.CLOSED;
+            }
+            if (state == State.CLOSED) {
+                consecutiveFailures = 0;
+            }
+            to = state;
+        }
+        fire(from, to);
+    }
+
+    private void onFailure(boolean probe) {
+        State from;
+        State to;
+        synchronized (this) {
+            from = state;
+            if (probe) {
+                consecutiveFailures++;
+                probeInFlight = false;
+                state = State.OPEN;
+                openedAt = clock.getAsLong();
+            } else if (state == State.CLOSED && ++consecutiveFailures >= failureThreshold) {
+                state = State.OPEN;
+                openedAt = clock.getAsLong();
+            }
+            to = state;
+        }
+        fire(from, to);
+    }
+
+    private synchronized void releaseProbe() {
+        probeInFlight = false;
+    }
+
+    private void fire(State from, State to) {
+        if (from != to) {
+            for (Listener listener : listeners) {
+                listener.stateChanged(this, from, to);
+            }
+        }
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Current state; an open circuit whose wait is over still reads OPEN until the probe. */
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized int getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+}
@@ -0,0 +1,45 @@
+package placefinder.frameworks_drivers.resilience;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The circuit breakers of the app, one per provider, so their states can be listed
+ * together (e.g. on a diagnostics screen).
+ */
+public class CircuitBreakers {
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Map<String, CircuitBreaker> byProvider = new ConcurrentHashMap<>();
+    private final List<CircuitBreaker.Listener> listeners = new CopyOnWriteArrayList<>();
+
+    public CircuitBreakers(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+
+    /** @return the provider's breaker, created on first use */
+    public CircuitBreaker forProvider(String provider) {
+        return byProvider.computeIfAbsent(provider, name -> {
+            CircuitBreaker breaker = new CircuitBreaker(name, failureThreshold, openMillis);
+            listeners.forEach(breaker::addListener);
+            return breaker;
+        });
+    }
+
+    /** Listens to every provider's breaker, including ones created later. */
+    public void addListener(CircuitBreaker.Listener listener) {
+        listeners.add(listener);
+        byProvider.values().forEach(breaker -> breaker.addListener(listener));
+    }
+
+    public List<CircuitBreaker> all() {
+        List<CircuitBreaker> breakers = new ArrayList<>(byProvider.values());
+        breakers.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return breakers;
+    }
+}
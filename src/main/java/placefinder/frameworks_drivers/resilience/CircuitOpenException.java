@@ -0,0 +1,14 @@
+package placefinder.frameworks_drivers.resilience;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of calling a provider whose circuit is open.
+ */
+public class CircuitOpenException extends IOException {
+
+    public CircuitOpenException(String provider, long retryInMillis) {
+        super(provider + " is not responding right now; trying again in "
+                + Math.max(1, (retryInMillis + 999) / 1000) + " s.");
+    }
+}
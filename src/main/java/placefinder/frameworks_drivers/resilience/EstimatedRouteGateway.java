@@ -0,0 +1,79 @@
+package placefinder.frameworks_drivers.resilience;
+
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Leg;
+import placefinder.entities.Place;
+import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
+import placefinder.entities.RouteBuilder;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+import placefinder.usecases.routing.OrienteeringSolver;
+import placefinder.usecases.routing.RouteTimeline;
+import placefinder.usecases.routing.WalkingEstimator;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Route gateway that works offline: the visiting order comes from
+ * {@link OrienteeringSolver} on straight-line walking estimates, and each leg is a
+ * {@link WalkingEstimator} estimate with a summary step and no map line. Used when the
+ * route provider is down, so a plan can still be built.
+ */
+public class EstimatedRouteGateway implements RouteDataAccessInterface {
+
+    @Override
+    public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places) {
+        return computeRoute(origin, startTime, places, true);
+    }
+
+    @Override
+    public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places,
+                              boolean optimizeOrder) {
+        List<Place> order = places;
+        if (optimizeOrder) {
+            List<OrienteeringSolver.Candidate> candidates = new ArrayList<>();
+            for (Place place : places) {
+                candidates.add(new OrienteeringSolver.Candidate(place, 1, 0));
+            }
+            // an unlimited budget visits every place, so only the order is optimized
+            order = new OrienteeringSolver().solve(origin.getLat(), origin.getLon(), candidates, Long.MAX_VALUE);
+        }
+
+        List<PlanStop> stops = new ArrayList<>();
+        List<Leg> legs = new ArrayList<>();
+        int distance = 0;
+        double duration = 0;
+        double lat = origin.getLat();
+        double lon = origin.getLon();
+        for (int i = 0; i <= order.size(); i++) {
+            double nextLat = i < order.size() ? order.get(i).getLat() : origin.getLat();
+            double nextLon = i < order.size() ? order.get(i).getLon() : origin.getLon();
+            Leg leg = WalkingEstimator.estimatedLeg(lat, lon, nextLat, nextLon);
+            legs.add(leg);
+            distance += leg.getDistance();
+            duration += leg.getDuration();
+            if (i < order.size()) {
+                stops.add(new PlanStop(i, order.get(i), null, null));
+            }
+            lat = nextLat;
+            lon = nextLon;
+        }
+
+        Route estimated = new RouteBuilder()
+                .withStops(stops)
+                .withLegs(legs)
+                .withDistance(distance)
+                .withDuration(duration)
+                .withEncodedPolyline("")
+                .build();
+        // links the legs to the stops and applies the usual one hour per stop
+        return RouteTimeline.retime(estimated, startTime);
+    }
+
+    @Override
+    public Leg computeLeg(double fromLat, double fromLon, double toLat, double toLon) {
+        return WalkingEstimator.estimatedLeg(fromLat, fromLon, toLat, toLon);
+    }
+}
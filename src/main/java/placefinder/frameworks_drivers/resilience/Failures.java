@@ -0,0 +1,49 @@
+package placefinder.frameworks_drivers.resilience;
+
+import placefinder.frameworks_drivers.api.HttpStatusException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.http.HttpTimeoutException;
+
+/**
+ * Sorts call failures into the provider's fault and everything else.
+ */
+final class Failures {
+
+    private Failures() {
+    }
+
+    /**
+     * True if the failure says the provider is unreachable or unwell: network errors,
+     * timeouts, 5xx and 429. Cancelled calls, rejected requests (other 4xx), our own rate
+     * limiting and errors in our own code don't count against the provider.
+     */
+    static boolean isProviderFault(Exception e) {
+        if (e instanceof InterruptedIOException || e instanceof CircuitOpenException
+                || e instanceof RateLimitedException) {
+            return false;
+        }
+        if (e instanceof HttpStatusException status) {
+            return status.isProviderFault();
+        }
+        return e instanceof IOException;
+    }
+
+    /**
+     * True if the provider can't give an answer right now: its circuit is open, or the
+     * call failed through its fault. Decorators answer these with a fallback.
+     */
+    static boolean isProviderDown(Exception e) {
+        return e instanceof CircuitOpenException || isProviderFault(e);
+    }
+
+    /**
+     * True if trying again soon may succeed. Timeouts are not retried: a provider that
+     * took the whole timeout once will most likely do it again, and the user would wait
+     * twice as long before the fallback.
+     */
+    static boolean isRetryable(Exception e) {
+        return isProviderFault(e) && !(e instanceof HttpTimeoutException);
+    }
+}
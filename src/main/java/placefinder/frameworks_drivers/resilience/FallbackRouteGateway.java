@@ -0,0 +1,49 @@
+package placefinder.frameworks_drivers.resilience;
+
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Leg;
+import placefinder.entities.Place;
+import placefinder.entities.Route;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Route gateway decorator that answers from a fallback gateway when the primary one
+ * fails because its provider is down (including an open circuit). Other failures, such
+ * as a cancelled request, are passed on.
+ */
+public class FallbackRouteGateway implements RouteDataAccessInterface {
+
+    private final RouteDataAccessInterface primary;
+    private final RouteDataAccessInterface fallback;
+
+    public FallbackRouteGateway(RouteDataAccessInterface primary, RouteDataAccessInterface fallback) {
+        this.primary = primary;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places) throws Exception {
+        return computeRoute(origin, startTime, places, true);
+    }
+
+    @Override
+    public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places,
+                              boolean optimizeOrder) throws Exception {
+        try {
+            return primary.computeRoute(origin, startTime, places, optimizeOrder);
+        } catch (Exception e) {
+            if (!Failures.isProviderDown(e)) {
+                throw e;
+            }
+            return fallback.computeRoute(origin, startTime, places, optimizeOrder);
+        }
+    }
+
+    @Override
+    public Leg computeLeg(double fromLat, double fromLon, double toLat, double toLon) throws Exception {
+        return primary.computeLeg(fromLat, fromLon, toLat, toLon);
+    }
+}
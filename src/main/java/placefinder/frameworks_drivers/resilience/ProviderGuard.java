@@ -0,0 +1,83 @@
+package placefinder.frameworks_drivers.resilience;
+
+import placefinder.frameworks_drivers.api.HttpUtil;
+import placefinder.usecases.dataacessinterfaces.CallContext;
+
+import java.io.IOException;
+import java.util.concurrent.Callable;
+
+/**
+ * Everything a call to one provider goes through: retries and the circuit breaker around
+ * each gateway call, and the rate limiter and the daily quota for each HTTP request the
+ * call sends (see {@link #beforeExchange}), since one gateway call may send several, or
+ * a hedged second copy. Prefetches are refused outright once the quota is nearly spent.
+ */
+public class ProviderGuard {
+
+    private final CircuitBreaker breaker;
+    private final RetryPolicy retry;
+    private final RateLimiter limiter;
+    private final ApiQuota quota;
+
+    public ProviderGuard(CircuitBreaker breaker, RetryPolicy retry) {
+        this(breaker, retry, null, null);
+    }
+
+    /**
+     * @param limiter optional
+     * @param quota   optional
+     */
+    public ProviderGuard(CircuitBreaker breaker, RetryPolicy retry, RateLimiter limiter, ApiQuota quota) {
+        this.breaker = breaker;
+        this.retry = retry;
+        this.limiter = limiter;
+        this.quota = quota;
+    }
+
+    public <T> T call(Callable<T> call) throws Exception {
+        return retry.call(() -> breaker.call(call));
+    }
+
+    /** Same as {@link #call} without retries, for calls the caller has its own fallback for. */
+    public <T> T callOnce(Callable<T> call) throws Exception {
+        return breaker.call(call);
+    }
+
+    /**
+     * True once the day's budget is nearly spent: decorators should then answer from
+     * whatever they have cached, however old, before spending a call.
+     */
+    public boolean prefersCache() {
+        return quota != null && quota.isNearlyExhausted();
+    }
+
+    /**
+     * Admits one HTTP request to the provider: waits for a rate limit slot and counts it
+     * against the quota. Installed as the provider's {@link HttpUtil.ExchangeGate}.
+     *
+     * @throws RateLimitedException if the request would wait too long, or is a prefetch
+     *                              while the budget is nearly spent
+     */
+    public void beforeExchange() throws IOException, InterruptedException {
+        CallContext.Priority priority = CallContext.priority();
+        if (priority == CallContext.Priority.PREFETCH && prefersCache()) {
+            throw new RateLimitedException("Daily budget for " + quota.getProvider()
+                    + " is nearly used up; prefetch skipped.");
+        }
+        if (limiter != null) {
+            limiter.acquire(priority);
+        }
+        if (quota != null) {
+            quota.record(CallContext.sessionUser());
+        }
+    }
+
+    public CircuitBreaker getBreaker() {
+        return breaker;
+    }
+
+    /** @return the quota, or null if this provider has none */
+    public ApiQuota getQuota() {
+        return quota;
+    }
+}
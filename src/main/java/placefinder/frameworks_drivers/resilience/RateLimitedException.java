@@ -0,0 +1,15 @@
+package placefinder.frameworks_drivers.resilience;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of calling a provider when this app has used up its allowance: the
+ * request waited too long for a rate limit slot, or it was a prefetch and the day's
+ * budget is nearly spent. Not the provider's fault, so breakers ignore it.
+ */
+public class RateLimitedException extends IOException {
+
+    public RateLimitedException(String message) {
+        super(message);
+    }
+}
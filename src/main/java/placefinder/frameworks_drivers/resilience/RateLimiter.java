@@ -0,0 +1,79 @@
+package placefinder.frameworks_drivers.resilience;
+
+import placefinder.usecases.dataacessinterfaces.CallContext.Priority;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Token bucket for one provider key: up to {@code burst} calls at once, refilled at
+ * {@code permitsPerSecond}. Callers over the rate queue for a token; interactive callers
+ * are always served before prefetches, which only get tokens no interactive caller is
+ * waiting for. A caller that would wait longer than {@code maxWaitMillis} gets a
+ * {@link RateLimitedException} instead.
+ */
+public class RateLimiter {
+
+    private final String name;
+    private final double permitsPerNano;
+    private final int burst;
+    private final long maxWaitNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private double tokens;              // guarded by lock
+    private long refilledAt;            // guarded by lock
+    private int interactiveWaiting;     // guarded by lock
+
+    public RateLimiter(String name, double permitsPerSecond, int burst, long maxWaitMillis) {
+        this.name = name;
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    public void acquire(Priority priority) throws InterruptedException, RateLimitedException {
+        boolean interactive = priority == Priority.INTERACTIVE;
+        long deadline = System.nanoTime() + maxWaitNanos;
+        lock.lock();
+        if (interactive) {
+            interactiveWaiting++;
+        }
+        try {
+            while (true) {
+                refill();
+                boolean myTurn = interactive || interactiveWaiting == 0;
+                if (myTurn && tokens >= 1) {
+                    tokens -= 1;
+                    return;
+                }
+                long left = deadline - System.nanoTime();
+                if (left <= 0) {
+                    throw new RateLimitedException("Too many requests to " + name + " right now; try again shortly.");
+                }
+                long untilToken = tokens >= 1 ? left : (long) Math.ceil((1 - tokens) / permitsPerNano);
+                changed.awaitNanos(Math.max(1, Math.min(left, untilToken)));
+            }
+        } finally {
+            if (interactive) {
+                interactiveWaiting--;
+            }
+            // prefetches held back for this caller may go now
+            changed.signalAll();
+            lock.unlock();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - refilledAt) * permitsPerNano);
+        refilledAt = now;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
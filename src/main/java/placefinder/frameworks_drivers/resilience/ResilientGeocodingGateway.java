@@ -0,0 +1,43 @@
+package placefinder.frameworks_drivers.resilience;
+
+import placefinder.entities.GeocodeResult;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+
+import java.util.Locale;
+
+/**
+ * Geocoding gateway decorator that sends every call through the provider's
+ * {@link ProviderGuard}. When the provider fails, or the day's budget is nearly spent,
+ * an address geocoded before is answered from the last good result.
+ */
+public class ResilientGeocodingGateway implements GeocodingDataAccessInterface {
+
+    private final GeocodingDataAccessInterface delegate;
+    private final ProviderGuard guard;
+    private final StaleResults<String, GeocodeResult> lastGood = new StaleResults<>(256);
+
+    public ResilientGeocodingGateway(GeocodingDataAccessInterface delegate, ProviderGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public GeocodeResult geocode(String query) throws Exception {
+        String key = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        GeocodeResult saved = guard.prefersCache() ? lastGood.get(key) : null;
+        if (saved != null) {
+            return saved;
+        }
+        try {
+            GeocodeResult result = guard.call(() -> delegate.geocode(query));
+            lastGood.remember(key, result);
+            return result;
+        } catch (Exception e) {
+            GeocodeResult stale = Failures.isProviderDown(e) ? lastGood.get(key) : null;
+            if (stale == null) {
+                throw e;
+            }
+            return stale;
+        }
+    }
+}
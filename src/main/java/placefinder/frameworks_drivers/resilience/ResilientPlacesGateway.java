@@ -0,0 +1,62 @@
+package placefinder.frameworks_drivers.resilience;
+
+import placefinder.entities.Place;
+import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+
+/**
+ * Places gateway decorator that sends every call through the provider's
+ * {@link ProviderGuard}. When the provider fails, or the day's budget is nearly spent, a
+ * search made before is answered from its last good result, however old.
+ */
+public class ResilientPlacesGateway implements PlacesDataAccessInterface {
+
+    private final PlacesDataAccessInterface delegate;
+    private final ProviderGuard guard;
+    private final StaleResults<String, List<Place>> lastGood = new StaleResults<>(64);
+
+    public ResilientPlacesGateway(PlacesDataAccessInterface delegate, ProviderGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public List<Place> searchPlaces(double lat, double lon, double radiusKm,
+                                    Map<String, List<String>> selectedCategories) throws Exception {
+        String key = String.format(Locale.ROOT, "%.4f,%.4f,%.2f|", lat, lon, radiusKm)
+                + new TreeMap<>(selectedCategories == null ? Map.of() : selectedCategories);
+        return withFallback(key, () -> delegate.searchPlaces(lat, lon, radiusKm, selectedCategories));
+    }
+
+    @Override
+    public List<Place> searchPlacesInRect(double south, double west, double north, double east,
+                                          Map<String, List<String>> selectedCategories) throws Exception {
+        String key = String.format(Locale.ROOT, "rect:%.4f,%.4f,%.4f,%.4f|", south, west, north, east)
+                + new TreeMap<>(selectedCategories == null ? Map.of() : selectedCategories);
+        return withFallback(key, () -> delegate.searchPlacesInRect(south, west, north, east, selectedCategories));
+    }
+
+    private List<Place> withFallback(String key, Callable<List<Place>> search) throws Exception {
+        List<Place> saved = guard.prefersCache() ? lastGood.get(key) : null;
+        if (saved != null) {
+            return new ArrayList<>(saved);
+        }
+        try {
+            List<Place> places = guard.call(search);
+            lastGood.remember(key, places == null ? null : new ArrayList<>(places));
+            return places;
+        } catch (Exception e) {
+            List<Place> stale = Failures.isProviderDown(e) ? lastGood.get(key) : null;
+            if (stale == null) {
+                throw e;
+            }
+            return new ArrayList<>(stale);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package placefinder.frameworks_drivers.resilience;
+
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Leg;
+import placefinder.entities.Place;
+import placefinder.entities.Route;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * Route gateway decorator that sends every call through the provider's
+ * {@link ProviderGuard} (retries and circuit breaker; the rate limit and quota apply to
+ * each request the call sends). The local fallback lives in {@link FallbackRouteGateway},
+ * outside the route cache, so estimated routes are never cached as real ones.
+ */
+public class ResilientRouteGateway implements RouteDataAccessInterface {
+
+    private final RouteDataAccessInterface delegate;
+    private final ProviderGuard guard;
+
+    public ResilientRouteGateway(RouteDataAccessInterface delegate, ProviderGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places) throws Exception {
+        return computeRoute(origin, startTime, places, true);
+    }
+
+    @Override
+    public Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places,
+                              boolean optimizeOrder) throws Exception {
+        return guard.call(() -> delegate.computeRoute(origin, startTime, places, optimizeOrder));
+    }
+
+    @Override
+    public Leg computeLeg(double fromLat, double fromLon, double toLat, double toLon) throws Exception {
+        // callers already fall back to an estimated leg when this fails, so don't retry
+        return guard.callOnce(() -> delegate.computeLeg(fromLat, fromLon, toLat, toLon));
+    }
+}
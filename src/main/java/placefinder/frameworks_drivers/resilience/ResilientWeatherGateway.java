@@ -0,0 +1,43 @@
+package placefinder.frameworks_drivers.resilience;
+
+import placefinder.entities.Place;
+import placefinder.entities.WeatherSummary;
+import placefinder.usecases.dataacessinterfaces.WeatherDataAccessInterface;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Weather gateway decorator that sends every call through the provider's
+ * {@link ProviderGuard} (retries and circuit breaker; the rate limit and quota apply to
+ * each request the call sends).
+ * There is no fallback here: searches and plans already go on without weather when the
+ * lookup fails, and with the circuit open that failure comes at once instead of after a
+ * timeout.
+ */
+public class ResilientWeatherGateway implements WeatherDataAccessInterface {
+
+    private final WeatherDataAccessInterface delegate;
+    private final ProviderGuard guard;
+
+    public ResilientWeatherGateway(WeatherDataAccessInterface delegate, ProviderGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public WeatherSummary getDailyWeather(double lat, double lon, LocalDate date) throws Exception {
+        return guard.call(() -> delegate.getDailyWeather(lat, lon, date));
+    }
+
+    @Override
+    public List<WeatherSummary> getDailyForecast(double lat, double lon, LocalDate startDate, int days)
+            throws Exception {
+        return guard.call(() -> delegate.getDailyForecast(lat, lon, startDate, days));
+    }
+
+    @Override
+    public List<List<WeatherSummary>> getHourlyWeather(List<Place> places, LocalDate date) throws Exception {
+        return guard.call(() -> delegate.getHourlyWeather(places, date));
+    }
+}
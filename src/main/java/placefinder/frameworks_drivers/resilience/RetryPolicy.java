@@ -0,0 +1,57 @@
+package placefinder.frameworks_drivers.resilience;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Retries idempotent provider calls with exponential backoff and full jitter: before each
+ * retry the caller sleeps a random time up to a cap that starts at {@code baseDelay} and
+ * doubles with every retry (at most {@code maxDelay}), so clients that failed together
+ * don't retry together. Only failures that may pass are retried (see {@link Failures}).
+ */
+public class RetryPolicy {
+
+    /** Waits between attempts; replaced in tests. */
+    interface Sleeper {
+        void sleep(long millis) throws InterruptedException;
+    }
+
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final Sleeper sleeper;
+
+    public RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis) {
+        this(maxAttempts, baseDelayMillis, maxDelayMillis, Thread::sleep);
+    }
+
+    RetryPolicy(int maxAttempts, long baseDelayMillis, long maxDelayMillis, Sleeper sleeper) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.sleeper = sleeper;
+    }
+
+    /** A policy that tries once. */
+    public static RetryPolicy none() {
+        return new RetryPolicy(1, 0, 0);
+    }
+
+    public <T> T call(Callable<T> call) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.call();
+            } catch (Exception e) {
+                if (attempt >= maxAttempts || !Failures.isRetryable(e)) {
+                    throw e;
+                }
+                sleeper.sleep(delayBefore(attempt + 1));
+            }
+        }
+    }
+
+    private long delayBefore(int attempt) {
+        long cap = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 2, 20));
+        return cap <= 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+}
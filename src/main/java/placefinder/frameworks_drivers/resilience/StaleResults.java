@@ -0,0 +1,32 @@
+package placefinder.frameworks_drivers.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The last good result per request, kept without expiry as a fallback for when the
+ * provider fails. Only the most recently used {@code capacity} requests are kept.
+ */
+final class StaleResults<K, V> {
+
+    private final Map<K, V> results;
+
+    StaleResults(int capacity) {
+        this.results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized void remember(K key, V value) {
+        if (value != null) {
+            results.put(key, value);
+        }
+    }
+
+    synchronized V get(K key) {
+        return results.get(key);
+    }
+}
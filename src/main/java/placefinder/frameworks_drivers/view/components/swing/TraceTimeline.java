@@ -0,0 +1,225 @@
+package placefinder.frameworks_drivers.view.components.swing;
+
+import placefinder.usecases.tracing.Span;
+import placefinder.usecases.tracing.Trace;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseEvent;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Timeline of one trace: a row per span, indented under its parent, with a bar from its
+ * start to its end on a shared time axis. Spans that overlap ran concurrently; gaps under
+ * a parent are time spent outside any traced call. Bars are coloured by kind (use case,
+ * gateway, HTTP, database) and red when the span failed. Hovering a bar shows its details.
+ */
+public class TraceTimeline extends JPanel {
+
+    private static final int ROW_HEIGHT = 20;
+    private static final int LABEL_WIDTH = 320;
+    private static final int AXIS_HEIGHT = 24;
+    private static final int RIGHT_MARGIN = 80;
+
+    private static final Color USE_CASE = new Color(7, 164, 121);
+    private static final Color GATEWAY = new Color(66, 133, 244);
+    private static final Color HTTP = new Color(245, 159, 0);
+    private static final Color DATABASE = new Color(142, 68, 173);
+    private static final Color OTHER = new Color(140, 140, 140);
+    private static final Color FAILED = new Color(214, 48, 49);
+
+    /** A span and how deep it sits under the root. */
+    private static final class Row {
+        private final Span span;
+        private final int depth;
+
+        Row(Span span, int depth) {
+            this.span = span;
+            this.depth = depth;
+        }
+    }
+
+    private final List<Row> rows = new ArrayList<>();
+    private long totalNanos = 1;
+
+    public TraceTimeline() {
+        setBackground(Color.WHITE);
+        setToolTipText("");
+    }
+
+    /** Shows the given trace, or nothing for null. */
+    public void setTrace(Trace trace) {
+        rows.clear();
+        totalNanos = 1;
+        if (trace != null) {
+            List<Span> spans = trace.getSpans();
+            for (Span span : spans) {
+                totalNanos = Math.max(totalNanos, span.getStartOffsetNanos() + Math.max(0, span.getDurationNanos()));
+            }
+            layoutRows(spans);
+        }
+        setPreferredSize(new Dimension(LABEL_WIDTH + 400 + RIGHT_MARGIN, AXIS_HEIGHT + rows.size() * ROW_HEIGHT + 4));
+        revalidate();
+        repaint();
+    }
+
+    /** Depth-first from the root, children in order of their start. */
+    private void layoutRows(List<Span> spans) {
+        Map<Integer, List<Span>> children = new HashMap<>();
+        Set<Integer> ids = new HashSet<>();
+        for (Span span : spans) {
+            ids.add(span.getId());
+        }
+        List<Span> tops = new ArrayList<>();
+        for (Span span : spans) {
+            if (span.getParentId() == 0 || !ids.contains(span.getParentId())) {
+                tops.add(span);   // the root, or a span whose parent has not ended yet
+            } else {
+                children.computeIfAbsent(span.getParentId(), k -> new ArrayList<>()).add(span);
+            }
+        }
+        tops.sort(Comparator.comparingInt(Span::getParentId));
+        for (Span top : tops) {
+            addRows(top, top.getParentId() == 0 ? 0 : 1, children);
+        }
+    }
+
+    private void addRows(Span span, int depth, Map<Integer, List<Span>> children) {
+        rows.add(new Row(span, depth));
+        for (Span child : children.getOrDefault(span.getId(), List.of())) {
+            addRows(child, depth + 1, children);
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        super.paintComponent(g);
+        if (rows.isEmpty()) {
+            return;
+        }
+        Graphics2D g2 = (Graphics2D) g.create();
+        g2.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2.setFont(new Font("sansserif", Font.PLAIN, 11));
+        FontMetrics fm = g2.getFontMetrics();
+        int chartWidth = chartWidth();
+
+        // time axis
+        g2.setColor(new Color(120, 120, 120));
+        double step = tickStepMillis(totalNanos / 1_000_000.0);
+        for (double ms = 0; ms * 1_000_000 <= totalNanos; ms += step) {
+            int x = LABEL_WIDTH + (int) (ms * 1_000_000 / totalNanos * chartWidth);
+            g2.setColor(new Color(235, 235, 235));
+            g2.drawLine(x, AXIS_HEIGHT, x, getHeight());
+            g2.setColor(new Color(120, 120, 120));
+            g2.drawString(formatMillis(ms), x + 2, AXIS_HEIGHT - 8);
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            Span span = row.span;
+            int y = AXIS_HEIGHT + i * ROW_HEIGHT;
+            if (i % 2 == 1) {
+                g2.setColor(new Color(248, 248, 248));
+                g2.fillRect(0, y, getWidth(), ROW_HEIGHT);
+            }
+
+            g2.setColor(span.getError() != null ? FAILED : new Color(50, 50, 50));
+            String label = clip(span.getName(), fm, LABEL_WIDTH - 12 - row.depth * 12);
+            g2.drawString(label, 6 + row.depth * 12, y + ROW_HEIGHT - 6);
+
+            Rectangle bar = barBounds(i);
+            g2.setColor(span.getError() != null ? FAILED : colorFor(span.getName()));
+            g2.fillRoundRect(bar.x, bar.y, bar.width, bar.height, 4, 4);
+            g2.setColor(new Color(90, 90, 90));
+            String duration = formatMillis(span.getDurationNanos() / 1_000_000.0);
+            g2.drawString(duration, bar.x + bar.width + 4, y + ROW_HEIGHT - 6);
+        }
+        g2.dispose();
+    }
+
+    @Override
+    public String getToolTipText(MouseEvent event) {
+        int i = (event.getY() - AXIS_HEIGHT) / ROW_HEIGHT;
+        if (event.getY() < AXIS_HEIGHT || i < 0 || i >= rows.size()) {
+            return null;
+        }
+        Span span = rows.get(i).span;
+        return "<html><b>" + escape(span.getName()) + "</b><br>"
+                + "thread " + escape(span.getThreadName()) + "<br>"
+                + "starts at " + formatMillis(span.getStartOffsetNanos() / 1_000_000.0)
+                + ", takes " + formatMillis(span.getDurationNanos() / 1_000_000.0)
+                + (span.getError() == null ? "" : "<br>failed: " + escape(span.getError()))
+                + "</html>";
+    }
+
+    private Rectangle barBounds(int rowIndex) {
+        Span span = rows.get(rowIndex).span;
+        int chartWidth = chartWidth();
+        int x = LABEL_WIDTH + (int) ((double) span.getStartOffsetNanos() / totalNanos * chartWidth);
+        int width = Math.max(2, (int) ((double) Math.max(0, span.getDurationNanos()) / totalNanos * chartWidth));
+        return new Rectangle(x, AXIS_HEIGHT + rowIndex * ROW_HEIGHT + 4, width, ROW_HEIGHT - 8);
+    }
+
+    private int chartWidth() {
+        return Math.max(100, getWidth() - LABEL_WIDTH - RIGHT_MARGIN);
+    }
+
+    private static Color colorFor(String name) {
+        if (name.startsWith("usecase.")) {
+            return USE_CASE;
+        }
+        if (name.startsWith("gateway.")) {
+            return GATEWAY;
+        }
+        if (name.startsWith("http.")) {
+            return HTTP;
+        }
+        if (name.startsWith("db.")) {
+            return DATABASE;
+        }
+        return OTHER;
+    }
+
+    /** A round step that gives five to ten ticks. */
+    private static double tickStepMillis(double totalMillis) {
+        double step = Math.pow(10, Math.floor(Math.log10(Math.max(totalMillis, 0.001))));
+        while (totalMillis / step > 10) {
+            step *= 2;
+        }
+        while (totalMillis / step < 5) {
+            step /= 2;
+        }
+        return step;
+    }
+
+    private static String formatMillis(double ms) {
+        if (ms < 0) {
+            return "running";
+        }
+        return ms >= 1_000 ? String.format(Locale.ROOT, "%.2f s", ms / 1_000)
+                : String.format(Locale.ROOT, ms >= 10 ? "%.0f ms" : "%.1f ms", ms);
+    }
+
+    private static String clip(String text, FontMetrics fm, int width) {
+        if (fm.stringWidth(text) <= width) {
+            return text;
+        }
+        String clipped = text;
+        while (clipped.length() > 1 && fm.stringWidth(clipped + "...") > width) {
+            clipped = clipped.substring(0, clipped.length() - 1);
+        }
+        return clipped + "...";
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
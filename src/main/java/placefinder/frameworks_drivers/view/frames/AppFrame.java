@@ -11,8 +11,14 @@ import placefinder.interface_adapters.viewmodels.*;
 // Logging
 import placefinder.usecases.logging.SwitchablePlacesLogger;
 
+// Diagnostics
+import placefinder.frameworks_drivers.resilience.ProviderGuard;
+import placefinder.usecases.metrics.MetricsRegistry;
+import placefinder.usecases.tracing.Tracer;
+
 import javax.swing.*;
 import java.awt.*;
+import java.util.List;
 
 /**
  * Main UI frame of PlaceFinder / TravelScheduler.
@@ -37,6 +43,7 @@ public class AppFrame extends JFrame {
     private final GetPlanDetailsController getPlanDetailsController;
     private final GetRouteDetailsController getRouteDetailsController;
     private final WeatherAdviceController weatherAdviceController;
+    private final FindBestDayController findBestDayController;
 
     // ==== ViewModels ====
     private final LoginViewModel loginVM;
@@ -56,6 +63,12 @@ public class AppFrame extends JFrame {
     // ==== Logging ====
     private final SwitchablePlacesLogger placesLogger;
 
+    // ==== Diagnostics ====
+    private final MetricsRegistry metrics;
+    private final Tracer tracer;
+    private final List<ProviderGuard> providers;
+    private DiagnosticsDialog diagnosticsDialog;   // created on first use
+
     // ==== Layout ====
     private CardLayout cardLayout;
     private JPanel mainPanel;
@@ -93,6 +106,7 @@ public class AppFrame extends JFrame {
             GetPlanDetailsController getPlanDetailsController,
             GetRouteDetailsController getRouteDetailsController,
             WeatherAdviceController weatherAdviceController,
+            FindBestDayController findBestDayController,
             LoginViewModel loginVM,
             RegisterViewModel registerVM,
             VerifyEmailViewModel verifyVM,
@@ -102,7 +116,10 @@ public class AppFrame extends JFrame {
             PlanDetailsViewModel planDetailsVM,
             DirectionsViewModel directionsVM,
             WeatherAdviceViewModel weatherAdviceVM,
-            SwitchablePlacesLogger placesLogger
+            SwitchablePlacesLogger placesLogger,
+            MetricsRegistry metrics,
+            Tracer tracer,
+            List<ProviderGuard> providers
     ) {
         super("PlaceFinder");
 
@@ -118,6 +135,7 @@ public class AppFrame extends JFrame {
         this.getPlanDetailsController = getPlanDetailsController;
         this.getRouteDetailsController = getRouteDetailsController;
         this.weatherAdviceController = weatherAdviceController;
+        this.findBestDayController = findBestDayController;
 
         // ViewModels
         this.loginVM = loginVM;
@@ -133,6 +151,11 @@ public class AppFrame extends JFrame {
         // Logging
         this.placesLogger = placesLogger;
 
+        // Diagnostics
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.providers = providers;
+
         initUI();
     }
 
@@ -190,6 +213,7 @@ public class AppFrame extends JFrame {
         weatherAdvicePanel = new WeatherAdvicePanel(
                 this,
                 weatherAdviceController,
+                findBestDayController,
                 weatherAdviceVM
         );
 
@@ -259,6 +283,13 @@ public class AppFrame extends JFrame {
         showCard(CARD_PLAN_DETAILS);
     }
 
+    public void showDiagnostics() {
+        if (diagnosticsDialog == null) {
+            diagnosticsDialog = new DiagnosticsDialog(this, metrics, tracer, providers);
+        }
+        diagnosticsDialog.setVisible(true);
+    }
+
     public void openPlanEditorWithPlan(Plan plan) {
         planBuilderPanel.editExistingPlan(plan);
         showCard(CARD_PLAN);
@@ -278,8 +309,7 @@ public class AppFrame extends JFrame {
     public void logout() {
         currentUserId   = null;
         currentUserName = null;
-        loginVM.setLoggedInUser(null);
-        loginVM.setErrorMessage(null);
+        loginController.logout();
         showLogin();
     }
 
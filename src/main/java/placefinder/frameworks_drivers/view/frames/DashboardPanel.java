@@ -175,6 +175,14 @@ public class DashboardPanel extends JPanel {
         actionsPanel.add(weatherButton);
         actionsPanel.add(Box.createVerticalStrut(10));
         actionsPanel.add(loggerToggleButton);
+        actionsPanel.add(Box.createVerticalStrut(10));
+
+        Button diagnosticsButton = new Button();
+        diagnosticsButton.setText("Diagnostics");
+        styleLoggerButton(diagnosticsButton);
+        diagnosticsButton.setBackground(new Color(100, 100, 100));
+        diagnosticsButton.addActionListener(e -> appFrame.showDiagnostics());
+        actionsPanel.add(diagnosticsButton);
         actionsPanel.add(Box.createVerticalGlue());
 
         main.add(actionsPanel, BorderLayout.WEST);
@@ -0,0 +1,248 @@
+package placefinder.frameworks_drivers.view.frames;
+
+import placefinder.frameworks_drivers.api.HttpUtil;
+import placefinder.frameworks_drivers.api.LatencyTracker;
+import placefinder.frameworks_drivers.metrics.MetricsExport;
+import placefinder.frameworks_drivers.metrics.TraceExport;
+import placefinder.frameworks_drivers.resilience.ApiQuota;
+import placefinder.frameworks_drivers.resilience.ProviderGuard;
+import placefinder.frameworks_drivers.view.components.swing.TraceTimeline;
+import placefinder.usecases.metrics.LatencyHistogram;
+import placefinder.usecases.metrics.MetricsRegistry;
+import placefinder.usecases.metrics.MetricsSnapshot;
+import placefinder.usecases.tracing.Trace;
+import placefinder.usecases.tracing.Tracer;
+
+import javax.swing.*;
+import javax.swing.table.DefaultTableModel;
+import java.awt.*;
+import java.awt.datatransfer.StringSelection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Non-modal window with the app's measurements: call latencies per use case, gateway,
+ * database statement and UI callback; cache hit ratios; provider circuit and quota state;
+ * HTTP latency per provider; and the timelines of recent user actions. Refreshes every two
+ * seconds while open, and can copy a snapshot as JSON or Prometheus text and the recent
+ * traces as JSON.
+ */
+public class DiagnosticsDialog extends JDialog {
+
+    private static final int REFRESH_MS = 2_000;
+
+    private final MetricsRegistry metrics;
+    private final Tracer tracer;
+    private final List<ProviderGuard> providers;
+
+    private final DefaultTableModel latencyModel = readOnlyModel(
+            "Name", "Calls", "Errors", "Mean ms", "p50 ms", "p95 ms", "p99 ms", "Max ms");
+    private final DefaultTableModel cacheModel = readOnlyModel("Cache", "Hits", "Misses", "Hit ratio");
+    private final DefaultTableModel providerModel = readOnlyModel(
+            "Provider", "Circuit", "Calls today", "Daily budget");
+    private final DefaultTableModel providerLatencyModel = readOnlyModel(
+            "Provider", "Samples", "p50 ms", "p99 ms", "Timeout ms");
+    private final DefaultListModel<Trace> traceModel = new DefaultListModel<>();
+    private final JList<Trace> traceList = new JList<>(traceModel);
+    private final TraceTimeline timeline = new TraceTimeline();
+    private final Timer refreshTimer = new Timer(REFRESH_MS, e -> refresh());
+
+    public DiagnosticsDialog(Frame owner, MetricsRegistry metrics, Tracer tracer, List<ProviderGuard> providers) {
+        super(owner, "Diagnostics", false);
+        this.metrics = metrics;
+        this.tracer = tracer;
+        this.providers = providers;
+        initUI();
+    }
+
+    private void initUI() {
+        setDefaultCloseOperation(HIDE_ON_CLOSE);
+        setSize(900, 600);
+        setLocationRelativeTo(getOwner());
+
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Latency", new JScrollPane(table(latencyModel)));
+        tabs.addTab("Caches", new JScrollPane(table(cacheModel)));
+        JPanel network = new JPanel(new GridLayout(2, 1, 0, 10));
+        network.add(new JScrollPane(table(providerModel)));
+        network.add(new JScrollPane(table(providerLatencyModel)));
+        tabs.addTab("Providers", network);
+        tabs.addTab("Traces", tracesPanel());
+
+        JButton refreshButton = new JButton("Refresh");
+        refreshButton.addActionListener(e -> refresh());
+        JButton resetButton = new JButton("Reset");
+        resetButton.addActionListener(e -> {
+            metrics.reset();
+            tracer.clear();
+            refresh();
+        });
+        JButton jsonButton = new JButton("Copy JSON");
+        jsonButton.addActionListener(e -> copy(MetricsExport.toJson(metrics.snapshot())));
+        JButton prometheusButton = new JButton("Copy Prometheus");
+        prometheusButton.addActionListener(e -> copy(MetricsExport.toPrometheus(metrics.snapshot())));
+
+        JButton tracesButton = new JButton("Copy traces");
+        tracesButton.addActionListener(e -> copy(TraceExport.toJson(tracer.recentTraces())));
+
+        JPanel buttons = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        buttons.add(refreshButton);
+        buttons.add(resetButton);
+        buttons.add(jsonButton);
+        buttons.add(prometheusButton);
+        buttons.add(tracesButton);
+
+        JPanel root = new JPanel(new BorderLayout(10, 10));
+        root.setBorder(BorderFactory.createEmptyBorder(10, 10, 10, 10));
+        root.add(tabs, BorderLayout.CENTER);
+        root.add(buttons, BorderLayout.SOUTH);
+        setContentPane(root);
+    }
+
+    /** Recent traces on the left, newest first; the selected one's timeline on the right. */
+    private JComponent tracesPanel() {
+        traceList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        traceList.setCellRenderer(new DefaultListCellRenderer() {
+            @Override
+            public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+                                                          boolean isSelected, boolean cellHasFocus) {
+                Trace trace = (Trace) value;
+                String text = String.format(Locale.ROOT, "%s  %s ms  (%d spans)",
+                        trace.getName(), millis(trace.getDurationNanos() / 1_000.0), trace.getSpans().size());
+                return super.getListCellRendererComponent(list, text, index, isSelected, cellHasFocus);
+            }
+        });
+        traceList.addListSelectionListener(e -> {
+            if (!e.getValueIsAdjusting()) {
+                timeline.setTrace(traceList.getSelectedValue());
+            }
+        });
+        JSplitPane split = new JSplitPane(JSplitPane.HORIZONTAL_SPLIT,
+                new JScrollPane(traceList), new JScrollPane(timeline));
+        split.setDividerLocation(280);
+        return split;
+    }
+
+    @Override
+    public void setVisible(boolean visible) {
+        if (visible) {
+            refresh();
+            refreshTimer.start();
+        } else {
+            refreshTimer.stop();
+        }
+        super.setVisible(visible);
+    }
+
+    private void refresh() {
+        MetricsSnapshot snapshot = metrics.snapshot();
+
+        latencyModel.setRowCount(0);
+        for (Map.Entry<String, LatencyHistogram.Snapshot> entry : snapshot.getLatencies().entrySet()) {
+            LatencyHistogram.Snapshot h = entry.getValue();
+            latencyModel.addRow(new Object[] {
+                    entry.getKey(),
+                    h.getCount(),
+                    snapshot.counter(entry.getKey() + ".errors"),
+                    millis(h.getMeanMicros()),
+                    millis(h.percentileMicros(50)),
+                    millis(h.percentileMicros(95)),
+                    millis(h.percentileMicros(99)),
+                    millis(h.getMaxMicros())
+            });
+        }
+
+        cacheModel.setRowCount(0);
+        Map<String, long[]> caches = new TreeMap<>();
+        for (Map.Entry<String, Long> entry : snapshot.getCounters().entrySet()) {
+            String name = entry.getKey();
+            if (!name.startsWith("cache.")) {
+                continue;
+            }
+            int dot = name.lastIndexOf('.');
+            long[] hitsAndMisses = caches.computeIfAbsent(name.substring("cache.".length(), dot), k -> new long[2]);
+            hitsAndMisses[name.endsWith(".hit") ? 0 : 1] += entry.getValue();
+        }
+        for (Map.Entry<String, long[]> entry : caches.entrySet()) {
+            long hits = entry.getValue()[0];
+            long misses = entry.getValue()[1];
+            cacheModel.addRow(new Object[] {entry.getKey(), hits, misses,
+                    hits + misses == 0 ? "-" : String.format(Locale.ROOT, "%.0f%%", 100.0 * hits / (hits + misses))});
+        }
+
+        providerModel.setRowCount(0);
+        for (ProviderGuard provider : providers) {
+            ApiQuota quota = provider.getQuota();
+            providerModel.addRow(new Object[] {
+                    provider.getBreaker().getName(),
+                    provider.getBreaker().getState(),
+                    quota == null ? "-" : quota.getUsedToday(),
+                    quota == null ? "-" : quota.getDailyBudget()
+            });
+        }
+
+        providerLatencyModel.setRowCount(0);
+        for (Map.Entry<String, LatencyTracker> entry : HttpUtil.latencyByProvider().entrySet()) {
+            LatencyTracker tracker = entry.getValue();
+            long p50 = tracker.percentile(0.50);
+            long p99 = tracker.percentile(0.99);
+            long timeout = tracker.timeoutMillis(Long.MAX_VALUE);
+            providerLatencyModel.addRow(new Object[] {
+                    entry.getKey(),
+                    tracker.sampleCount(),
+                    p50 < 0 ? "-" : p50,
+                    p99 < 0 ? "-" : p99,
+                    timeout == Long.MAX_VALUE ? "default" : timeout
+            });
+        }
+
+        refreshTraces();
+    }
+
+    /** Adds traces completed since the last refresh; the selection (and its timeline) stays. */
+    private void refreshTraces() {
+        List<Trace> traces = tracer.recentTraces();
+        Trace selected = traceList.getSelectedValue();
+        boolean changed = traces.size() != traceModel.size();
+        for (int i = 0; !changed && i < traces.size(); i++) {
+            changed = traces.get(i) != traceModel.get(i);
+        }
+        if (!changed) {
+            return;
+        }
+        traceModel.clear();
+        traceModel.addAll(traces);
+        if (selected != null && traces.contains(selected)) {
+            traceList.setSelectedValue(selected, false);
+        } else {
+            timeline.setTrace(null);
+        }
+    }
+
+    private static String millis(double micros) {
+        return String.format(Locale.ROOT, "%.1f", micros / 1_000.0);
+    }
+
+    private static void copy(String text) {
+        Toolkit.getDefaultToolkit().getSystemClipboard().setContents(new StringSelection(text), null);
+    }
+
+    private static DefaultTableModel readOnlyModel(String... columns) {
+        return new DefaultTableModel(columns, 0) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        };
+    }
+
+    private static JTable table(DefaultTableModel model) {
+        JTable table = new JTable(model);
+        table.setAutoCreateRowSorter(true);
+        table.setFillsViewportHeight(true);
+        table.getTableHeader().setReorderingAllowed(false);
+        return table;
+    }
+}
@@ -6,6 +6,7 @@ import placefinder.frameworks_drivers.view.components.swing.PanelRound;
 import placefinder.frameworks_drivers.view.components.swing.LoadingOverlay;
 import placefinder.entities.Plan;
 import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
 import placefinder.entities.Place;
 import placefinder.entities.IndoorOutdoorType;
 import placefinder.interface_adapters.controllers.PlanCreationController;
@@ -18,10 +19,14 @@ import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class PlanBuilderPanel extends JPanel {
 
+    private static final int SPECULATION_DELAY_MS = 1500;
+
     private final AppFrame appFrame;
     private final PlanCreationController planCreationController;
     private final PlanCreationViewModel planCreationVM;
@@ -33,6 +38,7 @@ public class PlanBuilderPanel extends JPanel {
     private MyTextFieldSecondary locationField;
     private MyTextFieldSecondary dateField;
     private MyTextFieldSecondary startTimeField;
+    private MyTextFieldSecondary endTimeField;
 
     private DefaultListModel<Place> recommendedModel;
     private JList<Place> recommendedList;
@@ -45,7 +51,10 @@ public class PlanBuilderPanel extends JPanel {
     private JLabel errorLabel;
 
     private Integer editingPlanId = null;
+    private Route baseRoute = null;            // last generated (or loaded) route
+    private String baseRouteLocation = null;   // location text baseRoute was built for
     private LoadingOverlay loadingOverlay;
+    private Timer speculationTimer;            // starts a background build once the selection settles
 
     public PlanBuilderPanel(AppFrame appFrame,
                             PlanCreationController planCreationController,
@@ -121,25 +130,31 @@ public class PlanBuilderPanel extends JPanel {
         tgc.fill = GridBagConstraints.HORIZONTAL;
 
         tgc.gridx = 0;
-        tgc.weightx = 0.4;
+        tgc.weightx = 0.35;
         locationField = new MyTextFieldSecondary();
         locationField.setHint("Location (city or favorite)");
         top.add(locationField, tgc);
 
         tgc.gridx = 1;
-        tgc.weightx = 0.25;
+        tgc.weightx = 0.2;
         dateField = new MyTextFieldSecondary();
         dateField.setHint("Date (YYYY-MM-DD)");
         top.add(dateField, tgc);
 
         tgc.gridx = 2;
-        tgc.weightx = 0.15;
+        tgc.weightx = 0.12;
         startTimeField = new MyTextFieldSecondary();
         startTimeField.setHint("Start time (HH:MM)");
         top.add(startTimeField, tgc);
 
         tgc.gridx = 3;
-        tgc.weightx = 0.2;
+        tgc.weightx = 0.12;
+        endTimeField = new MyTextFieldSecondary();
+        endTimeField.setHint("End time (HH:MM)");
+        top.add(endTimeField, tgc);
+
+        tgc.gridx = 4;
+        tgc.weightx = 0.21;
         Button searchButton = new Button();
         searchButton.setText("Search places");
         searchButton.setBackground(new Color(7, 164, 121));
@@ -176,6 +191,25 @@ public class PlanBuilderPanel extends JPanel {
         selectedList.setVisibleRowCount(10);
         selectedList.setCellRenderer(createPlaceRenderer());
 
+        speculationTimer = new Timer(SPECULATION_DELAY_MS, e -> speculatePlan());
+        speculationTimer.setRepeats(false);
+        selectedModel.addListDataListener(new javax.swing.event.ListDataListener() {
+            @Override
+            public void intervalAdded(javax.swing.event.ListDataEvent e) {
+                speculationTimer.restart();
+            }
+
+            @Override
+            public void intervalRemoved(javax.swing.event.ListDataEvent e) {
+                speculationTimer.restart();
+            }
+
+            @Override
+            public void contentsChanged(javax.swing.event.ListDataEvent e) {
+                speculationTimer.restart();
+            }
+        });
+
         JPanel recPanel = new JPanel(new BorderLayout(5, 5));
         recPanel.setOpaque(false);
         JLabel recLabel = new JLabel("Recommended places");
@@ -285,6 +319,38 @@ public class PlanBuilderPanel extends JPanel {
         generateButton.setFont(new Font("sansserif", Font.BOLD, 12));
         generateButton.addActionListener(e -> generatePlan());
 
+        Button autoPlanButton = new Button();
+        autoPlanButton.setText("Auto plan");
+        autoPlanButton.setBackground(new Color(7, 164, 121));
+        autoPlanButton.setForeground(Color.WHITE);
+        autoPlanButton.setFont(new Font("sansserif", Font.BOLD, 12));
+        autoPlanButton.addActionListener(e -> autoPlan());
+        autoPlanButton.setVisible(planCreationController.supportsAutoPlan());
+
+        Button alternativesButton = new Button();
+        alternativesButton.setText("Alternatives");
+        alternativesButton.setBackground(new Color(7, 164, 121));
+        alternativesButton.setForeground(Color.WHITE);
+        alternativesButton.setFont(new Font("sansserif", Font.BOLD, 12));
+        alternativesButton.addActionListener(e -> generateAlternatives());
+        alternativesButton.setVisible(planCreationController.supportsAlternatives());
+
+        Button alongRouteButton = new Button();
+        alongRouteButton.setText("On the way...");
+        alongRouteButton.setBackground(new Color(7, 164, 121));
+        alongRouteButton.setForeground(Color.WHITE);
+        alongRouteButton.setFont(new Font("sansserif", Font.BOLD, 12));
+        alongRouteButton.addActionListener(e -> findAlongRoute());
+        alongRouteButton.setVisible(planCreationController.supportsAlongRoute());
+
+        Button bestOriginButton = new Button();
+        bestOriginButton.setText("Best start");
+        bestOriginButton.setBackground(new Color(7, 164, 121));
+        bestOriginButton.setForeground(Color.WHITE);
+        bestOriginButton.setFont(new Font("sansserif", Font.BOLD, 12));
+        bestOriginButton.addActionListener(e -> findBestOrigin());
+        bestOriginButton.setVisible(planCreationController.supportsBestOrigin());
+
         Button saveButton = new Button();
         saveButton.setText("Save plan");
         saveButton.setBackground(new Color(25, 118, 210));
@@ -293,6 +359,10 @@ public class PlanBuilderPanel extends JPanel {
         saveButton.addActionListener(e -> savePlan());
 
         buttonsRow.add(backButton);
+        buttonsRow.add(autoPlanButton);
+        buttonsRow.add(alternativesButton);
+        buttonsRow.add(alongRouteButton);
+        buttonsRow.add(bestOriginButton);
         buttonsRow.add(generateButton);
         buttonsRow.add(saveButton);
 
@@ -351,9 +421,12 @@ public class PlanBuilderPanel extends JPanel {
 
     public void setupForNewPlan() {
         editingPlanId = null;
+        baseRoute = null;
+        baseRouteLocation = null;
         locationField.setText("");
         dateField.setText(LocalDate.now().toString());
         startTimeField.setText("13:00");
+        endTimeField.setText("18:00");
         recommendedModel.clear();
         selectedModel.clear();
         planPreviewArea.setText("");
@@ -383,6 +456,8 @@ public class PlanBuilderPanel extends JPanel {
                 selectedModel.addElement(stop.getPlace());
             }
         }
+        baseRoute = plan.getRoute();
+        baseRouteLocation = plan.getOriginAddress();
         planPreviewArea.setText(buildPlanPreviewText(plan));
         infoLabel.setText("Editing existing plan: " + plan.getName());
         errorLabel.setText(" ");
@@ -415,84 +490,86 @@ public class PlanBuilderPanel extends JPanel {
         planCreationVM.setLoading(true);
         showLoadingOverlay("Searching places and weather information...");
 
-        // Execute search operation in background thread
-        SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() throws Exception {
-                // 1) Get places
-                planCreationController.searchPlaces(userId, loc, date);
-                
-                // 2) Get weather advice using the working WeatherAdvice use case
-                weatherAdviceController.getAdvice(loc, date);
-                return null;
+        // the search pipeline brings the weather advice along; otherwise ask for it separately
+        CompletableFuture<Void> placesRequest = planCreationController.searchPlaces(userId, loc, date);
+        CompletableFuture<Void> adviceRequest = planCreationController.searchIncludesWeatherAdvice()
+                ? placesRequest
+                : weatherAdviceController.getAdvice(loc, date);
+        whenFinished(CompletableFuture.allOf(placesRequest, adviceRequest), () -> {
+            // Set loading state and hide loading animation
+            planCreationVM.setLoading(false);
+            hideLoadingOverlay();
+
+            // Update UI
+            recommendedModel.clear();
+            for (Place p : planCreationVM.getRecommendedPlaces()) {
+                recommendedModel.addElement(p);
             }
 
-            @Override
-            protected void done() {
-                // Set loading state and hide loading animation
-                planCreationVM.setLoading(false);
-                hideLoadingOverlay();
-
-                // Update UI
-                recommendedModel.clear();
-                for (Place p : planCreationVM.getRecommendedPlaces()) {
-                    recommendedModel.addElement(p);
-                }
+            if (planCreationVM.getErrorMessage() != null) {
+                errorLabel.setText(planCreationVM.getErrorMessage());
+            } else {
+                errorLabel.setText(" ");
+            }
 
-                if (planCreationVM.getErrorMessage() != null) {
-                    errorLabel.setText(planCreationVM.getErrorMessage());
-                } else {
-                    errorLabel.setText(" ");
+            String adviceText;
+            if (weatherAdviceVM.getErrorMessage() != null) {
+                adviceText = "Unable to retrieve weather advice: " + weatherAdviceVM.getErrorMessage();
+            } else {
+                String summary = weatherAdviceVM.getSummary();
+                String advice = weatherAdviceVM.getAdvice();
+                StringBuilder sb = new StringBuilder();
+                if (summary != null && !summary.isBlank()) {
+                    sb.append(summary.trim()).append(" ");
                 }
-
-                String adviceText;
-                if (weatherAdviceVM.getErrorMessage() != null) {
-                    adviceText = "Unable to retrieve weather advice: " + weatherAdviceVM.getErrorMessage();
-                } else {
-                    String summary = weatherAdviceVM.getSummary();
-                    String advice = weatherAdviceVM.getAdvice();
-                    StringBuilder sb = new StringBuilder();
-                    if (summary != null && !summary.isBlank()) {
-                        sb.append(summary.trim()).append(" ");
-                    }
-                    if (advice != null && !advice.isBlank()) {
-                        sb.append(advice.trim());
-                    }
-                    adviceText = sb.toString().trim();
+                if (advice != null && !advice.isBlank()) {
+                    sb.append(advice.trim());
                 }
+                adviceText = sb.toString().trim();
+            }
 
-                // 3) Optionally append indoor/outdoor bias based on recommended places
-                int indoor = 0;
-                int outdoor = 0;
-                for (int i = 0; i < recommendedModel.size(); i++) {
-                    Place p = recommendedModel.getElementAt(i);
-                    if (p.getIndoorOutdoorType() == null) continue;
-                    switch (p.getIndoorOutdoorType()) {
-                        case INDOOR -> indoor++;
-                        case OUTDOOR -> outdoor++;
-                        default -> { /* MIXED or unknown */ }
-                    }
+            // 3) Optionally append indoor/outdoor bias based on recommended places
+            int indoor = 0;
+            int outdoor = 0;
+            for (int i = 0; i < recommendedModel.size(); i++) {
+                Place p = recommendedModel.getElementAt(i);
+                if (p.getIndoorOutdoorType() == null) continue;
+                switch (p.getIndoorOutdoorType()) {
+                    case INDOOR -> indoor++;
+                    case OUTDOOR -> outdoor++;
+                    default -> { /* MIXED or unknown */ }
                 }
+            }
 
-                if (indoor > outdoor) {
-                    adviceText += (adviceText.isEmpty() ? "" : " ")
-                            + "We are favouring indoor locations based on the forecast.";
-                } else if (outdoor > indoor) {
-                    adviceText += (adviceText.isEmpty() ? "" : " ")
-                            + "We are favouring outdoor locations based on the forecast.";
-                } else if (indoor + outdoor > 0) {
-                    adviceText += (adviceText.isEmpty() ? "" : " ")
-                            + "You have a mix of indoor and outdoor locations.";
-                }
+            if (indoor > outdoor) {
+                adviceText += (adviceText.isEmpty() ? "" : " ")
+                        + "We are favouring indoor locations based on the forecast.";
+            } else if (outdoor > indoor) {
+                adviceText += (adviceText.isEmpty() ? "" : " ")
+                        + "We are favouring outdoor locations based on the forecast.";
+            } else if (indoor + outdoor > 0) {
+                adviceText += (adviceText.isEmpty() ? "" : " ")
+                        + "You have a mix of indoor and outdoor locations.";
+            }
 
-                if (adviceText == null || adviceText.isBlank()) {
-                    weatherAdviceArea.setText("");
-                } else {
-                    weatherAdviceArea.setText(adviceText);
-                }
+            if (adviceText == null || adviceText.isBlank()) {
+                weatherAdviceArea.setText("");
+            } else {
+                weatherAdviceArea.setText(adviceText);
             }
-        };
-        worker.execute();
+        });
+    }
+
+    /**
+     * Runs {@code onDone} on the Swing thread once the request has finished, unless a newer
+     * request from this screen replaced it; the newer request updates the screen instead.
+     */
+    private static void whenFinished(CompletableFuture<Void> request, Runnable onDone) {
+        request.whenComplete((ignored, error) -> {
+            if (!request.isCancelled()) {
+                onDone.run();
+            }
+        });
     }
 
     private void addSelectedPlaces() {
@@ -502,13 +579,44 @@ public class PlanBuilderPanel extends JPanel {
                 selectedModel.addElement(p);
             }
         }
+        refreshPlanAfterEdit();
     }
 
     private void removeSelectedPlace() {
         Place sel = selectedList.getSelectedValue();
         if (sel != null) {
             selectedModel.removeElement(sel);
+            refreshPlanAfterEdit();
+        }
+    }
+
+    /**
+     * Once a plan has been generated, adding or removing a place updates it right away;
+     * the interactor only recomputes the legs around the changed stop.
+     */
+    private void refreshPlanAfterEdit() {
+        if (baseRoute != null && !selectedModel.isEmpty() && !planCreationVM.isLoading()) {
+            generatePlan();
+        }
+    }
+
+    /**
+     * Once the selected places have stayed the same for a moment, starts building the plan
+     * in the background so "Generate plan" can show it without waiting. Plans that already
+     * exist are updated incrementally on each edit instead.
+     */
+    private void speculatePlan() {
+        Integer userId = appFrame.getCurrentUserId();
+        String loc = locationField.getText().trim();
+        String date = dateField.getText().trim();
+        String startTime = startTimeField.getText().trim();
+        if (userId == null || baseRoute != null || planCreationVM.isLoading() || selectedModel.isEmpty()
+                || loc.isEmpty() || date.isEmpty() || startTime.isEmpty()) {
+            return;
         }
+        // no base route here, so generatePlan() will also pass none
+        planCreationController.speculateBuildPlan(userId, loc, date, startTime, getSelectedPlacesList(),
+                editingPlanId, null);
     }
 
     private void moveSelectedPlace(int delta) {
@@ -557,45 +665,337 @@ public class PlanBuilderPanel extends JPanel {
             return;
         }
 
+        // the previous route can only be patched while the origin stays the same
+        Route previousRoute = loc.equals(baseRouteLocation) ? baseRoute : null;
+
         // Set loading state and show loading animation
         planCreationVM.setLoading(true);
         showLoadingOverlay("Generating plan...");
 
-        // Execute plan generation operation in background thread
-        SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
-            @Override
-            protected Void doInBackground() throws Exception {
-                planCreationController.buildPlan(userId, loc, date, startTime, selectedPlaces, editingPlanId);
-                return null;
-            }
-
-            @Override
-            protected void done() {
-                // Set loading state and hide loading animation
-                planCreationVM.setLoading(false);
-                hideLoadingOverlay();
-
-                // Process results
-                if (planCreationVM.getErrorMessage() != null) {
-                    errorLabel.setText(planCreationVM.getErrorMessage());
-                    planPreviewArea.setText("");
+        CompletableFuture<Void> request = planCreationController.buildPlan(userId, loc, date, startTime,
+                selectedPlaces, editingPlanId, previousRoute);
+        whenFinished(request, () -> {
+            // Set loading state and hide loading animation
+            planCreationVM.setLoading(false);
+            hideLoadingOverlay();
+
+            // Process results
+            if (planCreationVM.getErrorMessage() != null) {
+                errorLabel.setText(planCreationVM.getErrorMessage());
+                planPreviewArea.setText("");
+            } else {
+                errorLabel.setText(" ");
+                Plan plan = planCreationVM.getPlanPreview();
+                if (plan != null) {
+                    baseRoute = plan.getRoute();
+                    baseRouteLocation = loc;
+                    planPreviewArea.setText(buildPlanPreviewText(plan));
+                    String msg = planCreationVM.getInfoMessage() != null
+                            ? planCreationVM.getInfoMessage()
+                            : "Plan generated.";
+                    infoLabel.setText(msg);
                 } else {
-                    errorLabel.setText(" ");
-                    Plan plan = planCreationVM.getPlanPreview();
-                    if (plan != null) {
-                        planPreviewArea.setText(buildPlanPreviewText(plan));
-                        String msg = planCreationVM.getInfoMessage() != null
-                                ? planCreationVM.getInfoMessage()
-                                : "Plan generated.";
-                        infoLabel.setText(msg);
-                    } else {
-                        planPreviewArea.setText("");
-                        infoLabel.setText(" ");
-                    }
+                    planPreviewArea.setText("");
+                    infoLabel.setText(" ");
                 }
             }
-        };
-        worker.execute();
+        });
+    }
+
+    /**
+     * Lets the planner pick the places: the best search results that fit between the
+     * start and end time replace the current selection.
+     */
+    private void autoPlan() {
+        Integer userId = appFrame.getCurrentUserId();
+        if (userId == null) {
+            JOptionPane.showMessageDialog(this,
+                    "You must be logged in.",
+                    "Not logged in",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (recommendedModel.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                    "Search for places first.",
+                    "No places found",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        String loc = locationField.getText().trim();
+        String date = dateField.getText().trim();
+        String startTime = startTimeField.getText().trim();
+        String endTime = endTimeField.getText().trim();
+
+        planCreationVM.setLoading(true);
+        showLoadingOverlay("Picking places...");
+
+        CompletableFuture<Void> request = planCreationController.autoPlan(userId, loc, date, startTime, endTime,
+                editingPlanId);
+        whenFinished(request, () -> {
+            planCreationVM.setLoading(false);
+            hideLoadingOverlay();
+
+            if (planCreationVM.getErrorMessage() != null) {
+                errorLabel.setText(planCreationVM.getErrorMessage());
+                planPreviewArea.setText("");
+                return;
+            }
+            errorLabel.setText(" ");
+            selectedModel.clear();
+            for (Place place : planCreationVM.getAutoPlannedPlaces()) {
+                selectedModel.addElement(place);
+            }
+            Plan plan = planCreationVM.getPlanPreview();
+            if (plan != null) {
+                baseRoute = plan.getRoute();
+                baseRouteLocation = loc;
+                planPreviewArea.setText(buildPlanPreviewText(plan));
+                infoLabel.setText(planCreationVM.getInfoMessage() != null
+                        ? planCreationVM.getInfoMessage()
+                        : "Plan generated.");
+            }
+        });
+    }
+
+    /**
+     * Builds a few different plans from the search results and shows them side by side;
+     * the chosen one becomes the plan preview.
+     */
+    private void generateAlternatives() {
+        Integer userId = appFrame.getCurrentUserId();
+        if (userId == null) {
+            JOptionPane.showMessageDialog(this,
+                    "You must be logged in.",
+                    "Not logged in",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (recommendedModel.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                    "Search for places first.",
+                    "No places found",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+
+        String loc = locationField.getText().trim();
+        String date = dateField.getText().trim();
+        String startTime = startTimeField.getText().trim();
+        String endTime = endTimeField.getText().trim();
+
+        planCreationVM.setLoading(true);
+        showLoadingOverlay("Comparing plans...");
+
+        CompletableFuture<Void> request = planCreationController.generateAlternatives(userId, loc, date, startTime,
+                endTime);
+        whenFinished(request, () -> {
+            planCreationVM.setLoading(false);
+            hideLoadingOverlay();
+
+            if (planCreationVM.getErrorMessage() != null) {
+                errorLabel.setText(planCreationVM.getErrorMessage());
+                return;
+            }
+            errorLabel.setText(" ");
+            showAlternatives(loc);
+        });
+    }
+
+    private void showAlternatives(String loc) {
+        List<String> labels = planCreationVM.getAlternativeLabels();
+        List<Plan> plans = planCreationVM.getAlternativePlans();
+        if (plans.isEmpty()) {
+            return;
+        }
+
+        JDialog dialog = new JDialog(SwingUtilities.getWindowAncestor(this), "Alternative plans",
+                Dialog.ModalityType.APPLICATION_MODAL);
+        JPanel columns = new JPanel(new GridLayout(1, plans.size(), 8, 0));
+        columns.setBorder(new EmptyBorder(10, 10, 10, 10));
+        for (int i = 0; i < plans.size(); i++) {
+            Plan plan = plans.get(i);
+            JPanel column = new JPanel(new BorderLayout(0, 6));
+
+            JLabel title = new JLabel(labels.get(i));
+            title.setFont(new Font("sansserif", Font.BOLD, 12));
+            column.add(title, BorderLayout.NORTH);
+
+            JTextArea preview = new JTextArea(buildPlanPreviewText(plan));
+            preview.setEditable(false);
+            preview.setLineWrap(true);
+            preview.setWrapStyleWord(true);
+            preview.setFont(new Font("monospaced", Font.PLAIN, 12));
+            column.add(new JScrollPane(preview), BorderLayout.CENTER);
+
+            Button useButton = new Button();
+            useButton.setText("Use this plan");
+            useButton.setBackground(new Color(7, 164, 121));
+            useButton.setForeground(Color.WHITE);
+            useButton.setFont(new Font("sansserif", Font.BOLD, 12));
+            useButton.addActionListener(e -> {
+                useAlternative(plan, loc);
+                dialog.dispose();
+            });
+            column.add(useButton, BorderLayout.SOUTH);
+            columns.add(column);
+        }
+        dialog.setContentPane(columns);
+        dialog.setSize(Math.min(1200, 380 * plans.size()), 520);
+        dialog.setLocationRelativeTo(this);
+        dialog.setVisible(true);
+    }
+
+    private void useAlternative(Plan plan, String loc) {
+        plan.setId(editingPlanId);
+        planCreationVM.setPlanPreview(plan);
+        selectedModel.clear();
+        for (PlanStop stop : plan.getRoute().getStops()) {
+            selectedModel.addElement(stop.getPlace());
+        }
+        baseRoute = plan.getRoute();
+        baseRouteLocation = loc;
+        planPreviewArea.setText(buildPlanPreviewText(plan));
+        infoLabel.setText("Plan generated.");
+    }
+
+    /**
+     * Suggests places of a chosen kind a short step off the current route; picked places
+     * are added to the selection and the plan is updated.
+     */
+    private void findAlongRoute() {
+        if (planCreationVM.getPlanPreview() == null) {
+            JOptionPane.showMessageDialog(this,
+                    "Generate a plan first.",
+                    "No plan",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        String[] kinds = {"Anything", "Cafe", "Restaurant", "Park", "Sights"};
+        String[] categories = {null, "catering.cafe", "catering.restaurant", "leisure.park", "tourism.sights"};
+        Object choice = JOptionPane.showInputDialog(this,
+                "What are you looking for on the way?",
+                "On the way",
+                JOptionPane.QUESTION_MESSAGE,
+                null,
+                kinds,
+                kinds[1]);
+        if (choice == null) {
+            return;
+        }
+        String category = categories[Arrays.asList(kinds).indexOf(choice)];
+
+        planCreationVM.setLoading(true);
+        showLoadingOverlay("Looking along the route...");
+
+        CompletableFuture<Void> request = planCreationController.findAlongRoute(category);
+        whenFinished(request, () -> {
+            planCreationVM.setLoading(false);
+            hideLoadingOverlay();
+
+            if (planCreationVM.getErrorMessage() != null) {
+                errorLabel.setText(planCreationVM.getErrorMessage());
+                return;
+            }
+            errorLabel.setText(" ");
+            showAlongRoute();
+        });
+    }
+
+    private void showAlongRoute() {
+        List<Place> places = planCreationVM.getAlongRoutePlaces();
+        if (places.isEmpty()) {
+            return;
+        }
+        JList<String> list = new JList<>(planCreationVM.getAlongRouteLabels().toArray(new String[0]));
+        list.setSelectionMode(ListSelectionModel.MULTIPLE_INTERVAL_SELECTION);
+        list.setVisibleRowCount(Math.min(10, places.size()));
+        int answer = JOptionPane.showConfirmDialog(this,
+                new JScrollPane(list),
+                "Add places on the way",
+                JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.PLAIN_MESSAGE);
+        if (answer != JOptionPane.OK_OPTION || list.isSelectionEmpty()) {
+            return;
+        }
+        for (int index : list.getSelectedIndices()) {
+            Place place = places.get(index);
+            if (!selectedModel.contains(place)) {
+                selectedModel.addElement(place);
+            }
+        }
+        refreshPlanAfterEdit();
+    }
+
+    /**
+     * Ranks the user's favorite locations as starting points for the selected places and
+     * lets the user start from the chosen one.
+     */
+    private void findBestOrigin() {
+        Integer userId = appFrame.getCurrentUserId();
+        if (userId == null) {
+            JOptionPane.showMessageDialog(this,
+                    "You must be logged in.",
+                    "Not logged in",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        if (selectedModel.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                    "Please select at least one place.",
+                    "No places selected",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        int confirm = JOptionPane.showConfirmDialog(this,
+                "Also check the best start with the route service?",
+                "Best start",
+                JOptionPane.YES_NO_CANCEL_OPTION);
+        if (confirm == JOptionPane.CANCEL_OPTION || confirm == JOptionPane.CLOSED_OPTION) {
+            return;
+        }
+        boolean confirmWithRoute = confirm == JOptionPane.YES_OPTION;
+        String startTime = startTimeField.getText().trim();
+        List<Place> stops = getSelectedPlacesList();
+
+        planCreationVM.setLoading(true);
+        showLoadingOverlay("Comparing starting points...");
+
+        CompletableFuture<Void> request = planCreationController.findBestOrigin(userId, startTime, stops,
+                confirmWithRoute);
+        whenFinished(request, () -> {
+            planCreationVM.setLoading(false);
+            hideLoadingOverlay();
+
+            if (planCreationVM.getErrorMessage() != null) {
+                errorLabel.setText(planCreationVM.getErrorMessage());
+                return;
+            }
+            errorLabel.setText(" ");
+            infoLabel.setText(planCreationVM.getInfoMessage() != null ? planCreationVM.getInfoMessage() : " ");
+            showBestOrigins();
+        });
+    }
+
+    private void showBestOrigins() {
+        List<String> addresses = planCreationVM.getBestOriginAddresses();
+        if (addresses.isEmpty()) {
+            return;
+        }
+        JList<String> list = new JList<>(planCreationVM.getBestOriginLabels().toArray(new String[0]));
+        list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        list.setSelectedIndex(0);
+        list.setVisibleRowCount(Math.min(8, addresses.size()));
+        int answer = JOptionPane.showConfirmDialog(this,
+                new JScrollPane(list),
+                "Start from",
+                JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.PLAIN_MESSAGE);
+        if (answer != JOptionPane.OK_OPTION || list.isSelectionEmpty()) {
+            return;
+        }
+        locationField.setText(addresses.get(list.getSelectedIndex()));
     }
 
     private void savePlan() {
@@ -631,10 +1031,16 @@ public class PlanBuilderPanel extends JPanel {
         sb.append("Timeline:\n");
         if (plan.getRoute() != null && plan.getRoute().getStops() != null) {
             for (PlanStop stop : plan.getRoute().getStops()) {
-                sb.append(String.format("%s - %s  %s%n",
+                sb.append(String.format("%s - %s  %s",
                         stop.getStartTime(),
                         stop.getEndTime(),
                         stop.getPlace().getName()));
+                if (stop.getWeather() != null) {
+                    sb.append(String.format("  [%s, %.0f°C]",
+                            stop.getWeather().getConditions(),
+                            stop.getWeather().getTemperatureC()));
+                }
+                sb.append('\n');
             }
         }
         return sb.toString();
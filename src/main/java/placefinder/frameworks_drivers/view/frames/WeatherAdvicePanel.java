@@ -4,6 +4,7 @@ import placefinder.frameworks_drivers.view.components.swing.Button;
 import placefinder.frameworks_drivers.view.components.swing.MyTextField;
 import placefinder.frameworks_drivers.view.components.swing.PanelRound;
 import placefinder.frameworks_drivers.view.components.swing.LoadingOverlay;
+import placefinder.interface_adapters.controllers.FindBestDayController;
 import placefinder.interface_adapters.controllers.WeatherAdviceController;
 import placefinder.interface_adapters.viewmodels.WeatherAdviceViewModel;
 
@@ -11,12 +12,14 @@ import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.util.concurrent.CompletableFuture;
 import javax.imageio.ImageIO;
 
 public class WeatherAdvicePanel extends JPanel {
 
     private final AppFrame appFrame;
     private final WeatherAdviceController weatherAdviceController;
+    private final FindBestDayController findBestDayController;
     private final WeatherAdviceViewModel weatherAdviceVM;
 
     private MyTextField locationField;
@@ -28,9 +31,11 @@ public class WeatherAdvicePanel extends JPanel {
 
     public WeatherAdvicePanel(AppFrame appFrame,
                               WeatherAdviceController weatherAdviceController,
+                              FindBestDayController findBestDayController,
                               WeatherAdviceViewModel weatherAdviceVM) {
         this.appFrame = appFrame;
         this.weatherAdviceController = weatherAdviceController;
+        this.findBestDayController = findBestDayController;
         this.weatherAdviceVM = weatherAdviceVM;
         initUI();
     }
@@ -247,6 +252,15 @@ public class WeatherAdvicePanel extends JPanel {
         getAdviceButton.setPreferredSize(new Dimension(130, 32));
         getAdviceButton.addActionListener(e -> getAdvice());
 
+        Button bestDayButton = new Button();
+        bestDayButton.setText("Find best day");
+        bestDayButton.setBackground(new Color(0, 92, 75));
+        bestDayButton.setForeground(Color.WHITE);
+        bestDayButton.setFont(new Font("sansserif", Font.BOLD, 12));
+        bestDayButton.setPreferredSize(new Dimension(140, 32));
+        bestDayButton.addActionListener(e -> findBestDay());
+
+        buttonsRow.add(bestDayButton);
         buttonsRow.add(getAdviceButton);
         bottom.add(buttonsRow, BorderLayout.EAST);
 
@@ -281,29 +295,76 @@ public class WeatherAdvicePanel extends JPanel {
         weatherAdviceVM.setLoading(true);
         showLoadingOverlay("Fetching weather information...");
 
-        // Execute weather advice retrieval operation in background thread
+        // Runs in the background; the callback comes back on the Swing thread
+        CompletableFuture<Void> request = weatherAdviceController.getAdvice(location, date.isEmpty() ? null : date);
+        request.whenComplete((ignored, error) -> {
+            if (request.isCancelled()) {
+                return; // replaced by a newer request
+            }
+            // Set loading state and hide loading animation
+            weatherAdviceVM.setLoading(false);
+            hideLoadingOverlay();
+
+            // Process results
+            if (weatherAdviceVM.getErrorMessage() != null) {
+                errorLabel.setText(weatherAdviceVM.getErrorMessage());
+                summaryArea.setText("");
+                adviceArea.setText("");
+            } else {
+                errorLabel.setText(" ");
+                summaryArea.setText(weatherAdviceVM.getSummary() != null ? weatherAdviceVM.getSummary() : "");
+                adviceArea.setText(weatherAdviceVM.getAdvice() != null ? weatherAdviceVM.getAdvice() : "");
+            }
+        });
+    }
+
+    private void findBestDay() {
+        String location = locationField.getText().trim();
+        if (location.isEmpty()) {
+            JOptionPane.showMessageDialog(this,
+                    "Please enter a location.",
+                    "Missing location",
+                    JOptionPane.WARNING_MESSAGE);
+            return;
+        }
+        Integer userId = appFrame.getCurrentUserId();
+        if (userId == null) {
+            errorLabel.setText("Please log in to compare days against your preferences.");
+            return;
+        }
+
+        weatherAdviceVM.setLoading(true);
+        showLoadingOverlay("Comparing the next 16 days...");
+
         SwingWorker<Void, Void> worker = new SwingWorker<Void, Void>() {
             @Override
             protected Void doInBackground() throws Exception {
-                weatherAdviceController.getAdvice(location, date.isEmpty() ? null : date);
+                findBestDayController.findBestDay(userId, location);
                 return null;
             }
 
             @Override
             protected void done() {
-                // Set loading state and hide loading animation
                 weatherAdviceVM.setLoading(false);
                 hideLoadingOverlay();
 
-                // Process results
                 if (weatherAdviceVM.getErrorMessage() != null) {
                     errorLabel.setText(weatherAdviceVM.getErrorMessage());
                     summaryArea.setText("");
                     adviceArea.setText("");
                 } else {
                     errorLabel.setText(" ");
-                    summaryArea.setText(weatherAdviceVM.getSummary() != null ? weatherAdviceVM.getSummary() : "");
-                    adviceArea.setText(weatherAdviceVM.getAdvice() != null ? weatherAdviceVM.getAdvice() : "");
+                    StringBuilder sb = new StringBuilder();
+                    if (weatherAdviceVM.getSummary() != null) {
+                        sb.append(weatherAdviceVM.getSummary()).append("\n\n");
+                    }
+                    for (String line : weatherAdviceVM.getRankedDays()) {
+                        sb.append(line).append("\n");
+                    }
+                    summaryArea.setText(sb.toString());
+                    summaryArea.setCaretPosition(0);
+                    adviceArea.setText("Enter one of the top dates above and press \"Get advice\" "
+                            + "for clothing and packing suggestions.");
                 }
             }
         };
@@ -0,0 +1,57 @@
+package placefinder.interface_adapters.controllers;
+
+import placefinder.entities.Place;
+import placefinder.interface_adapters.viewmodels.PlanCreationViewModel;
+import placefinder.usecases.autoplan.AutoPlanInputBoundary;
+import placefinder.usecases.autoplan.AutoPlanInputData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class AutoPlanController {
+
+    private final AutoPlanInputBoundary autoPlanInteractor;
+    private final PlanCreationViewModel viewModel;
+    private final UseCaseExecutor executor;
+
+    public AutoPlanController(AutoPlanInputBoundary autoPlanInteractor,
+                              PlanCreationViewModel viewModel) {
+        this(autoPlanInteractor, viewModel, UseCaseExecutor.sameThread());
+    }
+
+    public AutoPlanController(AutoPlanInputBoundary autoPlanInteractor,
+                              PlanCreationViewModel viewModel,
+                              UseCaseExecutor executor) {
+        this.autoPlanInteractor = autoPlanInteractor;
+        this.viewModel = viewModel;
+        this.executor = executor;
+    }
+
+    /**
+     * Picks places from the current search results (best first) that fit between
+     * {@code startTime} and {@code endTime} and builds a plan for them.
+     */
+    public CompletableFuture<Void> autoPlan(int userId,
+                         String locationText,
+                         String date,
+                         String startTime,
+                         String endTime,
+                         Integer existingPlanId) {
+        viewModel.setErrorMessage(null);
+        viewModel.setInfoMessage(null);
+        viewModel.setAutoPlannedPlaces(new ArrayList<>());
+
+        List<Place> candidates = new ArrayList<>(viewModel.getRecommendedPlaces());
+        AutoPlanInputData inputData = new AutoPlanInputData(
+                userId,
+                locationText,
+                date,
+                startTime,
+                endTime,
+                candidates,
+                existingPlanId
+        );
+        return executor.submit(PlanCreationController.CHANNEL, () -> autoPlanInteractor.execute(inputData));
+    }
+}
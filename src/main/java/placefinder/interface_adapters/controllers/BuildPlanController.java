@@ -1,39 +1,87 @@
 package placefinder.interface_adapters.controllers;
 
 import placefinder.entities.Place;
+import placefinder.entities.Route;
 import placefinder.interface_adapters.viewmodels.PlanCreationViewModel;
 import placefinder.usecases.buildplan.BuildPlanInputBoundary;
 import placefinder.usecases.buildplan.BuildPlanInputData;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class BuildPlanController {
 
     private final BuildPlanInputBoundary buildPlanInteractor;
     private final PlanCreationViewModel viewModel;
+    private final UseCaseExecutor executor;
 
     public BuildPlanController(BuildPlanInputBoundary buildPlanInteractor,
                                PlanCreationViewModel viewModel) {
+        this(buildPlanInteractor, viewModel, UseCaseExecutor.sameThread());
+    }
+
+    public BuildPlanController(BuildPlanInputBoundary buildPlanInteractor,
+                               PlanCreationViewModel viewModel,
+                               UseCaseExecutor executor) {
         this.buildPlanInteractor = buildPlanInteractor;
         this.viewModel = viewModel;
+        this.executor = executor;
     }
 
-    public void buildPlan(int userId,
+    public CompletableFuture<Void> buildPlan(int userId,
                           String locationText,
                           String date,
                           String startTime,
                           List<Place> selectedPlaces,
                           Integer existingPlanId) {
+        return buildPlan(userId, locationText, date, startTime, selectedPlaces, existingPlanId, null);
+    }
+
+    /**
+     * Builds a plan, updating {@code previousRoute} in place of a full route
+     * computation when only a place or two changed.
+     */
+    public CompletableFuture<Void> buildPlan(int userId,
+                          String locationText,
+                          String date,
+                          String startTime,
+                          List<Place> selectedPlaces,
+                          Integer existingPlanId,
+                          Route previousRoute) {
         viewModel.setErrorMessage(null);
         viewModel.setInfoMessage(null);
 
-        buildPlanInteractor.execute(new BuildPlanInputData(
+        BuildPlanInputData inputData = new BuildPlanInputData(
+                userId,
+                locationText,
+                date,
+                startTime,
+                selectedPlaces,
+                existingPlanId,
+                previousRoute
+        );
+        return executor.submit(PlanCreationController.CHANNEL, () -> buildPlanInteractor.execute(inputData));
+    }
+
+    /**
+     * Lets the interactor start building these inputs in the background, so a following
+     * {@link #buildPlan} with the same inputs finishes sooner. Nothing is shown.
+     */
+    public void speculate(int userId,
+                          String locationText,
+                          String date,
+                          String startTime,
+                          List<Place> selectedPlaces,
+                          Integer existingPlanId,
+                          Route previousRoute) {
+        buildPlanInteractor.speculate(new BuildPlanInputData(
                 userId,
                 locationText,
                 date,
                 startTime,
                 selectedPlaces,
-                existingPlanId
+                existingPlanId,
+                previousRoute
         ));
     }
 }
@@ -0,0 +1,28 @@
+package placefinder.interface_adapters.controllers;
+
+import placefinder.interface_adapters.viewmodels.WeatherAdviceViewModel;
+import placefinder.usecases.bestday.FindBestDayInputBoundary;
+import placefinder.usecases.bestday.FindBestDayInputData;
+
+import java.util.ArrayList;
+
+public class FindBestDayController {
+
+    private final FindBestDayInputBoundary interactor;
+    private final WeatherAdviceViewModel viewModel;
+
+    public FindBestDayController(FindBestDayInputBoundary interactor,
+                                 WeatherAdviceViewModel viewModel) {
+        this.interactor = interactor;
+        this.viewModel = viewModel;
+    }
+
+    public void findBestDay(int userId, String locationText) {
+        viewModel.setErrorMessage(null);
+        viewModel.setSummary(null);
+        viewModel.setRankedDays(new ArrayList<>());
+        interactor.execute(new FindBestDayInputData(userId, locationText));
+    }
+
+    public WeatherAdviceViewModel getViewModel() { return viewModel; }
+}
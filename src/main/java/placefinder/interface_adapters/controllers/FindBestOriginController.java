@@ -0,0 +1,50 @@
+package placefinder.interface_adapters.controllers;
+
+import placefinder.entities.Place;
+import placefinder.interface_adapters.viewmodels.PlanCreationViewModel;
+import placefinder.usecases.bestorigin.FindBestOriginInputBoundary;
+import placefinder.usecases.bestorigin.FindBestOriginInputData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public class FindBestOriginController {
+
+    private final FindBestOriginInputBoundary interactor;
+    private final PlanCreationViewModel viewModel;
+    private final UseCaseExecutor executor;
+
+    public FindBestOriginController(FindBestOriginInputBoundary interactor,
+                                    PlanCreationViewModel viewModel) {
+        this(interactor, viewModel, UseCaseExecutor.sameThread());
+    }
+
+    public FindBestOriginController(FindBestOriginInputBoundary interactor,
+                                    PlanCreationViewModel viewModel,
+                                    UseCaseExecutor executor) {
+        this.interactor = interactor;
+        this.viewModel = viewModel;
+        this.executor = executor;
+    }
+
+    /**
+     * Ranks the user's favorite locations as starting points for the given stops.
+     *
+     * @param confirmWithRoute also ask the route service about the winner (one request)
+     */
+    public CompletableFuture<Void> findBestOrigin(int userId, String startTime, List<Place> stops,
+                                                  boolean confirmWithRoute) {
+        viewModel.setErrorMessage(null);
+        viewModel.setInfoMessage(null);
+        viewModel.setBestOrigins(new ArrayList<>(), new ArrayList<>());
+
+        FindBestOriginInputData inputData = new FindBestOriginInputData(
+                userId,
+                stops != null ? new ArrayList<>(stops) : new ArrayList<>(),
+                startTime,
+                confirmWithRoute
+        );
+        return executor.submit(PlanCreationController.CHANNEL, () -> interactor.execute(inputData));
+    }
+}
@@ -0,0 +1,51 @@
+package placefinder.interface_adapters.controllers;
+
+import placefinder.entities.Plan;
+import placefinder.interface_adapters.viewmodels.PlanCreationViewModel;
+import placefinder.usecases.alongroute.FindPlacesAlongRouteInputBoundary;
+import placefinder.usecases.alongroute.FindPlacesAlongRouteInputData;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
+public class FindPlacesAlongRouteController {
+
+    /** How far off the path a place may be, in metres. */
+    private static final double CORRIDOR_METERS = 150;
+
+    private final FindPlacesAlongRouteInputBoundary interactor;
+    private final PlanCreationViewModel viewModel;
+    private final UseCaseExecutor executor;
+
+    public FindPlacesAlongRouteController(FindPlacesAlongRouteInputBoundary interactor,
+                                          PlanCreationViewModel viewModel) {
+        this(interactor, viewModel, UseCaseExecutor.sameThread());
+    }
+
+    public FindPlacesAlongRouteController(FindPlacesAlongRouteInputBoundary interactor,
+                                          PlanCreationViewModel viewModel,
+                                          UseCaseExecutor executor) {
+        this.interactor = interactor;
+        this.viewModel = viewModel;
+        this.executor = executor;
+    }
+
+    /**
+     * Looks for places of the given category along the previewed plan's route.
+     *
+     * @param category a GeoApify category such as "catering.cafe", or null for any
+     */
+    public CompletableFuture<Void> findAlongRoute(String category) {
+        viewModel.setErrorMessage(null);
+        viewModel.setAlongRoute(new ArrayList<>(), new ArrayList<>());
+
+        Plan plan = viewModel.getPlanPreview();
+        FindPlacesAlongRouteInputData inputData = new FindPlacesAlongRouteInputData(
+                plan != null ? plan.getRoute() : null,
+                new ArrayList<>(viewModel.getRecommendedPlaces()),
+                category,
+                CORRIDOR_METERS
+        );
+        return executor.submit(PlanCreationController.CHANNEL, () -> interactor.execute(inputData));
+    }
+}
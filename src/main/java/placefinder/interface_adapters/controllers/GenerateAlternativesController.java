@@ -0,0 +1,54 @@
+package placefinder.interface_adapters.controllers;
+
+import placefinder.interface_adapters.viewmodels.PlanCreationViewModel;
+import placefinder.usecases.alternatives.GenerateAlternativesInputBoundary;
+import placefinder.usecases.alternatives.GenerateAlternativesInputData;
+
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+
+public class GenerateAlternativesController {
+
+    private static final int MAX_ALTERNATIVES = 3;
+
+    private final GenerateAlternativesInputBoundary interactor;
+    private final PlanCreationViewModel viewModel;
+    private final UseCaseExecutor executor;
+
+    public GenerateAlternativesController(GenerateAlternativesInputBoundary interactor,
+                                          PlanCreationViewModel viewModel) {
+        this(interactor, viewModel, UseCaseExecutor.sameThread());
+    }
+
+    public GenerateAlternativesController(GenerateAlternativesInputBoundary interactor,
+                                          PlanCreationViewModel viewModel,
+                                          UseCaseExecutor executor) {
+        this.interactor = interactor;
+        this.viewModel = viewModel;
+        this.executor = executor;
+    }
+
+    /**
+     * Builds up to three different plans from the current search results.
+     */
+    public CompletableFuture<Void> generateAlternatives(int userId,
+                                     String locationText,
+                                     String date,
+                                     String startTime,
+                                     String endTime) {
+        viewModel.setErrorMessage(null);
+        viewModel.setInfoMessage(null);
+        viewModel.setAlternatives(new ArrayList<>(), new ArrayList<>());
+
+        GenerateAlternativesInputData inputData = new GenerateAlternativesInputData(
+                userId,
+                locationText,
+                date,
+                startTime,
+                endTime,
+                new ArrayList<>(viewModel.getRecommendedPlaces()),
+                MAX_ALTERNATIVES
+        );
+        return executor.submit(PlanCreationController.CHANNEL, () -> interactor.execute(inputData));
+    }
+}
@@ -1,6 +1,8 @@
 package placefinder.interface_adapters.controllers;
 
+import placefinder.entities.User;
 import placefinder.interface_adapters.viewmodels.LoginViewModel;
+import placefinder.usecases.dataacessinterfaces.CallContext;
 import placefinder.usecases.login.*;
 
 /**
@@ -11,16 +13,43 @@ public class LoginController implements LoginOutputBoundary {
 
     private final LoginInputBoundary interactor;
     private final LoginViewModel viewModel;
+    private final WarmUpController warmUpController;
 
     public LoginController(LoginInputBoundary interactor, LoginViewModel viewModel) {
+        this(interactor, viewModel, null);
+    }
+
+    /**
+     * @param warmUpController optional; when present, a successful login starts loading the
+     *                         user's data in the background
+     */
+    public LoginController(LoginInputBoundary interactor, LoginViewModel viewModel,
+                           WarmUpController warmUpController) {
         this.interactor = interactor;
         this.viewModel = viewModel;
+        this.warmUpController = warmUpController;
     }
 
     public void login(String email, String password) {
         viewModel.setErrorMessage(null);
         viewModel.setLoggedInUser(null);
         interactor.execute(new LoginInputData(email, password));
+
+        User user = viewModel.getLoggedInUser();
+        if (user == null) {
+            return;
+        }
+        // provider calls from now on are accounted to this user
+        CallContext.setSessionUser(user.getId());
+        if (warmUpController != null) {
+            warmUpController.warmUp(user.getId(), user.getHomeCity());
+        }
+    }
+
+    public void logout() {
+        viewModel.setLoggedInUser(null);
+        viewModel.setErrorMessage(null);
+        CallContext.setSessionUser(null);
     }
 
     @Override
@@ -1,8 +1,10 @@
 package placefinder.interface_adapters.controllers;
 
 import placefinder.entities.Place;
+import placefinder.entities.Route;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Facade controller used by the PlanBuilderPanel.
@@ -10,43 +12,142 @@ import java.util.List;
  *  - SearchPlacesController
  *  - BuildPlanController
  *  - SavePlanController
+ *  - AutoPlanController (optional)
+ *  - GenerateAlternativesController (optional)
+ *  - FindPlacesAlongRouteController (optional)
+ *  - FindBestOriginController (optional)
  *
- * Each of those is a single-responsibility controller for its use case.
+ * Each of those is a single-responsibility controller for its use case. Apart from saving,
+ * the calls run in the background and return a future that completes once the view model
+ * is updated; all of them share one {@link UseCaseExecutor} channel, so starting a new
+ * request on this screen cancels the previous one.
  */
 public class PlanCreationController {
 
+    /** Executor channel shared by the plan builder's use cases. */
+    static final String CHANNEL = "plan-builder";
+
     private final SearchPlacesController searchPlacesController;
     private final BuildPlanController buildPlanController;
     private final SavePlanController savePlanController;
+    private final AutoPlanController autoPlanController;
+    private final GenerateAlternativesController generateAlternativesController;
+    private final FindPlacesAlongRouteController findPlacesAlongRouteController;
+    private final FindBestOriginController findBestOriginController;
 
+    /**
+     * The optional controllers may be null; the screen then hides their features (see
+     * {@link #supportsAutoPlan} and the like).
+     */
     public PlanCreationController(SearchPlacesController searchPlacesController,
                                   BuildPlanController buildPlanController,
-                                  SavePlanController savePlanController) {
+                                  SavePlanController savePlanController,
+                                  AutoPlanController autoPlanController,
+                                  GenerateAlternativesController generateAlternativesController,
+                                  FindPlacesAlongRouteController findPlacesAlongRouteController,
+                                  FindBestOriginController findBestOriginController) {
         this.searchPlacesController = searchPlacesController;
         this.buildPlanController = buildPlanController;
         this.savePlanController = savePlanController;
+        this.autoPlanController = autoPlanController;
+        this.generateAlternativesController = generateAlternativesController;
+        this.findPlacesAlongRouteController = findPlacesAlongRouteController;
+        this.findBestOriginController = findBestOriginController;
+    }
+
+    public CompletableFuture<Void> searchPlaces(int userId, String locationText, String date) {
+        return searchPlacesController.searchPlaces(userId, locationText, date);
     }
 
-    public void searchPlaces(int userId, String locationText, String date) {
-        searchPlacesController.searchPlaces(userId, locationText, date);
+    /** @return true if {@link #searchPlaces} also fetches the weather advice for the day */
+    public boolean searchIncludesWeatherAdvice() {
+        return searchPlacesController.includesWeatherAdvice();
     }
 
-    public void buildPlan(int userId,
+    public CompletableFuture<Void> buildPlan(int userId,
                           String locationText,
                           String date,
                           String startTime,
                           List<Place> selectedPlaces,
                           Integer existingPlanId) {
-        buildPlanController.buildPlan(
+        return buildPlan(userId, locationText, date, startTime, selectedPlaces, existingPlanId, null);
+    }
+
+    public CompletableFuture<Void> buildPlan(int userId,
+                          String locationText,
+                          String date,
+                          String startTime,
+                          List<Place> selectedPlaces,
+                          Integer existingPlanId,
+                          Route previousRoute) {
+        return buildPlanController.buildPlan(
                 userId,
                 locationText,
                 date,
                 startTime,
                 selectedPlaces,
-                existingPlanId
+                existingPlanId,
+                previousRoute
         );
     }
 
+    /**
+     * Hint that {@link #buildPlan} is likely to follow with these inputs; see
+     * {@link BuildPlanController#speculate}.
+     */
+    public void speculateBuildPlan(int userId,
+                                   String locationText,
+                                   String date,
+                                   String startTime,
+                                   List<Place> selectedPlaces,
+                                   Integer existingPlanId,
+                                   Route previousRoute) {
+        buildPlanController.speculate(userId, locationText, date, startTime, selectedPlaces,
+                existingPlanId, previousRoute);
+    }
+
+    public boolean supportsAutoPlan() {
+        return autoPlanController != null;
+    }
+
+    public CompletableFuture<Void> autoPlan(int userId,
+                         String locationText,
+                         String date,
+                         String startTime,
+                         String endTime,
+                         Integer existingPlanId) {
+        return autoPlanController.autoPlan(userId, locationText, date, startTime, endTime, existingPlanId);
+    }
+
+    public boolean supportsAlternatives() {
+        return generateAlternativesController != null;
+    }
+
+    public CompletableFuture<Void> generateAlternatives(int userId,
+                                     String locationText,
+                                     String date,
+                                     String startTime,
+                                     String endTime) {
+        return generateAlternativesController.generateAlternatives(userId, locationText, date, startTime, endTime);
+    }
+
+    public boolean supportsAlongRoute() {
+        return findPlacesAlongRouteController != null;
+    }
+
+    public CompletableFuture<Void> findAlongRoute(String category) {
+        return findPlacesAlongRouteController.findAlongRoute(category);
+    }
+
+    public boolean supportsBestOrigin() {
+        return findBestOriginController != null;
+    }
+
+    public CompletableFuture<Void> findBestOrigin(int userId, String startTime, List<Place> stops,
+                                                  boolean confirmWithRoute) {
+        return findBestOriginController.findBestOrigin(userId, startTime, stops, confirmWithRoute);
+    }
+
     public void saveCurrentPlan(String name) {
         savePlanController.saveCurrentPlan(name);
     }
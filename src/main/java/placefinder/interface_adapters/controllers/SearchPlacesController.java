@@ -4,24 +4,39 @@ import placefinder.interface_adapters.viewmodels.PlanCreationViewModel;
 import placefinder.usecases.searchplaces.SearchPlacesInputBoundary;
 import placefinder.usecases.searchplaces.SearchPlacesInputData;
 
+import java.util.concurrent.CompletableFuture;
+
 public class SearchPlacesController {
 
     private final SearchPlacesInputBoundary searchPlacesInteractor;
     private final PlanCreationViewModel viewModel;
+    private final UseCaseExecutor executor;
 
     public SearchPlacesController(SearchPlacesInputBoundary searchPlacesInteractor,
                                   PlanCreationViewModel viewModel) {
+        this(searchPlacesInteractor, viewModel, UseCaseExecutor.sameThread());
+    }
+
+    public SearchPlacesController(SearchPlacesInputBoundary searchPlacesInteractor,
+                                  PlanCreationViewModel viewModel,
+                                  UseCaseExecutor executor) {
         this.searchPlacesInteractor = searchPlacesInteractor;
         this.viewModel = viewModel;
+        this.executor = executor;
     }
 
-    public void searchPlaces(int userId, String locationText, String date) {
+    public CompletableFuture<Void> searchPlaces(int userId, String locationText, String date) {
         viewModel.setErrorMessage(null);
         viewModel.setInfoMessage(null);
         viewModel.setLoading(true);
 
-        searchPlacesInteractor.execute(new SearchPlacesInputData(userId, locationText, date));
+        // the presenter clears the loading flag, on the UI thread and only for the latest search
+        return executor.submit(PlanCreationController.CHANNEL,
+                () -> searchPlacesInteractor.execute(new SearchPlacesInputData(userId, locationText, date)));
+    }
 
-        viewModel.setLoading(false);
+    /** @return true if a search also updates the weather advice, see {@link #searchPlaces} */
+    public boolean includesWeatherAdvice() {
+        return searchPlacesInteractor.presentsWeatherAdvice();
     }
 }
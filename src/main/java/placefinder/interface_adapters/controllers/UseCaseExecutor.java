@@ -0,0 +1,192 @@
+package placefinder.interface_adapters.controllers;
+
+import placefinder.usecases.metrics.MetricsRegistry;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs use cases off the UI thread, one virtual thread per request.
+ *
+ * <p>Requests are grouped by channel, one per screen: submitting a request cancels the
+ * channel's previous one and interrupts its thread, which abandons any HTTP call it is
+ * blocked in. Presenters wrapped with {@link #onUiThread} are called on the UI thread,
+ * and not at all once their request has been superseded, so a slow old result can never
+ * overwrite a newer one. The returned future completes on the UI thread after the
+ * request's presenter calls have run.
+ *
+ * <p>Given a {@link MetricsRegistry}, it also records how long presenter calls waited for
+ * the UI thread ({@code ui.queue}) and how long they then took there
+ * ({@code ui.<boundary>.<method>}).
+ */
+public class UseCaseExecutor implements AutoCloseable {
+
+    private static final UseCaseExecutor SAME_THREAD = new UseCaseExecutor(null, Runnable::run, null);
+    private static final ThreadLocal<Request> CURRENT = new ThreadLocal<>();
+
+    private final ExecutorService workers;   // null: run on the calling thread
+    private final Executor uiThread;
+    private final MetricsRegistry metrics;   // null: not measured
+    private final Map<String, Request> latest = new ConcurrentHashMap<>();
+
+    /**
+     * @param uiThread runs presenter calls and completions, e.g. {@code SwingUtilities::invokeLater}
+     */
+    public UseCaseExecutor(Executor uiThread) {
+        this(uiThread, null);
+    }
+
+    public UseCaseExecutor(Executor uiThread, MetricsRegistry metrics) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), uiThread, metrics);
+    }
+
+    private UseCaseExecutor(ExecutorService workers, Executor uiThread, MetricsRegistry metrics) {
+        this.workers = workers;
+        this.uiThread = uiThread;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Runs every use case directly on the calling thread and returns completed futures;
+     * used by controllers that were not given an executor.
+     */
+    public static UseCaseExecutor sameThread() {
+        return SAME_THREAD;
+    }
+
+    /** A submitted use case: its result and, once started, the thread running it. */
+    private static final class Request {
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+        private volatile Future<?> work;
+
+        void cancel() {
+            result.cancel(false);
+            Future<?> running = work;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+
+        boolean isCancelled() {
+            return result.isCancelled();
+        }
+    }
+
+    /**
+     * Starts a use case, cancelling the channel's previous request if it is still running.
+     *
+     * @return a future that is cancelled if a newer request on the channel replaces this one
+     */
+    public CompletableFuture<Void> submit(String channel, Runnable useCase) {
+        Request request = new Request();
+        Request previous = latest.put(channel, request);
+        if (previous != null) {
+            previous.cancel();
+        }
+        if (workers == null) {
+            run(channel, request, useCase);
+        } else {
+            request.work = workers.submit(() -> run(channel, request, useCase));
+            if (request.isCancelled()) {
+                request.work.cancel(true);
+            }
+        }
+        return request.result;
+    }
+
+    /** Cancels the channel's running request, if any, e.g. when its screen is left. */
+    public void cancel(String channel) {
+        Request request = latest.remove(channel);
+        if (request != null) {
+            request.cancel();
+        }
+    }
+
+    private void run(String channel, Request request, Runnable useCase) {
+        Request outer = CURRENT.get();
+        CURRENT.set(request);
+        try {
+            useCase.run();
+            uiThread.execute(() -> request.result.complete(null));
+        } catch (RuntimeException | Error e) {
+            uiThread.execute(() -> request.result.completeExceptionally(e));
+        } finally {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+            latest.remove(channel, request);
+        }
+    }
+
+    /**
+     * Wraps an output boundary so that calls made while running a submitted use case are
+     * passed to the presenter on the UI thread, and dropped if the request was cancelled in
+     * the meantime. Calls made outside a submitted use case go straight through.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T onUiThread(Class<T> boundary, T presenter) {
+        return (T) Proxy.newProxyInstance(boundary.getClassLoader(), new Class<?>[] {boundary},
+                (proxy, method, args) -> {
+                    Request request = CURRENT.get();
+                    if (request == null || method.getDeclaringClass() == Object.class) {
+                        return invoke(presenter, method, args);
+                    }
+                    long queued = System.nanoTime();
+                    uiThread.execute(() -> {
+                        if (!request.isCancelled()) {
+                            invokeMeasured(boundary, presenter, method, args, queued);
+                        }
+                    });
+                    return null;
+                });
+    }
+
+    private void invokeMeasured(Class<?> boundary, Object presenter, Method method, Object[] args, long queued) {
+        if (metrics == null) {
+            invoke(presenter, method, args);
+            return;
+        }
+        long start = System.nanoTime();
+        metrics.latency("ui.queue").recordNanos(start - queued);
+        try {
+            invoke(presenter, method, args);
+        } finally {
+            metrics.latency("ui." + boundary.getSimpleName() + "." + method.getName())
+                    .recordNanos(System.nanoTime() - start);
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package placefinder.interface_adapters.controllers;
+
+import placefinder.usecases.warmup.WarmUpInputBoundary;
+import placefinder.usecases.warmup.WarmUpInputData;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Controller for the post-login warm-up; starts it in the background.
+ */
+public class WarmUpController {
+
+    static final String CHANNEL = "warm-up";
+
+    private final WarmUpInputBoundary interactor;
+    private final UseCaseExecutor executor;
+
+    public WarmUpController(WarmUpInputBoundary interactor, UseCaseExecutor executor) {
+        this.interactor = interactor;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<Void> warmUp(int userId, String homeCity) {
+        WarmUpInputData inputData = new WarmUpInputData(userId, homeCity);
+        return executor.submit(CHANNEL, () -> interactor.execute(inputData));
+    }
+}
@@ -6,22 +6,35 @@ import placefinder.usecases.weatheradvice.WeatherAdviceInputData;
 import placefinder.usecases.weatheradvice.WeatherAdviceOutputBoundary;
 import placefinder.usecases.weatheradvice.WeatherAdviceOutputData;
 
+import java.util.concurrent.CompletableFuture;
+
 public class WeatherAdviceController implements WeatherAdviceOutputBoundary {
 
+    /** Weather advice is shown on several screens; a new request replaces any running one. */
+    static final String CHANNEL = "weather-advice";
+
     private final WeatherAdviceInputBoundary interactor;
     private final WeatherAdviceViewModel viewModel;
+    private final UseCaseExecutor executor;
 
     public WeatherAdviceController(WeatherAdviceInputBoundary interactor,
                                    WeatherAdviceViewModel viewModel) {
+        this(interactor, viewModel, UseCaseExecutor.sameThread());
+    }
+
+    public WeatherAdviceController(WeatherAdviceInputBoundary interactor,
+                                   WeatherAdviceViewModel viewModel,
+                                   UseCaseExecutor executor) {
         this.interactor = interactor;
         this.viewModel = viewModel;
+        this.executor = executor;
     }
 
-    public void getAdvice(String locationText, String date) {
+    public CompletableFuture<Void> getAdvice(String locationText, String date) {
         viewModel.setErrorMessage(null);
         viewModel.setSummary(null);
         viewModel.setAdvice(null);
-        interactor.execute(new WeatherAdviceInputData(locationText, date));
+        return executor.submit(CHANNEL, () -> interactor.execute(new WeatherAdviceInputData(locationText, date)));
     }
 
     @Override
@@ -0,0 +1,26 @@
+package placefinder.interface_adapters.presenters;
+
+import placefinder.interface_adapters.viewmodels.PlanCreationViewModel;
+import placefinder.usecases.autoplan.AutoPlanOutputBoundary;
+import placefinder.usecases.autoplan.AutoPlanOutputData;
+
+public class AutoPlanPresenter implements AutoPlanOutputBoundary {
+
+    private final PlanCreationViewModel viewModel;
+
+    public AutoPlanPresenter(PlanCreationViewModel viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    @Override
+    public void present(AutoPlanOutputData outputData) {
+        if (outputData.getErrorMessage() != null) {
+            viewModel.setPlanPreview(null);
+            viewModel.setErrorMessage(outputData.getErrorMessage());
+            return;
+        }
+        viewModel.setAutoPlannedPlaces(outputData.getChosenPlaces());
+        viewModel.setPlanPreview(outputData.getPlan());
+        viewModel.setInfoMessage(outputData.getInfoMessage());
+    }
+}
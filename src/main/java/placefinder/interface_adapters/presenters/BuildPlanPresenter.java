@@ -20,5 +20,6 @@ public class BuildPlanPresenter implements BuildPlanOutputBoundary {
             return;
         }
         viewModel.setPlanPreview(outputData.getPlan());
+        viewModel.setInfoMessage(outputData.getInfoMessage());
     }
 }
@@ -0,0 +1,41 @@
+package placefinder.interface_adapters.presenters;
+
+import placefinder.interface_adapters.viewmodels.WeatherAdviceViewModel;
+import placefinder.usecases.bestday.DayScore;
+import placefinder.usecases.bestday.FindBestDayOutputBoundary;
+import placefinder.usecases.bestday.FindBestDayOutputData;
+
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+public class FindBestDayPresenter implements FindBestDayOutputBoundary {
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("EEE MMM d");
+
+    private final WeatherAdviceViewModel viewModel;
+
+    public FindBestDayPresenter(WeatherAdviceViewModel viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    @Override
+    public void present(FindBestDayOutputData outputData) {
+        if (outputData.getErrorMessage() != null) {
+            viewModel.setErrorMessage(outputData.getErrorMessage());
+            viewModel.setRankedDays(new ArrayList<>());
+            viewModel.setSummary(null);
+            return;
+        }
+
+        List<String> lines = new ArrayList<>();
+        int rank = 1;
+        for (DayScore day : outputData.getRankedDays()) {
+            lines.add(String.format("%d. %s  (%.0f/100)  %s",
+                    rank++, day.getDate().format(DAY_FORMAT), day.getScore(), day.getReason()));
+        }
+        viewModel.setRankedDays(lines);
+        viewModel.setSummary("Best days to visit " + outputData.getLocationName());
+        viewModel.setErrorMessage(null);
+    }
+}
@@ -0,0 +1,47 @@
+package placefinder.interface_adapters.presenters;
+
+import placefinder.entities.FavoriteLocation;
+import placefinder.entities.Route;
+import placefinder.interface_adapters.viewmodels.PlanCreationViewModel;
+import placefinder.usecases.bestorigin.FindBestOriginOutputBoundary;
+import placefinder.usecases.bestorigin.FindBestOriginOutputData;
+import placefinder.usecases.bestorigin.OriginScore;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FindBestOriginPresenter implements FindBestOriginOutputBoundary {
+
+    private final PlanCreationViewModel viewModel;
+
+    public FindBestOriginPresenter(PlanCreationViewModel viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    @Override
+    public void present(FindBestOriginOutputData outputData) {
+        if (outputData.getErrorMessage() != null) {
+            viewModel.setBestOrigins(new ArrayList<>(), new ArrayList<>());
+            viewModel.setErrorMessage(outputData.getErrorMessage());
+            return;
+        }
+        List<String> labels = new ArrayList<>();
+        List<String> addresses = new ArrayList<>();
+        for (OriginScore score : outputData.getRanking()) {
+            FavoriteLocation favorite = score.getFavorite();
+            labels.add(String.format("%s (%s): about %d min walking", favorite.getName(), favorite.getAddress(),
+                    Math.round(score.getWalkingSeconds() / 60)));
+            addresses.add(favorite.getAddress());
+        }
+        viewModel.setBestOrigins(labels, addresses);
+
+        String best = outputData.getRanking().get(0).getFavorite().getName();
+        Route confirmed = outputData.getConfirmedRoute();
+        if (confirmed != null) {
+            viewModel.setInfoMessage(String.format("Best start: %s. Route check: %d min travel, %.1f km.", best,
+                    Math.round(confirmed.getDuration() / 60), confirmed.getDistance() / 1000.0));
+        } else {
+            viewModel.setInfoMessage("Best start: " + best + ".");
+        }
+    }
+}
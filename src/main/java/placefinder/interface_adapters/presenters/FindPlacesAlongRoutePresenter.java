@@ -0,0 +1,36 @@
+package placefinder.interface_adapters.presenters;
+
+import placefinder.entities.Place;
+import placefinder.interface_adapters.viewmodels.PlanCreationViewModel;
+import placefinder.usecases.alongroute.FindPlacesAlongRouteOutputBoundary;
+import placefinder.usecases.alongroute.FindPlacesAlongRouteOutputData;
+import placefinder.usecases.alongroute.RouteSuggestion;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class FindPlacesAlongRoutePresenter implements FindPlacesAlongRouteOutputBoundary {
+
+    private final PlanCreationViewModel viewModel;
+
+    public FindPlacesAlongRoutePresenter(PlanCreationViewModel viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    @Override
+    public void present(FindPlacesAlongRouteOutputData outputData) {
+        if (outputData.getErrorMessage() != null) {
+            viewModel.setAlongRoute(new ArrayList<>(), new ArrayList<>());
+            viewModel.setErrorMessage(outputData.getErrorMessage());
+            return;
+        }
+        List<Place> places = new ArrayList<>();
+        List<String> labels = new ArrayList<>();
+        for (RouteSuggestion suggestion : outputData.getSuggestions()) {
+            places.add(suggestion.getPlace());
+            long minutes = Math.max(1, Math.round(suggestion.getDetourSeconds() / 60));
+            labels.add(suggestion.getPlace().getName() + "  (+" + minutes + " min walk)");
+        }
+        viewModel.setAlongRoute(labels, places);
+    }
+}
@@ -0,0 +1,48 @@
+package placefinder.interface_adapters.presenters;
+
+import placefinder.entities.Plan;
+import placefinder.entities.Route;
+import placefinder.interface_adapters.viewmodels.PlanCreationViewModel;
+import placefinder.usecases.alternatives.GenerateAlternativesOutputBoundary;
+import placefinder.usecases.alternatives.GenerateAlternativesOutputData;
+import placefinder.usecases.alternatives.PlanAlternative;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class GenerateAlternativesPresenter implements GenerateAlternativesOutputBoundary {
+
+    private final PlanCreationViewModel viewModel;
+
+    public GenerateAlternativesPresenter(PlanCreationViewModel viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    @Override
+    public void present(GenerateAlternativesOutputData outputData) {
+        if (outputData.getErrorMessage() != null) {
+            viewModel.setAlternatives(new ArrayList<>(), new ArrayList<>());
+            viewModel.setErrorMessage(outputData.getErrorMessage());
+            return;
+        }
+        List<String> labels = new ArrayList<>();
+        List<Plan> plans = new ArrayList<>();
+        for (PlanAlternative alternative : outputData.getAlternatives()) {
+            labels.add(label(alternative));
+            plans.add(alternative.getPlan());
+        }
+        viewModel.setAlternatives(labels, plans);
+        viewModel.setInfoMessage(plans.size() + " alternative plans ready.");
+    }
+
+    private String label(PlanAlternative alternative) {
+        Route route = alternative.getPlan().getRoute();
+        int stops = route.getStops().size();
+        String text = String.format("%s: %d stop%s, %.1f km", alternative.getProfile().getLabel(),
+                stops, stops == 1 ? "" : "s", route.getDistance() / 1000.0);
+        if (stops > 0) {
+            text += ", done by " + route.getStops().get(stops - 1).getEndTime();
+        }
+        return text;
+    }
+}
@@ -17,6 +17,7 @@ public class SearchPlacesPresenter implements SearchPlacesOutputBoundary {
 
     @Override
     public void present(SearchPlacesOutputData outputData) {
+        viewModel.setLoading(false);
         if (outputData.getErrorMessage() != null) {
             viewModel.setRecommendedPlaces(List.of());
             viewModel.setOriginAddress(null);
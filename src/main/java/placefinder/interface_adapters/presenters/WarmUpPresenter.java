@@ -0,0 +1,23 @@
+package placefinder.interface_adapters.presenters;
+
+import placefinder.usecases.warmup.WarmUpOutputBoundary;
+import placefinder.usecases.warmup.WarmUpOutputData;
+
+/**
+ * Presenter for the post-login warm-up. The warm-up has no screen of its own (its result
+ * shows up as screens that open without waiting), so the last report is only kept here.
+ */
+public class WarmUpPresenter implements WarmUpOutputBoundary {
+
+    private volatile WarmUpOutputData lastOutput;
+
+    @Override
+    public void present(WarmUpOutputData outputData) {
+        lastOutput = outputData;
+    }
+
+    /** @return the report of the last finished warm-up, or null */
+    public WarmUpOutputData getLastOutput() {
+        return lastOutput;
+    }
+}
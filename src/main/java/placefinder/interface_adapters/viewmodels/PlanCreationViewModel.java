@@ -15,7 +15,15 @@ public class PlanCreationViewModel {
 
     private String weatherAdvice;
 
+    private List<Place> autoPlannedPlaces = new ArrayList<>();
+
     private Plan planPreview;
+    private List<String> alternativeLabels = new ArrayList<>();
+    private List<Plan> alternativePlans = new ArrayList<>();
+    private List<String> alongRouteLabels = new ArrayList<>();
+    private List<Place> alongRoutePlaces = new ArrayList<>();
+    private List<String> bestOriginLabels = new ArrayList<>();
+    private List<String> bestOriginAddresses = new ArrayList<>();
     private Plan lastSavedPlan;
 
     private String infoMessage;
@@ -30,6 +38,14 @@ public class PlanCreationViewModel {
         this.recommendedPlaces = places != null ? new ArrayList<>(places) : new ArrayList<>();
     }
 
+    public List<Place> getAutoPlannedPlaces() {
+        return Collections.unmodifiableList(autoPlannedPlaces);
+    }
+
+    public void setAutoPlannedPlaces(List<Place> places) {
+        this.autoPlannedPlaces = places != null ? new ArrayList<>(places) : new ArrayList<>();
+    }
+
     public String getOriginAddress() {
         return originAddress;
     }
@@ -54,6 +70,48 @@ public class PlanCreationViewModel {
         this.planPreview = planPreview;
     }
 
+    public List<String> getAlternativeLabels() {
+        return Collections.unmodifiableList(alternativeLabels);
+    }
+
+    public List<Plan> getAlternativePlans() {
+        return Collections.unmodifiableList(alternativePlans);
+    }
+
+    /** Alternative plans and their labels, shown side by side; both lists have the same order. */
+    public void setAlternatives(List<String> labels, List<Plan> plans) {
+        this.alternativeLabels = labels != null ? new ArrayList<>(labels) : new ArrayList<>();
+        this.alternativePlans = plans != null ? new ArrayList<>(plans) : new ArrayList<>();
+    }
+
+    public List<String> getAlongRouteLabels() {
+        return Collections.unmodifiableList(alongRouteLabels);
+    }
+
+    public List<Place> getAlongRoutePlaces() {
+        return Collections.unmodifiableList(alongRoutePlaces);
+    }
+
+    /** Places on the way of the previewed route, smallest detour first, with display labels. */
+    public void setAlongRoute(List<String> labels, List<Place> places) {
+        this.alongRouteLabels = labels != null ? new ArrayList<>(labels) : new ArrayList<>();
+        this.alongRoutePlaces = places != null ? new ArrayList<>(places) : new ArrayList<>();
+    }
+
+    public List<String> getBestOriginLabels() {
+        return Collections.unmodifiableList(bestOriginLabels);
+    }
+
+    public List<String> getBestOriginAddresses() {
+        return Collections.unmodifiableList(bestOriginAddresses);
+    }
+
+    /** Favorite locations ranked as starting points, best first, with display labels. */
+    public void setBestOrigins(List<String> labels, List<String> addresses) {
+        this.bestOriginLabels = labels != null ? new ArrayList<>(labels) : new ArrayList<>();
+        this.bestOriginAddresses = addresses != null ? new ArrayList<>(addresses) : new ArrayList<>();
+    }
+
     public Plan getLastSavedPlan() {
         return lastSavedPlan;
     }
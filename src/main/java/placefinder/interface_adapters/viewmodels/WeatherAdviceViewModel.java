@@ -1,10 +1,14 @@
 package placefinder.interface_adapters.viewmodels;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class WeatherAdviceViewModel {
     private String summary;
     private String advice;
     private String errorMessage;
     private boolean isLoading = false;
+    private List<String> rankedDays = new ArrayList<>(); // "best day" results, best first
 
     public String getSummary() { return summary; }
     public void setSummary(String summary) { this.summary = summary; }
@@ -15,6 +19,9 @@ public class WeatherAdviceViewModel {
     public String getErrorMessage() { return errorMessage; }
     public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
 
+    public List<String> getRankedDays() { return rankedDays; }
+    public void setRankedDays(List<String> rankedDays) { this.rankedDays = rankedDays; }
+
     public boolean isLoading() { return isLoading; }
     public void setLoading(boolean loading) { this.isLoading = loading; }
 }
@@ -0,0 +1,8 @@
+package placefinder.usecases.alongroute;
+
+/**
+ * Input boundary for finding places along an existing route.
+ */
+public interface FindPlacesAlongRouteInputBoundary {
+    void execute(FindPlacesAlongRouteInputData inputData);
+}
@@ -0,0 +1,30 @@
+package placefinder.usecases.alongroute;
+
+import placefinder.entities.Place;
+import placefinder.entities.Route;
+
+import java.util.List;
+
+/**
+ * Input data for finding places along a route. Known places (e.g. the current search
+ * results) are checked first; the category narrows the search to one kind of place.
+ */
+public class FindPlacesAlongRouteInputData {
+    private final Route route;
+    private final List<Place> knownPlaces;
+    private final String category;       // e.g. "catering.cafe"; null for any
+    private final double corridorMeters;
+
+    public FindPlacesAlongRouteInputData(Route route, List<Place> knownPlaces,
+                                         String category, double corridorMeters) {
+        this.route = route;
+        this.knownPlaces = knownPlaces;
+        this.category = category;
+        this.corridorMeters = corridorMeters;
+    }
+
+    public Route getRoute() { return route; }
+    public List<Place> getKnownPlaces() { return knownPlaces; }
+    public String getCategory() { return category; }
+    public double getCorridorMeters() { return corridorMeters; }
+}
@@ -0,0 +1,111 @@
+package placefinder.usecases.alongroute;
+
+import placefinder.entities.Place;
+import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
+import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
+import placefinder.usecases.routing.PlaceKey;
+import placefinder.usecases.routing.RouteCorridor;
+import placefinder.usecases.routing.WalkingEstimator;
+
+import java.util.*;
+
+/**
+ * Interactor that suggests places a short step off an existing route. The route's
+ * polylines are buffered into a corridor; places already known to the caller are
+ * checked against it first, and only when too few of them qualify is the corridor's
+ * bounding box searched once. Suggestions are ranked by detour.
+ */
+public class FindPlacesAlongRouteInteractor implements FindPlacesAlongRouteInputBoundary {
+
+    /** Enough known places on the way to skip the places API. */
+    static final int ENOUGH_KNOWN_HITS = 5;
+    static final int MAX_SUGGESTIONS = 10;
+
+    private final PlacesDataAccessInterface placesDataAccessInterface;
+    private final FindPlacesAlongRouteOutputBoundary presenter;
+
+    public FindPlacesAlongRouteInteractor(PlacesDataAccessInterface placesDataAccessInterface,
+                                          FindPlacesAlongRouteOutputBoundary presenter) {
+        this.placesDataAccessInterface = placesDataAccessInterface;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void execute(FindPlacesAlongRouteInputData inputData) {
+        try {
+            Route route = inputData.getRoute();
+            if (route == null || route.getLegs() == null || route.getLegs().isEmpty()) {
+                presenter.present(new FindPlacesAlongRouteOutputData(null, "Generate a plan first."));
+                return;
+            }
+            RouteCorridor corridor = RouteCorridor.of(route, inputData.getCorridorMeters());
+            if (corridor.isEmpty()) {
+                presenter.present(new FindPlacesAlongRouteOutputData(null,
+                        "This route has no path to search along."));
+                return;
+            }
+
+            Set<String> onRoute = new HashSet<>();
+            for (PlanStop stop : route.getStops()) {
+                onRoute.add(PlaceKey.of(stop.getPlace()));
+            }
+            Map<String, RouteSuggestion> found = new LinkedHashMap<>();
+            collect(inputData.getKnownPlaces(), inputData.getCategory(), corridor, onRoute, found);
+
+            if (found.size() < ENOUGH_KNOWN_HITS) {
+                double[] box = corridor.bounds();
+                Map<String, List<String>> categories = inputData.getCategory() == null
+                        ? null : Map.of("along", List.of(inputData.getCategory()));
+                List<Place> fetched = placesDataAccessInterface.searchPlacesInRect(
+                        box[0], box[1], box[2], box[3], categories);
+                collect(fetched, inputData.getCategory(), corridor, onRoute, found);
+            }
+
+            List<RouteSuggestion> suggestions = new ArrayList<>(found.values());
+            suggestions.sort(Comparator.comparingDouble(RouteSuggestion::getDetourSeconds));
+            if (suggestions.size() > MAX_SUGGESTIONS) {
+                suggestions = new ArrayList<>(suggestions.subList(0, MAX_SUGGESTIONS));
+            }
+            if (suggestions.isEmpty()) {
+                presenter.present(new FindPlacesAlongRouteOutputData(null, "No places found along this route."));
+                return;
+            }
+            presenter.present(new FindPlacesAlongRouteOutputData(suggestions, null));
+        } catch (Exception e) {
+            presenter.present(new FindPlacesAlongRouteOutputData(null, e.getMessage()));
+        }
+    }
+
+    private void collect(List<Place> places, String category, RouteCorridor corridor,
+                         Set<String> onRoute, Map<String, RouteSuggestion> found) {
+        if (places == null) {
+            return;
+        }
+        for (Place place : places) {
+            String key = PlaceKey.of(place);
+            if (onRoute.contains(key) || found.containsKey(key) || !matches(place, category)) {
+                continue;
+            }
+            RouteCorridor.Hit hit = corridor.locate(place);
+            if (hit != null) {
+                // out to the place and back again, with the usual street-grid allowance
+                double detour = 2 * hit.getDistanceMeters() * WalkingEstimator.DETOUR_FACTOR
+                        / WalkingEstimator.WALKING_SPEED_MPS;
+                found.put(key, new RouteSuggestion(place, detour, hit.getLegIndex()));
+            }
+        }
+    }
+
+    private static boolean matches(Place place, String category) {
+        if (category == null) {
+            return true;
+        }
+        for (String c : place.getCategories()) {
+            if (c.equals(category) || c.startsWith(category + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
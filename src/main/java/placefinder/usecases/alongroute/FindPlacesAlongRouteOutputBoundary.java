@@ -0,0 +1,8 @@
+package placefinder.usecases.alongroute;
+
+/**
+ * Output boundary for presenting places along a route.
+ */
+public interface FindPlacesAlongRouteOutputBoundary {
+    void present(FindPlacesAlongRouteOutputData outputData);
+}
@@ -0,0 +1,19 @@
+package placefinder.usecases.alongroute;
+
+import java.util.List;
+
+/**
+ * Output data containing places along the route, smallest detour first.
+ */
+public class FindPlacesAlongRouteOutputData {
+    private final List<RouteSuggestion> suggestions;
+    private final String errorMessage;
+
+    public FindPlacesAlongRouteOutputData(List<RouteSuggestion> suggestions, String errorMessage) {
+        this.suggestions = suggestions;
+        this.errorMessage = errorMessage;
+    }
+
+    public List<RouteSuggestion> getSuggestions() { return suggestions; }
+    public String getErrorMessage() { return errorMessage; }
+}
@@ -0,0 +1,26 @@
+package placefinder.usecases.alongroute;
+
+import placefinder.entities.Place;
+
+/**
+ * A place near the route and what it would cost to visit it on the way.
+ */
+public class RouteSuggestion {
+    private final Place place;
+    private final double detourSeconds;
+    private final int legIndex;
+
+    public RouteSuggestion(Place place, double detourSeconds, int legIndex) {
+        this.place = place;
+        this.detourSeconds = detourSeconds;
+        this.legIndex = legIndex;
+    }
+
+    public Place getPlace() { return place; }
+
+    /** Estimated extra walking to step off the route and back. */
+    public double getDetourSeconds() { return detourSeconds; }
+
+    /** Leg of the route during which the place would be visited. */
+    public int getLegIndex() { return legIndex; }
+}
@@ -0,0 +1,8 @@
+package placefinder.usecases.alternatives;
+
+/**
+ * Input boundary for generating several alternative plans at once.
+ */
+public interface GenerateAlternativesInputBoundary {
+    void execute(GenerateAlternativesInputData inputData);
+}
@@ -0,0 +1,38 @@
+package placefinder.usecases.alternatives;
+
+import placefinder.entities.Place;
+
+import java.util.List;
+
+/**
+ * Input data for generating alternative plans from the search results (best first).
+ */
+public class GenerateAlternativesInputData {
+    private final int userId;
+    private final String locationText;
+    private final String date;
+    private final String startTime;
+    private final String endTime;
+    private final List<Place> rankedCandidates;
+    private final int maxAlternatives;
+
+    public GenerateAlternativesInputData(int userId, String locationText, String date,
+                                         String startTime, String endTime,
+                                         List<Place> rankedCandidates, int maxAlternatives) {
+        this.userId = userId;
+        this.locationText = locationText;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.rankedCandidates = rankedCandidates;
+        this.maxAlternatives = maxAlternatives;
+    }
+
+    public int getUserId() { return userId; }
+    public String getLocationText() { return locationText; }
+    public String getDate() { return date; }
+    public String getStartTime() { return startTime; }
+    public String getEndTime() { return endTime; }
+    public List<Place> getRankedCandidates() { return rankedCandidates; }
+    public int getMaxAlternatives() { return maxAlternatives; }
+}
@@ -0,0 +1,197 @@
+package placefinder.usecases.alternatives;
+
+import placefinder.entities.*;
+import placefinder.usecases.autoplan.DwellTimes;
+import placefinder.usecases.concurrency.ParallelCalls;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+import placefinder.usecases.routing.OrienteeringSolver;
+import placefinder.usecases.routing.PlaceKey;
+import placefinder.usecases.routing.RouteTimeline;
+import placefinder.usecases.routing.TravelMatrix;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.Callable;
+
+/**
+ * Interactor that builds several different plans from one set of search results, one
+ * per {@link ItineraryProfile}. Each profile picks its places with
+ * {@link OrienteeringSolver}; the profiles run in parallel against one shared walking
+ * matrix. Profiles that pick the same places are merged, and only the remaining plans
+ * are sent to the route provider (also in parallel).
+ */
+public class GenerateAlternativesInteractor implements GenerateAlternativesInputBoundary {
+
+    private final PreferenceDataAccessInterface preferenceDataAccessInterface;
+    private final GeocodingDataAccessInterface geocodingDataAccessInterface;
+    private final RouteDataAccessInterface routeDataAccessInterface;
+    private final DwellTimes dwellTimes;
+    private final GenerateAlternativesOutputBoundary presenter;
+
+    public GenerateAlternativesInteractor(PreferenceDataAccessInterface preferenceDataAccessInterface,
+                                          GeocodingDataAccessInterface geocodingDataAccessInterface,
+                                          RouteDataAccessInterface routeDataAccessInterface,
+                                          DwellTimes dwellTimes,
+                                          GenerateAlternativesOutputBoundary presenter) {
+        this.preferenceDataAccessInterface = preferenceDataAccessInterface;
+        this.geocodingDataAccessInterface = geocodingDataAccessInterface;
+        this.routeDataAccessInterface = routeDataAccessInterface;
+        this.dwellTimes = dwellTimes;
+        this.presenter = presenter;
+    }
+
+    /** Places picked by one profile, before routing. */
+    private static final class Selection {
+        private final ItineraryProfile profile;
+        private final List<Place> places;
+        private final double score;
+
+        Selection(ItineraryProfile profile, List<Place> places, double score) {
+            this.profile = profile;
+            this.places = places;
+            this.score = score;
+        }
+    }
+
+    @Override
+    public void execute(GenerateAlternativesInputData inputData) {
+        try {
+            List<Place> candidates = inputData.getRankedCandidates();
+            if (candidates == null || candidates.isEmpty()) {
+                presenter.present(new GenerateAlternativesOutputData(null, "Search for places first."));
+                return;
+            }
+            LocalDate date = LocalDate.parse(inputData.getDate());
+            LocalTime start = LocalTime.parse(inputData.getStartTime());
+            LocalTime end = LocalTime.parse(inputData.getEndTime());
+            if (!end.isAfter(start)) {
+                presenter.present(new GenerateAlternativesOutputData(null,
+                        "End time must be after the start time."));
+                return;
+            }
+            GeocodeResult geo = geocodingDataAccessInterface.geocode(inputData.getLocationText());
+            if (geo == null) {
+                presenter.present(new GenerateAlternativesOutputData(null, "Could not find that location."));
+                return;
+            }
+
+            TravelMatrix matrix = TravelMatrix.walking(geo.getLat(), geo.getLon(), candidates);
+            Map<String, Duration> dwellByPlace = new HashMap<>();
+            for (Place place : candidates) {
+                dwellByPlace.put(PlaceKey.of(place), dwellTimes.forPlace(place));
+            }
+            long budget = Duration.between(start, end).getSeconds();
+
+            List<Callable<Selection>> selections = new ArrayList<>();
+            for (ItineraryProfile profile : ItineraryProfile.values()) {
+                selections.add(() -> select(profile, candidates, matrix, dwellByPlace, budget));
+            }
+            List<Selection> distinct = distinctSelections(ParallelCalls.runAll(selections));
+            distinct.sort(Comparator.comparingDouble((Selection s) -> s.score).reversed());
+            if (distinct.size() > inputData.getMaxAlternatives()) {
+                distinct = new ArrayList<>(distinct.subList(0, inputData.getMaxAlternatives()));
+            }
+            if (distinct.isEmpty()) {
+                presenter.present(new GenerateAlternativesOutputData(null,
+                        "None of the places can be visited between " + start + " and " + end + "."));
+                return;
+            }
+
+            List<Callable<Route>> routing = new ArrayList<>();
+            for (Selection selection : distinct) {
+                routing.add(() -> routeOrNull(geo, start, selection.places, dwellByPlace));
+            }
+            List<Route> routes = ParallelCalls.runAll(routing);
+
+            PreferenceProfile profile = preferenceDataAccessInterface.loadForUser(inputData.getUserId());
+            List<PlanAlternative> alternatives = new ArrayList<>();
+            for (int i = 0; i < distinct.size(); i++) {
+                if (routes.get(i) == null) {
+                    continue;
+                }
+                Plan plan = new Plan(
+                        null,
+                        inputData.getUserId(),
+                        "", // name set in SavePlan
+                        date,
+                        start,
+                        geo.getFormattedAddress(),
+                        routes.get(i),
+                        profile.getRadiusKm(),
+                        profile.getSelectedCategories()
+                );
+                alternatives.add(new PlanAlternative(distinct.get(i).profile, plan, distinct.get(i).score));
+            }
+            if (alternatives.isEmpty()) {
+                presenter.present(new GenerateAlternativesOutputData(null,
+                        "Could not find route between locations."));
+                return;
+            }
+            presenter.present(new GenerateAlternativesOutputData(alternatives, null));
+        } catch (Exception e) {
+            presenter.present(new GenerateAlternativesOutputData(null, e.getMessage()));
+        }
+    }
+
+    /**
+     * Picks places for one profile. The returned score is the plain rank score of the picked
+     * places, so alternatives from different profiles can be compared.
+     */
+    private Selection select(ItineraryProfile profile, List<Place> candidates, TravelMatrix matrix,
+                             Map<String, Duration> dwellByPlace, long budget) {
+        List<OrienteeringSolver.Candidate> weighted = new ArrayList<>();
+        Map<Place, Double> rankScore = new IdentityHashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            Place place = candidates.get(i);
+            double rank = (candidates.size() - i) / (double) candidates.size();
+            rankScore.put(place, rank);
+            double score = rank * profile.weight(place, matrix.seconds(0, i + 1));
+            weighted.add(new OrienteeringSolver.Candidate(place, score,
+                    dwellByPlace.get(PlaceKey.of(place)).getSeconds()));
+        }
+        List<Place> chosen = new OrienteeringSolver().solve(matrix, weighted, budget);
+        double total = 0;
+        for (Place place : chosen) {
+            total += rankScore.get(place);
+        }
+        return new Selection(profile, chosen, total);
+    }
+
+    /** Drops empty selections and selections with the same places as an earlier one. */
+    private List<Selection> distinctSelections(List<Selection> selections) {
+        List<Selection> distinct = new ArrayList<>();
+        Set<Set<String>> seen = new HashSet<>();
+        for (Selection selection : selections) {
+            Set<String> keys = new HashSet<>();
+            for (Place place : selection.places) {
+                keys.add(PlaceKey.of(place));
+            }
+            if (!keys.isEmpty() && seen.add(keys)) {
+                distinct.add(selection);
+            }
+        }
+        return distinct;
+    }
+
+    /** Routes one alternative; a failure only loses that alternative. */
+    private Route routeOrNull(GeocodeResult geo, LocalTime start, List<Place> places,
+                              Map<String, Duration> dwellByPlace) {
+        try {
+            Route route = routeDataAccessInterface.computeRoute(geo, start, places);
+            if (route == null) {
+                return null;
+            }
+            List<Duration> dwells = new ArrayList<>();
+            for (PlanStop stop : route.getStops()) {
+                dwells.add(dwellByPlace.getOrDefault(PlaceKey.of(stop.getPlace()), RouteTimeline.DEFAULT_DWELL));
+            }
+            return RouteTimeline.retime(route, start, dwells);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
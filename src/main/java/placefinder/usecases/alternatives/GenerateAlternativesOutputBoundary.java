@@ -0,0 +1,8 @@
+package placefinder.usecases.alternatives;
+
+/**
+ * Output boundary for presenting alternative plans.
+ */
+public interface GenerateAlternativesOutputBoundary {
+    void present(GenerateAlternativesOutputData outputData);
+}
@@ -0,0 +1,19 @@
+package placefinder.usecases.alternatives;
+
+import java.util.List;
+
+/**
+ * Output data containing the alternative plans, best first.
+ */
+public class GenerateAlternativesOutputData {
+    private final List<PlanAlternative> alternatives;
+    private final String errorMessage;
+
+    public GenerateAlternativesOutputData(List<PlanAlternative> alternatives, String errorMessage) {
+        this.alternatives = alternatives;
+        this.errorMessage = errorMessage;
+    }
+
+    public List<PlanAlternative> getAlternatives() { return alternatives; }
+    public String getErrorMessage() { return errorMessage; }
+}
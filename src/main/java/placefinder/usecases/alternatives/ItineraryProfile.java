@@ -0,0 +1,57 @@
+package placefinder.usecases.alternatives;
+
+import placefinder.entities.IndoorOutdoorType;
+import placefinder.entities.Place;
+
+/**
+ * Ways of valuing the same search results, each giving a different kind of day.
+ * Weights multiply a place's rank score (1 for the top result, falling towards 0).
+ */
+public enum ItineraryProfile {
+
+    /** Best-ranked places regardless of where they are. */
+    TOP_RATED("Top rated") {
+        @Override
+        public double weight(Place place, double secondsFromOrigin) {
+            return 1.0;
+        }
+    },
+
+    /** Places close to the start, for a short walk. */
+    COMPACT("Compact walk") {
+        @Override
+        public double weight(Place place, double secondsFromOrigin) {
+            return Math.exp(-secondsFromOrigin / HALF_HOUR);
+        }
+    },
+
+    /** Mostly indoor places, for a wet day. */
+    RAINY_DAY("Rain plan") {
+        @Override
+        public double weight(Place place, double secondsFromOrigin) {
+            IndoorOutdoorType type = place.getIndoorOutdoorType();
+            if (type == IndoorOutdoorType.INDOOR) {
+                return 1.0;
+            }
+            if (type == IndoorOutdoorType.OUTDOOR) {
+                return 0.1;
+            }
+            return 0.5;
+        }
+    };
+
+    private static final double HALF_HOUR = 30 * 60;
+
+    private final String label;
+
+    ItineraryProfile(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() { return label; }
+
+    /**
+     * @param secondsFromOrigin estimated walk from the start to the place
+     */
+    public abstract double weight(Place place, double secondsFromOrigin);
+}
@@ -0,0 +1,22 @@
+package placefinder.usecases.alternatives;
+
+import placefinder.entities.Plan;
+
+/**
+ * One generated plan together with the profile that produced it.
+ */
+public class PlanAlternative {
+    private final ItineraryProfile profile;
+    private final Plan plan;
+    private final double score;
+
+    public PlanAlternative(ItineraryProfile profile, Plan plan, double score) {
+        this.profile = profile;
+        this.plan = plan;
+        this.score = score;
+    }
+
+    public ItineraryProfile getProfile() { return profile; }
+    public Plan getPlan() { return plan; }
+    public double getScore() { return score; }
+}
@@ -0,0 +1,8 @@
+package placefinder.usecases.autoplan;
+
+/**
+ * Input boundary for picking a plan automatically from the search results.
+ */
+public interface AutoPlanInputBoundary {
+    void execute(AutoPlanInputData inputData);
+}
@@ -0,0 +1,39 @@
+package placefinder.usecases.autoplan;
+
+import placefinder.entities.Place;
+
+import java.util.List;
+
+/**
+ * Input data for picking a plan automatically. The candidates are the search
+ * results, best first.
+ */
+public class AutoPlanInputData {
+    private final int userId;
+    private final String locationText;
+    private final String date;
+    private final String startTime;
+    private final String endTime;
+    private final List<Place> rankedCandidates;
+    private final Integer existingPlanId;
+
+    public AutoPlanInputData(int userId, String locationText, String date,
+                             String startTime, String endTime,
+                             List<Place> rankedCandidates, Integer existingPlanId) {
+        this.userId = userId;
+        this.locationText = locationText;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.rankedCandidates = rankedCandidates;
+        this.existingPlanId = existingPlanId;
+    }
+
+    public int getUserId() { return userId; }
+    public String getLocationText() { return locationText; }
+    public String getDate() { return date; }
+    public String getStartTime() { return startTime; }
+    public String getEndTime() { return endTime; }
+    public List<Place> getRankedCandidates() { return rankedCandidates; }
+    public Integer getExistingPlanId() { return existingPlanId; }
+}
@@ -0,0 +1,130 @@
+package placefinder.usecases.autoplan;
+
+import placefinder.entities.*;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+import placefinder.usecases.routing.OrienteeringSolver;
+import placefinder.usecases.routing.PlaceKey;
+import placefinder.usecases.routing.RouteTimeline;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Interactor that picks which search results to visit between a start and an end time.
+ * The choice is made locally by {@link OrienteeringSolver}, with higher-ranked results
+ * worth more; only the chosen places are sent to the route provider.
+ */
+public class AutoPlanInteractor implements AutoPlanInputBoundary {
+
+    private final PreferenceDataAccessInterface preferenceDataAccessInterface;
+    private final GeocodingDataAccessInterface geocodingDataAccessInterface;
+    private final RouteDataAccessInterface routeDataAccessInterface;
+    private final DwellTimes dwellTimes;
+    private final AutoPlanOutputBoundary presenter;
+
+    public AutoPlanInteractor(PreferenceDataAccessInterface preferenceDataAccessInterface,
+                              GeocodingDataAccessInterface geocodingDataAccessInterface,
+                              RouteDataAccessInterface routeDataAccessInterface,
+                              DwellTimes dwellTimes,
+                              AutoPlanOutputBoundary presenter) {
+        this.preferenceDataAccessInterface = preferenceDataAccessInterface;
+        this.geocodingDataAccessInterface = geocodingDataAccessInterface;
+        this.routeDataAccessInterface = routeDataAccessInterface;
+        this.dwellTimes = dwellTimes;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void execute(AutoPlanInputData inputData) {
+        try {
+            List<Place> candidates = inputData.getRankedCandidates();
+            if (candidates == null || candidates.isEmpty()) {
+                presenter.present(new AutoPlanOutputData(null, null,
+                        "Search for places first.", null));
+                return;
+            }
+            LocalDate date = LocalDate.parse(inputData.getDate());
+            LocalTime start = LocalTime.parse(inputData.getStartTime());
+            LocalTime end = LocalTime.parse(inputData.getEndTime());
+            if (!end.isAfter(start)) {
+                presenter.present(new AutoPlanOutputData(null, null,
+                        "End time must be after the start time.", null));
+                return;
+            }
+            GeocodeResult geo = geocodingDataAccessInterface.geocode(inputData.getLocationText());
+            if (geo == null) {
+                presenter.present(new AutoPlanOutputData(null, null,
+                        "Could not find that location.", null));
+                return;
+            }
+
+            // rank i of n is worth (n - i) / n, so the first result counts most
+            List<OrienteeringSolver.Candidate> scored = new ArrayList<>();
+            Map<String, Duration> dwellByPlace = new HashMap<>();
+            for (int i = 0; i < candidates.size(); i++) {
+                Place place = candidates.get(i);
+                Duration dwell = dwellTimes.forPlace(place);
+                dwellByPlace.put(PlaceKey.of(place), dwell);
+                double score = (candidates.size() - i) / (double) candidates.size();
+                scored.add(new OrienteeringSolver.Candidate(place, score, dwell.getSeconds()));
+            }
+            long budget = Duration.between(start, end).getSeconds();
+            List<Place> chosen = new OrienteeringSolver().solve(geo.getLat(), geo.getLon(), scored, budget);
+            if (chosen.isEmpty()) {
+                presenter.present(new AutoPlanOutputData(null, null,
+                        "None of the places can be visited between " + start + " and " + end + ".", null));
+                return;
+            }
+
+            Route route = routeDataAccessInterface.computeRoute(geo, start, chosen);
+            if (route == null) {
+                presenter.present(new AutoPlanOutputData(null, null,
+                        "Could not find route between locations.", null));
+                return;
+            }
+            // the provider may reorder the stops, so look the visit lengths up by place
+            List<Duration> dwells = new ArrayList<>();
+            for (PlanStop stop : route.getStops()) {
+                dwells.add(dwellByPlace.getOrDefault(PlaceKey.of(stop.getPlace()), RouteTimeline.DEFAULT_DWELL));
+            }
+            route = RouteTimeline.retime(route, start, dwells);
+
+            PreferenceProfile profile = preferenceDataAccessInterface.loadForUser(inputData.getUserId());
+            Plan plan = new Plan(
+                    inputData.getExistingPlanId(),
+                    inputData.getUserId(),
+                    "", // name set in SavePlan
+                    date,
+                    start,
+                    geo.getFormattedAddress(),
+                    route,
+                    profile.getRadiusKm(),
+                    profile.getSelectedCategories()
+            );
+            presenter.present(new AutoPlanOutputData(plan, chosen, null,
+                    summary(chosen.size(), candidates.size(), route, end)));
+        } catch (Exception e) {
+            presenter.present(new AutoPlanOutputData(null, null, e.getMessage(), null));
+        }
+    }
+
+    private String summary(int chosen, int candidates, Route route, LocalTime end) {
+        String note = "Picked " + chosen + " of " + candidates + " places.";
+        List<Leg> legs = route.getLegs();
+        if (!route.getStops().isEmpty() && !legs.isEmpty()) {
+            LocalTime lastDeparture = route.getStops().get(route.getStops().size() - 1).getEndTime();
+            LocalTime back = lastDeparture.plusSeconds((long) legs.get(legs.size() - 1).getDuration());
+            if (back.isAfter(end) || back.isBefore(lastDeparture)) {
+                note += " Walking times came out longer than estimated: you will be back around " + back + ".";
+            }
+        }
+        return note;
+    }
+}
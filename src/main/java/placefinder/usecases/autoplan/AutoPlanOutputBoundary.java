@@ -0,0 +1,8 @@
+package placefinder.usecases.autoplan;
+
+/**
+ * Output boundary for presenting an automatically picked plan.
+ */
+public interface AutoPlanOutputBoundary {
+    void present(AutoPlanOutputData outputData);
+}
@@ -0,0 +1,28 @@
+package placefinder.usecases.autoplan;
+
+import placefinder.entities.Place;
+import placefinder.entities.Plan;
+
+import java.util.List;
+
+/**
+ * Output data containing the picked places and the plan built from them.
+ */
+public class AutoPlanOutputData {
+    private final Plan plan;
+    private final List<Place> chosenPlaces;
+    private final String errorMessage;
+    private final String infoMessage;
+
+    public AutoPlanOutputData(Plan plan, List<Place> chosenPlaces, String errorMessage, String infoMessage) {
+        this.plan = plan;
+        this.chosenPlaces = chosenPlaces;
+        this.errorMessage = errorMessage;
+        this.infoMessage = infoMessage;
+    }
+
+    public Plan getPlan() { return plan; }
+    public List<Place> getChosenPlaces() { return chosenPlaces; }
+    public String getErrorMessage() { return errorMessage; }
+    public String getInfoMessage() { return infoMessage; }
+}
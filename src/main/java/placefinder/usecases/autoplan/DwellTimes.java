@@ -0,0 +1,55 @@
+package placefinder.usecases.autoplan;
+
+import placefinder.entities.Place;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Expected visit length per place category. Categories are matched by their longest
+ * configured prefix, so "catering.cafe" can be shorter than the rest of "catering".
+ */
+public class DwellTimes {
+
+    private final Map<String, Duration> byCategory = new HashMap<>();
+    private final Duration fallback;
+
+    public DwellTimes(Map<String, Duration> byCategory, Duration fallback) {
+        this.byCategory.putAll(byCategory);
+        this.fallback = fallback;
+    }
+
+    /** Visit lengths for the categories offered in the preferences screen. */
+    public static DwellTimes defaults() {
+        Map<String, Duration> minutes = new HashMap<>();
+        minutes.put("catering", Duration.ofMinutes(60));
+        minutes.put("catering.cafe", Duration.ofMinutes(30));
+        minutes.put("catering.fast_food", Duration.ofMinutes(30));
+        minutes.put("tourism", Duration.ofMinutes(45));
+        minutes.put("entertainment.museum", Duration.ofMinutes(90));
+        minutes.put("entertainment", Duration.ofMinutes(90));
+        minutes.put("leisure.park", Duration.ofMinutes(45));
+        minutes.put("leisure", Duration.ofMinutes(60));
+        minutes.put("commercial", Duration.ofMinutes(45));
+        return new DwellTimes(minutes, Duration.ofHours(1));
+    }
+
+    public Duration forPlace(Place place) {
+        Duration best = null;
+        int bestLength = -1;
+        if (place.getCategories() != null) {
+            for (String category : place.getCategories()) {
+                for (Map.Entry<String, Duration> entry : byCategory.entrySet()) {
+                    String prefix = entry.getKey();
+                    boolean matches = category.equals(prefix) || category.startsWith(prefix + ".");
+                    if (matches && prefix.length() > bestLength) {
+                        best = entry.getValue();
+                        bestLength = prefix.length();
+                    }
+                }
+            }
+        }
+        return best != null ? best : fallback;
+    }
+}
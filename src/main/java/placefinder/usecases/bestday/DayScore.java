@@ -0,0 +1,27 @@
+package placefinder.usecases.bestday;
+
+import placefinder.entities.WeatherSummary;
+
+import java.time.LocalDate;
+
+/**
+ * Score of a single forecast day for a user's preferences (0 - 100, higher is better).
+ */
+public class DayScore {
+    private final LocalDate date;
+    private final double score;
+    private final WeatherSummary weather;
+    private final String reason;
+
+    public DayScore(LocalDate date, double score, WeatherSummary weather, String reason) {
+        this.date = date;
+        this.score = score;
+        this.weather = weather;
+        this.reason = reason;
+    }
+
+    public LocalDate getDate() { return date; }
+    public double getScore() { return score; }
+    public WeatherSummary getWeather() { return weather; }
+    public String getReason() { return reason; }
+}
@@ -0,0 +1,5 @@
+package placefinder.usecases.bestday;
+
+public interface FindBestDayInputBoundary {
+    void execute(FindBestDayInputData inputData);
+}
@@ -0,0 +1,14 @@
+package placefinder.usecases.bestday;
+
+public class FindBestDayInputData {
+    private final int userId;
+    private final String locationText;
+
+    public FindBestDayInputData(int userId, String locationText) {
+        this.userId = userId;
+        this.locationText = locationText;
+    }
+
+    public int getUserId() { return userId; }
+    public String getLocationText() { return locationText; }
+}
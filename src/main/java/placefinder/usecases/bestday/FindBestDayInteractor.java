@@ -0,0 +1,176 @@
+package placefinder.usecases.bestday;
+
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.IndoorOutdoorType;
+import placefinder.entities.Place;
+import placefinder.entities.PreferenceProfile;
+import placefinder.entities.WeatherSummary;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.WeatherDataAccessInterface;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scores each of the next {@link WeatherDataAccessInterface#MAX_FORECAST_DAYS} days for a
+ * location, based on the forecast and on how many of the user's candidate places are
+ * indoors or outdoors. Uses one forecast request and the same per-interest place searches
+ * as the plan search, so a cached candidate pool is reused.
+ */
+public class FindBestDayInteractor implements FindBestDayInputBoundary {
+
+    private final PreferenceDataAccessInterface preferenceDataAccessInterface;
+    private final GeocodingDataAccessInterface geocodingDataAccessInterface;
+    private final PlacesDataAccessInterface placesDataAccessInterface;
+    private final WeatherDataAccessInterface weatherDataAccessInterface;
+    private final FindBestDayOutputBoundary presenter;
+    private final Clock clock;
+
+    /**
+     * @param clock the current instant; the window starts at today's date at the location,
+     *              not in the zone this machine runs in
+     */
+    public FindBestDayInteractor(PreferenceDataAccessInterface preferenceDataAccessInterface,
+                                 GeocodingDataAccessInterface geocodingDataAccessInterface,
+                                 PlacesDataAccessInterface placesDataAccessInterface,
+                                 WeatherDataAccessInterface weatherDataAccessInterface,
+                                 FindBestDayOutputBoundary presenter,
+                                 Clock clock) {
+        this.preferenceDataAccessInterface = preferenceDataAccessInterface;
+        this.geocodingDataAccessInterface = geocodingDataAccessInterface;
+        this.placesDataAccessInterface = placesDataAccessInterface;
+        this.weatherDataAccessInterface = weatherDataAccessInterface;
+        this.presenter = presenter;
+        this.clock = clock;
+    }
+
+    @Override
+    public void execute(FindBestDayInputData inputData) {
+        try {
+            PreferenceProfile profile = preferenceDataAccessInterface.loadForUser(inputData.getUserId());
+
+            GeocodeResult geo = geocodingDataAccessInterface.geocode(inputData.getLocationText());
+            if (geo == null) {
+                presenter.present(new FindBestDayOutputData(null, List.of(), "Could not find that location."));
+                return;
+            }
+
+            LocalDate today = todayAt(geo);
+            List<WeatherSummary> forecast = weatherDataAccessInterface.getDailyForecast(
+                    geo.getLat(), geo.getLon(), today, WeatherDataAccessInterface.MAX_FORECAST_DAYS);
+            if (forecast == null || forecast.isEmpty()) {
+                presenter.present(new FindBestDayOutputData(null, List.of(),
+                        "Unable to retrieve weather data at the moment."));
+                return;
+            }
+
+            double outdoorShare = outdoorShare(loadCandidates(profile, geo));
+
+            List<DayScore> ranked = new ArrayList<>();
+            for (int i = 0; i < forecast.size(); i++) {
+                WeatherSummary weather = forecast.get(i);
+                if (weather != null) {
+                    ranked.add(scoreDay(today.plusDays(i), weather, outdoorShare));
+                }
+            }
+            ranked.sort(Comparator.comparingDouble(DayScore::getScore).reversed()
+                    .thenComparing(DayScore::getDate));
+
+            presenter.present(new FindBestDayOutputData(geo.getFormattedAddress(), ranked, null));
+        } catch (Exception e) {
+            presenter.present(new FindBestDayOutputData(null, List.of(), e.getMessage()));
+        }
+    }
+
+    /**
+     * The date at the location right now. The forecast's days are local to the location, so
+     * day 0 must be too. Geocoding gives no time zone, so the offset is estimated from the
+     * longitude (15 degrees to the hour), which is off by at most a few hours.
+     */
+    LocalDate todayAt(GeocodeResult geo) {
+        int hours = (int) Math.max(-12, Math.min(14, Math.round(geo.getLon() / 15)));
+        return LocalDate.ofInstant(clock.instant(), ZoneOffset.ofHours(hours));
+    }
+
+    private List<Place> loadCandidates(PreferenceProfile profile, GeocodeResult geo) throws Exception {
+        List<Place> places = new ArrayList<>();
+        Map<String, List<String>> selectedCategories = profile.getSelectedCategories();
+        if (selectedCategories == null || selectedCategories.isEmpty()) {
+            addAll(places, placesDataAccessInterface.searchPlaces(
+                    geo.getLat(), geo.getLon(), profile.getRadiusKm(), null));
+        } else {
+            // same one-interest-at-a-time queries as the place search, so both share cache entries
+            for (Map.Entry<String, List<String>> entry : selectedCategories.entrySet()) {
+                addAll(places, placesDataAccessInterface.searchPlaces(
+                        geo.getLat(), geo.getLon(), profile.getRadiusKm(),
+                        Map.of(entry.getKey(), entry.getValue())));
+            }
+        }
+        return places;
+    }
+
+    private void addAll(List<Place> target, List<Place> found) {
+        if (found != null) {
+            target.addAll(found);
+        }
+    }
+
+    /**
+     * Fraction of the candidate places that are enjoyed outside (mixed places count half).
+     * Without candidates an even split is assumed.
+     */
+    private double outdoorShare(List<Place> places) {
+        if (places.isEmpty()) {
+            return 0.5;
+        }
+        double outdoor = 0;
+        for (Place place : places) {
+            if (place.getIndoorOutdoorType() == IndoorOutdoorType.OUTDOOR) {
+                outdoor += 1;
+            } else if (place.getIndoorOutdoorType() != IndoorOutdoorType.INDOOR) {
+                outdoor += 0.5;
+            }
+        }
+        return outdoor / places.size();
+    }
+
+    private DayScore scoreDay(LocalDate date, WeatherSummary weather, double outdoorShare) {
+        double score = 60;
+        String reason;
+
+        if (weather.isPrecipitationLikely()) {
+            // rain mostly hurts outdoor plans; indoor-heavy interests barely notice
+            score -= 45 * outdoorShare + 5;
+            reason = "Rain likely";
+        } else {
+            score += 25 * outdoorShare;
+            reason = "Dry";
+        }
+
+        // comfort matters less when most places are indoors
+        double discomfort = Math.min(30, Math.abs(weather.getTemperatureC() - 20) * 1.5);
+        score -= discomfort * (0.4 + 0.6 * outdoorShare);
+
+        if (weather.getUvIndex() >= 8) {
+            score -= 10 * outdoorShare;
+        }
+
+        score = Math.max(0, Math.min(100, score));
+        reason += String.format(", %.0f°C, %s", weather.getTemperatureC(), weather.getConditions());
+        if (outdoorShare >= 0.6) {
+            reason += weather.isPrecipitationLikely()
+                    ? " — poor day for your outdoor picks"
+                    : " — good for outdoor places";
+        } else if (outdoorShare <= 0.4 && weather.isPrecipitationLikely()) {
+            reason += " — fine for your mostly indoor picks";
+        }
+        return new DayScore(date, Math.round(score * 10) / 10.0, weather, reason);
+    }
+}
@@ -0,0 +1,5 @@
+package placefinder.usecases.bestday;
+
+public interface FindBestDayOutputBoundary {
+    void present(FindBestDayOutputData outputData);
+}
@@ -0,0 +1,19 @@
+package placefinder.usecases.bestday;
+
+import java.util.List;
+
+public class FindBestDayOutputData {
+    private final String locationName;
+    private final List<DayScore> rankedDays; // best day first
+    private final String errorMessage;
+
+    public FindBestDayOutputData(String locationName, List<DayScore> rankedDays, String errorMessage) {
+        this.locationName = locationName;
+        this.rankedDays = rankedDays;
+        this.errorMessage = errorMessage;
+    }
+
+    public String getLocationName() { return locationName; }
+    public List<DayScore> getRankedDays() { return rankedDays; }
+    public String getErrorMessage() { return errorMessage; }
+}
@@ -0,0 +1,5 @@
+package placefinder.usecases.bestorigin;
+
+public interface FindBestOriginInputBoundary {
+    void execute(FindBestOriginInputData inputData);
+}
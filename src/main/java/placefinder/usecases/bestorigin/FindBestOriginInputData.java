@@ -0,0 +1,28 @@
+package placefinder.usecases.bestorigin;
+
+import placefinder.entities.Place;
+
+import java.util.List;
+
+/**
+ * Input data for choosing which of the user's favorite locations to start from. When
+ * {@code confirmWithRoute} is set, the winner is checked with one real route request.
+ */
+public class FindBestOriginInputData {
+    private final int userId;
+    private final List<Place> stops;
+    private final String startTime;     // HH:MM, used for the confirming route
+    private final boolean confirmWithRoute;
+
+    public FindBestOriginInputData(int userId, List<Place> stops, String startTime, boolean confirmWithRoute) {
+        this.userId = userId;
+        this.stops = stops;
+        this.startTime = startTime;
+        this.confirmWithRoute = confirmWithRoute;
+    }
+
+    public int getUserId() { return userId; }
+    public List<Place> getStops() { return stops; }
+    public String getStartTime() { return startTime; }
+    public boolean isConfirmWithRoute() { return confirmWithRoute; }
+}
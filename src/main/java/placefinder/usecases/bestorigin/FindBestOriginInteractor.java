@@ -0,0 +1,103 @@
+package placefinder.usecases.bestorigin;
+
+import placefinder.entities.FavoriteLocation;
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Place;
+import placefinder.entities.Route;
+import placefinder.usecases.concurrency.ParallelCalls;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+import placefinder.usecases.routing.OrienteeringSolver;
+import placefinder.usecases.routing.TravelMatrix;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Interactor that finds which of the user's favorite locations (home, hotel, office, ...)
+ * is the best place to start and end the day for a set of stops. Each favorite is scored
+ * with a local walking matrix, in parallel, so no route request is needed per favorite;
+ * optionally the winner alone is confirmed with the route service.
+ */
+public class FindBestOriginInteractor implements FindBestOriginInputBoundary {
+
+    private final PreferenceDataAccessInterface preferenceDataAccessInterface;
+    private final RouteDataAccessInterface routeDataAccessInterface;
+    private final FindBestOriginOutputBoundary presenter;
+
+    public FindBestOriginInteractor(PreferenceDataAccessInterface preferenceDataAccessInterface,
+                                    RouteDataAccessInterface routeDataAccessInterface,
+                                    FindBestOriginOutputBoundary presenter) {
+        this.preferenceDataAccessInterface = preferenceDataAccessInterface;
+        this.routeDataAccessInterface = routeDataAccessInterface;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void execute(FindBestOriginInputData inputData) {
+        try {
+            List<Place> stops = inputData.getStops();
+            if (stops == null || stops.isEmpty()) {
+                presenter.present(new FindBestOriginOutputData(null, null, "Add some places to the plan first."));
+                return;
+            }
+            List<FavoriteLocation> favorites = preferenceDataAccessInterface.listFavorites(inputData.getUserId());
+            if (favorites == null || favorites.isEmpty()) {
+                presenter.present(new FindBestOriginOutputData(null, null, "Save a favorite location first."));
+                return;
+            }
+
+            List<Callable<OriginScore>> tasks = new ArrayList<>();
+            for (FavoriteLocation favorite : favorites) {
+                tasks.add(() -> score(favorite, stops));
+            }
+            List<OriginScore> ranking = ParallelCalls.runAll(tasks);
+            ranking.sort(Comparator.comparingDouble(OriginScore::getWalkingSeconds));
+
+            Route confirmed = inputData.isConfirmWithRoute()
+                    ? routeOrNull(ranking.get(0), LocalTime.parse(inputData.getStartTime()))
+                    : null;
+            presenter.present(new FindBestOriginOutputData(ranking, confirmed, null));
+        } catch (Exception e) {
+            presenter.present(new FindBestOriginOutputData(null, null, e.getMessage()));
+        }
+    }
+
+    /** Shortest estimated round trip through all stops from one favorite. */
+    private OriginScore score(FavoriteLocation favorite, List<Place> stops) {
+        TravelMatrix matrix = TravelMatrix.walking(favorite.getLat(), favorite.getLon(), stops);
+        // Equal scores, no dwell and no budget limit: the solver visits everything and only
+        // minimises walking (cheapest insertion followed by 2-opt).
+        List<OrienteeringSolver.Candidate> candidates = new ArrayList<>();
+        for (Place stop : stops) {
+            candidates.add(new OrienteeringSolver.Candidate(stop, 1, 0));
+        }
+        List<Place> order = new OrienteeringSolver().solve(matrix, candidates, Long.MAX_VALUE);
+
+        double seconds = 0;
+        int previous = 0;
+        for (Place place : order) {
+            int next = stops.indexOf(place) + 1;
+            seconds += matrix.seconds(previous, next);
+            previous = next;
+        }
+        seconds += matrix.seconds(previous, 0);
+        return new OriginScore(favorite, seconds, order);
+    }
+
+    /** Routes the winner; a failure only loses the confirmation, not the ranking. */
+    private Route routeOrNull(OriginScore best, LocalTime start) {
+        FavoriteLocation favorite = best.getFavorite();
+        try {
+            return routeDataAccessInterface.computeRoute(
+                    new GeocodeResult(favorite.getLat(), favorite.getLon(), favorite.getAddress()),
+                    start,
+                    best.getOrder());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package placefinder.usecases.bestorigin;
+
+public interface FindBestOriginOutputBoundary {
+    void present(FindBestOriginOutputData outputData);
+}
@@ -0,0 +1,26 @@
+package placefinder.usecases.bestorigin;
+
+import placefinder.entities.Route;
+
+import java.util.List;
+
+/**
+ * Output data with every favorite ranked by estimated walking time, shortest first. The
+ * confirmed route is the route service's answer for the winner, or null if it was not
+ * requested or could not be found.
+ */
+public class FindBestOriginOutputData {
+    private final List<OriginScore> ranking;
+    private final Route confirmedRoute;
+    private final String errorMessage;
+
+    public FindBestOriginOutputData(List<OriginScore> ranking, Route confirmedRoute, String errorMessage) {
+        this.ranking = ranking;
+        this.confirmedRoute = confirmedRoute;
+        this.errorMessage = errorMessage;
+    }
+
+    public List<OriginScore> getRanking() { return ranking; }
+    public Route getConfirmedRoute() { return confirmedRoute; }
+    public String getErrorMessage() { return errorMessage; }
+}
@@ -0,0 +1,27 @@
+package placefinder.usecases.bestorigin;
+
+import placefinder.entities.FavoriteLocation;
+import placefinder.entities.Place;
+
+import java.util.List;
+
+/**
+ * Estimated walking time for visiting the stops when starting and ending at one favorite.
+ */
+public class OriginScore {
+    private final FavoriteLocation favorite;
+    private final double walkingSeconds;
+    private final List<Place> order;
+
+    public OriginScore(FavoriteLocation favorite, double walkingSeconds, List<Place> order) {
+        this.favorite = favorite;
+        this.walkingSeconds = walkingSeconds;
+        this.order = order;
+    }
+
+    public FavoriteLocation getFavorite() { return favorite; }
+    public double getWalkingSeconds() { return walkingSeconds; }
+
+    /** Visiting order that gives this walking time. */
+    public List<Place> getOrder() { return order; }
+}
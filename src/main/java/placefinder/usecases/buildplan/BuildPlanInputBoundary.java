@@ -5,4 +5,11 @@ package placefinder.usecases.buildplan;
  */
 public interface BuildPlanInputBoundary {
     void execute(BuildPlanInputData inputData);
+
+    /**
+     * Hint that {@link #execute} will probably be called soon with these inputs, so work
+     * may start early. Nothing is presented. The default ignores the hint.
+     */
+    default void speculate(BuildPlanInputData inputData) {
+    }
 }
@@ -1,6 +1,7 @@
 package placefinder.usecases.buildplan;
 
 import placefinder.entities.Place;
+import placefinder.entities.Route;
 import java.util.List;
 
 /**
@@ -13,16 +14,24 @@ public class BuildPlanInputData {
     private final String startTime;
     private final List<Place> selectedPlaces;
     private final Integer existingPlanId;
+    private final Route previousRoute; // optional: last route built for the same origin
 
     public BuildPlanInputData(int userId, String locationText, String date,
                               String startTime, List<Place> selectedPlaces,
                               Integer existingPlanId) {
+        this(userId, locationText, date, startTime, selectedPlaces, existingPlanId, null);
+    }
+
+    public BuildPlanInputData(int userId, String locationText, String date,
+                              String startTime, List<Place> selectedPlaces,
+                              Integer existingPlanId, Route previousRoute) {
         this.userId = userId;
         this.locationText = locationText;
         this.date = date;
         this.startTime = startTime;
         this.selectedPlaces = selectedPlaces;
         this.existingPlanId = existingPlanId;
+        this.previousRoute = previousRoute;
     }
 
     public int getUserId() { return userId; }
@@ -31,4 +40,5 @@ public class BuildPlanInputData {
     public String getStartTime() { return startTime; }
     public List<Place> getSelectedPlaces() { return selectedPlaces; }
     public Integer getExistingPlanId() { return existingPlanId; }
+    public Route getPreviousRoute() { return previousRoute; }
 }
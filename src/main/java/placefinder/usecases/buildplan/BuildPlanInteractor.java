@@ -4,11 +4,23 @@ import placefinder.entities.*;
 import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
 import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
 import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.WeatherDataAccessInterface;
+import placefinder.usecases.routing.IncrementalRouter;
+import placefinder.usecases.routing.PlaceKey;
+import placefinder.usecases.routing.RouteTimeline;
+import placefinder.usecases.routing.TimeWindowScheduler;
+import placefinder.usecases.routing.WalkingFeasibility;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
  * Interactor for building plan from place and preferences.
@@ -18,16 +30,30 @@ public class BuildPlanInteractor implements BuildPlanInputBoundary {
     private final PreferenceDataAccessInterface preferenceDataAccessInterface;
     private final GeocodingDataAccessInterface geocodingDataAccessInterface;
     private final RouteDataAccessInterface routeDataAccessInterface;
+    private final WeatherDataAccessInterface weatherDataAccessInterface; // optional
+    private final WalkingFeasibility walkingFeasibility; // optional
     private final BuildPlanOutputBoundary presenter;
+    private final IncrementalRouter incrementalRouter;
+    private final TimeWindowScheduler timeWindowScheduler;
 
+    /**
+     * @param weatherDataAccessInterface null to plan without forecasts
+     * @param walkingFeasibility         null to route every selected place, however far
+     */
     public BuildPlanInteractor(PreferenceDataAccessInterface preferenceDataAccessInterface,
                                GeocodingDataAccessInterface geocodingDataAccessInterface,
                                RouteDataAccessInterface routeDataAccessInterface,
+                               WeatherDataAccessInterface weatherDataAccessInterface,
+                               WalkingFeasibility walkingFeasibility,
                                BuildPlanOutputBoundary presenter) {
         this.preferenceDataAccessInterface = preferenceDataAccessInterface;
         this.geocodingDataAccessInterface = geocodingDataAccessInterface;
         this.routeDataAccessInterface = routeDataAccessInterface;
+        this.weatherDataAccessInterface = weatherDataAccessInterface;
+        this.walkingFeasibility = walkingFeasibility;
         this.presenter = presenter;
+        this.incrementalRouter = new IncrementalRouter(routeDataAccessInterface);
+        this.timeWindowScheduler = new TimeWindowScheduler();
     }
 
     @Override
@@ -48,26 +74,232 @@ public class BuildPlanInteractor implements BuildPlanInputBoundary {
             LocalDate date = LocalDate.parse(inputData.getDate());
             LocalTime start = LocalTime.parse(inputData.getStartTime());
 
-            Route route = routeDataAccessInterface.computeRoute(geo, start, inputData.getSelectedPlaces());
-            if (route == null) {
-                presenter.present(new BuildPlanOutputData(null,
-                        "Could not find route between locations."));
-                return;
+            // leave out stops that cannot fit in the day before paying for a route
+            List<Place> places = inputData.getSelectedPlaces();
+            String feasibilityNote = null;
+            if (walkingFeasibility != null) {
+                WalkingFeasibility.Result feasibility =
+                        walkingFeasibility.check(geo.getLat(), geo.getLon(), start, places);
+                if (feasibility.getKept().isEmpty()) {
+                    presenter.present(new BuildPlanOutputData(null,
+                            "None of the selected places can be visited before the end of the day."));
+                    return;
+                }
+                places = feasibility.getKept();
+                feasibilityNote = droppedPlacesNote(feasibility.getDropped(), start);
+            }
+
+            // one request gets the whole day's forecast for every place; it loads while the
+            // route is computed and is only waited for once it is needed
+            List<Place> forecastPlaces = places;
+            FutureTask<Map<String, List<WeatherSummary>>> weatherRequest =
+                    new FutureTask<>(() -> hourlyWeather(forecastPlaces, date));
+            Thread.ofVirtual().name("plan-weather").start(weatherRequest);
+            try {
+                // with opening hours the order is picked here, which needs the forecast first;
+                // otherwise the provider orders the stops while the forecast loads
+                boolean fixedOrder = TimeWindowScheduler.hasOpeningHours(places);
+                Route route = fixedOrder ? null : route(inputData.getPreviousRoute(), geo, start, places, false);
+                Map<String, List<WeatherSummary>> hourlyWeather = join(weatherRequest);
+                TimeWindowScheduler.AvoidedHours wetHours =
+                        (place, hour) -> isWetOutdoors(place, hour, hourlyWeather);
+
+                // rain to keep outdoor visits out of fixes the order too; the provider's route
+                // is then replaced by one in the scheduled order
+                String closedNote = null;
+                if (!fixedOrder && canAvoidRain(places, start, wetHours)) {
+                    fixedOrder = true;
+                }
+                if (fixedOrder) {
+                    TimeWindowScheduler.Result scheduled = timeWindowScheduler.schedule(
+                            geo.getLat(), geo.getLon(), date.getDayOfWeek(), start, places, wetHours);
+                    if (scheduled.getOrder().isEmpty()) {
+                        presenter.present(new BuildPlanOutputData(null,
+                                "None of the selected places are open when you could get there."));
+                        return;
+                    }
+                    places = scheduled.getOrder();
+                    closedNote = closedPlacesNote(scheduled.getClosed());
+                    route = route(inputData.getPreviousRoute(), geo, start, places, true);
+                }
+                if (route == null) {
+                    presenter.present(new BuildPlanOutputData(null,
+                            "Could not find route between locations."));
+                    return;
+                }
+                if (fixedOrder) {
+                    List<Duration> dwells = new ArrayList<>();
+                    for (PlanStop stop : route.getStops()) {
+                        dwells.add(RouteTimeline.dwellOf(stop));
+                    }
+                    route = RouteTimeline.retime(route, start, dwells, date.getDayOfWeek());
+                }
+                String weatherNote = attachStopWeather(route, hourlyWeather);
+                Plan plan = new Plan(
+                        inputData.getExistingPlanId(),
+                        inputData.getUserId(),
+                        "", // name set in SavePlan
+                        date,
+                        start,
+                        geo.getFormattedAddress(),
+                        route,
+                        profile.getRadiusKm(),
+                        profile.getSelectedCategories()
+                );
+                presenter.present(new BuildPlanOutputData(plan, null,
+                        joinNotes(joinNotes(feasibilityNote, closedNote), weatherNote)));
+            } finally {
+                weatherRequest.cancel(true);
             }
-            Plan plan = new Plan(
-                    inputData.getExistingPlanId(),
-                    inputData.getUserId(),
-                    "", // name set in SavePlan
-                    date,
-                    start,
-                    geo.getFormattedAddress(),
-                    route,
-                    profile.getRadiusKm(),
-                    profile.getSelectedCategories()
-            );
-            presenter.present(new BuildPlanOutputData(plan,null));
         } catch (Exception e) {
             presenter.present(new BuildPlanOutputData(null, e.getMessage()));
         }
     }
+
+    /**
+     * Small edits to the previous route only recompute the changed legs; with a fixed
+     * order this needs the kept stops to still be in the wanted order.
+     */
+    private Route route(Route previous, GeocodeResult origin, LocalTime start, List<Place> places,
+                        boolean fixedOrder) throws Exception {
+        Route route = incrementalRouter.update(previous, origin, start, places, fixedOrder);
+        if (route != null) {
+            return route;
+        }
+        return fixedOrder ? routeDataAccessInterface.computeRoute(origin, start, places, false)
+                : routeDataAccessInterface.computeRoute(origin, start, places);
+    }
+
+    /** @return the forecast, or null if looking it up failed */
+    private static Map<String, List<WeatherSummary>> join(Future<Map<String, List<WeatherSummary>>> request)
+            throws InterruptedException {
+        try {
+            return request.get();
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    private String droppedPlacesNote(List<Place> dropped, LocalTime start) {
+        if (dropped.isEmpty()) {
+            return null;
+        }
+        List<String> names = new ArrayList<>();
+        for (Place place : dropped) {
+            names.add(place.getName());
+        }
+        return "Left out " + String.join(", ", names) + ": not enough time to walk there and back"
+                + " when starting at " + start + ".";
+    }
+
+    private String closedPlacesNote(List<Place> closed) {
+        if (closed.isEmpty()) {
+            return null;
+        }
+        List<String> names = new ArrayList<>();
+        for (Place place : closed) {
+            names.add(place.getName());
+        }
+        return "Left out " + String.join(", ", names) + ": closed at the times you could visit.";
+    }
+
+    private String joinNotes(String first, String second) {
+        if (first == null) {
+            return second;
+        }
+        return second == null ? first : first + " " + second;
+    }
+
+    /**
+     * Looks up the hourly forecast for every place (one batched call). Weather is
+     * optional: failures leave the plan without forecasts.
+     *
+     * @return the 24 hourly forecasts by {@link PlaceKey}, or null when there are none
+     */
+    private Map<String, List<WeatherSummary>> hourlyWeather(List<Place> places, LocalDate date) {
+        if (weatherDataAccessInterface == null) {
+            return null;
+        }
+        List<List<WeatherSummary>> forecasts;
+        try {
+            forecasts = weatherDataAccessInterface.getHourlyWeather(places, date);
+        } catch (Exception e) {
+            return null;
+        }
+        if (forecasts == null) {
+            return null;
+        }
+        Map<String, List<WeatherSummary>> byPlace = new HashMap<>();
+        for (int i = 0; i < places.size() && i < forecasts.size(); i++) {
+            if (forecasts.get(i) != null) {
+                byPlace.put(PlaceKey.of(places.get(i)), forecasts.get(i));
+            }
+        }
+        return byPlace;
+    }
+
+    private static WeatherSummary weatherAt(Map<String, List<WeatherSummary>> hourlyWeather, Place place, int hour) {
+        if (hourlyWeather == null || place == null) {
+            return null;
+        }
+        List<WeatherSummary> hours = hourlyWeather.get(PlaceKey.of(place));
+        return hours == null || hour >= hours.size() ? null : hours.get(hour);
+    }
+
+    private static boolean isWetOutdoors(Place place, int hour, Map<String, List<WeatherSummary>> hourlyWeather) {
+        if (place.getIndoorOutdoorType() != IndoorOutdoorType.OUTDOOR) {
+            return false;
+        }
+        WeatherSummary weather = weatherAt(hourlyWeather, place, hour);
+        return weather != null && weather.isPrecipitationLikely();
+    }
+
+    /** @return true if an outdoor place is wet at some hour of the day but dry at another */
+    private static boolean canAvoidRain(List<Place> places, LocalTime start,
+                                        TimeWindowScheduler.AvoidedHours wetHours) {
+        for (Place place : places) {
+            boolean wet = false;
+            boolean dry = false;
+            for (int hour = start.getHour(); hour < 24; hour++) {
+                if (wetHours.avoid(place, hour)) {
+                    wet = true;
+                } else {
+                    dry = true;
+                }
+            }
+            if (wet && dry) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Attaches the forecast at each stop's start time to the stop.
+     *
+     * @return a warning about outdoor stops that are likely to be wet, or null
+     */
+    private String attachStopWeather(Route route, Map<String, List<WeatherSummary>> hourlyWeather) {
+        if (hourlyWeather == null || route.getStops() == null) {
+            return null;
+        }
+
+        List<String> wetOutdoorStops = new ArrayList<>();
+        for (PlanStop stop : route.getStops()) {
+            if (stop.getStartTime() == null) {
+                continue;
+            }
+            WeatherSummary weather = weatherAt(hourlyWeather, stop.getPlace(), stop.getStartTime().getHour());
+            stop.setWeather(weather);
+            if (weather != null && weather.isPrecipitationLikely() && stop.getPlace() != null
+                    && stop.getPlace().getIndoorOutdoorType() == IndoorOutdoorType.OUTDOOR) {
+                wetOutdoorStops.add(stop.getPlace().getName());
+            }
+        }
+        if (wetOutdoorStops.isEmpty()) {
+            return null;
+        }
+        return "Rain is likely when you reach: " + String.join(", ", wetOutdoorStops)
+                + ". Consider swapping them for indoor places.";
+    }
 }
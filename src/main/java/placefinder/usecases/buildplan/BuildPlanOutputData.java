@@ -8,12 +8,19 @@ import placefinder.entities.Plan;
 public class BuildPlanOutputData {
     private final Plan plan;
     private final String errorMessage;
+    private final String infoMessage;
 
     public BuildPlanOutputData(Plan plan, String errorMessage) {
+        this(plan, errorMessage, null);
+    }
+
+    public BuildPlanOutputData(Plan plan, String errorMessage, String infoMessage) {
         this.plan = plan;
         this.errorMessage = errorMessage;
+        this.infoMessage = infoMessage;
     }
 
     public Plan getPlan() { return plan; }
     public String getErrorMessage() { return errorMessage; }
+    public String getInfoMessage() { return infoMessage; }
 }
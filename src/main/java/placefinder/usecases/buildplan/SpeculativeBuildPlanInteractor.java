@@ -0,0 +1,153 @@
+package placefinder.usecases.buildplan;
+
+import placefinder.entities.Place;
+import placefinder.usecases.dataacessinterfaces.CallContext;
+import placefinder.usecases.routing.PlaceKey;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Function;
+
+/**
+ * Builds plans ahead of time. While the user is still choosing places, {@link #speculate}
+ * runs the whole build (geocoding, route, weather) on a background thread with the
+ * inputs as they stand. When {@link #execute} is then called with the same inputs, the
+ * result that is ready, or nearly ready, is presented instead of starting over; any other
+ * inputs cancel the guess and build as usual.
+ *
+ * <p>Only the latest guess is kept, and a newer one cancels it. A guess that ended in an
+ * error is not reused, so a failure on a background attempt is retried when the user asks.
+ */
+public class SpeculativeBuildPlanInteractor implements BuildPlanInputBoundary {
+
+    private final Function<BuildPlanOutputBoundary, BuildPlanInputBoundary> interactors;
+    private final BuildPlanInputBoundary direct;
+    private final BuildPlanOutputBoundary presenter;
+
+    private Speculation current; // guarded by this
+
+    /**
+     * @param interactors creates the real interactor for a given presenter; guesses use
+     *                    their own instance that presents into a capture
+     */
+    public SpeculativeBuildPlanInteractor(Function<BuildPlanOutputBoundary, BuildPlanInputBoundary> interactors,
+                                          BuildPlanOutputBoundary presenter) {
+        this.interactors = interactors;
+        this.direct = interactors.apply(presenter);
+        this.presenter = presenter;
+    }
+
+    /** A background build and the inputs it was started with. */
+    private static final class Speculation {
+        private final List<Object> key;
+        private final FutureTask<BuildPlanOutputData> task;
+
+        Speculation(List<Object> key, FutureTask<BuildPlanOutputData> task) {
+            this.key = key;
+            this.task = task;
+        }
+    }
+
+    @Override
+    public void speculate(BuildPlanInputData inputData) {
+        List<Object> key = keyOf(inputData);
+        FutureTask<BuildPlanOutputData> task = new FutureTask<>(() -> {
+            BuildPlanOutputData[] captured = new BuildPlanOutputData[1];
+            BuildPlanInputBoundary guess = interactors.apply(outputData -> captured[0] = outputData);
+            CallContext.runAsPrefetch(() -> guess.execute(inputData));
+            return captured[0];
+        });
+        synchronized (this) {
+            if (current != null && current.key.equals(key)) {
+                return; // already working on exactly this
+            }
+            cancelCurrent();
+            current = new Speculation(key, task);
+        }
+        Thread.ofVirtual().name("speculative-build").start(task);
+    }
+
+    @Override
+    public void execute(BuildPlanInputData inputData) {
+        Speculation guess;
+        synchronized (this) {
+            guess = current;
+            current = null;
+        }
+        if (guess != null) {
+            if (guess.key.equals(keyOf(inputData))) {
+                BuildPlanOutputData ready = await(guess);
+                if (Thread.currentThread().isInterrupted()) {
+                    return; // this request was cancelled while waiting
+                }
+                if (ready != null && ready.getErrorMessage() == null) {
+                    presenter.present(ready);
+                    return;
+                }
+            } else {
+                guess.task.cancel(true);
+            }
+        }
+        direct.execute(inputData);
+    }
+
+    private synchronized void cancelCurrent() {
+        if (current != null) {
+            current.task.cancel(true);
+            current = null;
+        }
+    }
+
+    /** @return the guess's output, or null if it failed or this thread was interrupted */
+    private static BuildPlanOutputData await(Speculation guess) {
+        try {
+            return guess.task.get();
+        } catch (InterruptedException e) {
+            guess.task.cancel(true);
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Everything the build depends on; the previous route counts by identity. */
+    private static List<Object> keyOf(BuildPlanInputData inputData) {
+        List<String> places = new ArrayList<>();
+        if (inputData.getSelectedPlaces() != null) {
+            for (Place place : inputData.getSelectedPlaces()) {
+                places.add(PlaceKey.of(place));
+            }
+        }
+        return Arrays.asList(
+                inputData.getUserId(),
+                inputData.getLocationText(),
+                inputData.getDate(),
+                inputData.getStartTime(),
+                inputData.getExistingPlanId(),
+                new RouteIdentity(inputData.getPreviousRoute()),
+                places);
+    }
+
+    /** Compares routes by identity, since a route has no value equality. */
+    private static final class RouteIdentity {
+        private final Object route;
+
+        RouteIdentity(Object route) {
+            this.route = route;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof RouteIdentity && ((RouteIdentity) other).route == route;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(route);
+        }
+    }
+}
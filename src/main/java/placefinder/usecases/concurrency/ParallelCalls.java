@@ -0,0 +1,39 @@
+package placefinder.usecases.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs independent blocking calls (gateway requests, mostly) at the same time, one
+ * virtual thread each.
+ */
+public final class ParallelCalls {
+
+    private ParallelCalls() {
+    }
+
+    /**
+     * Runs every task and waits for all of them.
+     *
+     * @return the results in task order
+     * @throws Exception the exception of the first task (in task order) that failed
+     */
+    public static <T> List<T> runAll(List<Callable<T>> tasks) throws Exception {
+        List<T> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Future<T> future : executor.invokeAll(tasks)) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                }
+            }
+        }
+        return results;
+    }
+}
@@ -0,0 +1,47 @@
+package placefinder.usecases.dataacessinterfaces;
+
+/**
+ * Who a data access call is made for, so gateways can throttle and account for calls to
+ * paid providers. The user is the one logged in to this app; the priority is set for
+ * the current thread and the threads it starts.
+ */
+public final class CallContext {
+
+    /** Interactive calls are served before prefetches when a provider is busy. */
+    public enum Priority { INTERACTIVE, PREFETCH }
+
+    private static volatile Integer sessionUserId;
+    private static final InheritableThreadLocal<Priority> PRIORITY = new InheritableThreadLocal<>();
+
+    private CallContext() {
+    }
+
+    /** Sets the logged-in user, or null after logout. */
+    public static void setSessionUser(Integer userId) {
+        sessionUserId = userId;
+    }
+
+    /** @return the logged-in user, or null */
+    public static Integer sessionUser() {
+        return sessionUserId;
+    }
+
+    public static Priority priority() {
+        Priority priority = PRIORITY.get();
+        return priority == null ? Priority.INTERACTIVE : priority;
+    }
+
+    /**
+     * Runs work nobody is waiting for yet (warm-ups, speculative builds) as a prefetch,
+     * including calls made from threads it starts.
+     */
+    public static void runAsPrefetch(Runnable task) {
+        Priority outer = PRIORITY.get();
+        PRIORITY.set(Priority.PREFETCH);
+        try {
+            task.run();
+        } finally {
+            PRIORITY.set(outer);
+        }
+    }
+}
@@ -7,4 +7,15 @@ import java.util.Map;
 
 public interface PlacesDataAccessInterface {
     List<Place> searchPlaces(double lat, double lon, double radiusKm, Map<String, List<String>> selectedCategories) throws Exception;
+
+    /**
+     * Search places inside a latitude/longitude rectangle, e.g. the bounding box of a route.
+     *
+     * @return the places found, or null if this gateway cannot search by rectangle
+     * @throws Exception if the API call fails
+     */
+    default List<Place> searchPlacesInRect(double south, double west, double north, double east,
+                                           Map<String, List<String>> selectedCategories) throws Exception {
+        return null;
+    }
 }
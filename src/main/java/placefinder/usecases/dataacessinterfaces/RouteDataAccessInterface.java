@@ -1,6 +1,7 @@
 package placefinder.usecases.dataacessinterfaces;
 
 import placefinder.entities.GeocodeResult;
+import placefinder.entities.Leg;
 import placefinder.entities.Place;
 import placefinder.entities.PlanStop;
 import placefinder.entities.Route;
@@ -20,4 +21,31 @@ public interface RouteDataAccessInterface {
      * @throws Exception if the API call fails
      */
     Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places) throws Exception;
+
+    /**
+     * Compute a walking route, optionally visiting the stops in exactly the given order.
+     * Gateways that cannot keep a fixed order fall back to {@link #computeRoute(GeocodeResult, LocalTime, List)}.
+     *
+     * @param optimizeOrder false to keep the order of {@code places}
+     * @throws Exception if the API call fails
+     */
+    default Route computeRoute(GeocodeResult origin, LocalTime startTime, List<Place> places,
+                               boolean optimizeOrder) throws Exception {
+        return computeRoute(origin, startTime, places);
+    }
+
+    /**
+     * Compute a single walking leg between two points.
+     * The returned leg has no start or end stop attached.
+     *
+     * @param fromLat The latitude of the start point
+     * @param fromLon The longitude of the start point
+     * @param toLat The latitude of the end point
+     * @param toLon The longitude of the end point
+     * @return The leg, or null if this gateway cannot compute single legs
+     * @throws Exception if the API call fails
+     */
+    default Leg computeLeg(double fromLat, double fromLon, double toLat, double toLon) throws Exception {
+        return null;
+    }
 }
\ No newline at end of file
@@ -1,9 +1,56 @@
 package placefinder.usecases.dataacessinterfaces;
 
+import placefinder.entities.Place;
 import placefinder.entities.WeatherSummary;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public interface WeatherDataAccessInterface {
+    /** How far ahead daily forecasts are available. */
+    int MAX_FORECAST_DAYS = 16;
+
     WeatherSummary getDailyWeather(double lat, double lon, LocalDate date) throws Exception;
+
+    /**
+     * Get the daily forecast for several consecutive days.
+     * Implementations should fetch the whole range in a single request; this default
+     * falls back to one daily lookup per day.
+     *
+     * @param lat The latitude of the location
+     * @param lon The longitude of the location
+     * @param startDate The first day of the range
+     * @param days The number of days in the range
+     * @return One summary per day starting at startDate (entries may be null)
+     * @throws Exception if the API call fails
+     */
+    default List<WeatherSummary> getDailyForecast(double lat, double lon, LocalDate startDate, int days)
+            throws Exception {
+        List<WeatherSummary> result = new ArrayList<>();
+        for (int i = 0; i < days; i++) {
+            result.add(getDailyWeather(lat, lon, startDate.plusDays(i)));
+        }
+        return result;
+    }
+
+    /**
+     * Get the hourly forecast for several places over one day.
+     * Implementations should fetch all places in a single request; this default
+     * falls back to one daily lookup per place, used for every hour of the day.
+     *
+     * @param places The places to look up
+     * @param date The day to forecast
+     * @return Per place, in the same order, 24 summaries indexed by hour of the day
+     *         (entries may be null)
+     * @throws Exception if the API call fails
+     */
+    default List<List<WeatherSummary>> getHourlyWeather(List<Place> places, LocalDate date) throws Exception {
+        List<List<WeatherSummary>> result = new ArrayList<>();
+        for (Place place : places) {
+            result.add(Collections.nCopies(24, getDailyWeather(place.getLat(), place.getLon(), date)));
+        }
+        return result;
+    }
 }
@@ -0,0 +1,13 @@
+package placefinder.usecases.instrumentation;
+
+/**
+ * Something done around every call through an {@link Instrumentation}-wrapped interface,
+ * such as timing it or logging it when slow. An interceptor calls
+ * {@link Invocation#proceed()} to run the rest of the chain and the target, and returns
+ * (or throws) what the caller should see.
+ */
+@FunctionalInterface
+public interface CallInterceptor {
+
+    Object intercept(Invocation invocation) throws Throwable;
+}
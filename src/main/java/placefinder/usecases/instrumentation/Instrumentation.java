@@ -0,0 +1,80 @@
+package placefinder.usecases.instrumentation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An ordered list of {@link CallInterceptor}s that can be put around any implementation of
+ * an interface, such as a data access interface or an input boundary, without changing
+ * the implementation. The first interceptor is the outermost. One proxy runs the whole
+ * chain, so adding an interceptor adds no extra layer of reflection.
+ *
+ * <p>Instances are immutable; {@link #then} returns a longer copy, so a common chain can be
+ * shared and extended per kind of interface.
+ */
+public final class Instrumentation {
+
+    private final List<CallInterceptor> interceptors;
+
+    private Instrumentation(List<CallInterceptor> interceptors) {
+        this.interceptors = List.copyOf(interceptors);
+    }
+
+    public static Instrumentation of(CallInterceptor... interceptors) {
+        return new Instrumentation(List.of(interceptors));
+    }
+
+    /** @return this chain followed by the given interceptors */
+    public Instrumentation then(CallInterceptor... more) {
+        List<CallInterceptor> combined = new ArrayList<>(interceptors);
+        combined.addAll(List.of(more));
+        return new Instrumentation(combined);
+    }
+
+    /**
+     * Wraps {@code target} so every call of a {@code type} method runs through the chain as
+     * {@code <name>.<method>}. {@code equals}, {@code hashCode} and {@code toString} go
+     * straight to the target.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T wrap(Class<T> type, T target, String name) {
+        boolean hidden = !Modifier.isPublic(type.getModifiers());
+        Map<Method, Call> calls = new HashMap<>();
+        for (Method method : type.getMethods()) {
+            if (hidden) {
+                // e.g. a package-private interface; it could not be called from here otherwise
+                method.setAccessible(true);
+            }
+            calls.put(method, new Call(name + "." + method.getName(), method));
+        }
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+                (proxy, method, args) -> {
+                    Call call = calls.get(method);
+                    if (call == null) {
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                    return new Invocation(call.name, type, target, call.method, args, interceptors).proceed();
+                });
+    }
+
+    /** A wrapped method and its name. */
+    private static final class Call {
+        private final String name;
+        private final Method method;
+
+        Call(String name, Method method) {
+            this.name = name;
+            this.method = method;
+        }
+    }
+}
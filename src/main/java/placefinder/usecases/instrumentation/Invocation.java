@@ -0,0 +1,62 @@
+package placefinder.usecases.instrumentation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/** One call through an instrumented interface, as seen by a {@link CallInterceptor}. */
+public final class Invocation {
+
+    private final String name;
+    private final Class<?> type;
+    private final Object target;
+    private final Method method;
+    private final Object[] args;
+    private final List<CallInterceptor> chain;
+    private int next;
+
+    Invocation(String name, Class<?> type, Object target, Method method, Object[] args,
+               List<CallInterceptor> chain) {
+        this.name = name;
+        this.type = type;
+        this.target = target;
+        this.method = method;
+        this.args = args;
+        this.chain = chain;
+    }
+
+    /** {@code <name given to wrap>.<method>}, e.g. {@code gateway.plan.findPlansByUser}. */
+    public String getName() { return name; }
+
+    /** The wrapped interface. */
+    public Class<?> getType() { return type; }
+
+    /** The wrapped implementation. */
+    public Object getTarget() { return target; }
+
+    public Method getMethod() { return method; }
+
+    /** The call's arguments (null for none); interceptors must not change them. */
+    public Object[] getArgs() { return args; }
+
+    /**
+     * Runs the remaining interceptors and then the target. May be called again, e.g. to
+     * retry; exceptions from the target are thrown unwrapped.
+     */
+    public Object proceed() throws Throwable {
+        int current = next;
+        if (current == chain.size()) {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+        next = current + 1;
+        try {
+            return chain.get(current).intercept(this);
+        } finally {
+            next = current;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package placefinder.usecases.instrumentation;
+
+import placefinder.usecases.logging.AppLogger;
+
+/**
+ * Logs a warning ({@code call.slow}) for each call that takes longer than a threshold,
+ * with its name, duration and whether it failed. Arguments are not logged, as they may
+ * hold addresses or credentials.
+ */
+public class SlowCallLogger implements CallInterceptor {
+
+    private final AppLogger logger;
+    private final long thresholdNanos;
+
+    public SlowCallLogger(AppLogger logger, long thresholdMillis) {
+        this.logger = logger;
+        this.thresholdNanos = thresholdMillis * 1_000_000;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (elapsed > thresholdNanos) {
+                logger.warn("call.slow", "call", invocation.getName(), "ms", elapsed / 1_000_000, "failed", failed);
+            }
+        }
+    }
+}
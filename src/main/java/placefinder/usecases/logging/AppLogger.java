@@ -0,0 +1,61 @@
+package placefinder.usecases.logging;
+
+/**
+ * Structured application logger. A record is an event name plus fields, given as
+ * alternating names and values, e.g. {@code info("user.insert", "id", 7, "email", email)}.
+ *
+ * <p>Implementations must not block the caller for I/O. Building the fields still costs
+ * something, so callers with expensive fields should check {@link #isEnabled} first.
+ */
+public interface AppLogger {
+
+    enum Level { DEBUG, INFO, WARN, ERROR }
+
+    /** @return false if records of this level are dropped anyway */
+    boolean isEnabled(Level level);
+
+    /**
+     * @param event  what happened, dot-separated, e.g. {@code places.response}
+     * @param fields alternating field names and values
+     */
+    void log(Level level, String event, Object... fields);
+
+    default void debug(String event, Object... fields) {
+        log(Level.DEBUG, event, fields);
+    }
+
+    default void info(String event, Object... fields) {
+        log(Level.INFO, event, fields);
+    }
+
+    default void warn(String event, Object... fields) {
+        log(Level.WARN, event, fields);
+    }
+
+    default void error(String event, Object... fields) {
+        log(Level.ERROR, event, fields);
+    }
+
+    /** A logger that drops every record. */
+    static AppLogger none() {
+        return NoLogger.INSTANCE;
+    }
+
+    /** The logger behind {@link #none()}. */
+    final class NoLogger implements AppLogger {
+        private static final NoLogger INSTANCE = new NoLogger();
+
+        private NoLogger() {
+        }
+
+        @Override
+        public boolean isEnabled(Level level) {
+            return false;
+        }
+
+        @Override
+        public void log(Level level, String event, Object... fields) {
+            // dropped
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package placefinder.usecases.logging;
+
+import placefinder.entities.Place;
+
+import java.util.List;
+
+/**
+ * PlacesApiLogger that writes to an {@link AppLogger}: one record per request and
+ * response, plus one DEBUG record per returned place. Unlike {@link ConsolePlacesLogger}
+ * it does no I/O on the calling thread.
+ */
+public class StructuredPlacesLogger implements PlacesApiLogger {
+
+    private final AppLogger logger;
+
+    public StructuredPlacesLogger(AppLogger logger) {
+        this.logger = logger;
+    }
+
+    @Override
+    public void logSearchRequest(String location, String date) {
+        logger.info("places.request", "location", location, "date", date);
+    }
+
+    @Override
+    public void logSearchResponse(List<Place> places, long responseTimeMs) {
+        int count = places != null ? places.size() : 0;
+        logger.info("places.response", "responseMs", responseTimeMs, "count", count);
+        if (count == 0 || !logger.isEnabled(AppLogger.Level.DEBUG)) {
+            return;
+        }
+        for (int i = 0; i < count; i++) {
+            Place p = places.get(i);
+            logger.debug("places.place",
+                    "rank", i + 1,
+                    "name", p.getName(),
+                    "address", p.getAddress(),
+                    "lat", p.getLat(),
+                    "lon", p.getLon(),
+                    "distanceKm", p.getDistanceKm(),
+                    "categories", p.getCategories(),
+                    "indoorOutdoor", p.getIndoorOutdoorType());
+        }
+    }
+
+    @Override
+    public void logError(String error) {
+        logger.error("places.error", "message", error);
+    }
+}
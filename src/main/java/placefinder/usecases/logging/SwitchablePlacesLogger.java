@@ -5,33 +5,42 @@ import java.util.List;
 
 /**
  * Switchable implementation of PlacesApiLogger that allows toggling
- * between active (console) and inactive logging at runtime.
+ * between an active logger (the console by default) and inactive logging at runtime.
  */
 public class SwitchablePlacesLogger implements PlacesApiLogger {
 
+    private final PlacesApiLogger activeLogger;   // null: a new ConsolePlacesLogger each time
     private PlacesApiLogger currentLogger;
     private boolean isActive;
 
     public SwitchablePlacesLogger(boolean startActive) {
+        this(null, startActive);
+    }
+
+    /**
+     * @param activeLogger the logger used while active
+     */
+    public SwitchablePlacesLogger(PlacesApiLogger activeLogger, boolean startActive) {
+        this.activeLogger = activeLogger;
         this.isActive = startActive;
-        this.currentLogger = startActive ? new ConsolePlacesLogger() : new InactivePlacesLogger();
+        this.currentLogger = startActive ? active() : new InactivePlacesLogger();
     }
 
     /**
-     * Toggle between active (console) and inactive logging.
+     * Toggle between active and inactive logging.
      */
     public void toggle() {
         isActive = !isActive;
-        currentLogger = isActive ? new ConsolePlacesLogger() : new InactivePlacesLogger();
+        currentLogger = isActive ? active() : new InactivePlacesLogger();
     }
 
     /**
-     * Enable console logging.
+     * Enable logging.
      */
     public void enable() {
         if (!isActive) {
             isActive = true;
-            currentLogger = new ConsolePlacesLogger();
+            currentLogger = active();
         }
     }
 
@@ -47,7 +56,7 @@ public class SwitchablePlacesLogger implements PlacesApiLogger {
 
     /**
      * Check if logging is currently active.
-     * @return true if console logging is enabled, false otherwise
+     * @return true if logging is enabled, false otherwise
      */
     public boolean isActive() {
         return isActive;
@@ -67,4 +76,8 @@ public class SwitchablePlacesLogger implements PlacesApiLogger {
     public void logError(String error) {
         currentLogger.logError(error);
     }
-}
\ No newline at end of file
+
+    private PlacesApiLogger active() {
+        return activeLogger != null ? activeLogger : new ConsolePlacesLogger();
+    }
+}
@@ -0,0 +1,91 @@
+package placefinder.usecases.metrics;
+
+import placefinder.usecases.instrumentation.CallInterceptor;
+import placefinder.usecases.instrumentation.Instrumentation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Named counters and latency histograms. Both are created on first use and are safe to
+ * update from any thread without locking.
+ *
+ * <p>Names are dotted paths whose first part says what was measured, e.g.
+ * {@code usecase.searchPlaces.execute}, {@code gateway.weather.getDailyForecast},
+ * {@code db.select.plans} or {@code cache.geocoding.hit}.
+ */
+public class MetricsRegistry {
+
+    private static final MetricsRegistry GLOBAL = new MetricsRegistry();
+
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, LatencyHistogram> latencies = new ConcurrentHashMap<>();
+
+    /** The registry shared by the whole app, for code that is not wired by hand (caches, the database). */
+    public static MetricsRegistry global() {
+        return GLOBAL;
+    }
+
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, n -> new LongAdder());
+    }
+
+    public LatencyHistogram latency(String name) {
+        return latencies.computeIfAbsent(name, n -> new LatencyHistogram());
+    }
+
+    /** Runs the task and records how long it took; a failure also counts {@code <name>.errors}. */
+    public <T> T time(String name, Callable<T> task) throws Exception {
+        long start = System.nanoTime();
+        try {
+            return task.call();
+        } catch (Exception e) {
+            counter(name + ".errors").increment();
+            throw e;
+        } finally {
+            latency(name).recordNanos(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Wraps an implementation of an interface, such as a data access interface or an input
+     * boundary, so every call of its methods is timed as {@code <prefix>.<method>}.
+     * Exceptions pass through unchanged and are counted as {@code <prefix>.<method>.errors}.
+     */
+    public <T> T timed(Class<T> type, T target, String prefix) {
+        return Instrumentation.of(timing()).wrap(type, target, prefix);
+    }
+
+    /** The interceptor behind {@link #timed}, to combine with others in an {@link Instrumentation}. */
+    public CallInterceptor timing() {
+        return invocation -> {
+            String name = invocation.getName();
+            long start = System.nanoTime();
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                counter(name + ".errors").increment();
+                throw e;
+            } finally {
+                latency(name).recordNanos(System.nanoTime() - start);
+            }
+        };
+    }
+
+    public MetricsSnapshot snapshot() {
+        Map<String, Long> counterValues = new HashMap<>();
+        counters.forEach((name, adder) -> counterValues.put(name, adder.sum()));
+        Map<String, LatencyHistogram.Snapshot> latencyValues = new HashMap<>();
+        latencies.forEach((name, histogram) -> latencyValues.put(name, histogram.snapshot()));
+        return new MetricsSnapshot(counterValues, latencyValues);
+    }
+
+    /** Drops everything recorded so far, e.g. before a measurement run. */
+    public void reset() {
+        counters.clear();
+        latencies.clear();
+    }
+}
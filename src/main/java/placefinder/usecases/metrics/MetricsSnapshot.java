@@ -0,0 +1,33 @@
+package placefinder.usecases.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Every counter and latency histogram of a {@link MetricsRegistry} at one point in time,
+ * sorted by name.
+ */
+public final class MetricsSnapshot {
+
+    private final Map<String, Long> counters;
+    private final Map<String, LatencyHistogram.Snapshot> latencies;
+
+    MetricsSnapshot(Map<String, Long> counters, Map<String, LatencyHistogram.Snapshot> latencies) {
+        this.counters = Collections.unmodifiableMap(new TreeMap<>(counters));
+        this.latencies = Collections.unmodifiableMap(new TreeMap<>(latencies));
+    }
+
+    public Map<String, Long> getCounters() {
+        return counters;
+    }
+
+    public Map<String, LatencyHistogram.Snapshot> getLatencies() {
+        return latencies;
+    }
+
+    /** @return the counter's value, 0 if it was never incremented */
+    public long counter(String name) {
+        return counters.getOrDefault(name, 0L);
+    }
+}
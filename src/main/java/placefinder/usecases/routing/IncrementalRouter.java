@@ -0,0 +1,217 @@
+package placefinder.usecases.routing;
+
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Leg;
+import placefinder.entities.Place;
+import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
+import placefinder.entities.RouteBuilder;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Updates an already ordered route after a small change to the selected places,
+ * instead of asking the provider to optimize the whole tour again.
+ * A removed stop is spliced out and its two legs are replaced by one; an added stop
+ * goes where it lengthens the tour the least (cheapest insertion), replacing one leg
+ * by two. Unchanged legs are reused as they are, only the new legs are computed,
+ * and the times of the following stops shift accordingly.
+ */
+public class IncrementalRouter {
+
+    /** Beyond this many added or removed places a full route computation is used. */
+    public static final int MAX_CHANGES = 2;
+
+    private final RouteDataAccessInterface routeDataAccessInterface; // may be null: estimate locally
+
+    public IncrementalRouter(RouteDataAccessInterface routeDataAccessInterface) {
+        this.routeDataAccessInterface = routeDataAccessInterface;
+    }
+
+    /**
+     * @return the updated route, or null when the change is too large (or there is no
+     *         usable previous route) and the caller should compute a full route instead
+     */
+    public Route update(Route previous, GeocodeResult origin, LocalTime startTime,
+                        List<Place> selectedPlaces) {
+        return update(previous, origin, startTime, selectedPlaces, false);
+    }
+
+    /**
+     * @param keepOrder when true, {@code selectedPlaces} is the order to visit: added places
+     *                  go where that order puts them, and null is returned when the stops
+     *                  kept from the previous route are in a different order
+     * @return the updated route, or null when the change is too large (or there is no
+     *         usable previous route) and the caller should compute a full route instead
+     */
+    public Route update(Route previous, GeocodeResult origin, LocalTime startTime,
+                        List<Place> selectedPlaces, boolean keepOrder) {
+        if (previous == null || previous.getStops() == null || previous.getLegs() == null
+                || previous.getLegs().size() != previous.getStops().size() + 1) {
+            return null;
+        }
+
+        Map<String, Place> wanted = new LinkedHashMap<>();
+        for (Place place : selectedPlaces) {
+            wanted.put(PlaceKey.of(place), place);
+        }
+        List<PlanStop> stops = new ArrayList<>();
+        Set<String> present = new HashSet<>();
+        for (PlanStop stop : previous.getStops()) {
+            stops.add(stop);
+            present.add(PlaceKey.of(stop.getPlace()));
+        }
+        List<Leg> legs = new ArrayList<>(previous.getLegs());
+
+        List<Integer> removed = new ArrayList<>();
+        for (int i = 0; i < stops.size(); i++) {
+            if (!wanted.containsKey(PlaceKey.of(stops.get(i).getPlace()))) {
+                removed.add(i);
+            }
+        }
+        List<Place> added = new ArrayList<>();
+        for (Map.Entry<String, Place> entry : wanted.entrySet()) {
+            if (!present.contains(entry.getKey())) {
+                added.add(entry.getValue());
+            }
+        }
+        if (removed.size() + added.size() > MAX_CHANGES || removed.size() == stops.size()) {
+            return null;
+        }
+        if (keepOrder && !keptInOrder(stops, wanted)) {
+            return null;
+        }
+
+        // legs created here are only estimates until the edits are done
+        Set<Leg> pending = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Collections.reverse(removed);
+        for (int index : removed) {
+            stops.remove(index);
+            legs.remove(index + 1);
+            legs.remove(index);
+            Leg joined = estimate(point(stops, origin, index - 1), point(stops, origin, index));
+            legs.add(index, joined);
+            pending.add(joined);
+        }
+
+        // in the wanted order, the places before an added one are all in the route by the
+        // time it is inserted, so its index there is its index in the route
+        List<String> wantedOrder = new ArrayList<>(wanted.keySet());
+        for (Place place : added) {
+            double[] p = {place.getLat(), place.getLon()};
+            int best = keepOrder ? wantedOrder.indexOf(PlaceKey.of(place)) : cheapestInsertion(stops, legs, origin, p);
+            double[] before = point(stops, origin, best - 1);
+            double[] after = point(stops, origin, best);
+            // no times yet: the default visit length applies when re-timed
+            stops.add(best, new PlanStop(best, place, null, null));
+            pending.remove(legs.remove(best));
+            Leg in = estimate(before, p);
+            Leg out = estimate(p, after);
+            legs.add(best, out);
+            legs.add(best, in);
+            pending.add(in);
+            pending.add(out);
+        }
+
+        for (int i = 0; i < legs.size(); i++) {
+            if (pending.contains(legs.get(i))) {
+                legs.set(i, resolve(point(stops, origin, i - 1), point(stops, origin, i), legs.get(i)));
+            }
+        }
+
+        // keep the caller's own Place objects on the stops
+        List<PlanStop> ownStops = new ArrayList<>();
+        for (PlanStop stop : stops) {
+            Place own = wanted.get(PlaceKey.of(stop.getPlace()));
+            ownStops.add(new PlanStop(stop.getSequenceNumber(), own, stop.getStartTime(), stop.getEndTime()));
+        }
+
+        int distance = 0;
+        double duration = 0;
+        for (Leg leg : legs) {
+            distance += leg.getDistance();
+            duration += leg.getDuration();
+        }
+        Route edited = new RouteBuilder()
+                .withStops(ownStops)
+                .withLegs(legs)
+                .withDistance(distance)
+                .withDuration(duration)
+                .withEncodedPolyline(added.isEmpty() && removed.isEmpty() ? previous.getEncodedPolyline() : "")
+                .build();
+        return RouteTimeline.retime(edited, startTime);
+    }
+
+    /** Index at which inserting point {@code p} lengthens the tour the least. */
+    private int cheapestInsertion(List<PlanStop> stops, List<Leg> legs, GeocodeResult origin, double[] p) {
+        int best = 0;
+        double bestCost = Double.MAX_VALUE;
+        for (int i = 0; i <= stops.size(); i++) {
+            double[] before = point(stops, origin, i - 1);
+            double[] after = point(stops, origin, i);
+            double cost = walkingMeters(before, p) + walkingMeters(p, after) - legs.get(i).getDistance();
+            if (cost < bestCost) {
+                bestCost = cost;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /** Whether the previous stops that are still wanted appear in the wanted order. */
+    private boolean keptInOrder(List<PlanStop> stops, Map<String, Place> wanted) {
+        List<String> order = new ArrayList<>(wanted.keySet());
+        int last = -1;
+        for (PlanStop stop : stops) {
+            int index = order.indexOf(PlaceKey.of(stop.getPlace()));
+            if (index < 0) {
+                continue;
+            }
+            if (index < last) {
+                return false;
+            }
+            last = index;
+        }
+        return true;
+    }
+
+    /** Coordinates of stop {@code index}; -1 and {@code stops.size()} are the origin. */
+    private double[] point(List<PlanStop> stops, GeocodeResult origin, int index) {
+        if (index < 0 || index >= stops.size()) {
+            return new double[] {origin.getLat(), origin.getLon()};
+        }
+        Place place = stops.get(index).getPlace();
+        return new double[] {place.getLat(), place.getLon()};
+    }
+
+    private Leg estimate(double[] from, double[] to) {
+        return WalkingEstimator.estimatedLeg(from[0], from[1], to[0], to[1]);
+    }
+
+    private Leg resolve(double[] from, double[] to, Leg estimate) {
+        if (routeDataAccessInterface == null) {
+            return estimate;
+        }
+        try {
+            Leg leg = routeDataAccessInterface.computeLeg(from[0], from[1], to[0], to[1]);
+            return leg != null ? leg : estimate;
+        } catch (Exception e) {
+            // the estimate is good enough to keep the plan usable
+            return estimate;
+        }
+    }
+
+    private double walkingMeters(double[] from, double[] to) {
+        return WalkingEstimator.walkingMeters(from[0], from[1], to[0], to[1]);
+    }
+}
@@ -0,0 +1,212 @@
+package placefinder.usecases.routing;
+
+import placefinder.entities.Place;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Picks which candidates to visit, and in what order, so the total score is as high as
+ * possible while the walk from the origin, the visits and the walk back fit in a time
+ * budget (the orienteering problem). Travel times come from a local walking estimate
+ * (see {@link TravelMatrix}), so no API call is made.
+ *
+ * <p>The heuristic is greedy insertion by score per added second, followed by rounds of
+ * 2-opt (to shorten the tour and free time), further insertions, and swaps of a visited
+ * stop for a better unvisited one.
+ */
+public class OrienteeringSolver {
+
+    private static final int MAX_ROUNDS = 10;
+
+    /** A place that may be visited, with its value and visit length. */
+    public static class Candidate {
+        private final Place place;
+        private final double score;
+        private final long dwellSeconds;
+
+        public Candidate(Place place, double score, long dwellSeconds) {
+            this.place = place;
+            this.score = score;
+            this.dwellSeconds = dwellSeconds;
+        }
+
+        public Place getPlace() { return place; }
+        public double getScore() { return score; }
+        public long getDwellSeconds() { return dwellSeconds; }
+    }
+
+    private TravelMatrix travel;
+    private List<Candidate> candidates;
+
+    /**
+     * @return the chosen places in visiting order (possibly empty)
+     */
+    public List<Place> solve(double originLat, double originLon, List<Candidate> candidates, long budgetSeconds) {
+        List<Place> places = new ArrayList<>();
+        for (Candidate candidate : candidates) {
+            places.add(candidate.getPlace());
+        }
+        return solve(TravelMatrix.walking(originLat, originLon, places), candidates, budgetSeconds);
+    }
+
+    /**
+     * Same as {@link #solve(double, double, List, long)} with a precomputed matrix whose
+     * places are the candidates' places in the same order. A solver instance keeps state
+     * while solving, so concurrent solves need one instance each; the matrix can be shared.
+     */
+    public List<Place> solve(TravelMatrix travel, List<Candidate> candidates, long budgetSeconds) {
+        this.candidates = candidates;
+        this.travel = travel;
+
+        List<Integer> tour = new ArrayList<>();
+        boolean[] used = new boolean[candidates.size()];
+        insertGreedily(tour, used, budgetSeconds);
+
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            boolean improved = twoOpt(tour);
+            improved |= insertGreedily(tour, used, budgetSeconds);
+            improved |= swapForBetter(tour, used, budgetSeconds);
+            if (!improved) {
+                break;
+            }
+        }
+
+        List<Place> result = new ArrayList<>();
+        for (int index : tour) {
+            result.add(candidates.get(index).getPlace());
+        }
+        return result;
+    }
+
+    /** Matrix row of tour position {@code pos}; positions outside the tour are the origin. */
+    private int node(List<Integer> tour, int pos) {
+        return pos < 0 || pos >= tour.size() ? 0 : tour.get(pos) + 1;
+    }
+
+    private double tourSeconds(List<Integer> tour) {
+        double total = 0;
+        for (int pos = 0; pos <= tour.size(); pos++) {
+            total += travel.seconds(node(tour, pos - 1), node(tour, pos));
+            if (pos < tour.size()) {
+                total += candidates.get(tour.get(pos)).getDwellSeconds();
+            }
+        }
+        return total;
+    }
+
+    /** Extra seconds for visiting candidate c between positions pos - 1 and pos. */
+    private double insertionCost(List<Integer> tour, int c, int pos) {
+        int before = node(tour, pos - 1);
+        int after = node(tour, pos);
+        return travel.seconds(before, c + 1) + travel.seconds(c + 1, after) - travel.seconds(before, after)
+                + candidates.get(c).getDwellSeconds();
+    }
+
+    private boolean insertGreedily(List<Integer> tour, boolean[] used, long budget) {
+        boolean changed = false;
+        double spent = tourSeconds(tour);
+        while (true) {
+            int bestCandidate = -1;
+            int bestPos = -1;
+            double bestRatio = -1;
+            double bestCost = 0;
+            for (int c = 0; c < used.length; c++) {
+                if (used[c]) {
+                    continue;
+                }
+                for (int pos = 0; pos <= tour.size(); pos++) {
+                    double cost = insertionCost(tour, c, pos);
+                    if (spent + cost > budget) {
+                        continue;
+                    }
+                    double ratio = candidates.get(c).getScore() / Math.max(1, cost);
+                    if (ratio > bestRatio) {
+                        bestRatio = ratio;
+                        bestCandidate = c;
+                        bestPos = pos;
+                        bestCost = cost;
+                    }
+                }
+            }
+            if (bestCandidate < 0) {
+                return changed;
+            }
+            tour.add(bestPos, bestCandidate);
+            used[bestCandidate] = true;
+            spent += bestCost;
+            changed = true;
+        }
+    }
+
+    /** Reverses tour segments while that shortens the walk. */
+    private boolean twoOpt(List<Integer> tour) {
+        boolean changed = false;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 0; i < tour.size() - 1; i++) {
+                for (int j = i + 1; j < tour.size(); j++) {
+                    int a = node(tour, i - 1);
+                    int b = node(tour, i);
+                    int c = node(tour, j);
+                    int d = node(tour, j + 1);
+                    double delta = travel.seconds(a, c) + travel.seconds(b, d)
+                            - travel.seconds(a, b) - travel.seconds(c, d);
+                    if (delta < -1e-6) {
+                        reverse(tour, i, j);
+                        improved = true;
+                        changed = true;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    private static void reverse(List<Integer> tour, int from, int to) {
+        while (from < to) {
+            Integer tmp = tour.get(from);
+            tour.set(from, tour.get(to));
+            tour.set(to, tmp);
+            from++;
+            to--;
+        }
+    }
+
+    /** Replaces one visited stop by an unvisited candidate with a higher score, if it still fits. */
+    private boolean swapForBetter(List<Integer> tour, boolean[] used, long budget) {
+        for (int pos = 0; pos < tour.size(); pos++) {
+            int visited = tour.get(pos);
+            List<Integer> without = new ArrayList<>(tour);
+            without.remove(pos);
+            double spentWithout = tourSeconds(without);
+
+            int bestCandidate = -1;
+            int bestPos = -1;
+            double bestScore = candidates.get(visited).getScore();
+            for (int c = 0; c < used.length; c++) {
+                if (used[c] || candidates.get(c).getScore() <= bestScore) {
+                    continue;
+                }
+                for (int p = 0; p <= without.size(); p++) {
+                    if (spentWithout + insertionCost(without, c, p) <= budget) {
+                        bestCandidate = c;
+                        bestPos = p;
+                        bestScore = candidates.get(c).getScore();
+                        break;
+                    }
+                }
+            }
+            if (bestCandidate >= 0) {
+                without.add(bestPos, bestCandidate);
+                used[visited] = false;
+                used[bestCandidate] = true;
+                tour.clear();
+                tour.addAll(without);
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package placefinder.usecases.routing;
+
+import placefinder.entities.Place;
+
+import java.util.Locale;
+
+/**
+ * Identity of a place across searches: its provider id, or its rounded coordinates
+ * when the provider gave none.
+ */
+public final class PlaceKey {
+
+    private PlaceKey() {
+    }
+
+    public static String of(Place place) {
+        if (place.getId() != null && !place.getId().isBlank()) {
+            return place.getId();
+        }
+        return String.format(Locale.ROOT, "@%.5f,%.5f", place.getLat(), place.getLon());
+    }
+}
@@ -0,0 +1,111 @@
+package placefinder.usecases.routing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Encoded polyline format used by the Google routing APIs (precision 1e-5).
+ * Points are {@code {lat, lon}} pairs.
+ */
+public final class PolylineCodec {
+
+    private PolylineCodec() {
+    }
+
+    public static List<double[]> decode(String encoded) {
+        double[] flat = decodeFlat(encoded);
+        List<double[]> points = new ArrayList<>(flat.length / 2);
+        for (int i = 0; i + 1 < flat.length; i += 2) {
+            points.add(new double[] {flat[i], flat[i + 1]});
+        }
+        return points;
+    }
+
+    /**
+     * Decodes into one primitive array {@code {lat0, lon0, lat1, lon1, ...}}, avoiding an
+     * object per point for long routes.
+     */
+    public static double[] decodeFlat(String encoded) {
+        if (encoded == null) {
+            return new double[0];
+        }
+        // every point takes at least two characters
+        double[] flat = new double[encoded.length()];
+        int size = 0;
+        int index = 0;
+        int lat = 0;
+        int lon = 0;
+        while (index < encoded.length()) {
+            int[] result = nextValue(encoded, index);
+            lat += result[0];
+            index = result[1];
+            if (index >= encoded.length()) {
+                break;
+            }
+            result = nextValue(encoded, index);
+            lon += result[0];
+            index = result[1];
+            flat[size++] = lat / 1e5;
+            flat[size++] = lon / 1e5;
+        }
+        return Arrays.copyOf(flat, size);
+    }
+
+    public static String encode(List<double[]> points) {
+        StringBuilder sb = new StringBuilder();
+        long prevLat = 0;
+        long prevLon = 0;
+        for (double[] point : points) {
+            long lat = Math.round(point[0] * 1e5);
+            long lon = Math.round(point[1] * 1e5);
+            appendValue(sb, lat - prevLat);
+            appendValue(sb, lon - prevLon);
+            prevLat = lat;
+            prevLon = lon;
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Joins polylines drawn end to end into one, dropping the duplicated joint points.
+     */
+    public static String concat(List<String> encodedParts) {
+        List<double[]> all = new ArrayList<>();
+        for (String part : encodedParts) {
+            List<double[]> points = decode(part);
+            if (!all.isEmpty() && !points.isEmpty() && samePoint(all.get(all.size() - 1), points.get(0))) {
+                points = points.subList(1, points.size());
+            }
+            all.addAll(points);
+        }
+        return encode(all);
+    }
+
+    private static boolean samePoint(double[] a, double[] b) {
+        return Math.round(a[0] * 1e5) == Math.round(b[0] * 1e5) && Math.round(a[1] * 1e5) == Math.round(b[1] * 1e5);
+    }
+
+    /** @return {value, next index} */
+    private static int[] nextValue(String encoded, int index) {
+        int result = 0;
+        int shift = 0;
+        int b;
+        do {
+            b = encoded.charAt(index++) - 63;
+            result |= (b & 0x1f) << shift;
+            shift += 5;
+        } while (b >= 0x20 && index < encoded.length());
+        int value = (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+        return new int[] {value, index};
+    }
+
+    private static void appendValue(StringBuilder sb, long value) {
+        long v = value < 0 ? ~(value << 1) : (value << 1);
+        while (v >= 0x20) {
+            sb.append((char) ((0x20 | (v & 0x1f)) + 63));
+            v >>= 5;
+        }
+        sb.append((char) (v + 63));
+    }
+}
@@ -0,0 +1,199 @@
+package placefinder.usecases.routing;
+
+import placefinder.entities.Leg;
+import placefinder.entities.Place;
+import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The area within a given distance of a route's path, used to find places "on the way".
+ * Leg polylines are decoded into a local metre grid and each segment is filed under the
+ * grid cells it passes near, so checking a place only looks at the few segments around it.
+ */
+public final class RouteCorridor {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    /** A place's position relative to the route. */
+    public static final class Hit {
+        private final double distanceMeters;
+        private final int legIndex;
+
+        Hit(double distanceMeters, int legIndex) {
+            this.distanceMeters = distanceMeters;
+            this.legIndex = legIndex;
+        }
+
+        /** Straight-line distance from the place to the nearest point of the path. */
+        public double getDistanceMeters() { return distanceMeters; }
+
+        /** Leg of the route that passes closest; the place would be visited during it. */
+        public int getLegIndex() { return legIndex; }
+    }
+
+    private final double widthMeters;
+    private final double originLat;
+    private final double metersPerDegreeLon;
+    private final double[] xs;       // segment end points in metres, flat {x0, y0, x1, y1} per segment
+    private final int[] segmentLeg;
+    private final Map<Long, List<Integer>> cells = new HashMap<>();
+    private final double[] bounds;   // {south, west, north, east}, widened by the corridor width
+
+    private RouteCorridor(List<double[]> legPoints, double widthMeters) {
+        this.widthMeters = widthMeters;
+        double firstLat = 0;
+        for (double[] points : legPoints) {
+            if (points.length >= 2) {
+                firstLat = points[0];
+                break;
+            }
+        }
+        this.originLat = firstLat;
+        this.metersPerDegreeLon = METERS_PER_DEGREE * Math.cos(Math.toRadians(firstLat));
+
+        List<double[]> segments = new ArrayList<>();
+        List<Integer> legs = new ArrayList<>();
+        double south = Double.MAX_VALUE;
+        double west = Double.MAX_VALUE;
+        double north = -Double.MAX_VALUE;
+        double east = -Double.MAX_VALUE;
+        for (int leg = 0; leg < legPoints.size(); leg++) {
+            double[] points = legPoints.get(leg);
+            for (int i = 0; i + 1 < points.length; i += 2) {
+                south = Math.min(south, points[i]);
+                north = Math.max(north, points[i]);
+                west = Math.min(west, points[i + 1]);
+                east = Math.max(east, points[i + 1]);
+                if (i + 3 < points.length) {
+                    segments.add(new double[] {x(points[i + 1]), y(points[i]), x(points[i + 3]), y(points[i + 2])});
+                    legs.add(leg);
+                } else if (points.length == 2) {
+                    segments.add(new double[] {x(points[1]), y(points[0]), x(points[1]), y(points[0])});
+                    legs.add(leg);
+                }
+            }
+        }
+
+        xs = new double[segments.size() * 4];
+        segmentLeg = new int[segments.size()];
+        for (int s = 0; s < segments.size(); s++) {
+            System.arraycopy(segments.get(s), 0, xs, 4 * s, 4);
+            segmentLeg[s] = legs.get(s);
+            index(s);
+        }
+
+        double padLat = widthMeters / METERS_PER_DEGREE;
+        double padLon = widthMeters / metersPerDegreeLon;
+        bounds = segments.isEmpty()
+                ? new double[] {0, 0, 0, 0}
+                : new double[] {south - padLat, west - padLon, north + padLat, east + padLon};
+    }
+
+    /**
+     * Builds the corridor from the legs' polylines. Legs without a polyline fall back to a
+     * straight line between their stops.
+     */
+    public static RouteCorridor of(Route route, double widthMeters) {
+        List<double[]> legPoints = new ArrayList<>();
+        for (Leg leg : route.getLegs()) {
+            double[] points = PolylineCodec.decodeFlat(leg.getEncodedPolyline());
+            if (points.length < 4) {
+                points = straightLine(leg);
+            }
+            legPoints.add(points);
+        }
+        return new RouteCorridor(legPoints, widthMeters);
+    }
+
+    /** @return {south, west, north, east} of the corridor, for a bounding-box search */
+    public double[] bounds() {
+        return bounds.clone();
+    }
+
+    public boolean isEmpty() {
+        return segmentLeg.length == 0;
+    }
+
+    /** @return where the place sits relative to the route, or null if it is outside the corridor */
+    public Hit locate(Place place) {
+        double px = x(place.getLon());
+        double py = y(place.getLat());
+        List<Integer> nearby = cells.get(cellKey(cell(px), cell(py)));
+        if (nearby == null) {
+            return null;
+        }
+        double best = Double.MAX_VALUE;
+        int bestLeg = -1;
+        for (int s : nearby) {
+            double d = segmentDistance(px, py, s);
+            if (d < best) {
+                best = d;
+                bestLeg = segmentLeg[s];
+            }
+        }
+        return best <= widthMeters ? new Hit(best, bestLeg) : null;
+    }
+
+    private void index(int s) {
+        double minX = Math.min(xs[4 * s], xs[4 * s + 2]) - widthMeters;
+        double maxX = Math.max(xs[4 * s], xs[4 * s + 2]) + widthMeters;
+        double minY = Math.min(xs[4 * s + 1], xs[4 * s + 3]) - widthMeters;
+        double maxY = Math.max(xs[4 * s + 1], xs[4 * s + 3]) + widthMeters;
+        for (long cx = cell(minX); cx <= cell(maxX); cx++) {
+            for (long cy = cell(minY); cy <= cell(maxY); cy++) {
+                cells.computeIfAbsent(cellKey(cx, cy), k -> new ArrayList<>()).add(s);
+            }
+        }
+    }
+
+    private double segmentDistance(double px, double py, int s) {
+        double ax = xs[4 * s];
+        double ay = xs[4 * s + 1];
+        double dx = xs[4 * s + 2] - ax;
+        double dy = xs[4 * s + 3] - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        double t = lengthSquared == 0 ? 0 : ((px - ax) * dx + (py - ay) * dy) / lengthSquared;
+        t = Math.max(0, Math.min(1, t));
+        double cx = ax + t * dx - px;
+        double cy = ay + t * dy - py;
+        return Math.sqrt(cx * cx + cy * cy);
+    }
+
+    private double x(double lon) {
+        return lon * metersPerDegreeLon;
+    }
+
+    private double y(double lat) {
+        return (lat - originLat) * METERS_PER_DEGREE;
+    }
+
+    private long cell(double meters) {
+        return (long) Math.floor(meters / widthMeters);
+    }
+
+    private static long cellKey(long cx, long cy) {
+        return (cx << 32) ^ (cy & 0xffffffffL);
+    }
+
+    private static double[] straightLine(Leg leg) {
+        double[] from = point(leg.getStartLocation());
+        double[] to = point(leg.getEndLocation());
+        if (from == null || to == null) {
+            return new double[0];
+        }
+        return new double[] {from[0], from[1], to[0], to[1]};
+    }
+
+    /** Coordinates of a stop; the origin stop carries a blank place, so it has none. */
+    private static double[] point(PlanStop stop) {
+        if (stop == null || stop.getPlace() == null || stop.getPlace().getId() == null) {
+            return null;
+        }
+        return new double[] {stop.getPlace().getLat(), stop.getPlace().getLon()};
+    }
+}
@@ -0,0 +1,130 @@
+package placefinder.usecases.routing;
+
+import placefinder.entities.Leg;
+import placefinder.entities.LegBuilder;
+import placefinder.entities.OpeningHours;
+import placefinder.entities.Place;
+import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
+import placefinder.entities.RouteBuilder;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Recomputes the arrival and departure times of a route's stops from its leg durations.
+ * Routes are laid out as origin -> stop 1 -> ... -> stop n -> origin, so a route with
+ * n stops has n + 1 legs.
+ */
+public final class RouteTimeline {
+
+    /** Time spent at a stop when the route carries no usable visit length. */
+    public static final Duration DEFAULT_DWELL = Duration.ofHours(1);
+
+    private RouteTimeline() {
+    }
+
+    /**
+     * Returns a copy of the route starting at {@code startTime}. Each stop keeps its
+     * place and its visit length; only the clock times move. The given route is not
+     * modified, so cached routes can be retimed safely.
+     */
+    public static Route retime(Route route, LocalTime startTime) {
+        List<Duration> dwells = new ArrayList<>();
+        for (PlanStop stop : route.getStops()) {
+            dwells.add(dwellOf(stop));
+        }
+        return retime(route, startTime, dwells);
+    }
+
+    /**
+     * Same as {@link #retime(Route, LocalTime)} but with an explicit visit length per stop,
+     * in route order.
+     */
+    public static Route retime(Route route, LocalTime startTime, List<Duration> dwells) {
+        return retime(route, startTime, dwells, null);
+    }
+
+    /**
+     * Same as {@link #retime(Route, LocalTime, List)}, but a stop reached before its place
+     * opens on {@code day} starts when the visit fits in the opening hours. Places without
+     * opening hours, or a null day, start on arrival.
+     */
+    public static Route retime(Route route, LocalTime startTime, List<Duration> dwells, DayOfWeek day) {
+        PlanStop origin = new PlanStop(0, originPlace(route), startTime, startTime);
+
+        List<PlanStop> stops = new ArrayList<>();
+        List<Leg> legs = new ArrayList<>();
+        PlanStop previous = origin;
+        LocalTime clock = startTime;
+        List<Leg> oldLegs = route.getLegs();
+        for (int i = 0; i < oldLegs.size(); i++) {
+            Leg oldLeg = oldLegs.get(i);
+            clock = clock.plusSeconds((long) oldLeg.getDuration());
+
+            PlanStop next;
+            if (i < route.getStops().size()) {
+                PlanStop oldStop = route.getStops().get(i);
+                clock = waitForOpening(oldStop.getPlace(), day, clock, dwells.get(i));
+                LocalTime leave = clock.plus(dwells.get(i));
+                next = new PlanStop(i, oldStop.getPlace(), clock, leave);
+                next.setWeather(oldStop.getWeather());
+                stops.add(next);
+                clock = leave;
+            } else {
+                next = origin;
+            }
+
+            legs.add(new LegBuilder()
+                    .withDistance(oldLeg.getDistance())
+                    .withDuration(oldLeg.getDuration())
+                    .withEncodedPolyline(oldLeg.getEncodedPolyline())
+                    .withStartLocation(previous)
+                    .withEndLocation(next)
+                    .withSteps(oldLeg.getSteps())
+                    .build());
+            previous = next;
+        }
+
+        return new RouteBuilder()
+                .withStops(stops)
+                .withLegs(legs)
+                .withDistance(route.getDistance())
+                .withDuration(route.getDuration())
+                .withEncodedPolyline(route.getEncodedPolyline())
+                .build();
+    }
+
+    /**
+     * Visit length of a stop, falling back to {@link #DEFAULT_DWELL} when the times are
+     * missing or wrap past midnight.
+     */
+    public static Duration dwellOf(PlanStop stop) {
+        if (stop.getStartTime() == null || stop.getEndTime() == null
+                || stop.getEndTime().isBefore(stop.getStartTime())) {
+            return DEFAULT_DWELL;
+        }
+        return Duration.between(stop.getStartTime(), stop.getEndTime());
+    }
+
+    private static LocalTime waitForOpening(Place place, DayOfWeek day, LocalTime arrival, Duration dwell) {
+        OpeningHours hours = place != null ? place.getOpeningHours() : null;
+        if (day == null || hours == null) {
+            return arrival;
+        }
+        int start = hours.earliestVisitStart(day, arrival.toSecondOfDay(), (int) dwell.getSeconds());
+        // a visit that no longer fits keeps its arrival time rather than moving to an odd hour
+        return start > arrival.toSecondOfDay() ? LocalTime.ofSecondOfDay(start) : arrival;
+    }
+
+    private static Place originPlace(Route route) {
+        if (!route.getLegs().isEmpty() && route.getLegs().get(0).getStartLocation() != null
+                && route.getLegs().get(0).getStartLocation().getPlace() != null) {
+            return route.getLegs().get(0).getStartLocation().getPlace();
+        }
+        return new Place();
+    }
+}
@@ -0,0 +1,62 @@
+package placefinder.usecases.routing;
+
+import placefinder.entities.Place;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Splits a large set of places into groups that can be routed separately.
+ * Places are sorted by bearing from the origin and cut into consecutive slices
+ * (a "sweep"), so each group covers one sector around the origin and visiting the
+ * groups in order walks once around it. The sweep starts at the widest empty
+ * sector so no group straddles the gap.
+ */
+public final class SweepClusterer {
+
+    private SweepClusterer() {
+    }
+
+    /**
+     * @param maxPerCluster the largest allowed group
+     * @return groups in visiting order, each with at most {@code maxPerCluster} places and
+     *         sizes as even as possible
+     */
+    public static List<List<Place>> partition(double originLat, double originLon,
+                                              List<Place> places, int maxPerCluster) {
+        List<Place> sorted = new ArrayList<>(places);
+        sorted.sort(Comparator.comparingDouble(p -> bearing(originLat, originLon, p)));
+
+        // rotate so the list starts right after the widest angular gap
+        int start = 0;
+        double widest = -1;
+        for (int i = 0; i < sorted.size(); i++) {
+            double here = bearing(originLat, originLon, sorted.get(i));
+            double before = bearing(originLat, originLon, sorted.get((i - 1 + sorted.size()) % sorted.size()));
+            double gap = (here - before + 2 * Math.PI) % (2 * Math.PI);
+            if (gap > widest) {
+                widest = gap;
+                start = i;
+            }
+        }
+        List<Place> ordered = new ArrayList<>(sorted.subList(start, sorted.size()));
+        ordered.addAll(sorted.subList(0, start));
+
+        int clusters = Math.max(1, (int) Math.ceil(ordered.size() / (double) maxPerCluster));
+        List<List<Place>> result = new ArrayList<>();
+        int from = 0;
+        for (int k = 0; k < clusters; k++) {
+            int size = ordered.size() / clusters + (k < ordered.size() % clusters ? 1 : 0);
+            result.add(new ArrayList<>(ordered.subList(from, from + size)));
+            from += size;
+        }
+        return result;
+    }
+
+    private static double bearing(double originLat, double originLon, Place place) {
+        double dy = place.getLat() - originLat;
+        double dx = (place.getLon() - originLon) * Math.cos(Math.toRadians(originLat));
+        return Math.atan2(dy, dx) + Math.PI;
+    }
+}
@@ -0,0 +1,216 @@
+package placefinder.usecases.routing;
+
+import placefinder.entities.OpeningHours;
+import placefinder.entities.Place;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Orders stops so every visit falls inside the place's opening hours (a travelling
+ * salesman problem with time windows). Walking times are estimated locally (see
+ * {@link WalkingEstimator}); arriving before a place opens means waiting at the door.
+ *
+ * <p>Stops are inserted tightest closing time first, each at the position that makes
+ * the day end earliest while every visit stays open; stops that fit nowhere are left
+ * out. A relocation pass then moves single stops while that finishes the day sooner.
+ * Places without opening hours are treated as always open.
+ *
+ * <p>Visits can also be kept out of {@link AvoidedHours}, such as rain at an outdoor
+ * place: a visit starting in an avoided hour counts as if the day ended two hours later,
+ * so the stop moves to another hour unless that costs even more walking or waiting.
+ */
+public class TimeWindowScheduler {
+
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int INFEASIBLE = Integer.MAX_VALUE;
+    private static final int AVOIDED_VISIT_PENALTY = 2 * 60 * 60;
+
+    /** Hours at which a place is better not visited. */
+    public interface AvoidedHours {
+        AvoidedHours NONE = (place, hour) -> false;
+
+        boolean avoid(Place place, int hour);
+    }
+
+    /** Result of scheduling: the visiting order and the places that could not be fitted. */
+    public static class Result {
+        private final List<Place> order;
+        private final List<Place> closed;
+
+        public Result(List<Place> order, List<Place> closed) {
+            this.order = order;
+            this.closed = closed;
+        }
+
+        public List<Place> getOrder() { return order; }
+        public List<Place> getClosed() { return closed; }
+    }
+
+    private final Duration dwell;
+
+    public TimeWindowScheduler() {
+        this(RouteTimeline.DEFAULT_DWELL);
+    }
+
+    public TimeWindowScheduler(Duration dwell) {
+        this.dwell = dwell;
+    }
+
+    /** @return true if any of the places has known opening hours */
+    public static boolean hasOpeningHours(List<Place> places) {
+        for (Place place : places) {
+            if (place.getOpeningHours() != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Result schedule(double originLat, double originLon, DayOfWeek day, LocalTime startTime,
+                           List<Place> places) {
+        return schedule(originLat, originLon, day, startTime, places, AvoidedHours.NONE);
+    }
+
+    public Result schedule(double originLat, double originLon, DayOfWeek day, LocalTime startTime,
+                           List<Place> places, AvoidedHours avoided) {
+        int n = places.size();
+        TravelMatrix travel = TravelMatrix.walking(originLat, originLon, places);
+        Schedule schedule = new Schedule(places, travel, day, startTime.toSecondOfDay(), avoided);
+
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            pending.add(i);
+        }
+        pending.sort(Comparator.comparingInt(schedule::latestStart));
+
+        List<Integer> tour = new ArrayList<>();
+        List<Place> closed = new ArrayList<>();
+        for (int stop : pending) {
+            int bestPos = -1;
+            int bestCost = INFEASIBLE;
+            for (int pos = 0; pos <= tour.size(); pos++) {
+                tour.add(pos, stop);
+                int cost = schedule.cost(tour);
+                tour.remove(pos);
+                if (cost < bestCost) {
+                    bestCost = cost;
+                    bestPos = pos;
+                }
+            }
+            if (bestPos < 0) {
+                closed.add(places.get(stop));
+            } else {
+                tour.add(bestPos, stop);
+            }
+        }
+
+        relocate(tour, schedule);
+
+        List<Place> order = new ArrayList<>();
+        for (int stop : tour) {
+            order.add(places.get(stop));
+        }
+        return new Result(order, closed);
+    }
+
+    /** Moves single stops to other positions while that lowers the cost. */
+    private void relocate(List<Integer> tour, Schedule schedule) {
+        int current = schedule.cost(tour);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int from = 0; from < tour.size() && !improved; from++) {
+                int stop = tour.remove(from);
+                for (int to = 0; to <= tour.size(); to++) {
+                    if (to == from) {
+                        continue;
+                    }
+                    tour.add(to, stop);
+                    int cost = schedule.cost(tour);
+                    if (cost < current) {
+                        current = cost;
+                        improved = true;
+                        break;
+                    }
+                    tour.remove(to);
+                }
+                if (!improved) {
+                    tour.add(from, stop);
+                }
+            }
+        }
+    }
+
+    /** Simulates walking a tour from the start time; everything is in seconds of the day. */
+    private final class Schedule {
+        private final List<Place> places;
+        private final TravelMatrix travel;
+        private final DayOfWeek day;
+        private final int start;
+        private final AvoidedHours avoided;
+
+        Schedule(List<Place> places, TravelMatrix travel, DayOfWeek day, int start, AvoidedHours avoided) {
+            this.places = places;
+            this.travel = travel;
+            this.day = day;
+            this.start = start;
+            this.avoided = avoided;
+        }
+
+        /** Latest time a visit to the stop can start, used to insert the tightest stops first. */
+        int latestStart(int stop) {
+            OpeningHours hours = places.get(stop).getOpeningHours();
+            if (hours == null) {
+                return SECONDS_PER_DAY;
+            }
+            int[] intervals = hours.intervals(day);
+            for (int i = intervals.length - 2; i >= 0; i -= 2) {
+                int latest = intervals[i + 1] * 60 - (int) dwell.getSeconds();
+                if (latest >= intervals[i] * 60) {
+                    return latest;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * @return the time back at the origin plus the penalties for visits in avoided hours,
+         *         or {@link #INFEASIBLE} if a visit misses its opening hours
+         */
+        int cost(List<Integer> tour) {
+            double clock = start;
+            int previous = 0;
+            int penalty = 0;
+            for (int stop : tour) {
+                clock += travel.seconds(previous, stop + 1);
+                int visitStart = visitStart(stop, (int) Math.ceil(clock));
+                if (visitStart < 0) {
+                    return INFEASIBLE;
+                }
+                if (avoided.avoid(places.get(stop), visitStart / 3600)) {
+                    penalty += AVOIDED_VISIT_PENALTY;
+                }
+                clock = visitStart + dwell.getSeconds();
+                if (clock > SECONDS_PER_DAY) {
+                    return INFEASIBLE;
+                }
+                previous = stop + 1;
+            }
+            clock += travel.seconds(previous, 0);
+            return (int) Math.ceil(clock) + penalty;
+        }
+
+        private int visitStart(int stop, int arrival) {
+            OpeningHours hours = places.get(stop).getOpeningHours();
+            if (hours == null) {
+                return arrival;
+            }
+            return hours.earliestVisitStart(day, arrival, (int) dwell.getSeconds());
+        }
+    }
+}
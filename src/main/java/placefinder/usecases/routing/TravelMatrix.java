@@ -0,0 +1,48 @@
+package placefinder.usecases.routing;
+
+import placefinder.entities.Place;
+
+import java.util.List;
+
+/**
+ * Estimated walking seconds between an origin and a list of places, computed once and
+ * then only read, so several planners can share it. Index 0 is the origin and place
+ * {@code i} of the list is index {@code i + 1}.
+ */
+public final class TravelMatrix {
+
+    private final double[][] seconds;
+
+    private TravelMatrix(double[][] seconds) {
+        this.seconds = seconds;
+    }
+
+    public static TravelMatrix walking(double originLat, double originLon, List<Place> places) {
+        int n = places.size() + 1;
+        double[] lat = new double[n];
+        double[] lon = new double[n];
+        lat[0] = originLat;
+        lon[0] = originLon;
+        for (int i = 1; i < n; i++) {
+            lat[i] = places.get(i - 1).getLat();
+            lon[i] = places.get(i - 1).getLon();
+        }
+        double[][] seconds = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                seconds[i][j] = WalkingEstimator.walkingSeconds(lat[i], lon[i], lat[j], lon[j]);
+                seconds[j][i] = seconds[i][j];
+            }
+        }
+        return new TravelMatrix(seconds);
+    }
+
+    /** Number of places, not counting the origin. */
+    public int placeCount() {
+        return seconds.length - 1;
+    }
+
+    public double seconds(int from, int to) {
+        return seconds[from][to];
+    }
+}
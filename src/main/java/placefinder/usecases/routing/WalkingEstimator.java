@@ -0,0 +1,62 @@
+package placefinder.usecases.routing;
+
+import placefinder.entities.Leg;
+import placefinder.entities.LegBuilder;
+import placefinder.entities.StepBuilder;
+
+import java.util.List;
+
+/**
+ * Offline estimates of walking legs from straight-line distance.
+ * Streets are rarely straight, so the great-circle distance is stretched by a
+ * detour factor before converting it to time at an average walking pace.
+ */
+public final class WalkingEstimator {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+    /** Typical ratio between walked distance and straight-line distance in a city grid. */
+    public static final double DETOUR_FACTOR = 1.3;
+
+    /** Average walking speed in meters per second (about 4.7 km/h). */
+    public static final double WALKING_SPEED_MPS = 1.3;
+
+    private WalkingEstimator() {
+    }
+
+    public static double haversineMeters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    public static double walkingMeters(double lat1, double lon1, double lat2, double lon2) {
+        return haversineMeters(lat1, lon1, lat2, lon2) * DETOUR_FACTOR;
+    }
+
+    public static double walkingSeconds(double lat1, double lon1, double lat2, double lon2) {
+        return walkingMeters(lat1, lon1, lat2, lon2) / WALKING_SPEED_MPS;
+    }
+
+    /**
+     * An estimated leg with a single summary step and no polyline. Its end points are
+     * left empty; {@link RouteTimeline} links legs to stops when a route is re-timed.
+     */
+    public static Leg estimatedLeg(double lat1, double lon1, double lat2, double lon2) {
+        int meters = (int) Math.round(walkingMeters(lat1, lon1, lat2, lon2));
+        double seconds = walkingSeconds(lat1, lon1, lat2, lon2);
+        return new LegBuilder()
+                .withDistance(meters)
+                .withDuration(seconds)
+                .withEncodedPolyline("")
+                .withSteps(List.of(new StepBuilder()
+                        .withDistance(meters)
+                        .withDuration(seconds)
+                        .withInstruction("Walk about " + meters + " m to the next stop (estimated).")
+                        .build()))
+                .build();
+    }
+}
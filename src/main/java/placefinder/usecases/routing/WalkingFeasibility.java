@@ -0,0 +1,116 @@
+package placefinder.usecases.routing;
+
+import placefinder.entities.Place;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Local check that a set of stops fits in the rest of the day, done before any
+ * route request. The tour is estimated with a nearest-neighbour walk from the origin
+ * and back (see {@link WalkingEstimator}) plus a fixed visit length per stop. While the
+ * estimate runs past the end of the day, the stop whose removal saves the most time
+ * is left out.
+ */
+public class WalkingFeasibility {
+
+    /** Result of a check: the stops to route and the ones left out. */
+    public static class Result {
+        private final List<Place> kept;
+        private final List<Place> dropped;
+        private final Duration estimatedDuration;
+
+        public Result(List<Place> kept, List<Place> dropped, Duration estimatedDuration) {
+            this.kept = kept;
+            this.dropped = dropped;
+            this.estimatedDuration = estimatedDuration;
+        }
+
+        public List<Place> getKept() { return kept; }
+        public List<Place> getDropped() { return dropped; }
+        public Duration getEstimatedDuration() { return estimatedDuration; }
+    }
+
+    private final LocalTime dayEnd;
+    private final Duration dwell;
+
+    public WalkingFeasibility() {
+        this(LocalTime.of(23, 59), RouteTimeline.DEFAULT_DWELL);
+    }
+
+    public WalkingFeasibility(LocalTime dayEnd, Duration dwell) {
+        this.dayEnd = dayEnd;
+        this.dwell = dwell;
+    }
+
+    public Result check(double originLat, double originLon, LocalTime startTime, List<Place> places) {
+        long budget = startTime.isBefore(dayEnd) ? Duration.between(startTime, dayEnd).getSeconds() : 0;
+        List<Place> kept = new ArrayList<>(places);
+        List<Place> dropped = new ArrayList<>();
+
+        List<Place> tour = nearestNeighbourTour(originLat, originLon, kept);
+        double seconds = tourSeconds(originLat, originLon, tour);
+        while (!tour.isEmpty() && seconds > budget) {
+            // the stop with the largest detour saves the most walking when skipped
+            int worst = 0;
+            double bestSaving = -1;
+            for (int i = 0; i < tour.size(); i++) {
+                double[] prev = i == 0 ? new double[] {originLat, originLon} : point(tour.get(i - 1));
+                double[] next = i == tour.size() - 1 ? new double[] {originLat, originLon} : point(tour.get(i + 1));
+                double[] here = point(tour.get(i));
+                double saving = walk(prev, here) + walk(here, next) - walk(prev, next);
+                if (saving > bestSaving) {
+                    bestSaving = saving;
+                    worst = i;
+                }
+            }
+            Place removed = tour.get(worst);
+            kept.remove(removed);
+            dropped.add(removed);
+            tour = nearestNeighbourTour(originLat, originLon, kept);
+            seconds = tourSeconds(originLat, originLon, tour);
+        }
+        return new Result(kept, dropped, Duration.ofSeconds((long) seconds));
+    }
+
+    private List<Place> nearestNeighbourTour(double originLat, double originLon, List<Place> places) {
+        List<Place> remaining = new ArrayList<>(places);
+        List<Place> tour = new ArrayList<>();
+        double[] current = {originLat, originLon};
+        while (!remaining.isEmpty()) {
+            Place nearest = remaining.get(0);
+            double nearestSeconds = Double.MAX_VALUE;
+            for (Place place : remaining) {
+                double s = walk(current, point(place));
+                if (s < nearestSeconds) {
+                    nearestSeconds = s;
+                    nearest = place;
+                }
+            }
+            remaining.remove(nearest);
+            tour.add(nearest);
+            current = point(nearest);
+        }
+        return tour;
+    }
+
+    private double tourSeconds(double originLat, double originLon, List<Place> tour) {
+        double seconds = 0;
+        double[] current = {originLat, originLon};
+        for (Place place : tour) {
+            seconds += walk(current, point(place)) + dwell.getSeconds();
+            current = point(place);
+        }
+        return seconds + walk(current, new double[] {originLat, originLon});
+    }
+
+    private static double[] point(Place place) {
+        return new double[] {place.getLat(), place.getLon()};
+    }
+
+    private static double walk(double[] from, double[] to) {
+        return WalkingEstimator.walkingSeconds(from[0], from[1], to[0], to[1]);
+    }
+}
@@ -0,0 +1,63 @@
+package placefinder.usecases.searchplaces;
+
+import placefinder.entities.IndoorOutdoorType;
+import placefinder.entities.Place;
+import placefinder.entities.WeatherSummary;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Orders search results by how well they match the user's interests and the weather:
+ * each matching interest is worth 10 points, the right indoor/outdoor type for the
+ * forecast 5, and every kilometre away costs a point.
+ */
+public final class PlaceRanker {
+
+    private PlaceRanker() {
+    }
+
+    /** Sorts the places in place, best first; the sort is stable for equal scores. */
+    public static void rank(List<Place> places,
+                            Map<String, List<String>> selectedCategories,
+                            WeatherSummary weather) {
+        boolean wet = weather != null && weather.isPrecipitationLikely();
+        places.sort(Comparator.comparingDouble((Place p) -> -score(p, selectedCategories, wet)));
+    }
+
+    static double score(Place place,
+                        Map<String, List<String>> selectedCategories,
+                        boolean wet) {
+        double score = 0;
+
+        if (selectedCategories != null && !selectedCategories.isEmpty()) {
+            List<String> selectedSubCategories = selectedCategories.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
+
+            List<String> placeCategories = place.getCategories();
+            for (String selectedCategory : selectedSubCategories) {
+                for (String placeCategory : placeCategories) {
+                    if (placeCategory.equals(selectedCategory)
+                            || placeCategory.startsWith(selectedCategory)) {
+                        score += 10;
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (wet && place.getIndoorOutdoorType() == IndoorOutdoorType.INDOOR) {
+            score += 5;
+        }
+        if (!wet && place.getIndoorOutdoorType() == IndoorOutdoorType.OUTDOOR) {
+            score += 5;
+        }
+
+        score -= place.getDistanceKm();
+
+        return score;
+    }
+}
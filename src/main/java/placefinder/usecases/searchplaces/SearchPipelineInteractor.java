@@ -0,0 +1,174 @@
+package placefinder.usecases.searchplaces;
+
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Place;
+import placefinder.entities.PreferenceProfile;
+import placefinder.entities.WeatherSummary;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.WeatherDataAccessInterface;
+import placefinder.usecases.weatheradvice.WeatherAdviceFormatter;
+import placefinder.usecases.weatheradvice.WeatherAdviceOutputBoundary;
+import placefinder.usecases.weatheradvice.WeatherAdviceOutputData;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * The plan builder's search: the same result as {@link SearchPlacesInteractor} plus the
+ * weather advice for the day, from one pass over the APIs.
+ *
+ * <p>The location is geocoded once while the preferences load. Then the forecast and the
+ * per-interest place searches all run at the same time on virtual threads, so a search
+ * takes about as long as its slowest call rather than the sum of them. Ranking waits for
+ * the forecast, since wet days favour indoor places.
+ */
+public class SearchPipelineInteractor implements SearchPlacesInputBoundary {
+
+    private final PreferenceDataAccessInterface preferenceDataAccessInterface;
+    private final GeocodingDataAccessInterface geocodingDataAccessInterface;
+    private final PlacesDataAccessInterface placesDataAccessInterface;
+    private final WeatherDataAccessInterface weatherDataAccessInterface;
+    private final SearchPlacesOutputBoundary presenter;
+    private final WeatherAdviceOutputBoundary weatherAdvicePresenter;
+
+    public SearchPipelineInteractor(PreferenceDataAccessInterface preferenceDataAccessInterface,
+                                    GeocodingDataAccessInterface geocodingDataAccessInterface,
+                                    PlacesDataAccessInterface placesDataAccessInterface,
+                                    WeatherDataAccessInterface weatherDataAccessInterface,
+                                    SearchPlacesOutputBoundary presenter,
+                                    WeatherAdviceOutputBoundary weatherAdvicePresenter) {
+        this.preferenceDataAccessInterface = preferenceDataAccessInterface;
+        this.geocodingDataAccessInterface = geocodingDataAccessInterface;
+        this.placesDataAccessInterface = placesDataAccessInterface;
+        this.weatherDataAccessInterface = weatherDataAccessInterface;
+        this.presenter = presenter;
+        this.weatherAdvicePresenter = weatherAdvicePresenter;
+    }
+
+    /** @return the places found, or an empty list for a gateway that answers null */
+    private List<Place> searchPlaces(GeocodeResult geo, double radiusKm,
+                                     Map<String, List<String>> categories) throws Exception {
+        List<Place> places = placesDataAccessInterface.searchPlaces(geo.getLat(), geo.getLon(), radiusKm, categories);
+        return places == null ? List.of() : places;
+    }
+
+    @Override
+    public boolean presentsWeatherAdvice() {
+        return true;
+    }
+
+    @Override
+    public void execute(SearchPlacesInputData inputData) {
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            LocalDate date = LocalDate.parse(inputData.getDate());
+
+            // Stage 1: preferences and geocoding do not depend on each other
+            Future<PreferenceProfile> profileFuture =
+                    executor.submit(() -> preferenceDataAccessInterface.loadForUser(inputData.getUserId()));
+            GeocodeResult geo = geocodingDataAccessInterface.geocode(inputData.getLocationText());
+            if (geo == null) {
+                fail("Could not find that location.");
+                return;
+            }
+
+            // Stage 2: the forecast and every place search, all at once
+            Future<WeatherSummary> weatherFuture = executor.submit(
+                    () -> weatherDataAccessInterface.getDailyWeather(geo.getLat(), geo.getLon(), date));
+            PreferenceProfile profile = await(profileFuture);
+            Map<String, List<String>> selectedCategories = profile.getSelectedCategories();
+            List<Future<List<Place>>> searches = new ArrayList<>();
+            if (selectedCategories == null || selectedCategories.isEmpty()) {
+                // If user has no interests, just search general places
+                searches.add(executor.submit(() -> searchPlaces(geo, profile.getRadiusKm(), null)));
+            } else {
+                // For each interest, up to 5 places
+                for (Map.Entry<String, List<String>> entry : selectedCategories.entrySet()) {
+                    Map<String, List<String>> singleInterestMap = Map.of(entry.getKey(), entry.getValue());
+                    searches.add(executor.submit(() -> searchPlaces(geo, profile.getRadiusKm(), singleInterestMap)
+                            .stream().limit(5).toList()));
+                }
+            }
+
+            // Stage 3: weather advice goes out as soon as the forecast is in
+            WeatherSummary weather = null;
+            String weatherError = null;
+            try {
+                weather = await(weatherFuture);
+                if (weather == null) {
+                    weatherError = "Unable to retrieve weather data at the moment.";
+                }
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                weatherError = e.getMessage();
+            }
+            boolean weatherUsed = weather != null;
+            if (weatherUsed) {
+                weatherAdvicePresenter.present(new WeatherAdviceOutputData(
+                        WeatherAdviceFormatter.summary(geo.getFormattedAddress(), date, weather),
+                        WeatherAdviceFormatter.advice(weather),
+                        null));
+            } else {
+                weatherAdvicePresenter.present(new WeatherAdviceOutputData(null, null, weatherError));
+            }
+            String searchAdvice = weatherUsed
+                    ? WeatherAdviceFormatter.searchAdvice(weather)
+                    : "Weather data unavailable. Results are not weather-optimized.";
+
+            // Stage 4: merge in interest order and rank
+            List<Place> places = new ArrayList<>();
+            for (Future<List<Place>> search : searches) {
+                places.addAll(await(search));
+            }
+            if (places.isEmpty()) {
+                presenter.present(new SearchPlacesOutputData(
+                        List.of(),
+                        geo.getFormattedAddress(),
+                        weatherUsed,
+                        searchAdvice,
+                        "No places found near this location. Try increasing radius or changing interests."
+                ));
+                return;
+            }
+
+            PlaceRanker.rank(places, selectedCategories, weather);
+            presenter.present(new SearchPlacesOutputData(
+                    places,
+                    geo.getFormattedAddress(),
+                    weatherUsed,
+                    searchAdvice,
+                    null
+            ));
+        } catch (InterruptedException e) {
+            // superseded by a newer search; nobody is waiting for this result
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            fail(e.getMessage());
+        } finally {
+            // stops calls that are still running after an error or a cancellation
+            executor.shutdownNow();
+        }
+    }
+
+    private void fail(String message) {
+        presenter.present(new SearchPlacesOutputData(List.of(), null, false, null, message));
+        weatherAdvicePresenter.present(new WeatherAdviceOutputData(null, null, message));
+    }
+
+    private static <T> T await(Future<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+}
@@ -2,4 +2,12 @@ package placefinder.usecases.searchplaces;
 
 public interface SearchPlacesInputBoundary {
     void execute(SearchPlacesInputData inputData);
+
+    /**
+     * @return true if a search also presents the weather advice for the searched day, so
+     *         the caller does not need to request it separately
+     */
+    default boolean presentsWeatherAdvice() {
+        return false;
+    }
 }
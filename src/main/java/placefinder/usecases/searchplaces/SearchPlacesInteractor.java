@@ -4,19 +4,16 @@ import placefinder.entities.Place;
 import placefinder.entities.PreferenceProfile;
 import placefinder.entities.WeatherSummary;
 import placefinder.entities.GeocodeResult;
-import placefinder.entities.IndoorOutdoorType;
 import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
 import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
 import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
 import placefinder.usecases.dataacessinterfaces.WeatherDataAccessInterface;
-
+import placefinder.usecases.weatheradvice.WeatherAdviceFormatter;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class SearchPlacesInteractor implements SearchPlacesInputBoundary {
 
@@ -65,7 +62,7 @@ public class SearchPlacesInteractor implements SearchPlacesInputBoundary {
                 weather = weatherDataAccessInterface.getDailyWeather(geo.getLat(), geo.getLon(), date);
                 if (weather != null) {
                     weatherUsed = true;
-                    weatherAdvice = buildWeatherAdvice(weather);
+                    weatherAdvice = WeatherAdviceFormatter.searchAdvice(weather);
                 }
             } catch (Exception e) {
                 // weather API failed – we just proceed without optimization
@@ -107,7 +104,7 @@ public class SearchPlacesInteractor implements SearchPlacesInputBoundary {
                 return;
             }
 
-            rankPlaces(places, selectedCategories, weather);
+            PlaceRanker.rank(places, selectedCategories, weather);
             presenter.present(new SearchPlacesOutputData(
                     places,
                     geo.getFormattedAddress(),
@@ -125,81 +122,4 @@ public class SearchPlacesInteractor implements SearchPlacesInputBoundary {
             ));
         }
     }
-
-    private void rankPlaces(List<Place> places,
-                            Map<String, List<String>> selectedCategories,
-                            WeatherSummary weather) {
-        boolean wet = weather != null && weather.isPrecipitationLikely();
-        places.sort(Comparator.comparingDouble((Place p) -> -scorePlace(p, selectedCategories, wet)));
-    }
-
-    private double scorePlace(Place place,
-                              Map<String, List<String>> selectedCategories,
-                              boolean wet) {
-        double score = 0;
-
-        if (selectedCategories != null && !selectedCategories.isEmpty()) {
-            List<String> selectedSubCategories = selectedCategories.values().stream()
-                    .flatMap(List::stream)
-                    .collect(Collectors.toList());
-
-            List<String> placeCategories = place.getCategories();
-            for (String selectedCategory : selectedSubCategories) {
-                for (String placeCategory : placeCategories) {
-                    if (placeCategory.equals(selectedCategory)
-                            || placeCategory.startsWith(selectedCategory)) {
-                        score += 10;
-                        break;
-                    }
-                }
-            }
-        }
-
-        if (wet && place.getIndoorOutdoorType() == IndoorOutdoorType.INDOOR) {
-            score += 5;
-        }
-        if (!wet && place.getIndoorOutdoorType() == IndoorOutdoorType.OUTDOOR) {
-            score += 5;
-        }
-
-        score -= place.getDistanceKm();
-
-        return score;
-    }
-
-    private String buildWeatherAdvice(WeatherSummary weather) {
-        StringBuilder sb = new StringBuilder();
-
-        double temp = weather.getTemperatureC();
-        sb.append(String.format("Temperature is %.1f°C. ", temp));
-        if (temp <= 5) {
-            sb.append("It is cold — wear a warm jacket, maybe a hat and gloves. ");
-        } else if (temp <= 15) {
-            sb.append("A light jacket or sweater is recommended. ");
-        } else if (temp <= 25) {
-            sb.append("Comfortable temperature — light layers are fine. ");
-        } else {
-            sb.append("It is quite warm — wear light clothing and stay hydrated. ");
-        }
-
-        double uv = weather.getUvIndex();
-        sb.append(String.format("UV index is %.1f. ", uv));
-        if (uv >= 6) {
-            sb.append("Use sunscreen, sunglasses, and consider a hat. ");
-        } else if (uv >= 3) {
-            sb.append("Sunscreen is a good idea if you will be outside. ");
-        } else {
-            sb.append("Sun exposure risk is low. ");
-        }
-
-        if (weather.isPrecipitationLikely()) {
-            sb.append("Rain or snow is likely — bring an umbrella or waterproof jacket. ");
-            sb.append("We are favouring indoor locations for you.");
-        } else {
-            sb.append("Rain is unlikely — good conditions to be outside. ");
-            sb.append("We are favouring outdoor locations for you.");
-        }
-
-        return sb.toString().trim();
-    }
 }
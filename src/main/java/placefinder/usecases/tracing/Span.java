@@ -0,0 +1,74 @@
+package placefinder.usecases.tracing;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One timed step of a {@link Trace}, such as a use case, a gateway call or an HTTP
+ * request. A span may be ended on another thread than the one that started it.
+ */
+public final class Span {
+
+    private final Trace trace;
+    private final int id;
+    private final int parentId;
+    private final String name;
+    private final String threadName;
+    private final long startNanos;
+    private final AtomicBoolean ended = new AtomicBoolean();
+    private volatile long endNanos;
+    private volatile String error;
+
+    Span(Trace trace, int id, int parentId, String name) {
+        this.trace = trace;
+        this.id = id;
+        this.parentId = parentId;
+        this.name = name;
+        Thread thread = Thread.currentThread();
+        this.threadName = thread.getName().isEmpty() ? "#" + thread.threadId() : thread.getName();
+        this.startNanos = System.nanoTime();
+    }
+
+    public Trace getTrace() { return trace; }
+
+    /** Unique within its trace; the root span is 1. */
+    public int getId() { return id; }
+
+    /** @return the enclosing span's id, or 0 for the root span */
+    public int getParentId() { return parentId; }
+
+    public String getName() { return name; }
+
+    /** Thread that started the span; unnamed (virtual) threads are shown as {@code #<id>}. */
+    public String getThreadName() { return threadName; }
+
+    /** @return nanoseconds from the start of the trace to the start of this span */
+    public long getStartOffsetNanos() { return startNanos - trace.getStartNanos(); }
+
+    long startNanos() { return startNanos; }
+
+    /** @return how long the span took, or -1 while it is still running */
+    public long getDurationNanos() { return ended.get() ? endNanos - startNanos : -1; }
+
+    /** @return why the span failed, or null */
+    public String getError() { return error; }
+
+    public boolean isEnded() { return ended.get(); }
+
+    /** Records the exception's type; messages are left out, as they may hold URLs or keys. */
+    public void fail(Throwable e) {
+        fail(e.getClass().getSimpleName());
+    }
+
+    public void fail(String reason) {
+        this.error = reason;
+    }
+
+    /** Ends the span; later calls do nothing. Ending the root span completes the trace. */
+    public void end() {
+        long now = System.nanoTime();
+        if (ended.compareAndSet(false, true)) {
+            endNanos = now;
+            trace.ended(this);
+        }
+    }
+}
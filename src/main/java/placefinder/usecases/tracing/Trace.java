@@ -0,0 +1,77 @@
+package placefinder.usecases.tracing;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Everything one user action did: a root span for the use case and the spans of the calls
+ * it made, on whichever threads they ran. A trace holds at most {@link #MAX_SPANS} spans;
+ * further ones are only counted.
+ */
+public final class Trace {
+
+    public static final int MAX_SPANS = 1_000;
+
+    private static final AtomicLong IDS = new AtomicLong();
+
+    private final long id = IDS.incrementAndGet();
+    private final Tracer tracer;
+    private final long startEpochMillis = System.currentTimeMillis();
+    private final long startNanos;
+    private final AtomicInteger spanIds = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+    private final Queue<Span> ended = new ConcurrentLinkedQueue<>();
+    private final Span root;
+
+    Trace(Tracer tracer, String name) {
+        this.tracer = tracer;
+        this.root = new Span(this, spanIds.incrementAndGet(), 0, name);
+        this.startNanos = root.startNanos();
+    }
+
+    /** @return a new span under {@code parent}, or null if the trace is full */
+    Span startSpan(Span parent, String name) {
+        int spanId = spanIds.incrementAndGet();
+        if (spanId > MAX_SPANS) {
+            dropped.incrementAndGet();
+            return null;
+        }
+        return new Span(this, spanId, parent.getId(), name);
+    }
+
+    void ended(Span span) {
+        ended.add(span);
+        if (span == root) {
+            tracer.completed(this);
+        }
+    }
+
+    public long getId() { return id; }
+
+    /** The root span's name, e.g. {@code usecase.searchPlaces.execute}. */
+    public String getName() { return root.getName(); }
+
+    public Span getRoot() { return root; }
+
+    public long getStartEpochMillis() { return startEpochMillis; }
+
+    long getStartNanos() { return startNanos; }
+
+    /** @return the root span's duration, or -1 while it is still running */
+    public long getDurationNanos() { return root.getDurationNanos(); }
+
+    /** Spans not recorded because the trace was full. */
+    public int getDroppedSpans() { return dropped.get(); }
+
+    /** @return the spans ended so far, in order of their start */
+    public List<Span> getSpans() {
+        List<Span> spans = new ArrayList<>(ended);
+        spans.sort(Comparator.comparingLong(Span::getStartOffsetNanos).thenComparingInt(Span::getId));
+        return spans;
+    }
+}
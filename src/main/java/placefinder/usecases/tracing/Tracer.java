@@ -0,0 +1,113 @@
+package placefinder.usecases.tracing;
+
+import placefinder.usecases.instrumentation.CallInterceptor;
+import placefinder.usecases.instrumentation.Invocation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Records traces of user actions and keeps the most recent ones in memory.
+ *
+ * <p>The span a thread is working in is kept in an inheritable thread-local, so threads
+ * started inside a span, such as the virtual threads an interactor fans out to, continue
+ * its trace. A thread that inherited a span which has since ended is treated as being in
+ * no trace.
+ */
+public class Tracer {
+
+    private static final Tracer GLOBAL = new Tracer(50);
+
+    private final InheritableThreadLocal<Span> current = new InheritableThreadLocal<>();
+    private final int capacity;
+    private final Deque<Trace> recent = new ArrayDeque<>();
+
+    /** @param capacity number of completed traces kept */
+    public Tracer(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /** The tracer shared by the whole app, for code that is not wired by hand (HTTP, the database). */
+    public static Tracer global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Starts a span under the calling thread's current span, or a new trace if there is
+     * none. The span does not become current; see {@link #useCases()} for that.
+     */
+    public Span startSpan(String name) {
+        Span parent = currentSpan();
+        return parent == null ? new Trace(this, name).getRoot() : parent.getTrace().startSpan(parent, name);
+    }
+
+    /**
+     * Starts a span under the calling thread's current span.
+     *
+     * @return the span, or null if the thread is not in a trace (or the trace is full)
+     */
+    public Span startChild(String name) {
+        Span parent = currentSpan();
+        return parent == null ? null : parent.getTrace().startSpan(parent, name);
+    }
+
+    /** For input boundaries: each call is a span, and starts a trace unless it runs inside one. */
+    public CallInterceptor useCases() {
+        return invocation -> inSpan(startSpan(invocation.getName()), invocation);
+    }
+
+    /** For data access interfaces: each call inside a trace is a span; calls outside one are not traced. */
+    public CallInterceptor gateways() {
+        return invocation -> inSpan(startChild(invocation.getName()), invocation);
+    }
+
+    /** @return completed traces, newest first */
+    public List<Trace> recentTraces() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    public void clear() {
+        synchronized (recent) {
+            recent.clear();
+        }
+    }
+
+    void completed(Trace trace) {
+        synchronized (recent) {
+            recent.addFirst(trace);
+            while (recent.size() > capacity) {
+                recent.removeLast();
+            }
+        }
+    }
+
+    private Span currentSpan() {
+        Span span = current.get();
+        return span == null || span.isEnded() ? null : span;
+    }
+
+    private Object inSpan(Span span, Invocation invocation) throws Throwable {
+        if (span == null) {
+            return invocation.proceed();
+        }
+        Span outer = current.get();
+        current.set(span);
+        try {
+            return invocation.proceed();
+        } catch (Throwable e) {
+            span.fail(e);
+            throw e;
+        } finally {
+            if (outer == null) {
+                current.remove();
+            } else {
+                current.set(outer);
+            }
+            span.end();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package placefinder.usecases.verify;
 
 import placefinder.entities.User;
 import placefinder.usecases.dataacessinterfaces.UserDataAccessInterface;
+import placefinder.usecases.logging.AppLogger;
 
 /**
  * Use case interactor for verifying a user's email with a code.
@@ -10,11 +11,20 @@ public class VerifyEmailInteractor implements VerifyEmailInputBoundary {
 
     private final UserDataAccessInterface userDataAccessInterface;
     private final VerifyEmailOutputBoundary presenter;
+    private final AppLogger logger;
 
     public VerifyEmailInteractor(UserDataAccessInterface userDataAccessInterface,
                                  VerifyEmailOutputBoundary presenter) {
+        this(userDataAccessInterface, presenter, AppLogger.none());
+    }
+
+    /** @param logger told about each attempt; the code the user typed is never logged */
+    public VerifyEmailInteractor(UserDataAccessInterface userDataAccessInterface,
+                                 VerifyEmailOutputBoundary presenter,
+                                 AppLogger logger) {
         this.userDataAccessInterface = userDataAccessInterface;
         this.presenter = presenter;
+        this.logger = logger;
     }
 
     @Override
@@ -22,7 +32,7 @@ public class VerifyEmailInteractor implements VerifyEmailInputBoundary {
         final String email = inputData.getEmail() == null ? "" : inputData.getEmail().trim();
         final String code = inputData.getCode() == null ? "" : inputData.getCode().trim();
 
-        System.out.println("[VERIFY] email='" + email + "', code='" + code + "'");
+        logger.debug("user.verify", "email", email, "codeGiven", !code.isEmpty());
 
         if (email.isEmpty() || code.isEmpty()) {
             presenter.present(new VerifyEmailOutputData(false, "Email and code are required."));
@@ -31,8 +41,7 @@ public class VerifyEmailInteractor implements VerifyEmailInputBoundary {
 
         try {
             final User user = userDataAccessInterface.findByEmail(email);
-            System.out.println("[VERIFY] findByEmail returned: "
-                    + (user == null ? "null" : "user id=" + user.getId()));
+            logger.debug("user.verify.lookup", "email", email, "id", user == null ? null : user.getId());
 
             if (user == null) {
                 presenter.present(new VerifyEmailOutputData(false, "No account found for that email."));
@@ -0,0 +1,8 @@
+package placefinder.usecases.warmup;
+
+/**
+ * Input boundary for warming up a user's data after login.
+ */
+public interface WarmUpInputBoundary {
+    void execute(WarmUpInputData inputData);
+}
@@ -0,0 +1,19 @@
+package placefinder.usecases.warmup;
+
+/**
+ * Input data for the warm-up use case: the user who just logged in.
+ */
+public class WarmUpInputData {
+    private final int userId;
+    private final String homeCity;
+
+    public WarmUpInputData(int userId, String homeCity) {
+        this.userId = userId;
+        this.homeCity = homeCity;
+    }
+
+    public int getUserId() { return userId; }
+
+    /** May be null; the home city is optional at registration. */
+    public String getHomeCity() { return homeCity; }
+}
@@ -0,0 +1,116 @@
+package placefinder.usecases.warmup;
+
+import placefinder.entities.FavoriteLocation;
+import placefinder.entities.Plan;
+import placefinder.usecases.dataacessinterfaces.CallContext;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PlanDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Interactor that loads a user's data right after login, before any screen asks for it.
+ * Preferences, favorites and the plan list are read in parallel; then the home city,
+ * the favorites' addresses and the origins of the latest plans are geocoded in parallel.
+ *
+ * <p>Nothing is kept here: the point is to fill the caches of the data access objects
+ * (see the caching gateways), so the dashboard, preferences and plan builder open
+ * without waiting. A failed lookup only means that screen loads it itself later.
+ */
+public class WarmUpInteractor implements WarmUpInputBoundary {
+
+    /** Origins of this many of the most recent plans are geocoded. */
+    static final int RECENT_PLANS = 5;
+
+    private final PreferenceDataAccessInterface preferenceDataAccessInterface;
+    private final PlanDataAccessInterface planDataAccessInterface;
+    private final GeocodingDataAccessInterface geocodingDataAccessInterface;
+    private final WarmUpOutputBoundary presenter;
+
+    public WarmUpInteractor(PreferenceDataAccessInterface preferenceDataAccessInterface,
+                            PlanDataAccessInterface planDataAccessInterface,
+                            GeocodingDataAccessInterface geocodingDataAccessInterface,
+                            WarmUpOutputBoundary presenter) {
+        this.preferenceDataAccessInterface = preferenceDataAccessInterface;
+        this.planDataAccessInterface = planDataAccessInterface;
+        this.geocodingDataAccessInterface = geocodingDataAccessInterface;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void execute(WarmUpInputData inputData) {
+        // nobody is waiting for these calls, so real requests go first
+        CallContext.runAsPrefetch(() -> warmUp(inputData));
+    }
+
+    private void warmUp(WarmUpInputData inputData) {
+        int userId = inputData.getUserId();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> preferences = executor.submit(() -> preferenceDataAccessInterface.loadForUser(userId));
+            Future<List<FavoriteLocation>> favorites =
+                    executor.submit(() -> preferenceDataAccessInterface.listFavorites(userId));
+            Future<List<Plan>> plans = executor.submit(() -> planDataAccessInterface.findPlansByUser(userId));
+
+            List<String> errors = new ArrayList<>();
+            await(preferences, errors);
+            List<FavoriteLocation> favoriteList = orEmpty(await(favorites, errors));
+            List<Plan> planList = orEmpty(await(plans, errors));
+
+            Map<String, String> addresses = new LinkedHashMap<>();
+            addIfPresent(addresses, inputData.getHomeCity());
+            for (FavoriteLocation favorite : favoriteList) {
+                addIfPresent(addresses, favorite.getAddress());
+            }
+            for (Plan plan : planList.subList(0, Math.min(RECENT_PLANS, planList.size()))) {
+                addIfPresent(addresses, plan.getOriginAddress());
+            }
+
+            List<Callable<Object>> geocodes = new ArrayList<>();
+            for (String address : addresses.values()) {
+                geocodes.add(() -> geocodingDataAccessInterface.geocode(address));
+            }
+            int geocoded = 0;
+            for (Future<Object> result : executor.invokeAll(geocodes)) {
+                if (await(result, errors) != null) {
+                    geocoded++;
+                }
+            }
+
+            presenter.present(new WarmUpOutputData(planList.size(), favoriteList.size(), geocoded,
+                    errors.isEmpty() ? null : errors.get(0)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** @return the task's result, or null (noting the error) if it failed */
+    private static <T> T await(Future<T> future, List<String> errors) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            errors.add(e.getCause().getMessage());
+            return null;
+        }
+    }
+
+    private static <T> List<T> orEmpty(List<T> list) {
+        return list == null ? List.of() : list;
+    }
+
+    /** Geocoding is case-insensitive, so "Toronto" and "toronto" are looked up once. */
+    private static void addIfPresent(Map<String, String> addresses, String address) {
+        if (address != null && !address.isBlank()) {
+            addresses.putIfAbsent(address.trim().toLowerCase(Locale.ROOT), address.trim());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package placefinder.usecases.warmup;
+
+/**
+ * Output boundary for reporting the result of a warm-up.
+ */
+public interface WarmUpOutputBoundary {
+    void present(WarmUpOutputData outputData);
+}
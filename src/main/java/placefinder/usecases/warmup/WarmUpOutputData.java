@@ -0,0 +1,23 @@
+package placefinder.usecases.warmup;
+
+/**
+ * Output data for the warm-up use case: how much was loaded ahead of time.
+ */
+public class WarmUpOutputData {
+    private final int plansLoaded;
+    private final int favoritesLoaded;
+    private final int addressesGeocoded;
+    private final String errorMessage;
+
+    public WarmUpOutputData(int plansLoaded, int favoritesLoaded, int addressesGeocoded, String errorMessage) {
+        this.plansLoaded = plansLoaded;
+        this.favoritesLoaded = favoritesLoaded;
+        this.addressesGeocoded = addressesGeocoded;
+        this.errorMessage = errorMessage;
+    }
+
+    public int getPlansLoaded() { return plansLoaded; }
+    public int getFavoritesLoaded() { return favoritesLoaded; }
+    public int getAddressesGeocoded() { return addressesGeocoded; }
+    public String getErrorMessage() { return errorMessage; }
+}
@@ -0,0 +1,87 @@
+package placefinder.usecases.weatheradvice;
+
+import placefinder.entities.WeatherSummary;
+
+import java.time.LocalDate;
+
+/**
+ * Turns a day's forecast into the text shown to the user: the weather advice page's
+ * summary and clothing advice, and the shorter note shown with search results.
+ */
+public final class WeatherAdviceFormatter {
+
+    private WeatherAdviceFormatter() {
+    }
+
+    public static String summary(String address, LocalDate date, WeatherSummary weather) {
+        return String.format(
+                "Location: %s%nDate: %s%nTemperature: %.1f°C%nConditions: %s%nUV Index: %.1f",
+                address,
+                date,
+                weather.getTemperatureC(),
+                weather.getConditions(),
+                weather.getUvIndex()
+        );
+    }
+
+    public static String advice(WeatherSummary weather) {
+        StringBuilder advice = new StringBuilder();
+        if (weather.getTemperatureC() <= 5) {
+            advice.append("It is cold, wear a warm jacket, long pants, and consider gloves or a hat. ");
+        } else if (weather.getTemperatureC() <= 15) {
+            advice.append("It is cool, a light jacket or sweater is recommended. ");
+        } else if (weather.getTemperatureC() <= 25) {
+            advice.append("The temperature is comfortable, normal clothes are fine.  ");
+        } else {
+            advice.append("It is quite warm, wear light, breathable clothing.  ");
+        }
+
+        if (weather.getUvIndex() >= 6) {
+            advice.append("UV index is high — use sunscreen, sunglasses, and consider a hat. ");
+        } else if (weather.getUvIndex() >= 3) {
+            advice.append("UV index is moderate — sunscreen and sunglasses are a good idea. ");
+        }
+
+        if (weather.isPrecipitationLikely()) {
+            advice.append("Rain or snow is expected — bring an umbrella or waterproof jacket. ");
+        }
+        return advice.toString().trim();
+    }
+
+    /** Advice attached to search results, including which kind of place is favoured. */
+    public static String searchAdvice(WeatherSummary weather) {
+        StringBuilder sb = new StringBuilder();
+
+        double temp = weather.getTemperatureC();
+        sb.append(String.format("Temperature is %.1f°C. ", temp));
+        if (temp <= 5) {
+            sb.append("It is cold — wear a warm jacket, maybe a hat and gloves. ");
+        } else if (temp <= 15) {
+            sb.append("A light jacket or sweater is recommended. ");
+        } else if (temp <= 25) {
+            sb.append("Comfortable temperature — light layers are fine. ");
+        } else {
+            sb.append("It is quite warm — wear light clothing and stay hydrated. ");
+        }
+
+        double uv = weather.getUvIndex();
+        sb.append(String.format("UV index is %.1f. ", uv));
+        if (uv >= 6) {
+            sb.append("Use sunscreen, sunglasses, and consider a hat. ");
+        } else if (uv >= 3) {
+            sb.append("Sunscreen is a good idea if you will be outside. ");
+        } else {
+            sb.append("Sun exposure risk is low. ");
+        }
+
+        if (weather.isPrecipitationLikely()) {
+            sb.append("Rain or snow is likely — bring an umbrella or waterproof jacket. ");
+            sb.append("We are favouring indoor locations for you.");
+        } else {
+            sb.append("Rain is unlikely — good conditions to be outside. ");
+            sb.append("We are favouring outdoor locations for you.");
+        }
+
+        return sb.toString().trim();
+    }
+}
@@ -41,37 +41,10 @@ public class WeatherAdviceInteractor implements WeatherAdviceInputBoundary {
                 return;
             }
 
-            String summary = String.format(
-                    "Location: %s%nDate: %s%nTemperature: %.1f°C%nConditions: %s%nUV Index: %.1f",
-                    geo.getFormattedAddress(),
-                    date,
-                    weather.getTemperatureC(),
-                    weather.getConditions(),
-                    weather.getUvIndex()
-            );
-
-            StringBuilder advice = new StringBuilder();
-            if (weather.getTemperatureC() <= 5) {
-                advice.append("It is cold, wear a warm jacket, long pants, and consider gloves or a hat. ");
-            } else if (weather.getTemperatureC() <= 15) {
-                advice.append("It is cool, a light jacket or sweater is recommended. ");
-            } else if (weather.getTemperatureC() <= 25) {
-                advice.append("The temperature is comfortable, normal clothes are fine.  ");
-            } else {
-                advice.append("It is quite warm, wear light, breathable clothing.  ");
-            }
-
-            if (weather.getUvIndex() >= 6) {
-                advice.append("UV index is high — use sunscreen, sunglasses, and consider a hat. ");
-            } else if (weather.getUvIndex() >= 3) {
-                advice.append("UV index is moderate — sunscreen and sunglasses are a good idea. ");
-            }
-
-            if (weather.isPrecipitationLikely()) {
-                advice.append("Rain or snow is expected — bring an umbrella or waterproof jacket. ");
-            }
-
-            presenter.present(new WeatherAdviceOutputData(summary, advice.toString().trim(), null));
+            presenter.present(new WeatherAdviceOutputData(
+                    WeatherAdviceFormatter.summary(geo.getFormattedAddress(), date, weather),
+                    WeatherAdviceFormatter.advice(weather),
+                    null));
         } catch (Exception e) {
             presenter.present(new WeatherAdviceOutputData(null, null, e.getMessage()));
         }
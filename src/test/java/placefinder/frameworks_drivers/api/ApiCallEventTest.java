@@ -0,0 +1,79 @@
+package placefinder.frameworks_drivers.api;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import placefinder.frameworks_drivers.api.stub.StubApiServer;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests that {@link HttpUtil} records each exchange as an {@link ApiCallEvent}. */
+class ApiCallEventTest {
+
+    @TempDir
+    Path dir;
+
+    private StubApiServer stub;
+
+    @BeforeEach
+    void startStub() throws Exception {
+        stub = StubApiServer.start();
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    void get_isRecordedWithoutItsQueryValues() throws Exception {
+        String url = stub.baseUrl() + "/geocode/v1/json?q=Union+Station&key=secret-key";
+
+        List<RecordedEvent> events = recordApiCalls(() -> HttpUtil.get(url));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals(ApiEndpoints.OPENCAGE, event.getString("provider"));
+        assertEquals(stub.baseUrl() + "/geocode/v1/json?q=...&key=...", event.getString("urlTemplate"));
+        assertEquals("GET", event.getString("method"));
+        assertEquals(200, event.getInt("status"));
+        assertTrue(event.getLong("bytes") > 0);
+        assertNull(event.getString("error"));
+    }
+
+    @Test
+    void template_leavesOutEveryQueryValue() {
+        assertEquals("https://api.open-meteo.com/v1/forecast?latitude=...&longitude=...&daily",
+                ApiCallEvent.template(URI.create(
+                        "https://api.open-meteo.com/v1/forecast?latitude=43.65&longitude=-79.38&daily")));
+        assertEquals("https://routes.googleapis.com/directions/v2:computeRoutes",
+                ApiCallEvent.template(URI.create("https://routes.googleapis.com/directions/v2:computeRoutes")));
+    }
+
+    private interface Call {
+        void run() throws Exception;
+    }
+
+    private List<RecordedEvent> recordApiCalls(Call call) throws Exception {
+        Path file = dir.resolve("api.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("placefinder.ApiCall").withThreshold(Duration.ZERO);
+            recording.start();
+            call.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("placefinder.ApiCall"))
+                .toList();
+    }
+}
@@ -0,0 +1,194 @@
+package placefinder.frameworks_drivers.api;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Leg;
+import placefinder.entities.Place;
+import placefinder.entities.OpeningHours;
+import placefinder.entities.PlanStop;
+import placefinder.entities.PreferenceProfile;
+import placefinder.entities.Route;
+import placefinder.frameworks_drivers.api.stub.StubApiServer;
+import placefinder.usecases.buildplan.BuildPlanInputData;
+import placefinder.usecases.buildplan.BuildPlanInteractor;
+import placefinder.usecases.buildplan.BuildPlanOutputData;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+import placefinder.usecases.routing.PolylineCodec;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static placefinder.usecases.TestPlaces.place;
+
+/**
+ * Tests for {@link GoogleMapsRouteGatewayImpl} against the {@link StubApiServer}, which
+ * answers with straight legs between the requested waypoints, in the order given.
+ */
+class GoogleMapsRouteGatewayImplTest {
+
+    private static final GeocodeResult ORIGIN = new GeocodeResult(43.650, -79.380, "Origin");
+
+    private StubApiServer stub;
+    private final GoogleMapsRouteGatewayImpl gateway = new GoogleMapsRouteGatewayImpl("test-key");
+
+    @BeforeEach
+    void startStub() throws Exception {
+        stub = StubApiServer.start().install();
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.close();
+    }
+
+    /** {@code count} places on a ring around the origin. */
+    private static List<Place> ring(int count) {
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double angle = 2 * Math.PI * i / count;
+            places.add(place("p" + i, ORIGIN.getLat() + 0.005 * Math.sin(angle),
+                    ORIGIN.getLon() + 0.005 * Math.cos(angle)));
+        }
+        return places;
+    }
+
+    @Test
+    void largePlan_isSplitIntoSubRoutesAndStitched() throws Exception {
+        List<Place> places = ring(14);
+
+        Route route = gateway.computeRoute(ORIGIN, LocalTime.of(8, 0), places);
+
+        assertEquals(2, stub.requestCount(ApiEndpoints.GOOGLE_ROUTES));
+        assertEquals(14, route.getStops().size());
+        assertEquals(new HashSet<>(places), placesOf(route.getStops()));
+        assertChained(route);
+    }
+
+    @Test
+    void largeFixedOrderPlan_isSplitIntoConsecutiveSubRoutes() throws Exception {
+        List<Place> places = ring(14);
+
+        Route route = gateway.computeRoute(ORIGIN, LocalTime.of(8, 0), places, false);
+
+        assertEquals(2, stub.requestCount(ApiEndpoints.GOOGLE_ROUTES));
+        assertEquals(places, placesInOrder(route.getStops()));
+        assertChained(route);
+    }
+
+    @Test
+    void openingHoursPlan_withMoreThanTenStops_keepsTheScheduledOrder() throws Exception {
+        List<Place> places = ring(12);
+        int[][] days = new int[7][];
+        for (int d = 0; d < 7; d++) {
+            days[d] = new int[] {9 * 60, 23 * 60};
+        }
+        for (Place place : places) {
+            place.setOpeningHours(new OpeningHours(days));
+        }
+        GeocodingDataAccessInterface geocoder = text -> ORIGIN;
+        PreferenceDataAccessInterface preferences = mock(PreferenceDataAccessInterface.class);
+        when(preferences.loadForUser(1)).thenReturn(new PreferenceProfile(1, 5.0, Map.of()));
+        BuildPlanOutputData[] output = new BuildPlanOutputData[1];
+
+        new BuildPlanInteractor(preferences, geocoder, gateway, null, null, data -> output[0] = data)
+                .execute(new BuildPlanInputData(1, "Origin", "2025-11-19", "08:30", places, null));
+
+        assertNull(output[0].getErrorMessage());
+        Route route = output[0].getPlan().getRoute();
+        assertEquals(12, route.getStops().size());
+        assertEquals(2, stub.requestCount(ApiEndpoints.GOOGLE_ROUTES));
+        assertEquals(new HashSet<>(places), placesOf(route.getStops()));
+        for (PlanStop stop : route.getStops()) {
+            assertFalse(stop.getStartTime().isBefore(LocalTime.of(9, 0)));
+        }
+        List<Leg> legs = route.getLegs();
+        for (int i = 0; i < route.getStops().size(); i++) {
+            assertSame(route.getStops().get(i), legs.get(i).getEndLocation());
+            assertSame(route.getStops().get(i), legs.get(i + 1).getStartLocation());
+            Place place = route.getStops().get(i).getPlace();
+            assertPointAt(place.getLat(), place.getLon(), last(legs.get(i)));
+        }
+    }
+
+    @Test
+    void smallPlan_isOneRequest() throws Exception {
+        List<Place> places = ring(5);
+
+        Route route = gateway.computeRoute(ORIGIN, LocalTime.of(8, 0), places);
+
+        assertEquals(1, stub.requestCount(ApiEndpoints.GOOGLE_ROUTES));
+        assertEquals(5, route.getStops().size());
+        assertChained(route);
+    }
+
+    private static List<Place> placesInOrder(List<PlanStop> stops) {
+        List<Place> places = new ArrayList<>();
+        for (PlanStop stop : stops) {
+            places.add(stop.getPlace());
+        }
+        return places;
+    }
+
+    private static HashSet<Place> placesOf(List<PlanStop> stops) {
+        HashSet<Place> places = new HashSet<>();
+        for (PlanStop stop : stops) {
+            places.add(stop.getPlace());
+        }
+        return places;
+    }
+
+    /**
+     * Checks that the route is one walk from the origin through every stop and back: stops
+     * numbered in order, each leg ending where the next one starts (including where one
+     * sub-route hands over to the next), and the times following the legs.
+     */
+    static void assertChained(Route route) {
+        List<PlanStop> stops = route.getStops();
+        List<Leg> legs = route.getLegs();
+        assertEquals(stops.size() + 1, legs.size());
+
+        PlanStop origin = legs.get(0).getStartLocation();
+        assertSame(origin, legs.get(legs.size() - 1).getEndLocation());
+        assertPointAt(ORIGIN.getLat(), ORIGIN.getLon(), first(legs.get(0)));
+        assertPointAt(ORIGIN.getLat(), ORIGIN.getLon(), last(legs.get(legs.size() - 1)));
+
+        int distance = 0;
+        for (int i = 0; i < stops.size(); i++) {
+            PlanStop stop = stops.get(i);
+            assertEquals(i, stop.getSequenceNumber());
+            assertSame(stop, legs.get(i).getEndLocation());
+            assertSame(stop, legs.get(i + 1).getStartLocation());
+            assertPointAt(stop.getPlace().getLat(), stop.getPlace().getLon(), last(legs.get(i)));
+            assertPointAt(stop.getPlace().getLat(), stop.getPlace().getLon(), first(legs.get(i + 1)));
+
+            LocalTime previousEnd = i == 0 ? origin.getEndTime() : stops.get(i - 1).getEndTime();
+            assertEquals(previousEnd.plusSeconds((long) legs.get(i).getDuration()), stop.getStartTime());
+            distance += legs.get(i).getDistance();
+        }
+        distance += legs.get(legs.size() - 1).getDistance();
+        assertEquals(distance, route.getDistance());
+        assertEquals(stops.size() + 2, PolylineCodec.decode(route.getEncodedPolyline()).size());
+    }
+
+    private static double[] first(Leg leg) {
+        return PolylineCodec.decode(leg.getEncodedPolyline()).get(0);
+    }
+
+    private static double[] last(Leg leg) {
+        List<double[]> points = PolylineCodec.decode(leg.getEncodedPolyline());
+        return points.get(points.size() - 1);
+    }
+
+    private static void assertPointAt(double lat, double lon, double[] point) {
+        assertEquals(lat, point[0], 1e-5);
+        assertEquals(lon, point[1], 1e-5);
+    }
+}
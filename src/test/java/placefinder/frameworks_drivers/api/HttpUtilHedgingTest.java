@@ -0,0 +1,128 @@
+package placefinder.frameworks_drivers.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link HttpUtil#getHedged} against a local server whose first response is
+ * held back until the test releases it.
+ */
+class HttpUtilHedgingTest {
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final CountDownLatch releaseFirst = new CountDownLatch(1);
+    private HttpServer server;
+    private String url;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        HttpUtil.clearLatency();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v1/forecast", exchange -> {
+            if (requests.incrementAndGet() == 1) {
+                try {
+                    releaseFirst.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                respond(exchange, "slow");
+            } else {
+                respond(exchange, "fast");
+            }
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/v1/forecast?latitude=43.65";
+    }
+
+    @AfterEach
+    void stopServer() {
+        releaseFirst.countDown();
+        server.stop(0);
+        HttpUtil.clearLatency();
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /** Gives the provider a history of fast responses, so slow requests are hedged after 20 ms. */
+    private LatencyTracker primedTracker(int samples) {
+        LatencyTracker tracker = HttpUtil.trackerFor(URI.create(url));
+        for (int i = 0; i < samples; i++) {
+            tracker.record(20);
+        }
+        return tracker;
+    }
+
+    @Test
+    void slowRequest_isHedgedAndTheFasterAnswerWins() throws Exception {
+        LatencyTracker tracker = primedTracker(LatencyTracker.MIN_SAMPLES);
+
+        assertEquals("fast", HttpUtil.getHedged(url));
+
+        assertEquals(2, requests.get());
+        assertEquals(1, tracker.hedgeCount());
+    }
+
+    @Test
+    void providerWithoutHistory_isNotHedged() throws Exception {
+        releaseFirst.countDown();
+
+        assertEquals("slow", HttpUtil.getHedged(url));
+
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void spentHedgeBudget_waitsForTheFirstRequest() throws Exception {
+        LatencyTracker tracker = primedTracker(LatencyTracker.MIN_SAMPLES);
+        assertTrue(tracker.tryHedge());
+        Thread release = Thread.ofVirtual().start(() -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                return;
+            }
+            releaseFirst.countDown();
+        });
+
+        assertEquals("slow", HttpUtil.getHedged(url));
+
+        release.join();
+        assertEquals(1, requests.get());
+        assertEquals(1, tracker.hedgeCount());
+    }
+
+    @Test
+    void trackers_areKeptPerProviderNotPerHost() {
+        LatencyTracker weather = HttpUtil.trackerFor(URI.create("http://127.0.0.1:8080/v1/forecast?x=1"));
+        LatencyTracker routes = HttpUtil.trackerFor(URI.create("http://127.0.0.1:8080/directions/v2:computeRoutes"));
+
+        assertNotSame(weather, routes);
+        assertSame(weather, HttpUtil.trackerFor(URI.create("http://localhost:9090/v1/forecast")));
+        assertTrue(HttpUtil.latencyByProvider().keySet().containsAll(
+                List.of(ApiEndpoints.OPEN_METEO, ApiEndpoints.GOOGLE_ROUTES)));
+    }
+}
@@ -0,0 +1,72 @@
+package placefinder.frameworks_drivers.api;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyTrackerTest {
+
+    private final LatencyTracker tracker = new LatencyTracker();
+
+    private void recordRange(int from, int to) {
+        for (int millis = from; millis <= to; millis++) {
+            tracker.record(millis);
+        }
+    }
+
+    @Test
+    void tooFewSamples_keepTheDefaults() {
+        recordRange(1, LatencyTracker.MIN_SAMPLES - 1);
+
+        assertEquals(-1, tracker.percentile(0.5));
+        assertEquals(10_000, tracker.timeoutMillis(10_000));
+        assertEquals(-1, tracker.hedgeDelayMillis());
+    }
+
+    @Test
+    void percentiles_areTakenFromTheSamples() {
+        recordRange(1, 100);
+
+        assertEquals(50, tracker.percentile(0.50));
+        assertEquals(95, tracker.hedgeDelayMillis());
+        assertEquals(99, tracker.percentile(0.99));
+    }
+
+    @Test
+    void onlyTheLastWindowOfSamplesCounts() {
+        for (int i = 0; i < LatencyTracker.WINDOW; i++) {
+            tracker.record(5_000);
+        }
+        for (int i = 0; i < LatencyTracker.WINDOW; i++) {
+            tracker.record(10);
+        }
+
+        assertEquals(LatencyTracker.WINDOW, tracker.sampleCount());
+        assertEquals(10, tracker.percentile(0.99));
+    }
+
+    @Test
+    void timeout_isAFewTimesTheP99WithinBounds() {
+        recordRange(900, 1_000);
+        assertEquals(3 * 999, tracker.timeoutMillis(10_000));
+        assertEquals(2_500, tracker.timeoutMillis(2_500));
+
+        LatencyTracker fast = new LatencyTracker();
+        for (int i = 0; i < LatencyTracker.MIN_SAMPLES; i++) {
+            fast.record(20);
+        }
+        assertEquals(LatencyTracker.MIN_TIMEOUT_MILLIS, fast.timeoutMillis(10_000));
+    }
+
+    @Test
+    void hedges_stayWithinTheBudget() {
+        recordRange(1, 40);
+
+        assertTrue(tracker.tryHedge());
+        assertTrue(tracker.tryHedge());
+        assertFalse(tracker.tryHedge());
+        recordRange(1, 20);
+        assertTrue(tracker.tryHedge());
+        assertEquals(3, tracker.hedgeCount());
+    }
+}
@@ -0,0 +1,77 @@
+package placefinder.frameworks_drivers.api.stub;
+
+import java.util.Random;
+
+/**
+ * How a stubbed provider misbehaves: how long it takes to answer, and what share of
+ * requests fail with a 503 or are throttled with a 429. Draws come from the server's
+ * seeded {@link Random}, so a run with the same seed and request order is reproducible.
+ */
+public final class FaultProfile {
+
+    /** Response time in milliseconds. */
+    public interface Latency {
+        long sampleMillis(Random random);
+    }
+
+    private final Latency latency;
+    private final double errorRate;
+    private final double throttleRate;
+
+    private FaultProfile(Latency latency, double errorRate, double throttleRate) {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.throttleRate = throttleRate;
+    }
+
+    /** Answers at once and never fails. */
+    public static FaultProfile healthy() {
+        return new FaultProfile(fixed(0), 0, 0);
+    }
+
+    public FaultProfile withLatency(Latency latency) {
+        return new FaultProfile(latency, errorRate, throttleRate);
+    }
+
+    /** @param errorRate share of requests answered with 503, between 0 and 1 */
+    public FaultProfile withErrorRate(double errorRate) {
+        return new FaultProfile(latency, errorRate, throttleRate);
+    }
+
+    /** @param throttleRate share of requests answered with 429, between 0 and 1 */
+    public FaultProfile withThrottleRate(double throttleRate) {
+        return new FaultProfile(latency, errorRate, throttleRate);
+    }
+
+    public static Latency fixed(long millis) {
+        return random -> millis;
+    }
+
+    public static Latency uniform(long minMillis, long maxMillis) {
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+    }
+
+    /**
+     * Right-skewed like real API latencies: most answers near the median, a long tail of
+     * slow ones. {@code sigma} of about 0.5 gives a p99 of roughly three times the median.
+     */
+    public static Latency logNormal(long medianMillis, double sigma) {
+        return random -> Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    long sampleLatencyMillis(Random random) {
+        return Math.max(0, latency.sampleMillis(random));
+    }
+
+    /** @return the status to fail with, or 0 to answer normally */
+    int sampleFailure(Random random) {
+        double draw = random.nextDouble();
+        if (draw < throttleRate) {
+            return 429;
+        }
+        if (draw < throttleRate + errorRate) {
+            return 503;
+        }
+        return 0;
+    }
+}
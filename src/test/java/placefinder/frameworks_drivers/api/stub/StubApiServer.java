@@ -0,0 +1,260 @@
+package placefinder.frameworks_drivers.api.stub;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import placefinder.frameworks_drivers.api.ApiEndpoints;
+import placefinder.usecases.routing.PolylineCodec;
+import placefinder.usecases.routing.WalkingEstimator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local stand-in for GeoApify, OpenCage, Open-Meteo and Google Routes, for load tests and
+ * benchmarks on a machine without network access. It answers on the providers' own paths,
+ * so {@link #install()} (or {@code -Dplacefinder.api.url=<baseUrl>}) is all it takes to
+ * point the real gateways at it.
+ *
+ * <p>Places, geocodes and forecasts are recorded responses from {@code /stubapi} on the
+ * test classpath. Routes are built from the request's waypoints, since a recorded route
+ * only fits one set of stops: straight legs with a walking-speed duration, visited in the
+ * order given. Every provider can be given a {@link FaultProfile}.
+ */
+public final class StubApiServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Random random;
+    private final Map<String, FaultProfile> profiles = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requests = new ConcurrentHashMap<>();
+    private final Map<String, String> recorded = new ConcurrentHashMap<>();
+
+    private StubApiServer(int port, long seed) throws IOException {
+        this.random = new Random(seed);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        route("/v2/places", ApiEndpoints.GEOAPIFY, exchange -> recording("geoapify-places.json"));
+        route("/geocode/v1/json", ApiEndpoints.OPENCAGE, exchange -> recording("opencage-geocode.json"));
+        route("/v1/forecast", ApiEndpoints.OPEN_METEO, this::forecast);
+        route("/directions/v2:computeRoutes", ApiEndpoints.GOOGLE_ROUTES, this::computeRoutes);
+    }
+
+    /** Starts on a free port with a fixed seed. */
+    public static StubApiServer start() throws IOException {
+        return start(0, 42);
+    }
+
+    public static StubApiServer start(int port, long seed) throws IOException {
+        StubApiServer stub = new StubApiServer(port, seed);
+        stub.server.start();
+        return stub;
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /** Points every gateway in this JVM at the stub until {@link #close()}. */
+    public StubApiServer install() {
+        System.setProperty("placefinder.api.url", baseUrl());
+        return this;
+    }
+
+    /** @param provider one of the {@link ApiEndpoints} provider names */
+    public void setProfile(String provider, FaultProfile profile) {
+        profiles.put(provider, profile);
+    }
+
+    public void setProfileForAll(FaultProfile profile) {
+        for (String provider : List.of(ApiEndpoints.GEOAPIFY, ApiEndpoints.OPENCAGE,
+                ApiEndpoints.OPEN_METEO, ApiEndpoints.GOOGLE_ROUTES)) {
+            setProfile(provider, profile);
+        }
+    }
+
+    /** Requests received for a provider so far, including the ones failed on purpose. */
+    public int requestCount(String provider) {
+        AtomicInteger count = requests.get(provider);
+        return count == null ? 0 : count.get();
+    }
+
+    @Override
+    public void close() {
+        if (baseUrl().equals(System.getProperty("placefinder.api.url"))) {
+            System.clearProperty("placefinder.api.url");
+        }
+        server.stop(0);
+    }
+
+    /** Runs the stub on its own, e.g. to start the app against it: {@code [port [seed]]}. */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8089;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 42;
+        StubApiServer stub = start(port, seed);
+        System.out.println("Stub APIs listening; start the app with -Dplacefinder.api.url=" + stub.baseUrl());
+    }
+
+    private interface Responder {
+        String respond(HttpExchange exchange) throws IOException;
+    }
+
+    private void route(String path, String provider, Responder responder) {
+        server.createContext(path, exchange -> {
+            try (exchange) {
+                requests.computeIfAbsent(provider, p -> new AtomicInteger()).incrementAndGet();
+                FaultProfile profile = profiles.getOrDefault(provider, FaultProfile.healthy());
+                Thread.sleep(profile.sampleLatencyMillis(random));
+                int failure = profile.sampleFailure(random);
+                if (failure == 429) {
+                    exchange.getResponseHeaders().set("Retry-After", "1");
+                    send(exchange, 429, "{\"error\":\"Too Many Requests\"}");
+                } else if (failure != 0) {
+                    send(exchange, failure, "{\"error\":\"Service Unavailable\"}");
+                } else {
+                    send(exchange, 200, responder.respond(exchange));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+    }
+
+    private static void send(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private String recording(String name) {
+        return recorded.computeIfAbsent(name, file -> {
+            try (InputStream in = StubApiServer.class.getResourceAsStream("/stubapi/" + file)) {
+                if (in == null) {
+                    throw new IllegalStateException("Missing recording /stubapi/" + file);
+                }
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /** Daily or hourly forecast; several coordinate pairs get one copy each, as an array. */
+    private String forecast(HttpExchange exchange) {
+        String query = String.valueOf(exchange.getRequestURI().getRawQuery());
+        if (!query.contains("hourly=")) {
+            return recording("open-meteo-daily.json");
+        }
+        String hourly = recording("open-meteo-hourly.json");
+        int locations = locationCount(query);
+        if (locations == 1) {
+            return hourly;
+        }
+        JsonArray copies = new JsonArray();
+        for (int i = 0; i < locations; i++) {
+            copies.add(JsonParser.parseString(hourly));
+        }
+        return copies.toString();
+    }
+
+    private static int locationCount(String query) {
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith("latitude=")) {
+                return parameter.split(",|%2C", -1).length;
+            }
+        }
+        return 1;
+    }
+
+    private String computeRoutes(HttpExchange exchange) throws IOException {
+        JsonObject request = JsonParser.parseString(
+                new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)).getAsJsonObject();
+        List<double[]> waypoints = new ArrayList<>();
+        waypoints.add(latLng(request.getAsJsonObject("origin")));
+        JsonArray intermediates = request.has("intermediates")
+                ? request.getAsJsonArray("intermediates") : new JsonArray();
+        for (JsonElement intermediate : intermediates) {
+            waypoints.add(latLng(intermediate.getAsJsonObject()));
+        }
+        waypoints.add(latLng(request.getAsJsonObject("destination")));
+
+        JsonArray legs = new JsonArray();
+        int totalMeters = 0;
+        long totalSeconds = 0;
+        for (int i = 0; i + 1 < waypoints.size(); i++) {
+            double[] from = waypoints.get(i);
+            double[] to = waypoints.get(i + 1);
+            int meters = (int) Math.round(WalkingEstimator.walkingMeters(from[0], from[1], to[0], to[1]));
+            long seconds = Math.round(WalkingEstimator.walkingSeconds(from[0], from[1], to[0], to[1]));
+            legs.add(leg(from, to, meters, seconds));
+            totalMeters += meters;
+            totalSeconds += seconds;
+        }
+
+        JsonObject route = new JsonObject();
+        route.add("legs", legs);
+        route.addProperty("distanceMeters", totalMeters);
+        route.addProperty("duration", totalSeconds + "s");
+        route.add("polyline", polyline(PolylineCodec.encode(waypoints)));
+        if (request.has("optimizeWaypointOrder") && request.get("optimizeWaypointOrder").getAsBoolean()) {
+            JsonArray order = new JsonArray();
+            for (int i = 0; i < intermediates.size(); i++) {
+                order.add(i);
+            }
+            route.add("optimizedIntermediateWaypointIndex", order);
+        }
+        JsonArray routes = new JsonArray();
+        routes.add(route);
+        JsonObject response = new JsonObject();
+        response.add("routes", routes);
+        return response.toString();
+    }
+
+    private static JsonObject leg(double[] from, double[] to, int meters, long seconds) {
+        JsonObject instruction = new JsonObject();
+        instruction.addProperty("maneuver", "DEPART");
+        instruction.addProperty("instructions",
+                "Walk from " + from[0] + ", " + from[1] + " to " + to[0] + ", " + to[1]);
+        JsonObject step = new JsonObject();
+        step.addProperty("distanceMeters", meters);
+        step.addProperty("staticDuration", seconds + "s");
+        step.add("navigationInstruction", instruction);
+        JsonArray steps = new JsonArray();
+        steps.add(step);
+
+        JsonObject leg = new JsonObject();
+        leg.addProperty("distanceMeters", meters);
+        leg.addProperty("duration", seconds + "s");
+        leg.add("polyline", polyline(PolylineCodec.encode(List.of(from, to))));
+        leg.add("steps", steps);
+        return leg;
+    }
+
+    private static JsonObject polyline(String encoded) {
+        JsonObject polyline = new JsonObject();
+        polyline.addProperty("encodedPolyline", encoded);
+        return polyline;
+    }
+
+    private static double[] latLng(JsonObject waypoint) {
+        JsonObject latLng = waypoint.getAsJsonObject("location").getAsJsonObject("latLng");
+        return new double[] {latLng.get("latitude").getAsDouble(), latLng.get("longitude").getAsDouble()};
+    }
+}
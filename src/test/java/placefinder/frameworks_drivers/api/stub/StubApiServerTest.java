@@ -0,0 +1,78 @@
+package placefinder.frameworks_drivers.api.stub;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Place;
+import placefinder.entities.Route;
+import placefinder.entities.WeatherSummary;
+import placefinder.frameworks_drivers.api.ApiEndpoints;
+import placefinder.frameworks_drivers.api.GeoApifyGatewayImpl;
+import placefinder.frameworks_drivers.api.GoogleMapsRouteGatewayImpl;
+import placefinder.frameworks_drivers.api.HttpStatusException;
+import placefinder.frameworks_drivers.api.OpenCageGeocodingGateway;
+import placefinder.frameworks_drivers.api.OpenMeteoWeatherGatewayImpl;
+import placefinder.usecases.routing.WalkingEstimator;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Smoke test: the real gateways, pointed at the stub with {@link StubApiServer#install()},
+ * get answers they can parse.
+ */
+class StubApiServerTest {
+
+    private StubApiServer stub;
+
+    @BeforeEach
+    void startStub() throws Exception {
+        stub = StubApiServer.start().install();
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.close();
+    }
+
+    @Test
+    void realGateways_workAgainstTheStub() throws Exception {
+        GeocodeResult origin = new OpenCageGeocodingGateway("test-key").geocode("Toronto");
+        assertNotNull(origin);
+
+        List<Place> places = new GeoApifyGatewayImpl("test-key")
+                .searchPlaces(origin.getLat(), origin.getLon(), 2.0, Map.of());
+        assertFalse(places.isEmpty());
+
+        WeatherSummary weather = new OpenMeteoWeatherGatewayImpl()
+                .getDailyWeather(origin.getLat(), origin.getLon(), LocalDate.of(2026, 10, 19));
+        assertNotNull(weather);
+
+        List<Place> stops = places.subList(0, Math.min(3, places.size()));
+        Route route = new GoogleMapsRouteGatewayImpl("test-key").computeRoute(origin, LocalTime.of(9, 0), stops);
+        assertEquals(stops.size(), route.getStops().size());
+        Place first = route.getStops().get(0).getPlace();
+        assertEquals(Math.round(WalkingEstimator.walkingSeconds(origin.getLat(), origin.getLon(),
+                first.getLat(), first.getLon())), (long) route.getLegs().get(0).getDuration());
+
+        for (String provider : List.of(ApiEndpoints.OPENCAGE, ApiEndpoints.GEOAPIFY,
+                ApiEndpoints.OPEN_METEO, ApiEndpoints.GOOGLE_ROUTES)) {
+            assertEquals(1, stub.requestCount(provider), provider);
+        }
+    }
+
+    @Test
+    void faultProfile_failsTheProvidersRequests() {
+        stub.setProfile(ApiEndpoints.OPENCAGE, FaultProfile.healthy().withErrorRate(1.0));
+
+        HttpStatusException e = assertThrows(HttpStatusException.class,
+                () -> new OpenCageGeocodingGateway("test-key").geocode("Toronto"));
+
+        assertEquals(503, e.getStatus());
+    }
+}
@@ -0,0 +1,118 @@
+package placefinder.frameworks_drivers.cache;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Leg;
+import placefinder.entities.Place;
+import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static placefinder.usecases.TestPlaces.place;
+
+/** Tests for {@link CachingRouteGateway}, keeping routes in memory only. */
+class CachingRouteGatewayTest {
+
+    private static final GeocodeResult ORIGIN = new GeocodeResult(43.650, -79.380, "Origin");
+
+    private final Place cafe = place("cafe", 43.655, -79.385);
+    private final Place park = place("park", 43.660, -79.390);
+    private final RouteDataAccessInterface delegate = mock(RouteDataAccessInterface.class);
+    private final CachingRouteGateway gateway = new CachingRouteGateway(delegate, null);
+
+    /** Origin to each place in turn and back: 10 minute legs, one hour per visit. */
+    private static Route walk(LocalTime start, List<Place> places) {
+        PlanStop origin = new PlanStop(0, place("origin", ORIGIN.getLat(), ORIGIN.getLon()), start, start);
+        List<PlanStop> stops = new ArrayList<>();
+        List<Leg> legs = new ArrayList<>();
+        PlanStop previous = origin;
+        LocalTime clock = start;
+        for (Place place : places) {
+            clock = clock.plusMinutes(10);
+            PlanStop stop = new PlanStop(stops.size(), place, clock, clock.plusHours(1));
+            legs.add(new Leg(800, 600, "leg", previous, stop, List.of()));
+            stops.add(stop);
+            previous = stop;
+            clock = clock.plusHours(1);
+        }
+        legs.add(new Leg(800, 600, "leg", previous, origin, List.of()));
+        return new Route(stops, legs, 800 * legs.size(), 600.0 * legs.size(), "route");
+    }
+
+    @Test
+    void cacheKey_ignoresTheOrderOfThePlaces() {
+        assertEquals(CachingRouteGateway.cacheKey(ORIGIN, List.of(cafe, park)),
+                CachingRouteGateway.cacheKey(ORIGIN, List.of(park, cafe)));
+        assertNotEquals(CachingRouteGateway.orderedCacheKey(ORIGIN, List.of(cafe, park)),
+                CachingRouteGateway.orderedCacheKey(ORIGIN, List.of(park, cafe)));
+        assertNotEquals(CachingRouteGateway.cacheKey(ORIGIN, List.of(cafe, park)),
+                CachingRouteGateway.cacheKey(new GeocodeResult(43.700, -79.380, "Elsewhere"), List.of(cafe, park)));
+    }
+
+    @Test
+    void optimizedRoutes_areSharedBetweenOrdersOfTheSamePlaces() throws Exception {
+        when(delegate.computeRoute(any(), any(), any())).thenReturn(walk(LocalTime.of(9, 0), List.of(cafe, park)));
+
+        gateway.computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(cafe, park));
+        Route reordered = gateway.computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(park, cafe));
+
+        verify(delegate, times(1)).computeRoute(any(), any(), any());
+        assertEquals(2, reordered.getStops().size());
+    }
+
+    @Test
+    void fixedOrderRoutes_areCachedByOrder() throws Exception {
+        when(delegate.computeRoute(any(), any(), any(), eq(false))).thenAnswer(call ->
+                walk(call.getArgument(1), call.getArgument(2)));
+
+        Route first = gateway.computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(cafe, park), false);
+        Route reversed = gateway.computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(park, cafe), false);
+        Route again = gateway.computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(cafe, park), false);
+
+        verify(delegate, times(2)).computeRoute(any(), any(), any(), eq(false));
+        assertSame(park, reversed.getStops().get(0).getPlace());
+        assertSame(cafe, again.getStops().get(0).getPlace());
+        assertEquals(first.getStops().get(0).getStartTime(), again.getStops().get(0).getStartTime());
+        // optimized requests never share entries with fixed-order ones
+        when(delegate.computeRoute(any(), any(), any())).thenReturn(walk(LocalTime.of(9, 0), List.of(cafe, park)));
+        gateway.computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(cafe, park));
+        verify(delegate, times(1)).computeRoute(any(), any(), any());
+    }
+
+    @Test
+    void hit_isRetimedToTheNewStartAndLeavesTheCachedRouteAlone() throws Exception {
+        when(delegate.computeRoute(any(), any(), any())).thenReturn(walk(LocalTime.of(9, 0), List.of(cafe, park)));
+
+        Route morning = gateway.computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(cafe, park));
+        Route afternoon = gateway.computeRoute(ORIGIN, LocalTime.of(14, 0), List.of(cafe, park));
+        Route morningAgain = gateway.computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(cafe, park));
+
+        verify(delegate, times(1)).computeRoute(any(), any(), any());
+        assertEquals(LocalTime.of(14, 10), afternoon.getStops().get(0).getStartTime());
+        assertEquals(LocalTime.of(15, 20), afternoon.getStops().get(1).getStartTime());
+        assertEquals(LocalTime.of(14, 0), afternoon.getLegs().get(0).getStartLocation().getStartTime());
+        assertNotSame(morning, afternoon);
+        assertNotSame(morning.getStops().get(0), afternoon.getStops().get(0));
+        assertEquals(LocalTime.of(9, 10), morning.getStops().get(0).getStartTime());
+        assertEquals(LocalTime.of(9, 10), morningAgain.getStops().get(0).getStartTime());
+        assertEquals(LocalTime.of(10, 20), morningAgain.getStops().get(1).getStartTime());
+    }
+
+    @Test
+    void hit_handsBackTheCallersOwnPlaces() throws Exception {
+        when(delegate.computeRoute(any(), any(), any())).thenReturn(walk(LocalTime.of(9, 0), List.of(cafe, park)));
+        gateway.computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(cafe, park));
+        Place sameCafe = place("cafe", 43.655, -79.385);
+
+        Route route = gateway.computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(sameCafe, park));
+
+        assertSame(sameCafe, route.getStops().get(0).getPlace());
+    }
+}
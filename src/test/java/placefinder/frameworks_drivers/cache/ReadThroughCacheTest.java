@@ -0,0 +1,71 @@
+package placefinder.frameworks_drivers.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/** Tests for {@link ReadThroughCache}. */
+class ReadThroughCacheTest {
+
+    private final ReadThroughCache<String, String> cache = new ReadThroughCache<>(60_000);
+
+    @Test
+    void loaderError_reachesCallersThatJoinedTheLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Throwable> first = failureOf(() -> cache.get("key", key -> {
+            loading.countDown();
+            release.await();
+            throw new StackOverflowError();
+        }));
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Throwable> joined = new CompletableFuture<>();
+        Thread waiter = failingOn(joined, () -> cache.get("key", key -> "unused"));
+        // parked on the load that is under way
+        while (waiter.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertInstanceOf(StackOverflowError.class, first.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, joined.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void loaderError_isNotCached() throws Exception {
+        assertThrows(AssertionError.class, () -> cache.get("key", key -> {
+            throw new AssertionError("boom");
+        }));
+
+        assertNull(cache.peek("key"));
+        assertEquals("loaded", cache.get("key", key -> "loaded"));
+    }
+
+    private interface Lookup {
+        String get() throws Exception;
+    }
+
+    /** Runs the lookup on its own thread and completes with what it threw, or null. */
+    private static CompletableFuture<Throwable> failureOf(Lookup lookup) {
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        failingOn(failure, lookup);
+        return failure;
+    }
+
+    private static Thread failingOn(CompletableFuture<Throwable> failure, Lookup lookup) {
+        return Thread.ofPlatform().start(() -> {
+            try {
+                lookup.get();
+                failure.complete(null);
+            } catch (Throwable t) {
+                failure.complete(t);
+            }
+        });
+    }
+}
@@ -0,0 +1,119 @@
+package placefinder.frameworks_drivers.dataaccess;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import placefinder.entities.Leg;
+import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
+import placefinder.entities.Step;
+import placefinder.frameworks_drivers.cache.RouteJson;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static placefinder.usecases.TestPlaces.place;
+
+/**
+ * Tests for {@link SqliteRouteCache} together with {@link RouteJson}, on a database of
+ * their own with a clock the test moves.
+ */
+class SqliteRouteCacheTest {
+
+    /** How long CachingRouteGateway keeps stored routes. */
+    private static final long THIRTY_DAYS_MILLIS = 30L * 24 * 60 * 60 * 1000;
+
+    @TempDir
+    Path dir;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private SqliteRouteCache cache;
+
+    @BeforeEach
+    void createTable() throws Exception {
+        String url = "jdbc:sqlite:" + dir.resolve("routes.db");
+        try (Connection conn = DriverManager.getConnection(url); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE route_cache (cache_key TEXT PRIMARY KEY,"
+                    + " route_json TEXT NOT NULL, created_at INTEGER NOT NULL)");
+        }
+        cache = new SqliteRouteCache(() -> DriverManager.getConnection(url), now::get);
+    }
+
+    /** Origin, then two stops and back, with a step on every leg. */
+    private static Route route() {
+        PlanStop origin = new PlanStop(0, place("origin", 43.650, -79.380), LocalTime.of(9, 0), LocalTime.of(9, 0));
+        PlanStop cafe = new PlanStop(0, place("cafe", 43.655, -79.385), LocalTime.of(9, 10), LocalTime.of(10, 10));
+        PlanStop park = new PlanStop(1, place("park", 43.660, -79.390), LocalTime.of(10, 25), LocalTime.of(11, 25));
+        List<Leg> legs = List.of(
+                new Leg(800, 600, "leg0", origin, cafe, List.of(new Step(800, 600, "Head north"))),
+                new Leg(1100, 900, "leg1", cafe, park, List.of(new Step(1100, 900, "Turn left"))),
+                new Leg(1500, 1200, "leg2", park, origin, List.of(new Step(1500, 1200, "Walk back"))));
+        return new Route(List.of(cafe, park), legs, 3400, 2700, "whole");
+    }
+
+    @Test
+    void storedRoute_comesBackWithItsStopsAndLegs() throws Exception {
+        Route original = route();
+        cache.save("key", RouteJson.toJson(original));
+
+        Route loaded = RouteJson.fromJson(cache.load("key", THIRTY_DAYS_MILLIS));
+
+        assertEquals(3400, loaded.getDistance());
+        assertEquals(2700, loaded.getDuration());
+        assertEquals("whole", loaded.getEncodedPolyline());
+        assertEquals(2, loaded.getStops().size());
+        for (int i = 0; i < 2; i++) {
+            PlanStop stop = loaded.getStops().get(i);
+            PlanStop expected = original.getStops().get(i);
+            assertEquals(expected.getSequenceNumber(), stop.getSequenceNumber());
+            assertEquals(expected.getPlace().getId(), stop.getPlace().getId());
+            assertEquals(expected.getPlace().getLat(), stop.getPlace().getLat());
+            assertEquals(expected.getStartTime(), stop.getStartTime());
+            assertEquals(expected.getEndTime(), stop.getEndTime());
+        }
+        assertEquals(3, loaded.getLegs().size());
+        for (int i = 0; i < 3; i++) {
+            Leg leg = loaded.getLegs().get(i);
+            Leg expected = original.getLegs().get(i);
+            assertEquals(expected.getDistance(), leg.getDistance());
+            assertEquals(expected.getDuration(), leg.getDuration());
+            assertEquals(expected.getEncodedPolyline(), leg.getEncodedPolyline());
+            assertEquals(expected.getSteps().get(0).getNavInstruction(), leg.getSteps().get(0).getNavInstruction());
+        }
+        // the legs still chain through the loaded stops, from the origin and back to it
+        Leg first = loaded.getLegs().get(0);
+        assertEquals("origin", first.getStartLocation().getPlace().getId());
+        assertSame(loaded.getStops().get(0), first.getEndLocation());
+        assertSame(loaded.getStops().get(0), loaded.getLegs().get(1).getStartLocation());
+        assertSame(loaded.getStops().get(1), loaded.getLegs().get(1).getEndLocation());
+        assertSame(first.getStartLocation(), loaded.getLegs().get(2).getEndLocation());
+    }
+
+    @Test
+    void storedRoute_expiresAfterItsMaximumAge() throws Exception {
+        cache.save("key", RouteJson.toJson(route()));
+
+        now.addAndGet(THIRTY_DAYS_MILLIS);
+        assertNotNull(cache.load("key", THIRTY_DAYS_MILLIS));
+
+        now.incrementAndGet();
+        assertNull(cache.load("key", THIRTY_DAYS_MILLIS));
+    }
+
+    @Test
+    void saving_replacesTheRouteAndRestartsItsAge() throws Exception {
+        cache.save("key", "old");
+        now.addAndGet(THIRTY_DAYS_MILLIS);
+        cache.save("key", "new");
+        now.addAndGet(THIRTY_DAYS_MILLIS);
+
+        assertEquals("new", cache.load("key", THIRTY_DAYS_MILLIS));
+        assertNull(cache.load("other", THIRTY_DAYS_MILLIS));
+    }
+}
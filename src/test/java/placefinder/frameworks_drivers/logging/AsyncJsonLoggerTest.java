@@ -0,0 +1,34 @@
+package placefinder.frameworks_drivers.logging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import placefinder.usecases.logging.AppLogger.Level;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncJsonLoggerTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void open_startsTheWriterAndCloseFlushesTheBuffer() throws Exception {
+        Path file = dir.resolve("app.log");
+        AsyncJsonLogger logger = AsyncJsonLogger.open(file, Level.INFO, 16, 1024 * 1024, 1);
+
+        logger.info("user.insert", "id", 7, "verified", false);
+        logger.debug("user.findByEmail", "id", 7);
+        logger.close();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).contains("\"user.insert\""), lines.get(0));
+        assertTrue(lines.get(0).contains("\"id\":7"), lines.get(0));
+        assertTrue(lines.get(0).contains("\"verified\":false"), lines.get(0));
+        assertEquals(0, logger.getDropped());
+    }
+}
@@ -0,0 +1,101 @@
+package placefinder.frameworks_drivers.metrics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import placefinder.usecases.instrumentation.Instrumentation;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlightRecorderInterceptorsTest {
+
+    interface Lookup {
+        String find(String key) throws IOException;
+    }
+
+    interface Search {
+        void execute(SearchInput input) throws IOException;
+    }
+
+    static final class SearchInput {
+        private final int userId;
+
+        SearchInput(int userId) {
+            this.userId = userId;
+        }
+
+        public int getUserId() {
+            return userId;
+        }
+    }
+
+    @TempDir
+    Path dir;
+
+    private final Lookup lookup = Instrumentation.of(FlightRecorderInterceptors.gateways())
+            .wrap(Lookup.class, key -> {
+                if (key.isEmpty()) {
+                    throw new IOException("no key");
+                }
+                return key;
+            }, "gateway.lookup");
+
+    private final Search search = Instrumentation.of(FlightRecorderInterceptors.useCases())
+            .wrap(Search.class, input -> lookup.find("a"), "usecase.search");
+
+    @Test
+    void gatewayCalls_areRecordedWithTheirError() throws Exception {
+        List<RecordedEvent> events = record("placefinder.GatewayCall", () -> {
+            lookup.find("a");
+            assertThrows(IOException.class, () -> lookup.find(""));
+        });
+
+        assertEquals(2, events.size());
+        assertEquals("gateway.lookup.find", events.get(0).getString("call"));
+        assertNull(events.get(0).getString("error"));
+        assertEquals("IOException", events.get(1).getString("error"));
+    }
+
+    @Test
+    void useCaseCalls_areRecordedWithTheUserAndOutcome() throws Exception {
+        List<RecordedEvent> events = record("placefinder.UseCase", () -> search.execute(new SearchInput(7)));
+
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("Search.execute", event.getString("useCase"));
+        assertEquals(7, event.getLong("userId"));
+        assertEquals("completed", event.getString("outcome"));
+    }
+
+    @Test
+    void gatewayCalls_areNotRecordedAsUseCases() throws Exception {
+        List<RecordedEvent> events = record("placefinder.UseCase", () -> lookup.find("a"));
+
+        assertTrue(events.isEmpty());
+    }
+
+    private interface Call {
+        void run() throws Exception;
+    }
+
+    private List<RecordedEvent> record(String eventName, Call call) throws Exception {
+        Path file = dir.resolve("calls.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withThreshold(Duration.ZERO);
+            recording.start();
+            call.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(eventName))
+                .toList();
+    }
+}
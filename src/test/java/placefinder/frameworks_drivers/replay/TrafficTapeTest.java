@@ -0,0 +1,122 @@
+package placefinder.frameworks_drivers.replay;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Leg;
+import placefinder.entities.LegBuilder;
+import placefinder.entities.Place;
+import placefinder.entities.PlanStop;
+import placefinder.entities.Route;
+import placefinder.frameworks_drivers.api.HttpStatusException;
+import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+import placefinder.usecases.routing.RouteTimeline;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static placefinder.usecases.TestPlaces.place;
+
+class TrafficTapeTest {
+
+    private static final GeocodeResult ORIGIN = new GeocodeResult(43.65, -79.38, "Origin");
+
+    @TempDir
+    Path dir;
+
+    private static Leg leg(int meters) {
+        return new LegBuilder().withDistance(meters).withDuration(meters / 1.3)
+                .withEncodedPolyline("_p~iF~ps|U").withSteps(List.of()).build();
+    }
+
+    private static Route route(Place a, Place b) {
+        Route route = new Route(List.of(new PlanStop(0, a, null, null), new PlanStop(1, b, null, null)),
+                List.of(leg(300), leg(400), leg(500)), 1200, 923, "_p~iF~ps|U_ulLnnqC");
+        return RouteTimeline.retime(route, LocalTime.of(9, 0));
+    }
+
+    @Test
+    void recordedSession_isReplayedWithoutCallingTheProviders() throws Exception {
+        Path file = dir.resolve("session.jsonl.gz");
+        Place cafe = place("cafe", 43.651, -79.381);
+        Place park = place("park", 43.655, -79.385);
+        PlacesDataAccessInterface places = mock(PlacesDataAccessInterface.class);
+        when(places.searchPlaces(anyDouble(), anyDouble(), anyDouble(), any())).thenReturn(List.of(cafe, park));
+        when(places.searchPlacesInRect(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenThrow(new HttpStatusException(503, "down"));
+        RouteDataAccessInterface routes = mock(RouteDataAccessInterface.class);
+        when(routes.computeRoute(any(), any(), any())).thenReturn(route(cafe, park));
+
+        try (TrafficTape tape = TrafficTape.recordTo(file)) {
+            new ReplayPlacesGateway(places, tape).searchPlaces(43.65, -79.38, 1.0, Map.of("food", List.of("cafe")));
+            assertThrows(HttpStatusException.class,
+                    () -> new ReplayPlacesGateway(places, tape).searchPlacesInRect(43, -80, 44, -79, Map.of()));
+            new ReplayRouteGateway(routes, tape).computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(cafe, park));
+        }
+
+        PlacesDataAccessInterface noPlaces = mock(PlacesDataAccessInterface.class);
+        RouteDataAccessInterface noRoutes = mock(RouteDataAccessInterface.class);
+        TrafficTape replay = TrafficTape.replayFrom(file, 0);
+
+        List<Place> found = new ReplayPlacesGateway(noPlaces, replay)
+                .searchPlaces(43.65, -79.38, 1.0, Map.of("food", List.of("cafe")));
+        HttpStatusException failure = assertThrows(HttpStatusException.class,
+                () -> new ReplayPlacesGateway(noPlaces, replay).searchPlacesInRect(43, -80, 44, -79, Map.of()));
+        Route route = new ReplayRouteGateway(noRoutes, replay)
+                .computeRoute(ORIGIN, LocalTime.of(9, 0), List.of(cafe, park));
+
+        assertEquals(List.of("cafe", "park"), found.stream().map(Place::getId).toList());
+        assertEquals(503, failure.getStatus());
+        assertSame(cafe, route.getStops().get(0).getPlace());
+        assertSame(park, route.getStops().get(1).getPlace());
+        assertEquals(3, route.getLegs().size());
+        assertEquals(1200, route.getDistance());
+        assertEquals("_p~iF~ps|U_ulLnnqC", route.getEncodedPolyline());
+        verifyNoInteractions(noPlaces, noRoutes);
+        assertThrows(IOException.class,
+                () -> new ReplayPlacesGateway(noPlaces, replay).searchPlaces(0, 0, 1.0, Map.of()));
+    }
+
+    @Test
+    void replay_keepsTheRecordedGapsBetweenCalls() throws Exception {
+        Path file = dir.resolve("gaps.jsonl.gz");
+        try (Writer out = new OutputStreamWriter(new GZIPOutputStream(Files.newOutputStream(file)),
+                StandardCharsets.UTF_8)) {
+            out.write("{\"op\":\"places.searchPlaces\",\"args\":\"a\",\"at\":0,\"ms\":0,\"result\":[]}\n");
+            out.write("{\"op\":\"places.searchPlaces\",\"args\":\"b\",\"at\":300,\"ms\":0,\"result\":[]}\n");
+        }
+        long start = System.nanoTime();
+        TrafficTape replay = TrafficTape.replayFrom(file, 0.5);
+
+        replay.call("places.searchPlaces", "a", () -> null, TrafficJson::places, TrafficJson::places);
+        assertTrue(System.nanoTime() - start < 100_000_000L);
+        replay.call("places.searchPlaces", "b", () -> null, TrafficJson::places, TrafficJson::places);
+
+        assertTrue(System.nanoTime() - start >= 150_000_000L);
+    }
+
+    @Test
+    void failedTapeWrite_doesNotFailTheCall() throws Exception {
+        Path file = dir.resolve("broken.jsonl.gz");
+        PlacesDataAccessInterface places = mock(PlacesDataAccessInterface.class);
+        when(places.searchPlaces(anyDouble(), anyDouble(), anyDouble(), any())).thenReturn(List.of());
+        TrafficTape tape = TrafficTape.recordTo(file);
+        tape.close();
+
+        assertEquals(List.of(), new ReplayPlacesGateway(places, tape).searchPlaces(43.65, -79.38, 1.0, Map.of()));
+
+        assertThrows(IOException.class, tape::close);
+    }
+}
@@ -0,0 +1,90 @@
+package placefinder.frameworks_drivers.resilience;
+
+import org.junit.jupiter.api.Test;
+import placefinder.frameworks_drivers.dataaccess.SqliteApiUsage;
+import placefinder.usecases.logging.AppLogger;
+
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiQuotaTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 17);
+
+    /** Keeps the rows in memory; can be made to fail. */
+    private static final class MemoryUsage extends SqliteApiUsage {
+        private final Map<LocalDate, Map<Integer, Integer>> rows = new HashMap<>();
+        private final List<Map<Integer, Integer>> batches = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void add(LocalDate day, String provider, Map<Integer, Integer> callsByUser) throws Exception {
+            if (failing) {
+                throw new SQLException("database is locked");
+            }
+            batches.add(Map.copyOf(callsByUser));
+            Map<Integer, Integer> counts = rows.computeIfAbsent(day, d -> new HashMap<>());
+            callsByUser.forEach((user, n) -> counts.merge(user, n, Integer::sum));
+        }
+
+        @Override
+        public int callsOn(LocalDate day, String provider) {
+            return rows.getOrDefault(day, Map.of()).values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    private final MemoryUsage store = new MemoryUsage();
+    private LocalDate today = MONDAY;
+    private final ApiQuota quota = new ApiQuota("test", 10, store, AppLogger.none(), () -> today);
+
+    @Test
+    void calls_areWrittenTogetherPerUser() {
+        quota.record(1);
+        quota.record(1);
+        quota.record(null);
+
+        assertTrue(store.batches.isEmpty());
+        quota.flush();
+
+        assertEquals(List.of(Map.of(1, 2, 0, 1)), store.batches);
+        assertEquals(3, quota.getUsedToday());
+    }
+
+    @Test
+    void newDay_startsFromThatDaysStoredCount() {
+        for (int i = 0; i < 9; i++) {
+            quota.record(1);
+        }
+        assertTrue(quota.isNearlyExhausted());
+
+        today = MONDAY.plusDays(1);
+        store.rows.put(today, new HashMap<>(Map.of(2, 4)));
+
+        assertEquals(4, quota.getUsedToday());
+        assertFalse(quota.isNearlyExhausted());
+        quota.record(1);
+        quota.flush();
+        assertEquals(9, store.callsOn(MONDAY, "test"));
+        assertEquals(5, store.callsOn(today, "test"));
+    }
+
+    @Test
+    void failedWrite_isKeptForTheNextFlush() {
+        quota.record(1);
+        store.failing = true;
+        quota.flush();
+        assertEquals(0, store.callsOn(MONDAY, "test"));
+
+        store.failing = false;
+        quota.record(1);
+        quota.flush();
+
+        assertEquals(2, store.callsOn(MONDAY, "test"));
+    }
+}
@@ -0,0 +1,175 @@
+package placefinder.frameworks_drivers.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final CircuitBreaker breaker = new CircuitBreaker("test", 3, 10_000, now::get);
+
+    private static String fail() throws IOException {
+        throw new IOException("connection reset");
+    }
+
+    private void trip() {
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IOException.class, () -> breaker.call(CircuitBreakerTest::fail));
+        }
+    }
+
+    @Test
+    void providerFaultsInARow_openTheCircuit() throws Exception {
+        assertThrows(IOException.class, () -> breaker.call(CircuitBreakerTest::fail));
+        assertThrows(IOException.class, () -> breaker.call(CircuitBreakerTest::fail));
+        assertEquals("ok", breaker.call(() -> "ok"));
+        assertEquals(0, breaker.getConsecutiveFailures());
+
+        trip();
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void openCircuit_failsFastUntilTheWaitIsOver() throws Exception {
+        trip();
+        int[] calls = {0};
+
+        CircuitOpenException e = assertThrows(CircuitOpenException.class, () -> breaker.call(() -> calls[0]++));
+
+        assertEquals(0, calls[0]);
+        assertNotNull(e.getMessage());
+        now.addAndGet(10_000);
+        assertEquals(0, (int) breaker.call(() -> calls[0]++));
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    void halfOpen_letsOnlyOneProbeThrough() throws Exception {
+        trip();
+        now.addAndGet(10_000);
+        CountDownLatch probing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> probe = CompletableFuture.supplyAsync(() -> {
+            try {
+                return breaker.call(() -> {
+                    probing.countDown();
+                    release.await();
+                    return "probe";
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(probing.await(5, TimeUnit.SECONDS));
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, () -> breaker.call(() -> "second"));
+        release.countDown();
+
+        assertEquals("probe", probe.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void probeSuccess_closesTheCircuit() throws Exception {
+        List<String> changes = new ArrayList<>();
+        breaker.addListener((b, from, to) -> changes.add(from + ">" + to));
+        trip();
+        now.addAndGet(10_000);
+
+        breaker.call(() -> "ok");
+
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getConsecutiveFailures());
+        assertEquals(List.of("CLOSED>OPEN", "OPEN>HALF_OPEN", "HALF_OPEN>CLOSED"), changes);
+    }
+
+    @Test
+    void probeFailure_opensTheCircuitAgain() {
+        trip();
+        now.addAndGet(10_000);
+
+        assertThrows(IOException.class, () -> breaker.call(CircuitBreakerTest::fail));
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, () -> breaker.call(() -> "too soon"));
+    }
+
+    @Test
+    void probeRejectedByTheProvider_letsTheNextProbeThrough() throws Exception {
+        trip();
+        now.addAndGet(10_000);
+
+        assertThrows(IllegalArgumentException.class, () -> breaker.call(() -> {
+            throw new IllegalArgumentException("bad request");
+        }));
+
+        assertEquals("ok", breaker.call(() -> "ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void callsStartedBeforeTheCircuitOpened_doNotChangeItsState() throws Exception {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> slowSuccess = CompletableFuture.supplyAsync(() -> {
+            try {
+                return breaker.call(() -> {
+                    started.countDown();
+                    release.await();
+                    return "late";
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        CompletableFuture<Exception> slowFailure = CompletableFuture.supplyAsync(() -> {
+            try {
+                breaker.call(() -> {
+                    started.countDown();
+                    release.await();
+                    return fail();
+                });
+                return null;
+            } catch (Exception e) {
+                return e;
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        trip();
+        now.addAndGet(10_000);
+        CountDownLatch probing = new CountDownLatch(1);
+        CountDownLatch releaseProbe = new CountDownLatch(1);
+        CompletableFuture<String> probe = CompletableFuture.supplyAsync(() -> {
+            try {
+                return breaker.call(() -> {
+                    probing.countDown();
+                    releaseProbe.await();
+                    return "probe";
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(probing.await(5, TimeUnit.SECONDS));
+
+        release.countDown();
+        assertEquals("late", slowSuccess.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IOException.class, slowFailure.get(5, TimeUnit.SECONDS));
+
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertThrows(CircuitOpenException.class, () -> breaker.call(() -> "second probe"));
+        releaseProbe.countDown();
+        assertEquals("probe", probe.get(5, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
@@ -0,0 +1,77 @@
+package placefinder.frameworks_drivers.resilience;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.Place;
+import placefinder.frameworks_drivers.api.ApiEndpoints;
+import placefinder.frameworks_drivers.api.GoogleMapsRouteGatewayImpl;
+import placefinder.frameworks_drivers.api.HttpUtil;
+import placefinder.frameworks_drivers.api.stub.StubApiServer;
+import placefinder.usecases.dataacessinterfaces.CallContext;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static placefinder.usecases.TestPlaces.place;
+
+/**
+ * Tests that the guard's rate limit and quota apply to each HTTP request, through the
+ * real route gateway against the {@link StubApiServer}.
+ */
+class ProviderGuardTest {
+
+    private StubApiServer stub;
+    private final ApiQuota quota = new ApiQuota("Google Routes", 10, null);
+    private final ProviderGuard guard = new ProviderGuard(new CircuitBreaker("Google Routes", 3, 30_000),
+            RetryPolicy.none(), new RateLimiter("Google Routes", 100, 100, 1_000), quota);
+
+    @BeforeEach
+    void start() throws Exception {
+        stub = StubApiServer.start().install();
+        HttpUtil.setExchangeGate(ApiEndpoints.GOOGLE_ROUTES, guard::beforeExchange);
+    }
+
+    @AfterEach
+    void stop() {
+        HttpUtil.setExchangeGate(ApiEndpoints.GOOGLE_ROUTES, null);
+        stub.close();
+    }
+
+    private static List<Place> places(int count) {
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            places.add(place("p" + i, 43.651 + 0.001 * i, -79.38 + 0.001 * (i % 3)));
+        }
+        return places;
+    }
+
+    @Test
+    void routeSplitIntoSeveralRequests_countsEachOne() throws Exception {
+        ResilientRouteGateway gateway = new ResilientRouteGateway(new GoogleMapsRouteGatewayImpl("test-key"), guard);
+
+        gateway.computeRoute(new GeocodeResult(43.65, -79.38, "Origin"), LocalTime.of(9, 0), places(14));
+
+        assertEquals(2, stub.requestCount(ApiEndpoints.GOOGLE_ROUTES));
+        assertEquals(2, quota.getUsedToday());
+    }
+
+    @Test
+    void prefetch_isRefusedBeforeAnyRequestOnceTheBudgetIsNearlySpent() {
+        for (int i = 0; i < 9; i++) {
+            quota.record(null);
+        }
+        ResilientRouteGateway gateway = new ResilientRouteGateway(new GoogleMapsRouteGatewayImpl("test-key"), guard);
+        Exception[] thrown = new Exception[1];
+
+        CallContext.runAsPrefetch(() -> thrown[0] = assertThrows(RateLimitedException.class,
+                () -> gateway.computeLeg(43.65, -79.38, 43.66, -79.38)));
+
+        assertNotNull(thrown[0]);
+        assertEquals(0, stub.requestCount(ApiEndpoints.GOOGLE_ROUTES));
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getBreaker().getState());
+    }
+}
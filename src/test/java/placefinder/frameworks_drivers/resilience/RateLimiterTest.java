@@ -0,0 +1,56 @@
+package placefinder.frameworks_drivers.resilience;
+
+import org.junit.jupiter.api.Test;
+import placefinder.usecases.dataacessinterfaces.CallContext.Priority;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void interactiveCallers_areServedBeforeWaitingPrefetches() throws Exception {
+        // one token every 200 ms, none left after the first call
+        RateLimiter limiter = new RateLimiter("test", 5, 1, 5_000);
+        limiter.acquire(Priority.INTERACTIVE);
+        List<Priority> served = new CopyOnWriteArrayList<>();
+
+        Thread prefetch = Thread.ofVirtual().start(() -> acquire(limiter, Priority.PREFETCH, served));
+        Thread.sleep(50);
+        Thread interactive = Thread.ofVirtual().start(() -> acquire(limiter, Priority.INTERACTIVE, served));
+        prefetch.join(5_000);
+        interactive.join(5_000);
+
+        assertEquals(List.of(Priority.INTERACTIVE, Priority.PREFETCH), served);
+    }
+
+    @Test
+    void callerThatWouldWaitTooLong_isRateLimited() throws Exception {
+        RateLimiter limiter = new RateLimiter("test", 0.1, 1, 50);
+        limiter.acquire(Priority.INTERACTIVE);
+
+        assertThrows(RateLimitedException.class, () -> limiter.acquire(Priority.INTERACTIVE));
+    }
+
+    @Test
+    void burst_isAvailableAtOnce() throws Exception {
+        RateLimiter limiter = new RateLimiter("test", 0.1, 3, 0);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.acquire(Priority.PREFETCH);
+        }
+
+        assertThrows(RateLimitedException.class, () -> limiter.acquire(Priority.PREFETCH));
+    }
+
+    private static void acquire(RateLimiter limiter, Priority priority, List<Priority> served) {
+        try {
+            limiter.acquire(priority);
+            served.add(priority);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package placefinder.frameworks_drivers.resilience;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.Place;
+import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static placefinder.usecases.TestPlaces.place;
+
+class ResilientPlacesGatewayTest {
+
+    private final PlacesDataAccessInterface delegate = mock(PlacesDataAccessInterface.class);
+    private final ResilientPlacesGateway gateway = new ResilientPlacesGateway(delegate,
+            new ProviderGuard(new CircuitBreaker("places", 5, 60_000), RetryPolicy.none()));
+
+    @Test
+    void providerFault_isAnsweredWithTheLastGoodResult() throws Exception {
+        List<Place> found = List.of(place("cafe", 43.65, -79.38));
+        when(delegate.searchPlaces(anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(found)
+                .thenThrow(new IOException("unreachable"));
+
+        gateway.searchPlaces(43.65, -79.38, 2.0, Map.of());
+        List<Place> fallback = gateway.searchPlaces(43.65, -79.38, 2.0, Map.of());
+
+        assertEquals(found, fallback);
+    }
+
+    @Test
+    void openCircuit_isAnsweredWithTheLastGoodResult() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker("places", 2, 60_000);
+        ResilientPlacesGateway guarded = new ResilientPlacesGateway(delegate,
+                new ProviderGuard(breaker, RetryPolicy.none()));
+        List<Place> found = List.of(place("cafe", 43.65, -79.38));
+        when(delegate.searchPlaces(anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(found)
+                .thenThrow(new IOException("unreachable"));
+
+        guarded.searchPlaces(43.65, -79.38, 2.0, Map.of());
+        guarded.searchPlaces(43.65, -79.38, 2.0, Map.of());
+        guarded.searchPlaces(43.65, -79.38, 2.0, Map.of());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        List<Place> fallback = guarded.searchPlaces(43.65, -79.38, 2.0, Map.of());
+
+        assertEquals(found, fallback);
+        verify(delegate, times(3)).searchPlaces(anyDouble(), anyDouble(), anyDouble(), any());
+    }
+
+    @Test
+    void providerFault_withoutAnEarlierResult_isThrown() throws Exception {
+        when(delegate.searchPlaces(anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(List.of(place("cafe", 43.65, -79.38)))
+                .thenThrow(new IOException("unreachable"));
+
+        gateway.searchPlaces(43.65, -79.38, 2.0, Map.of());
+
+        assertThrows(IOException.class, () -> gateway.searchPlaces(43.70, -79.38, 2.0, Map.of()));
+    }
+
+    @Test
+    void failuresThatAreNotTheProvidersFault_areThrown() throws Exception {
+        when(delegate.searchPlaces(anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(List.of(place("cafe", 43.65, -79.38)))
+                .thenThrow(new IllegalArgumentException("bad category"));
+
+        gateway.searchPlaces(43.65, -79.38, 2.0, Map.of());
+
+        assertThrows(IllegalArgumentException.class, () -> gateway.searchPlaces(43.65, -79.38, 2.0, Map.of()));
+    }
+}
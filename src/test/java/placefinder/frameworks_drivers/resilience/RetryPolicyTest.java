@@ -0,0 +1,63 @@
+package placefinder.frameworks_drivers.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    private final List<Long> sleeps = new ArrayList<>();
+
+    @Test
+    void backoff_doublesUpToTheMaximumDelay() {
+        RetryPolicy retry = new RetryPolicy(6, 100, 300, sleeps::add);
+        int[] attempts = {0};
+
+        assertThrows(IOException.class, () -> retry.call(() -> {
+            attempts[0]++;
+            throw new IOException("unreachable");
+        }));
+
+        assertEquals(6, attempts[0]);
+        long[] caps = {100, 200, 300, 300, 300};
+        assertEquals(caps.length, sleeps.size());
+        for (int i = 0; i < caps.length; i++) {
+            assertTrue(sleeps.get(i) >= 0 && sleeps.get(i) <= caps[i], "sleep " + i + " was " + sleeps.get(i));
+        }
+    }
+
+    @Test
+    void successAfterAFailure_isReturned() throws Exception {
+        RetryPolicy retry = new RetryPolicy(3, 100, 1_000, sleeps::add);
+        int[] attempts = {0};
+
+        String result = retry.call(() -> {
+            if (attempts[0]++ == 0) {
+                throw new IOException("blip");
+            }
+            return "ok";
+        });
+
+        assertEquals("ok", result);
+        assertEquals(1, sleeps.size());
+    }
+
+    @Test
+    void timeoutsAndOurOwnErrors_areNotRetried() {
+        RetryPolicy retry = new RetryPolicy(3, 100, 1_000, sleeps::add);
+
+        assertThrows(HttpTimeoutException.class, () -> retry.call(() -> {
+            throw new HttpTimeoutException("slow");
+        }));
+        assertThrows(IllegalStateException.class, () -> retry.call(() -> {
+            throw new IllegalStateException("bug");
+        }));
+
+        assertTrue(sleeps.isEmpty());
+    }
+}
@@ -0,0 +1,97 @@
+package placefinder.interface_adapters.controllers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import placefinder.interface_adapters.presenters.SearchPlacesPresenter;
+import placefinder.interface_adapters.viewmodels.PlanCreationViewModel;
+import placefinder.usecases.searchplaces.SearchPlacesOutputBoundary;
+import placefinder.usecases.searchplaces.SearchPlacesOutputData;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link SearchPlacesController} with its presenter wired as in the app, and a
+ * single "ui" thread standing in for the Swing event dispatch thread.
+ */
+class SearchPlacesControllerTest {
+
+    /** Notes each loading change and the thread it was made on. */
+    private static final class RecordingViewModel extends PlanCreationViewModel {
+        private final List<String> changes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void setLoading(boolean loading) {
+            super.setLoading(loading);
+            changes.add(loading + " on " + Thread.currentThread().getName());
+        }
+    }
+
+    private static final SearchPlacesOutputData FOUND =
+            new SearchPlacesOutputData(List.of(), "Toronto, ON", false, null, null);
+
+    private final ExecutorService ui = Executors.newSingleThreadExecutor(task -> new Thread(task, "ui"));
+    private final UseCaseExecutor executor = new UseCaseExecutor(ui);
+    private final RecordingViewModel viewModel = new RecordingViewModel();
+    private final SearchPlacesOutputBoundary presenter =
+            executor.onUiThread(SearchPlacesOutputBoundary.class, new SearchPlacesPresenter(viewModel));
+
+    @AfterEach
+    void shutDown() {
+        executor.close();
+        ui.shutdownNow();
+    }
+
+    @Test
+    void finishedSearch_clearsLoadingOnTheUiThread() throws Exception {
+        SearchPlacesController controller =
+                new SearchPlacesController(input -> presenter.present(FOUND), viewModel, executor);
+
+        ui.submit(() -> controller.searchPlaces(1, "Toronto", "2025-11-19")).get(5, TimeUnit.SECONDS)
+                .get(5, TimeUnit.SECONDS);
+
+        assertFalse(viewModel.isLoading());
+        assertEquals(List.of("true on ui", "false on ui"), viewModel.changes);
+    }
+
+    @Test
+    void supersededSearch_leavesLoadingToTheNewerOne() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch oldDone = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SearchPlacesController controller = new SearchPlacesController(input -> {
+            if (input.getLocationText().equals("Toronto")) {
+                started.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    presenter.present(FOUND);   // a late answer, as from a search that ignores interrupts
+                    oldDone.countDown();
+                }
+            } else {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }, viewModel, executor);
+
+        CompletableFuture<Void> old = controller.searchPlaces(1, "Toronto", "2025-11-19");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        controller.searchPlaces(1, "Montreal", "2025-11-19");
+        assertTrue(oldDone.await(5, TimeUnit.SECONDS));
+        ui.submit(() -> { }).get(5, TimeUnit.SECONDS);
+
+        assertTrue(old.isCancelled());
+        assertTrue(viewModel.isLoading());
+        release.countDown();
+    }
+}
@@ -0,0 +1,108 @@
+package placefinder.interface_adapters.controllers;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for {@link UseCaseExecutor}, with presenter calls run straight away on the worker
+ * thread in place of the UI thread.
+ */
+class UseCaseExecutorTest {
+
+    interface Output {
+        void present(String result);
+    }
+
+    private final UseCaseExecutor executor = new UseCaseExecutor(Runnable::run);
+    private final List<String> presented = new CopyOnWriteArrayList<>();
+    private final Output presenter = executor.onUiThread(Output.class, presented::add);
+
+    @AfterEach
+    void closeExecutor() {
+        executor.close();
+    }
+
+    @Test
+    void supersededRequest_presentsNothing() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch oldDone = new CountDownLatch(1);
+        CompletableFuture<Void> old = executor.submit("search", () -> {
+            started.countDown();
+            awaitIgnoringInterrupts(release);
+            presenter.present("old");
+            oldDone.countDown();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Void> newer = executor.submit("search", () -> presenter.present("new"));
+        newer.get(5, TimeUnit.SECONDS);
+        release.countDown();
+        assertTrue(oldDone.await(5, TimeUnit.SECONDS));
+
+        assertEquals(List.of("new"), presented);
+        assertTrue(old.isCancelled());
+    }
+
+    @Test
+    void future_completesAfterThePresenterCalls() throws Exception {
+        CompletableFuture<?>[] request = new CompletableFuture<?>[1];
+        AtomicBoolean doneWhenPresented = new AtomicBoolean(true);
+        CountDownLatch submitted = new CountDownLatch(1);
+        Output checking = executor.onUiThread(Output.class, result -> doneWhenPresented.set(request[0].isDone()));
+
+        request[0] = executor.submit("plan", () -> {
+            awaitIgnoringInterrupts(submitted);
+            checking.present("plan");
+        });
+        submitted.countDown();
+        request[0].get(5, TimeUnit.SECONDS);
+
+        assertFalse(doneWhenPresented.get());
+    }
+
+    @Test
+    void cancel_interruptsTheWorkerThread() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        CompletableFuture<Void> request = executor.submit("route", () -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        executor.cancel("route");
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        assertTrue(request.isCancelled());
+    }
+
+    /** Waits like a call that does not react to interrupts, e.g. one already past its I/O. */
+    private static void awaitIgnoringInterrupts(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
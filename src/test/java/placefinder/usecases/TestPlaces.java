@@ -0,0 +1,20 @@
+package placefinder.usecases;
+
+import placefinder.entities.IndoorOutdoorType;
+import placefinder.entities.Place;
+
+import java.util.List;
+
+/**
+ * Places for tests that only care about where a place is.
+ */
+public final class TestPlaces {
+
+    private TestPlaces() {
+    }
+
+    /** An indoor place without categories, named after its id. */
+    public static Place place(String id, double lat, double lon) {
+        return new Place(id, id, "", lat, lon, 0, IndoorOutdoorType.INDOOR, List.of());
+    }
+}
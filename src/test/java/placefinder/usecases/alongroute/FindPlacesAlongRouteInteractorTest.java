@@ -0,0 +1,98 @@
+package placefinder.usecases.alongroute;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.*;
+import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
+import placefinder.usecases.routing.PolylineCodec;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link FindPlacesAlongRouteInteractor}.
+ */
+class FindPlacesAlongRouteInteractorTest {
+
+    private static class CapturingPresenter implements FindPlacesAlongRouteOutputBoundary {
+        private FindPlacesAlongRouteOutputData output;
+        @Override
+        public void present(FindPlacesAlongRouteOutputData outputData) {
+            this.output = outputData;
+        }
+    }
+
+    private static Place place(String id, double lat, double lon, String category) {
+        return new Place(id, id, "", lat, lon, 0, IndoorOutdoorType.INDOOR, List.of(category));
+    }
+
+    private static Leg leg(double... latLon) {
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < latLon.length; i += 2) {
+            points.add(new double[] {latLon[i], latLon[i + 1]});
+        }
+        return new LegBuilder().withDistance(1000).withDuration(800)
+                .withEncodedPolyline(PolylineCodec.encode(points)).withSteps(new ArrayList<>()).build();
+    }
+
+    /** Origin (43.650, -79.400) north to a museum at 43.660 and back along a parallel street. */
+    private static Route route(Place museum) {
+        PlanStop stop = new PlanStop(0, museum, LocalTime.of(10, 0), LocalTime.of(11, 0));
+        return new RouteBuilder().withStops(List.of(stop))
+                .withLegs(List.of(leg(43.650, -79.400, 43.655, -79.400, 43.660, -79.400),
+                        leg(43.660, -79.400, 43.660, -79.405, 43.650, -79.405, 43.650, -79.400)))
+                .withDistance(2000).withDuration(1600).build();
+    }
+
+    @Test
+    void knownPlacesNearThePath_areRankedByDetourWithoutCallingTheApi() throws Exception {
+        PlacesDataAccessInterface places = mock(PlacesDataAccessInterface.class);
+        Place museum = place("museum", 43.660, -79.400, "entertainment.museum");
+        Place onPath = place("on", 43.6550, -79.4001, "catering.cafe");
+        Place nearPath = place("near", 43.6540, -79.4051, "catering.cafe.coffee");
+        Place farAway = place("far", 43.6550, -79.4200, "catering.cafe");
+        Place wrongKind = place("bar", 43.6550, -79.4000, "catering.bar");
+        List<Place> known = new ArrayList<>(List.of(farAway, nearPath, wrongKind, onPath, museum));
+        for (int i = 0; i < 4; i++) {
+            known.add(place("cafe" + i, 43.651 + 0.002 * i, -79.4049, "catering.cafe"));
+        }
+        CapturingPresenter presenter = new CapturingPresenter();
+
+        new FindPlacesAlongRouteInteractor(places, presenter).execute(
+                new FindPlacesAlongRouteInputData(route(museum), known, "catering.cafe", 100));
+
+        List<RouteSuggestion> suggestions = presenter.output.getSuggestions();
+        assertNull(presenter.output.getErrorMessage());
+        assertEquals(6, suggestions.size());
+        assertSame(onPath, suggestions.get(0).getPlace());
+        assertEquals(0, suggestions.get(0).getLegIndex());
+        assertTrue(suggestions.stream().noneMatch(s -> s.getPlace() == farAway || s.getPlace() == museum
+                || s.getPlace() == wrongKind));
+        assertEquals(1, suggestions.stream().filter(s -> s.getPlace() == nearPath).findFirst()
+                .orElseThrow().getLegIndex());
+        verify(places, never()).searchPlacesInRect(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any());
+    }
+
+    @Test
+    void tooFewKnownPlaces_searchesTheRouteBoundingBoxOnce() throws Exception {
+        PlacesDataAccessInterface places = mock(PlacesDataAccessInterface.class);
+        Place museum = place("museum", 43.660, -79.400, "entertainment.museum");
+        Place fetched = place("fetched", 43.6580, -79.4002, "catering.cafe");
+        when(places.searchPlacesInRect(anyDouble(), anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(List.of(fetched));
+        CapturingPresenter presenter = new CapturingPresenter();
+
+        new FindPlacesAlongRouteInteractor(places, presenter).execute(
+                new FindPlacesAlongRouteInputData(route(museum), List.of(), "catering.cafe", 100));
+
+        assertEquals(List.of(fetched), presenter.output.getSuggestions().stream()
+                .map(RouteSuggestion::getPlace).toList());
+        verify(places, times(1)).searchPlacesInRect(
+                doubleThat(s -> s < 43.650), doubleThat(w -> w < -79.405),
+                doubleThat(n -> n > 43.660), doubleThat(e -> e > -79.400), any());
+    }
+}
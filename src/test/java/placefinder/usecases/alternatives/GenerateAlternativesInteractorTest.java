@@ -0,0 +1,103 @@
+package placefinder.usecases.alternatives;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.*;
+import placefinder.usecases.autoplan.DwellTimes;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link GenerateAlternativesInteractor}.
+ */
+class GenerateAlternativesInteractorTest {
+
+    private static class CapturingPresenter implements GenerateAlternativesOutputBoundary {
+        private GenerateAlternativesOutputData output;
+        @Override
+        public void present(GenerateAlternativesOutputData outputData) {
+            this.output = outputData;
+        }
+    }
+
+    private static Place place(String id, double lat, double lon, IndoorOutdoorType type) {
+        return new Place(id, id, "", lat, lon, 0, type, List.of("tourism"));
+    }
+
+    private static Route routeThrough(List<Place> places) {
+        List<PlanStop> stops = new ArrayList<>();
+        List<Leg> legs = new ArrayList<>();
+        for (int i = 0; i < places.size(); i++) {
+            stops.add(new PlanStop(i, places.get(i), LocalTime.NOON, LocalTime.NOON));
+            legs.add(new LegBuilder().withDistance(500).withDuration(400).withSteps(new ArrayList<>()).build());
+        }
+        legs.add(new LegBuilder().withDistance(500).withDuration(400).withSteps(new ArrayList<>()).build());
+        return new RouteBuilder().withStops(stops).withLegs(legs)
+                .withDistance(500 * legs.size()).withDuration(400 * legs.size()).build();
+    }
+
+    private RouteDataAccessInterface routeGateway() throws Exception {
+        RouteDataAccessInterface route = mock(RouteDataAccessInterface.class);
+        when(route.computeRoute(any(), any(), anyList()))
+                .thenAnswer(inv -> routeThrough(inv.getArgument(2)));
+        return route;
+    }
+
+    @Test
+    void profilesPickDifferentPlaces_andOnlyDistinctWinnersAreRouted() throws Exception {
+        PreferenceDataAccessInterface pref = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        RouteDataAccessInterface route = routeGateway();
+        when(geo.geocode("Toronto")).thenReturn(new GeocodeResult(43.650, -79.400, "Toronto"));
+        when(pref.loadForUser(1)).thenReturn(new PreferenceProfile(1, 3.0, Map.of()));
+
+        // the best results are outdoor and a little further out; indoor ones sit near the start
+        List<Place> candidates = List.of(
+                place("park", 43.659, -79.400, IndoorOutdoorType.OUTDOOR),
+                place("garden", 43.641, -79.400, IndoorOutdoorType.OUTDOOR),
+                place("museum", 43.651, -79.401, IndoorOutdoorType.INDOOR),
+                place("gallery", 43.651, -79.399, IndoorOutdoorType.INDOOR));
+        CapturingPresenter presenter = new CapturingPresenter();
+
+        new GenerateAlternativesInteractor(pref, geo, route, DwellTimes.defaults(), presenter).execute(
+                new GenerateAlternativesInputData(1, "Toronto", "2025-11-19", "10:00", "12:00", candidates, 3));
+
+        GenerateAlternativesOutputData out = presenter.output;
+        assertNull(out.getErrorMessage());
+        assertTrue(out.getAlternatives().size() >= 2);
+        Set<Set<String>> placeSets = new HashSet<>();
+        for (PlanAlternative alternative : out.getAlternatives()) {
+            Set<String> ids = new HashSet<>();
+            alternative.getPlan().getRoute().getStops().forEach(s -> ids.add(s.getPlace().getId()));
+            assertTrue(placeSets.add(ids), "alternatives must differ");
+        }
+        // the rain plan may have been merged with an identical compact walk, but one plan stays indoors
+        assertTrue(out.getAlternatives().stream().anyMatch(a -> a.getPlan().getRoute().getStops().stream()
+                .allMatch(s -> s.getPlace().getIndoorOutdoorType() == IndoorOutdoorType.INDOOR)));
+        verify(route, times(out.getAlternatives().size())).computeRoute(any(), any(), anyList());
+        for (int i = 1; i < out.getAlternatives().size(); i++) {
+            assertTrue(out.getAlternatives().get(i - 1).getScore() >= out.getAlternatives().get(i).getScore());
+        }
+    }
+
+    @Test
+    void noCandidates_returnsError() {
+        CapturingPresenter presenter = new CapturingPresenter();
+
+        new GenerateAlternativesInteractor(null, null, null, DwellTimes.defaults(), presenter).execute(
+                new GenerateAlternativesInputData(1, "Toronto", "2025-11-19", "10:00", "12:00", List.of(), 3));
+
+        assertEquals("Search for places first.", presenter.output.getErrorMessage());
+    }
+}
@@ -0,0 +1,100 @@
+package placefinder.usecases.autoplan;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.*;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AutoPlanInteractor}.
+ */
+class AutoPlanInteractorTest {
+
+    private static class CapturingPresenter implements AutoPlanOutputBoundary {
+        private AutoPlanOutputData output;
+        @Override
+        public void present(AutoPlanOutputData outputData) {
+            this.output = outputData;
+        }
+    }
+
+    private static Place place(String id, double lat, double lon, String category) {
+        return new Place(id, id, "", lat, lon, 0, IndoorOutdoorType.INDOOR, List.of(category));
+    }
+
+    /** Route through the given places in order, with ten-minute legs. */
+    private static Route routeThrough(List<Place> places) {
+        List<PlanStop> stops = new ArrayList<>();
+        List<Leg> legs = new ArrayList<>();
+        for (int i = 0; i < places.size(); i++) {
+            stops.add(new PlanStop(i, places.get(i), LocalTime.NOON, LocalTime.NOON));
+            legs.add(new LegBuilder().withDistance(800).withDuration(600).withSteps(new ArrayList<>()).build());
+        }
+        legs.add(new LegBuilder().withDistance(800).withDuration(600).withSteps(new ArrayList<>()).build());
+        return new RouteBuilder().withStops(stops).withLegs(legs)
+                .withDistance(800 * legs.size()).withDuration(600 * legs.size()).build();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void picksPlacesThatFit_andRoutesOnlyThoseWithCategoryDwellTimes() throws Exception {
+        PreferenceDataAccessInterface pref = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        RouteDataAccessInterface route = mock(RouteDataAccessInterface.class);
+        when(geo.geocode("Toronto")).thenReturn(new GeocodeResult(43.650, -79.400, "Toronto"));
+        when(pref.loadForUser(1)).thenReturn(new PreferenceProfile(1, 2.0, Map.of()));
+        when(route.computeRoute(any(), any(), anyList()))
+                .thenAnswer(inv -> routeThrough((List<Place>) inv.getArgument(2)));
+
+        Place cafe = place("cafe", 43.652, -79.400, "catering.cafe");
+        Place museum = place("museum", 43.654, -79.401, "entertainment.museum");
+        Place far = place("far", 43.900, -79.400, "tourism.sights");
+        CapturingPresenter presenter = new CapturingPresenter();
+
+        new AutoPlanInteractor(pref, geo, route, DwellTimes.defaults(), presenter).execute(
+                new AutoPlanInputData(1, "Toronto", "2025-11-19", "09:00", "12:00",
+                        List.of(far, cafe, museum), null));
+
+        AutoPlanOutputData out = presenter.output;
+        assertNull(out.getErrorMessage());
+        assertEquals(2, out.getChosenPlaces().size());
+        assertFalse(out.getChosenPlaces().contains(far));
+        verify(route, times(1)).computeRoute(any(), eq(LocalTime.of(9, 0)), eq(out.getChosenPlaces()));
+        for (PlanStop stop : out.getPlan().getRoute().getStops()) {
+            long expected = stop.getPlace() == cafe ? 30 : 90;
+            assertEquals(expected, Duration.between(stop.getStartTime(), stop.getEndTime()).toMinutes());
+        }
+        assertEquals("Picked 2 of 3 places.", out.getInfoMessage());
+    }
+
+    @Test
+    void endBeforeStart_returnsError() {
+        CapturingPresenter presenter = new CapturingPresenter();
+
+        new AutoPlanInteractor(null, null, null, DwellTimes.defaults(), presenter).execute(
+                new AutoPlanInputData(1, "Toronto", "2025-11-19", "15:00", "10:00",
+                        List.of(place("a", 0, 0, "tourism")), null));
+
+        assertEquals("End time must be after the start time.", presenter.output.getErrorMessage());
+    }
+
+    @Test
+    void dwellTimes_useLongestMatchingPrefix() {
+        DwellTimes dwellTimes = DwellTimes.defaults();
+
+        assertEquals(Duration.ofMinutes(30), dwellTimes.forPlace(place("a", 0, 0, "catering.cafe.coffee")));
+        assertEquals(Duration.ofMinutes(60), dwellTimes.forPlace(place("b", 0, 0, "catering.restaurant")));
+        assertEquals(Duration.ofHours(1), dwellTimes.forPlace(place("c", 0, 0, "unknown.kind")));
+    }
+}
@@ -0,0 +1,152 @@
+package placefinder.usecases.bestday;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.GeocodeResult;
+import placefinder.entities.IndoorOutdoorType;
+import placefinder.entities.Place;
+import placefinder.entities.PreferenceProfile;
+import placefinder.entities.WeatherSummary;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.WeatherDataAccessInterface;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link FindBestDayInteractor}.
+ */
+class FindBestDayInteractorTest {
+
+    private static class CapturingPresenter implements FindBestDayOutputBoundary {
+        private FindBestDayOutputData output;
+
+        @Override
+        public void present(FindBestDayOutputData outputData) {
+            this.output = outputData;
+        }
+    }
+
+    /** Noon in Toronto on 19 November 2025. */
+    private static final Clock NOON_IN_TORONTO =
+            Clock.fixed(Instant.parse("2025-11-19T17:00:00Z"), ZoneOffset.UTC);
+
+    private static Place place(IndoorOutdoorType type) {
+        Place p = new Place();
+        p.setIndoorOutdoorType(type);
+        return p;
+    }
+
+    @Test
+    void outdoorPreferences_rankDryDaysAboveRainyDays_withSingleForecastCall() throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geocoding = mock(GeocodingDataAccessInterface.class);
+        PlacesDataAccessInterface places = mock(PlacesDataAccessInterface.class);
+        WeatherDataAccessInterface weather = mock(WeatherDataAccessInterface.class);
+
+        when(prefs.loadForUser(1)).thenReturn(
+                new PreferenceProfile(1, 2.0, Map.of("Nature", List.of("leisure.park"))));
+        when(geocoding.geocode("Toronto")).thenReturn(new GeocodeResult(43.65, -79.38, "Toronto, ON"));
+        when(places.searchPlaces(anyDouble(), anyDouble(), anyDouble(), any()))
+                .thenReturn(List.of(place(IndoorOutdoorType.OUTDOOR), place(IndoorOutdoorType.OUTDOOR)));
+
+        WeatherSummary rainy = new WeatherSummary(18, "Rain", 2, true);
+        WeatherSummary dry = new WeatherSummary(20, "Clear", 3, false);
+        WeatherSummary cold = new WeatherSummary(-5, "Clear", 1, false);
+        when(weather.getDailyForecast(eq(43.65), eq(-79.38), any(LocalDate.class), eq(16)))
+                .thenReturn(Arrays.asList(rainy, dry, null, cold));
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        new FindBestDayInteractor(prefs, geocoding, places, weather, presenter, NOON_IN_TORONTO)
+                .execute(new FindBestDayInputData(1, "Toronto"));
+
+        FindBestDayOutputData out = presenter.output;
+        assertNull(out.getErrorMessage());
+        assertEquals("Toronto, ON", out.getLocationName());
+        assertEquals(3, out.getRankedDays().size(), "days without a forecast are skipped");
+        assertSame(dry, out.getRankedDays().get(0).getWeather());
+        assertSame(rainy, out.getRankedDays().get(2).getWeather());
+        assertEquals(LocalDate.of(2025, 11, 20), out.getRankedDays().get(0).getDate());
+
+        verify(weather, times(1)).getDailyForecast(anyDouble(), anyDouble(), eq(LocalDate.of(2025, 11, 19)), anyInt());
+        verify(weather, never()).getDailyWeather(anyDouble(), anyDouble(), any(LocalDate.class));
+        verify(places, times(1)).searchPlaces(anyDouble(), anyDouble(), anyDouble(), any());
+    }
+
+    @Test
+    void indoorPreferences_rainCostsLessThanForOutdoorPreferences() throws Exception {
+        GeocodingDataAccessInterface geocoding = mock(GeocodingDataAccessInterface.class);
+        WeatherDataAccessInterface weather = mock(WeatherDataAccessInterface.class);
+        when(geocoding.geocode("Toronto")).thenReturn(new GeocodeResult(43.65, -79.38, "Toronto, ON"));
+        when(weather.getDailyForecast(anyDouble(), anyDouble(), any(LocalDate.class), anyInt()))
+                .thenReturn(List.of(new WeatherSummary(18, "Rain", 2, true)));
+
+        double indoorScore = scoreOnlyDay(geocoding, weather, IndoorOutdoorType.INDOOR);
+        double outdoorScore = scoreOnlyDay(geocoding, weather, IndoorOutdoorType.OUTDOOR);
+
+        assertTrue(indoorScore > outdoorScore);
+    }
+
+    private double scoreOnlyDay(GeocodingDataAccessInterface geocoding, WeatherDataAccessInterface weather,
+                                IndoorOutdoorType type) throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        PlacesDataAccessInterface places = mock(PlacesDataAccessInterface.class);
+        when(prefs.loadForUser(1)).thenReturn(new PreferenceProfile(1, 2.0));
+        when(places.searchPlaces(anyDouble(), anyDouble(), anyDouble(), isNull()))
+                .thenReturn(List.of(place(type)));
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        new FindBestDayInteractor(prefs, geocoding, places, weather, presenter, NOON_IN_TORONTO)
+                .execute(new FindBestDayInputData(1, "Toronto"));
+        return presenter.output.getRankedDays().get(0).getScore();
+    }
+
+    @Test
+    void unknownLocation_returnsError() throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geocoding = mock(GeocodingDataAccessInterface.class);
+        PlacesDataAccessInterface places = mock(PlacesDataAccessInterface.class);
+        WeatherDataAccessInterface weather = mock(WeatherDataAccessInterface.class);
+        when(prefs.loadForUser(1)).thenReturn(new PreferenceProfile(1, 2.0));
+        when(geocoding.geocode("Nowhere")).thenReturn(null);
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        new FindBestDayInteractor(prefs, geocoding, places, weather, presenter, NOON_IN_TORONTO)
+                .execute(new FindBestDayInputData(1, "Nowhere"));
+
+        assertEquals("Could not find that location.", presenter.output.getErrorMessage());
+        assertTrue(presenter.output.getRankedDays().isEmpty());
+        verifyNoInteractions(weather, places);
+    }
+
+    @Test
+    void window_startsAtTodaysDateAtTheLocation() throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geocoding = mock(GeocodingDataAccessInterface.class);
+        PlacesDataAccessInterface places = mock(PlacesDataAccessInterface.class);
+        WeatherDataAccessInterface weather = mock(WeatherDataAccessInterface.class);
+        when(prefs.loadForUser(1)).thenReturn(new PreferenceProfile(1, 2.0));
+        when(geocoding.geocode("Tokyo")).thenReturn(new GeocodeResult(35.68, 139.69, "Tokyo, Japan"));
+        when(weather.getDailyForecast(anyDouble(), anyDouble(), any(LocalDate.class), anyInt()))
+                .thenReturn(List.of(new WeatherSummary(12, "Clear", 2, false)));
+
+        // evening of the 19th in Toronto is already the morning of the 20th in Tokyo
+        Clock evening = Clock.fixed(Instant.parse("2025-11-20T01:00:00Z"), ZoneOffset.ofHours(-5));
+        CapturingPresenter presenter = new CapturingPresenter();
+        new FindBestDayInteractor(prefs, geocoding, places, weather, presenter, evening)
+                .execute(new FindBestDayInputData(1, "Tokyo"));
+
+        verify(weather).getDailyForecast(35.68, 139.69, LocalDate.of(2025, 11, 20), 16);
+        assertEquals(LocalDate.of(2025, 11, 20), presenter.output.getRankedDays().get(0).getDate());
+    }
+}
@@ -0,0 +1,85 @@
+package placefinder.usecases.bestorigin;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.*;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static placefinder.usecases.TestPlaces.place;
+
+/**
+ * Unit tests for {@link FindBestOriginInteractor}.
+ */
+class FindBestOriginInteractorTest {
+
+    private static class CapturingPresenter implements FindBestOriginOutputBoundary {
+        private FindBestOriginOutputData output;
+        @Override
+        public void present(FindBestOriginOutputData outputData) {
+            this.output = outputData;
+        }
+    }
+
+    private final List<Place> stops = List.of(
+            place("a", 43.660, -79.390), place("b", 43.662, -79.385), place("c", 43.658, -79.383));
+    private final FavoriteLocation home = new FavoriteLocation(1, 7, "Home", "1 Far Rd", 43.750, -79.500);
+    private final FavoriteLocation hotel = new FavoriteLocation(2, 7, "Hotel", "2 Near St", 43.661, -79.388);
+    private final FavoriteLocation office = new FavoriteLocation(3, 7, "Office", "3 Mid Ave", 43.690, -79.420);
+
+    @Test
+    void ranksFavoritesByLocalWalkingTimeWithoutRouteCalls() throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        RouteDataAccessInterface routes = mock(RouteDataAccessInterface.class);
+        when(prefs.listFavorites(7)).thenReturn(List.of(home, hotel, office));
+        CapturingPresenter presenter = new CapturingPresenter();
+
+        new FindBestOriginInteractor(prefs, routes, presenter)
+                .execute(new FindBestOriginInputData(7, stops, "10:00", false));
+
+        assertNull(presenter.output.getErrorMessage());
+        List<OriginScore> ranking = presenter.output.getRanking();
+        assertEquals(List.of(hotel, office, home), ranking.stream().map(OriginScore::getFavorite).toList());
+        assertTrue(ranking.get(0).getWalkingSeconds() < ranking.get(1).getWalkingSeconds());
+        assertEquals(3, ranking.get(0).getOrder().size());
+        assertNull(presenter.output.getConfirmedRoute());
+        verifyNoInteractions(routes);
+    }
+
+    @Test
+    void confirmWithRoute_routesOnlyTheWinner() throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        RouteDataAccessInterface routes = mock(RouteDataAccessInterface.class);
+        when(prefs.listFavorites(7)).thenReturn(List.of(home, hotel, office));
+        Route route = new RouteBuilder().withStops(new ArrayList<>()).withLegs(new ArrayList<>())
+                .withDistance(1500).withDuration(1200).build();
+        when(routes.computeRoute(any(), any(), anyList())).thenReturn(route);
+        CapturingPresenter presenter = new CapturingPresenter();
+
+        new FindBestOriginInteractor(prefs, routes, presenter)
+                .execute(new FindBestOriginInputData(7, stops, "10:00", true));
+
+        assertSame(route, presenter.output.getConfirmedRoute());
+        verify(routes, times(1)).computeRoute(
+                argThat(origin -> "2 Near St".equals(origin.getFormattedAddress())),
+                eq(LocalTime.of(10, 0)), anyList());
+    }
+
+    @Test
+    void noFavorites_reportsError() throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        when(prefs.listFavorites(7)).thenReturn(List.of());
+        CapturingPresenter presenter = new CapturingPresenter();
+
+        new FindBestOriginInteractor(prefs, mock(RouteDataAccessInterface.class), presenter)
+                .execute(new FindBestOriginInputData(7, stops, "10:00", false));
+
+        assertEquals("Save a favorite location first.", presenter.output.getErrorMessage());
+    }
+}
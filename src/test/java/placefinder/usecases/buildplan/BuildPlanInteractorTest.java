@@ -5,11 +5,17 @@ import placefinder.entities.*;
 import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
 import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
 import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.WeatherDataAccessInterface;
+import placefinder.usecases.routing.WalkingFeasibility;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -44,7 +50,7 @@ class BuildPlanInteractorTest {
         CapturingPresenter presenter = new CapturingPresenter();
 
         BuildPlanInteractor interactor =
-                new BuildPlanInteractor(pref, geo, route, presenter);
+                new BuildPlanInteractor(pref, geo, route, null, null, presenter);
 
         BuildPlanInputData input = new BuildPlanInputData(
                 1, "Toronto", "2025-11-19", "09:00",
@@ -69,7 +75,7 @@ class BuildPlanInteractorTest {
         CapturingPresenter presenter = new CapturingPresenter();
 
         BuildPlanInteractor interactor =
-                new BuildPlanInteractor(pref, geo, route, presenter);
+                new BuildPlanInteractor(pref, geo, route, null, null, presenter);
 
         BuildPlanInputData input = new BuildPlanInputData(
                 1, "Nowhere", "2025-11-19", "09:00",
@@ -103,7 +109,7 @@ class BuildPlanInteractorTest {
         CapturingPresenter presenter = new CapturingPresenter();
 
         BuildPlanInteractor interactor =
-                new BuildPlanInteractor(pref, geo, routeGateway, presenter);
+                new BuildPlanInteractor(pref, geo, routeGateway, null, null, presenter);
 
         BuildPlanInputData input = new BuildPlanInputData(
                 1, "Toronto", "2025-11-19", "09:00",
@@ -146,7 +152,7 @@ class BuildPlanInteractorTest {
         CapturingPresenter presenter = new CapturingPresenter();
 
         BuildPlanInteractor interactor =
-                new BuildPlanInteractor(pref, geo, routeGateway, presenter);
+                new BuildPlanInteractor(pref, geo, routeGateway, null, null, presenter);
 
         BuildPlanInputData input = new BuildPlanInputData(
                 1, "Toronto", "2025-11-19", "09:00", List.of(p1, p2), null
@@ -181,7 +187,7 @@ class BuildPlanInteractorTest {
         CapturingPresenter presenter = new CapturingPresenter();
 
         BuildPlanInteractor interactor =
-                new BuildPlanInteractor(pref, geo, route, presenter);
+                new BuildPlanInteractor(pref, geo, route, null, null, presenter);
 
         BuildPlanInputData input = new BuildPlanInputData(
                 1, "X", "2025-11-19", "09:00",
@@ -194,4 +200,261 @@ class BuildPlanInteractorTest {
         assertNull(out.getPlan());
         assertEquals("boom", out.getErrorMessage());
     }
+
+    @Test
+    void weatherGateway_attachesForecastToEachStopAndWarnsForWetOutdoorStops() throws Exception {
+        PreferenceDataAccessInterface pref = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        RouteDataAccessInterface routeGateway = mock(RouteDataAccessInterface.class);
+        WeatherDataAccessInterface weather = mock(WeatherDataAccessInterface.class);
+
+        when(geo.geocode("Toronto")).thenReturn(new GeocodeResult(43.7, -79.4, "Toronto, ON"));
+        when(pref.loadForUser(1)).thenReturn(new PreferenceProfile(1, 5.0, Map.of()));
+
+        Place park = new Place("1","High Park","A",1,1,0,IndoorOutdoorType.OUTDOOR,List.of());
+        Place museum = new Place("2","ROM","B",2,2,0,IndoorOutdoorType.INDOOR,List.of());
+        PlanStop s1 = new PlanStop(0, park, LocalTime.of(9,0), LocalTime.of(10,0));
+        PlanStop s2 = new PlanStop(1, museum, LocalTime.of(10,30), LocalTime.of(11,30));
+        Route route = new Route(List.of(s1, s2), List.of(), 1000, 2.0, "encoded");
+        when(routeGateway.computeRoute(any(), any(), any())).thenReturn(route);
+
+        WeatherSummary rain = new WeatherSummary(8.0, "Rain", 1.0, true);
+        WeatherSummary dry = new WeatherSummary(12.0, "Clear sky", 3.0, false);
+        when(weather.getHourlyWeather(List.of(park, museum), LocalDate.of(2025,11,19)))
+                .thenReturn(List.of(Collections.nCopies(24, rain), Collections.nCopies(24, dry)));
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        BuildPlanInteractor interactor =
+                new BuildPlanInteractor(pref, geo, routeGateway, weather, null, presenter);
+
+        interactor.execute(new BuildPlanInputData(
+                1, "Toronto", "2025-11-19", "09:00", List.of(park, museum), null));
+        BuildPlanOutputData out = presenter.getOutput();
+
+        assertNull(out.getErrorMessage());
+        assertSame(rain, out.getPlan().getRoute().getStops().get(0).getWeather());
+        assertSame(dry, out.getPlan().getRoute().getStops().get(1).getWeather());
+        assertNotNull(out.getInfoMessage());
+        assertTrue(out.getInfoMessage().contains("High Park"));
+        assertFalse(out.getInfoMessage().contains("ROM"));
+        verify(weather, times(1)).getHourlyWeather(any(), any());
+        verify(weather, never()).getDailyWeather(anyDouble(), anyDouble(), any());
+    }
+
+    @Test
+    void weatherLookup_runsWhileTheRouteIsComputed() throws Exception {
+        PreferenceDataAccessInterface pref = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        RouteDataAccessInterface routeGateway = mock(RouteDataAccessInterface.class);
+        WeatherDataAccessInterface weather = mock(WeatherDataAccessInterface.class);
+
+        when(geo.geocode("Toronto")).thenReturn(new GeocodeResult(43.7, -79.4, "Toronto, ON"));
+        when(pref.loadForUser(1)).thenReturn(new PreferenceProfile(1, 5.0, Map.of()));
+
+        Place museum = new Place("2","ROM","B",2,2,0,IndoorOutdoorType.INDOOR,List.of());
+        PlanStop stop = new PlanStop(0, museum, LocalTime.of(9,0), LocalTime.of(10,0));
+        Route route = new Route(List.of(stop), List.of(), 1000, 2.0, "encoded");
+        CountDownLatch routeStarted = new CountDownLatch(1);
+        when(routeGateway.computeRoute(any(), any(), any())).thenAnswer(call -> {
+            routeStarted.countDown();
+            return route;
+        });
+
+        // answers only once the route request is under way
+        WeatherSummary dry = new WeatherSummary(12.0, "Clear sky", 3.0, false);
+        when(weather.getHourlyWeather(any(), any())).thenAnswer(call ->
+                routeStarted.await(5, TimeUnit.SECONDS) ? List.of(Collections.nCopies(24, dry)) : null);
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        new BuildPlanInteractor(pref, geo, routeGateway, weather, null, presenter).execute(new BuildPlanInputData(
+                1, "Toronto", "2025-11-19", "09:00", List.of(museum), null));
+
+        assertNull(presenter.getOutput().getErrorMessage());
+        assertSame(dry, presenter.getOutput().getPlan().getRoute().getStops().get(0).getWeather());
+    }
+
+    @Test
+    void rainForecast_movesOutdoorStopToADryHour() throws Exception {
+        PreferenceDataAccessInterface pref = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        RouteDataAccessInterface routeGateway = mock(RouteDataAccessInterface.class);
+        WeatherDataAccessInterface weather = mock(WeatherDataAccessInterface.class);
+
+        when(geo.geocode("Toronto")).thenReturn(new GeocodeResult(43.650, -79.400, "Toronto, ON"));
+        when(pref.loadForUser(1)).thenReturn(new PreferenceProfile(1, 5.0, Map.of()));
+
+        Place park = new Place("1", "High Park", "A", 43.651, -79.400, 0, IndoorOutdoorType.OUTDOOR, List.of());
+        Place museum = new Place("2", "ROM", "B", 43.652, -79.400, 0, IndoorOutdoorType.INDOOR, List.of());
+        WeatherSummary rain = new WeatherSummary(8.0, "Rain", 1.0, true);
+        WeatherSummary dry = new WeatherSummary(12.0, "Clear sky", 3.0, false);
+        List<WeatherSummary> rainAtNine = new ArrayList<>(Collections.nCopies(24, dry));
+        rainAtNine.set(9, rain);
+        when(weather.getHourlyWeather(List.of(museum, park), LocalDate.of(2025,11,19)))
+                .thenReturn(List.of(Collections.nCopies(24, dry), rainAtNine));
+
+        PlanStop s1 = new PlanStop(0, museum, null, null);
+        PlanStop s2 = new PlanStop(1, park, null, null);
+        List<Leg> legs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            legs.add(new LegBuilder().withDistance(150).withDuration(120).withSteps(List.of()).build());
+        }
+        when(routeGateway.computeRoute(any(), any(), eq(List.of(museum, park)), eq(false)))
+                .thenReturn(new Route(List.of(s1, s2), legs, 450, 360, "encoded"));
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        new BuildPlanInteractor(pref, geo, routeGateway, weather, null, presenter).execute(new BuildPlanInputData(
+                1, "Toronto", "2025-11-19", "09:00", List.of(museum, park), null));
+        BuildPlanOutputData out = presenter.getOutput();
+
+        assertNull(out.getErrorMessage());
+        List<PlanStop> stops = out.getPlan().getRoute().getStops();
+        assertEquals(List.of(museum, park), List.of(stops.get(0).getPlace(), stops.get(1).getPlace()));
+        assertSame(dry, stops.get(1).getWeather());
+        assertNull(out.getInfoMessage());
+        verify(weather, times(1)).getHourlyWeather(any(), any());
+    }
+
+    @Test
+    void weatherFailure_stillBuildsPlanWithoutForecast() throws Exception {
+        PreferenceDataAccessInterface pref = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        RouteDataAccessInterface routeGateway = mock(RouteDataAccessInterface.class);
+        WeatherDataAccessInterface weather = mock(WeatherDataAccessInterface.class);
+
+        when(geo.geocode("Toronto")).thenReturn(new GeocodeResult(43.7, -79.4, "Toronto, ON"));
+        when(pref.loadForUser(1)).thenReturn(new PreferenceProfile(1, 5.0, Map.of()));
+
+        Place p1 = new Place("1","CN Tower","A",1,1,0,null,List.of());
+        PlanStop s1 = new PlanStop(0, p1, LocalTime.of(9,0), LocalTime.of(10,0));
+        when(routeGateway.computeRoute(any(), any(), any()))
+                .thenReturn(new Route(List.of(s1), List.of(), 500, 1.0, "encoded"));
+        when(weather.getHourlyWeather(any(), any())).thenThrow(new RuntimeException("weather down"));
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        BuildPlanInteractor interactor =
+                new BuildPlanInteractor(pref, geo, routeGateway, weather, null, presenter);
+
+        interactor.execute(new BuildPlanInputData(
+                1, "Toronto", "2025-11-19", "09:00", List.of(p1), null));
+        BuildPlanOutputData out = presenter.getOutput();
+
+        assertNotNull(out.getPlan());
+        assertNull(out.getErrorMessage());
+        assertNull(out.getInfoMessage());
+        assertNull(out.getPlan().getRoute().getStops().get(0).getWeather());
+    }
+
+    @Test
+    void previousRouteWithOneAddedPlace_isUpdatedWithoutFullRouteComputation() throws Exception {
+        PreferenceDataAccessInterface pref = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        RouteDataAccessInterface route = mock(RouteDataAccessInterface.class);
+
+        when(geo.geocode("Toronto")).thenReturn(new GeocodeResult(43.65, -79.38, "Toronto, ON"));
+        when(pref.loadForUser(1)).thenReturn(new PreferenceProfile(1, 2.0));
+
+        Place p1 = new Place("1", "CN Tower", "A", 43.6426, -79.3871, 0, null, List.of());
+        Place p2 = new Place("2", "Museum", "B", 43.6677, -79.3948, 0, null, List.of());
+        PlanStop origin = new PlanStop(0, new Place(), LocalTime.of(9, 0), LocalTime.of(9, 0));
+        PlanStop s1 = new PlanStop(0, p1, LocalTime.of(9, 15), LocalTime.of(10, 15));
+        Leg in = new Leg(1000, 900, "", origin, s1, List.of());
+        Leg out = new Leg(1000, 900, "", s1, origin, List.of());
+        Route previous = new Route(List.of(s1), List.of(in, out), 2000, 1800, "");
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        BuildPlanInteractor interactor = new BuildPlanInteractor(pref, geo, route, null, null, presenter);
+
+        interactor.execute(new BuildPlanInputData(1, "Toronto", "2025-11-19", "09:00",
+                List.of(p1, p2), null, previous));
+
+        BuildPlanOutputData output = presenter.getOutput();
+        assertNull(output.getErrorMessage());
+        assertEquals(2, output.getPlan().getRoute().getStops().size());
+        assertEquals(3, output.getPlan().getRoute().getLegs().size());
+        verify(route, never()).computeRoute(any(), any(), any());
+    }
+
+    @Test
+    void walkingFeasibility_dropsUnreachableStopsBeforeRouting() throws Exception {
+        PreferenceDataAccessInterface pref = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        RouteDataAccessInterface routeGateway = mock(RouteDataAccessInterface.class);
+
+        when(geo.geocode("Toronto")).thenReturn(new GeocodeResult(43.65, -79.38, "Toronto, ON"));
+        when(pref.loadForUser(1)).thenReturn(new PreferenceProfile(1, 5.0, Map.of()));
+
+        Place near = new Place("1", "CN Tower", "A", 43.6426, -79.3871, 0, null, List.of());
+        Place far = new Place("2", "Niagara Falls", "B", 43.0896, -79.0849, 0, null, List.of());
+        PlanStop s1 = new PlanStop(0, near, LocalTime.of(13, 10), LocalTime.of(14, 10));
+        when(routeGateway.computeRoute(any(), any(), eq(List.of(near))))
+                .thenReturn(new Route(List.of(s1), List.of(), 500, 1.0, "encoded"));
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        BuildPlanInteractor interactor = new BuildPlanInteractor(pref, geo, routeGateway, null,
+                new WalkingFeasibility(), presenter);
+
+        interactor.execute(new BuildPlanInputData(
+                1, "Toronto", "2025-11-19", "13:00", List.of(near, far), null));
+        BuildPlanOutputData out = presenter.getOutput();
+
+        assertNull(out.getErrorMessage());
+        assertEquals(1, out.getPlan().getRoute().getStops().size());
+        assertTrue(out.getInfoMessage().contains("Niagara Falls"));
+        verify(routeGateway).computeRoute(any(), any(), eq(List.of(near)));
+    }
+
+    @Test
+    void walkingFeasibility_nothingFits_returnsErrorWithoutRouting() throws Exception {
+        PreferenceDataAccessInterface pref = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        RouteDataAccessInterface routeGateway = mock(RouteDataAccessInterface.class);
+
+        when(geo.geocode("Toronto")).thenReturn(new GeocodeResult(43.65, -79.38, "Toronto, ON"));
+        when(pref.loadForUser(1)).thenReturn(new PreferenceProfile(1, 5.0, Map.of()));
+        Place far = new Place("2", "Niagara Falls", "B", 43.0896, -79.0849, 0, null, List.of());
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        BuildPlanInteractor interactor = new BuildPlanInteractor(pref, geo, routeGateway, null,
+                new WalkingFeasibility(), presenter);
+
+        interactor.execute(new BuildPlanInputData(
+                1, "Toronto", "2025-11-19", "22:00", List.of(far), null));
+
+        assertNull(presenter.getOutput().getPlan());
+        assertNotNull(presenter.getOutput().getErrorMessage());
+        verifyNoInteractions(routeGateway);
+    }
+
+    @Test
+    void openingHours_fixOrderAndStartVisitsWhenPlacesOpen() throws Exception {
+        PreferenceDataAccessInterface pref = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        RouteDataAccessInterface routeGateway = mock(RouteDataAccessInterface.class);
+
+        when(geo.geocode("Toronto")).thenReturn(new GeocodeResult(43.65, -79.38, "Toronto, ON"));
+        when(pref.loadForUser(1)).thenReturn(new PreferenceProfile(1, 5.0, Map.of()));
+
+        Place museum = new Place("1", "Museum", "A", 43.651, -79.38, 0, null, List.of());
+        int[][] days = new int[7][];
+        for (int d = 0; d < 7; d++) {
+            days[d] = new int[] {10 * 60, 17 * 60};
+        }
+        museum.setOpeningHours(new OpeningHours(days));
+        PlanStop stop = new PlanStop(0, museum, LocalTime.of(9, 5), LocalTime.of(10, 5));
+        Leg out = new LegBuilder().withDistance(150).withDuration(300).withSteps(List.of()).build();
+        Leg back = new LegBuilder().withDistance(150).withDuration(300).withSteps(List.of()).build();
+        when(routeGateway.computeRoute(any(), any(), eq(List.of(museum)), eq(false)))
+                .thenReturn(new Route(List.of(stop), List.of(out, back), 300, 600, "encoded"));
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        new BuildPlanInteractor(pref, geo, routeGateway, null, null, presenter).execute(new BuildPlanInputData(
+                1, "Toronto", "2025-11-19", "09:00", List.of(museum), null));
+        BuildPlanOutputData out2 = presenter.getOutput();
+
+        assertNull(out2.getErrorMessage());
+        PlanStop scheduled = out2.getPlan().getRoute().getStops().get(0);
+        assertEquals(LocalTime.of(10, 0), scheduled.getStartTime());
+        assertEquals(LocalTime.of(11, 0), scheduled.getEndTime());
+        verify(routeGateway, never()).computeRoute(any(), any(), any());
+    }
 }
@@ -0,0 +1,91 @@
+package placefinder.usecases.buildplan;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.Place;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SpeculativeBuildPlanInteractor}. The wrapped interactor is a fake
+ * that counts builds, so no gateways are involved.
+ */
+class SpeculativeBuildPlanInteractorTest {
+
+    /** Presenter that keeps every output it is given. */
+    private static class CapturingPresenter implements BuildPlanOutputBoundary {
+        private final List<BuildPlanOutputData> outputs = new ArrayList<>();
+        @Override
+        public void present(BuildPlanOutputData outputData) {
+            outputs.add(outputData);
+        }
+    }
+
+    private static BuildPlanInputData input(String... placeIds) {
+        List<Place> places = new ArrayList<>();
+        for (String id : placeIds) {
+            places.add(new Place(id, "Place " + id, "addr", 43.6, -79.4, 0, null, List.of()));
+        }
+        return new BuildPlanInputData(1, "Toronto", "2025-11-19", "09:00", places, null);
+    }
+
+    @Test
+    void sameInputs_reuseBackgroundBuild() {
+        AtomicInteger builds = new AtomicInteger();
+        CapturingPresenter presenter = new CapturingPresenter();
+        SpeculativeBuildPlanInteractor interactor = new SpeculativeBuildPlanInteractor(
+                p -> in -> {
+                    builds.incrementAndGet();
+                    p.present(new BuildPlanOutputData(null, null, "built"));
+                },
+                presenter);
+
+        interactor.speculate(input("a", "b"));
+        interactor.speculate(input("a", "b"));
+        interactor.execute(input("a", "b"));
+
+        assertEquals(1, builds.get());
+        assertEquals(1, presenter.outputs.size());
+        assertEquals("built", presenter.outputs.get(0).getInfoMessage());
+    }
+
+    @Test
+    void differentInputs_buildDirectly() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        SpeculativeBuildPlanInteractor interactor = new SpeculativeBuildPlanInteractor(
+                p -> in -> p.present(new BuildPlanOutputData(null, null,
+                        "places: " + in.getSelectedPlaces().size())),
+                presenter);
+
+        interactor.speculate(input("a"));
+        interactor.execute(input("a", "b"));
+
+        assertEquals(1, presenter.outputs.size());
+        assertEquals("places: 2", presenter.outputs.get(0).getInfoMessage());
+    }
+
+    @Test
+    void failedBackgroundBuild_isRetried() {
+        AtomicInteger builds = new AtomicInteger();
+        CapturingPresenter presenter = new CapturingPresenter();
+        SpeculativeBuildPlanInteractor interactor = new SpeculativeBuildPlanInteractor(
+                p -> in -> {
+                    if (builds.incrementAndGet() == 1) {
+                        p.present(new BuildPlanOutputData(null, "Route service unavailable."));
+                    } else {
+                        p.present(new BuildPlanOutputData(null, null, "built"));
+                    }
+                },
+                presenter);
+
+        interactor.speculate(input("a"));
+        interactor.execute(input("a"));
+
+        assertEquals(2, builds.get());
+        assertEquals(1, presenter.outputs.size());
+        assertNull(presenter.outputs.get(0).getErrorMessage());
+    }
+}
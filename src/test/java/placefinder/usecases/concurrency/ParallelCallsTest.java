@@ -0,0 +1,42 @@
+package placefinder.usecases.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelCallsTest {
+
+    @Test
+    void runAll_runsTasksConcurrentlyAndKeepsTheirOrder() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Callable<String> first = () -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            return "first";
+        };
+        Callable<String> second = () -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            return "second";
+        };
+
+        assertEquals(List.of("first", "second"), ParallelCalls.runAll(List.of(first, second)));
+    }
+
+    @Test
+    void runAll_rethrowsTheTaskException() {
+        Callable<String> ok = () -> "ok";
+        Callable<String> failing = () -> {
+            throw new IOException("offline");
+        };
+
+        IOException e = assertThrows(IOException.class, () -> ParallelCalls.runAll(List.of(ok, failing)));
+        assertEquals("offline", e.getMessage());
+    }
+}
@@ -0,0 +1,97 @@
+package placefinder.usecases.instrumentation;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstrumentationTest {
+
+    interface Lookup {
+        String find(String key) throws IOException;
+    }
+
+    /** Notes "<label> <call name>" before and "<label> done" after each call. */
+    private static CallInterceptor tracing(String label, List<String> log) {
+        return invocation -> {
+            log.add(label + " " + invocation.getName());
+            try {
+                return invocation.proceed();
+            } finally {
+                log.add(label + " done");
+            }
+        };
+    }
+
+    @Test
+    void wrap_runsInterceptorsInOrderAroundTheTarget() throws Exception {
+        List<String> log = new ArrayList<>();
+        Lookup lookup = Instrumentation.of(tracing("outer", log), tracing("inner", log))
+                .wrap(Lookup.class, key -> {
+                    log.add("target " + key);
+                    return key.toUpperCase();
+                }, "gateway.lookup");
+
+        assertEquals("A", lookup.find("a"));
+        assertEquals(List.of("outer gateway.lookup.find", "inner gateway.lookup.find", "target a",
+                "inner done", "outer done"), log);
+    }
+
+    @Test
+    void then_extendsACopyAndLeavesTheOriginalUnchanged() throws Exception {
+        List<String> log = new ArrayList<>();
+        Instrumentation common = Instrumentation.of(tracing("common", log));
+        Instrumentation extended = common.then(tracing("extra", log));
+
+        common.wrap(Lookup.class, key -> key, "a").find("x");
+        extended.wrap(Lookup.class, key -> key, "b").find("x");
+
+        assertEquals(List.of("common a.find", "common done",
+                "common b.find", "extra b.find", "extra done", "common done"), log);
+    }
+
+    @Test
+    void proceed_canBeCalledAgainToRetry() throws Exception {
+        int[] attempts = {0};
+        CallInterceptor retryOnce = invocation -> {
+            try {
+                return invocation.proceed();
+            } catch (IOException e) {
+                return invocation.proceed();
+            }
+        };
+        Lookup lookup = Instrumentation.of(retryOnce).wrap(Lookup.class, key -> {
+            if (attempts[0]++ == 0) {
+                throw new IOException("first attempt fails");
+            }
+            return key;
+        }, "gateway.lookup");
+
+        assertEquals("k", lookup.find("k"));
+        assertEquals(2, attempts[0]);
+    }
+
+    @Test
+    void wrap_rethrowsTheTargetsExceptionUnchanged() {
+        IOException failure = new IOException("offline");
+        Lookup lookup = Instrumentation.of(invocation -> invocation.proceed()).wrap(Lookup.class, key -> {
+            throw failure;
+        }, "gateway.lookup");
+
+        assertSame(failure, assertThrows(IOException.class, () -> lookup.find("a")));
+    }
+
+    @Test
+    void objectMethods_bypassTheInterceptors() {
+        List<String> log = new ArrayList<>();
+        Lookup target = key -> key;
+        Lookup lookup = Instrumentation.of(tracing("t", log)).wrap(Lookup.class, target, "gateway.lookup");
+
+        assertEquals(target.toString(), lookup.toString());
+        assertEquals(target.hashCode(), lookup.hashCode());
+        assertTrue(log.isEmpty());
+    }
+}
@@ -0,0 +1,78 @@
+package placefinder.usecases.instrumentation;
+
+import org.junit.jupiter.api.Test;
+import placefinder.usecases.logging.AppLogger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowCallLoggerTest {
+
+    interface Lookup {
+        String find(String key) throws IOException;
+    }
+
+    /** Keeps every record as "LEVEL event [fields]". */
+    private static final class RecordingLogger implements AppLogger {
+        private final List<String> records = new ArrayList<>();
+
+        @Override
+        public boolean isEnabled(Level level) {
+            return true;
+        }
+
+        @Override
+        public void log(Level level, String event, Object... fields) {
+            records.add(level + " " + event + " " + Arrays.toString(fields));
+        }
+    }
+
+    @Test
+    void fastCall_isNotLogged() throws Exception {
+        RecordingLogger logger = new RecordingLogger();
+        Lookup lookup = Instrumentation.of(new SlowCallLogger(logger, 60_000))
+                .wrap(Lookup.class, key -> key, "gateway.lookup");
+
+        lookup.find("a");
+
+        assertTrue(logger.records.isEmpty());
+    }
+
+    @Test
+    void slowCall_isLoggedWithItsNameAndDuration() throws Exception {
+        RecordingLogger logger = new RecordingLogger();
+        Lookup lookup = Instrumentation.of(new SlowCallLogger(logger, 5))
+                .wrap(Lookup.class, key -> {
+                    try {
+                        Thread.sleep(20);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return key;
+                }, "gateway.lookup");
+
+        lookup.find("secret address");
+
+        assertEquals(1, logger.records.size());
+        String record = logger.records.get(0);
+        assertTrue(record.startsWith("WARN call.slow [call, gateway.lookup.find, ms, "), record);
+        assertTrue(record.endsWith("failed, false]"), record);
+        assertFalse(record.contains("secret address"), "arguments must not be logged");
+    }
+
+    @Test
+    void slowFailure_isLoggedAsFailedAndRethrown() {
+        RecordingLogger logger = new RecordingLogger();
+        Lookup lookup = Instrumentation.of(new SlowCallLogger(logger, -1))
+                .wrap(Lookup.class, key -> {
+                    throw new IOException("offline");
+                }, "gateway.lookup");
+
+        assertThrows(IOException.class, () -> lookup.find("a"));
+        assertTrue(logger.records.get(0).endsWith("failed, true]"));
+    }
+}
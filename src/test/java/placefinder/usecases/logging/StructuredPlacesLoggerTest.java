@@ -0,0 +1,113 @@
+package placefinder.usecases.logging;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.IndoorOutdoorType;
+import placefinder.entities.Place;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link StructuredPlacesLogger}.
+ *
+ * These tests log into an in-memory {@link AppLogger} and check the
+ * records' levels, events and fields.
+ */
+class StructuredPlacesLoggerTest {
+
+    /** Keeps every record at or above its level as "LEVEL event [fields]". */
+    private static final class RecordingLogger implements AppLogger {
+        private final Level minLevel;
+        private final List<String> records = new ArrayList<>();
+
+        RecordingLogger(Level minLevel) {
+            this.minLevel = minLevel;
+        }
+
+        @Override
+        public boolean isEnabled(Level level) {
+            return level.compareTo(minLevel) >= 0;
+        }
+
+        @Override
+        public void log(Level level, String event, Object... fields) {
+            if (isEnabled(level)) {
+                records.add(level + " " + event + " " + Arrays.toString(fields));
+            }
+        }
+    }
+
+    private static Place place(String id, String name) {
+        return new Place(id, name, "301 Front St W, Toronto", 43.6426, -79.3871, 1.5,
+                IndoorOutdoorType.MIXED, List.of("tourism.attraction"));
+    }
+
+    @Test
+    void logSearchRequest_logsLocationAndDate() {
+        RecordingLogger appLogger = new RecordingLogger(AppLogger.Level.INFO);
+
+        new StructuredPlacesLogger(appLogger).logSearchRequest("Toronto", "2025-11-19");
+
+        assertEquals(List.of("INFO places.request [location, Toronto, date, 2025-11-19]"), appLogger.records);
+    }
+
+    @Test
+    void logSearchResponse_atInfo_logsOnlyTheSummary() {
+        RecordingLogger appLogger = new RecordingLogger(AppLogger.Level.INFO);
+
+        new StructuredPlacesLogger(appLogger).logSearchResponse(
+                List.of(place("1", "CN Tower"), place("2", "Ripley's Aquarium")), 250);
+
+        assertEquals(List.of("INFO places.response [responseMs, 250, count, 2]"), appLogger.records);
+    }
+
+    @Test
+    void logSearchResponse_atDebug_logsEachPlace() {
+        RecordingLogger appLogger = new RecordingLogger(AppLogger.Level.DEBUG);
+
+        new StructuredPlacesLogger(appLogger).logSearchResponse(
+                List.of(place("1", "CN Tower"), place("2", "Ripley's Aquarium")), 250);
+
+        assertEquals(3, appLogger.records.size());
+        assertTrue(appLogger.records.get(1).startsWith("DEBUG places.place [rank, 1, name, CN Tower,"));
+        assertTrue(appLogger.records.get(2).contains("name, Ripley's Aquarium"));
+        assertTrue(appLogger.records.get(2).contains("indoorOutdoor, MIXED"));
+    }
+
+    @Test
+    void logSearchResponse_withNullPlaces_logsZeroCount() {
+        RecordingLogger appLogger = new RecordingLogger(AppLogger.Level.DEBUG);
+
+        new StructuredPlacesLogger(appLogger).logSearchResponse(null, 10);
+
+        assertEquals(List.of("INFO places.response [responseMs, 10, count, 0]"), appLogger.records);
+    }
+
+    @Test
+    void logError_logsAtErrorLevel() {
+        RecordingLogger appLogger = new RecordingLogger(AppLogger.Level.ERROR);
+
+        new StructuredPlacesLogger(appLogger).logError("HTTP 503");
+
+        assertEquals(List.of("ERROR places.error [message, HTTP 503]"), appLogger.records);
+    }
+
+    @Test
+    void switchablePlacesLogger_withActiveLogger_usesItWhileActive() {
+        RecordingLogger appLogger = new RecordingLogger(AppLogger.Level.INFO);
+        SwitchablePlacesLogger logger = new SwitchablePlacesLogger(new StructuredPlacesLogger(appLogger), true);
+
+        logger.logSearchRequest("Toronto", "2025-11-19");
+        logger.toggle();
+        logger.logSearchRequest("Ottawa", "2025-11-20");
+        logger.toggle();
+        logger.logError("timeout");
+
+        assertEquals(2, appLogger.records.size());
+        assertTrue(appLogger.records.get(0).contains("Toronto"));
+        assertTrue(appLogger.records.get(1).startsWith("ERROR places.error"));
+    }
+}
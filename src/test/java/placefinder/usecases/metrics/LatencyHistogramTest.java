@@ -0,0 +1,59 @@
+package placefinder.usecases.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link LatencyHistogram}.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void percentiles_areWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 10_000; micros++) {
+            histogram.recordMicros(micros);
+        }
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(10_000, snapshot.getMaxMicros());
+        assertEquals(5_000.5, snapshot.getMeanMicros(), 1e-9);
+        assertEquals(5_000, snapshot.percentileMicros(50), 5_000 * 0.035);
+        assertEquals(9_900, snapshot.percentileMicros(99), 9_900 * 0.035);
+        assertEquals(10_000, snapshot.percentileMicros(100));
+    }
+
+    @Test
+    void smallValuesAreExactAndHugeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordMicros(7);
+        histogram.recordMicros(Long.MAX_VALUE);
+
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        assertEquals(7, snapshot.percentileMicros(50));
+        assertTrue(snapshot.getMaxMicros() > 1_000_000_000L);
+        assertEquals(snapshot.getMaxMicros(), snapshot.percentileMicros(100));
+    }
+
+    @Test
+    void bucketIndexAndUpperBoundAgree() {
+        for (long micros : new long[] {0, 1, 31, 32, 33, 63, 64, 65, 1_000, 123_456, 987_654_321L}) {
+            int index = LatencyHistogram.index(micros);
+            assertTrue(LatencyHistogram.highestValue(index) >= micros, "upper bound of " + micros);
+            assertTrue(index == 0 || LatencyHistogram.highestValue(index - 1) < micros, "lower bound of " + micros);
+        }
+    }
+
+    @Test
+    void emptySnapshot_reportsZero() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.percentileMicros(99));
+        assertEquals(0, snapshot.getMeanMicros());
+    }
+}
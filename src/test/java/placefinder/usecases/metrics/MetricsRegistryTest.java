@@ -0,0 +1,65 @@
+package placefinder.usecases.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link MetricsRegistry}.
+ */
+class MetricsRegistryTest {
+
+    interface Lookup {
+        String find(String key) throws IOException;
+
+        default String findOrBlank(String key) throws IOException {
+            String found = find(key);
+            return found == null ? "" : found;
+        }
+    }
+
+    @Test
+    void timed_recordsEveryCallAndPassesResultsThrough() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry();
+        Lookup lookup = metrics.timed(Lookup.class, key -> key.isEmpty() ? null : key.toUpperCase(), "gateway.lookup");
+
+        assertEquals("A", lookup.find("a"));
+        assertEquals("", lookup.findOrBlank(""));
+
+        MetricsSnapshot snapshot = metrics.snapshot();
+        // the default method calls find through the real object, not the proxy
+        assertEquals(1, snapshot.getLatencies().get("gateway.lookup.find").getCount());
+        assertEquals(1, snapshot.getLatencies().get("gateway.lookup.findOrBlank").getCount());
+        assertEquals(0, snapshot.counter("gateway.lookup.find.errors"));
+    }
+
+    @Test
+    void timed_countsErrorsAndRethrowsTheOriginalException() {
+        MetricsRegistry metrics = new MetricsRegistry();
+        IOException failure = new IOException("offline");
+        Lookup lookup = metrics.timed(Lookup.class, key -> {
+            throw failure;
+        }, "gateway.lookup");
+
+        IOException thrown = assertThrows(IOException.class, () -> lookup.find("a"));
+
+        assertSame(failure, thrown);
+        MetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.counter("gateway.lookup.find.errors"));
+        assertEquals(1, snapshot.getLatencies().get("gateway.lookup.find").getCount());
+    }
+
+    @Test
+    void reset_dropsCountersAndLatencies() throws Exception {
+        MetricsRegistry metrics = new MetricsRegistry();
+        metrics.counter("cache.places.hit").increment();
+        metrics.time("db.select.plans", () -> 1);
+
+        metrics.reset();
+
+        assertTrue(metrics.snapshot().getCounters().isEmpty());
+        assertTrue(metrics.snapshot().getLatencies().isEmpty());
+    }
+}
@@ -0,0 +1,121 @@
+package placefinder.usecases.routing;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.*;
+import placefinder.usecases.dataacessinterfaces.RouteDataAccessInterface;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.*;
+import static placefinder.usecases.TestPlaces.place;
+
+/**
+ * Unit tests for {@link IncrementalRouter}.
+ */
+class IncrementalRouterTest {
+
+    private static final GeocodeResult ORIGIN = new GeocodeResult(43.650, -79.400, "Origin");
+
+    private static Leg leg(int meters) {
+        return new LegBuilder().withDistance(meters).withDuration(meters / 1.3)
+                .withEncodedPolyline("cached").withSteps(new ArrayList<>()).build();
+    }
+
+    /** Origin -> A -> B -> C -> origin, roughly a line heading north and back. */
+    private static Route threeStopRoute(Place a, Place b, Place c) {
+        List<PlanStop> stops = List.of(
+                new PlanStop(0, a, LocalTime.of(9, 10), LocalTime.of(10, 10)),
+                new PlanStop(1, b, LocalTime.of(10, 20), LocalTime.of(11, 20)),
+                new PlanStop(2, c, LocalTime.of(11, 30), LocalTime.of(12, 0)));
+        Route route = new RouteBuilder().withStops(stops)
+                .withLegs(List.of(leg(1200), leg(1200), leg(1200), leg(3500)))
+                .withDistance(7100).withDuration(5461).withEncodedPolyline("cached").build();
+        return RouteTimeline.retime(route, LocalTime.of(9, 0));
+    }
+
+    @Test
+    void addedPlace_isInsertedAtCheapestPositionAndOnlyTwoLegsAreComputed() throws Exception {
+        Place a = place("a", 43.660, -79.400);
+        Place b = place("b", 43.670, -79.400);
+        Place c = place("c", 43.680, -79.400);
+        Place between = place("x", 43.665, -79.400);
+        RouteDataAccessInterface gateway = mock(RouteDataAccessInterface.class);
+
+        Route updated = new IncrementalRouter(gateway).update(threeStopRoute(a, b, c), ORIGIN,
+                LocalTime.of(9, 0), List.of(a, b, c, between));
+
+        assertNotNull(updated);
+        assertEquals(List.of("a", "x", "b", "c"),
+                updated.getStops().stream().map(s -> s.getPlace().getId()).toList());
+        assertEquals(5, updated.getLegs().size());
+        assertEquals("cached", updated.getLegs().get(0).getEncodedPolyline());
+        assertEquals("cached", updated.getLegs().get(3).getEncodedPolyline());
+        verify(gateway, times(2)).computeLeg(anyDouble(), anyDouble(), anyDouble(), anyDouble());
+        verify(gateway, never()).computeRoute(any(), any(), any());
+    }
+
+    @Test
+    void removedPlace_isSplicedOutAndLaterStopsMoveEarlier() throws Exception {
+        Place a = place("a", 43.660, -79.400);
+        Place b = place("b", 43.670, -79.400);
+        Place c = place("c", 43.680, -79.400);
+        Route previous = threeStopRoute(a, b, c);
+
+        Route updated = new IncrementalRouter(null).update(previous, ORIGIN, LocalTime.of(9, 0), List.of(a, c));
+
+        assertNotNull(updated);
+        assertEquals(2, updated.getStops().size());
+        assertEquals(3, updated.getLegs().size());
+        assertSame(c, updated.getStops().get(1).getPlace());
+        assertTrue(updated.getStops().get(1).getStartTime()
+                .isBefore(previous.getStops().get(2).getStartTime()));
+        // the visit length of C is kept
+        assertEquals(30, java.time.Duration.between(updated.getStops().get(1).getStartTime(),
+                updated.getStops().get(1).getEndTime()).toMinutes());
+    }
+
+    @Test
+    void largeChanges_fallBackToFullRouting() {
+        Place a = place("a", 43.660, -79.400);
+        Place b = place("b", 43.670, -79.400);
+        Place c = place("c", 43.680, -79.400);
+
+        Route updated = new IncrementalRouter(null).update(threeStopRoute(a, b, c), ORIGIN, LocalTime.of(9, 0),
+                List.of(place("x", 43.7, -79.4), place("y", 43.71, -79.4), place("z", 43.72, -79.4)));
+
+        assertNull(updated);
+    }
+
+    @Test
+    void keepOrder_insertsAddedPlaceWhereTheOrderPutsIt() {
+        Place a = place("a", 43.660, -79.400);
+        Place b = place("b", 43.670, -79.400);
+        Place c = place("c", 43.680, -79.400);
+        Place between = place("x", 43.665, -79.400);
+
+        Route updated = new IncrementalRouter(null).update(threeStopRoute(a, b, c), ORIGIN,
+                LocalTime.of(9, 0), List.of(a, b, c, between), true);
+
+        assertNotNull(updated);
+        assertEquals(List.of("a", "b", "c", "x"),
+                updated.getStops().stream().map(s -> s.getPlace().getId()).toList());
+        assertEquals(5, updated.getLegs().size());
+        assertEquals("cached", updated.getLegs().get(2).getEncodedPolyline());
+    }
+
+    @Test
+    void keepOrder_reorderedStops_fallBackToFullRouting() {
+        Place a = place("a", 43.660, -79.400);
+        Place b = place("b", 43.670, -79.400);
+        Place c = place("c", 43.680, -79.400);
+
+        Route updated = new IncrementalRouter(null).update(threeStopRoute(a, b, c), ORIGIN,
+                LocalTime.of(9, 0), List.of(a, c, b), true);
+
+        assertNull(updated);
+    }
+}
@@ -0,0 +1,74 @@
+package placefinder.usecases.routing;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.Place;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static placefinder.usecases.TestPlaces.place;
+
+/**
+ * Unit tests for {@link OrienteeringSolver}.
+ */
+class OrienteeringSolverTest {
+
+    private static final double ORIGIN_LAT = 43.650;
+    private static final double ORIGIN_LON = -79.400;
+
+    @Test
+    void prefersNearbyPlacesWhenFarOnesDoNotFit() {
+        List<OrienteeringSolver.Candidate> candidates = List.of(
+                new OrienteeringSolver.Candidate(place("far", 43.800, -79.400), 1.0, 1800),
+                new OrienteeringSolver.Candidate(place("near1", 43.652, -79.400), 0.6, 1800),
+                new OrienteeringSolver.Candidate(place("near2", 43.654, -79.400), 0.5, 1800));
+
+        List<Place> chosen = new OrienteeringSolver().solve(ORIGIN_LAT, ORIGIN_LON, candidates, 2 * 3600);
+
+        assertEquals(Set.of("near1", "near2"), new HashSet<>(chosen.stream().map(Place::getId).toList()));
+    }
+
+    @Test
+    void nothingFits_returnsEmptyList() {
+        List<OrienteeringSolver.Candidate> candidates = List.of(
+                new OrienteeringSolver.Candidate(place("a", 43.652, -79.400), 1.0, 3600));
+
+        assertTrue(new OrienteeringSolver().solve(ORIGIN_LAT, ORIGIN_LON, candidates, 1800).isEmpty());
+    }
+
+    @Test
+    void twoHundredCandidates_stayWithinBudgetAndAnswerQuickly() {
+        Random random = new Random(7);
+        List<OrienteeringSolver.Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Place p = place("p" + i, ORIGIN_LAT + (random.nextDouble() - 0.5) * 0.05,
+                    ORIGIN_LON + (random.nextDouble() - 0.5) * 0.05);
+            candidates.add(new OrienteeringSolver.Candidate(p, (200 - i) / 200.0, 2700));
+        }
+        long budget = 8 * 3600;
+
+        OrienteeringSolver solver = new OrienteeringSolver();
+        solver.solve(ORIGIN_LAT, ORIGIN_LON, candidates, budget); // warm up
+        long started = System.nanoTime();
+        List<Place> chosen = solver.solve(ORIGIN_LAT, ORIGIN_LON, candidates, budget);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertFalse(chosen.isEmpty());
+        assertEquals(chosen.size(), new HashSet<>(chosen).size());
+        double seconds = 0;
+        double lat = ORIGIN_LAT;
+        double lon = ORIGIN_LON;
+        for (Place p : chosen) {
+            seconds += WalkingEstimator.walkingSeconds(lat, lon, p.getLat(), p.getLon()) + 2700;
+            lat = p.getLat();
+            lon = p.getLon();
+        }
+        seconds += WalkingEstimator.walkingSeconds(lat, lon, ORIGIN_LAT, ORIGIN_LON);
+        assertTrue(seconds <= budget + 1e-6);
+        assertTrue(elapsedMillis < 100, "took " + elapsedMillis + " ms");
+    }
+}
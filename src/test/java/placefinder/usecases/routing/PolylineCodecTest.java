@@ -0,0 +1,45 @@
+package placefinder.usecases.routing;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PolylineCodec}.
+ */
+class PolylineCodecTest {
+
+    @Test
+    void encode_matchesTheReferenceEncoding() {
+        String encoded = PolylineCodec.encode(List.of(new double[] {38.5, -120.2}, new double[] {40.7, -120.95}));
+
+        assertEquals("_p~iF~ps|U_ulLnnqC", encoded);
+    }
+
+    @Test
+    void decode_roundTripsEncodedPoints() {
+        List<double[]> points = List.of(
+                new double[] {43.6426, -79.3871}, new double[] {43.6677, -79.3948}, new double[] {43.65, -79.38});
+
+        List<double[]> decoded = PolylineCodec.decode(PolylineCodec.encode(points));
+
+        assertEquals(3, decoded.size());
+        for (int i = 0; i < points.size(); i++) {
+            assertArrayEquals(points.get(i), decoded.get(i), 1e-5);
+        }
+    }
+
+    @Test
+    void concat_joinsPartsWithoutDuplicatingTheJoint() {
+        String first = PolylineCodec.encode(List.of(new double[] {38.5, -120.2}, new double[] {40.7, -120.95}));
+        String second = PolylineCodec.encode(List.of(new double[] {40.7, -120.95}, new double[] {43.252, -126.453}));
+
+        List<double[]> joined = PolylineCodec.decode(PolylineCodec.concat(List.of(first, second)));
+
+        assertEquals(3, joined.size());
+        assertEquals(43.252, joined.get(2)[0], 1e-9);
+        assertEquals(-126.453, joined.get(2)[1], 1e-9);
+    }
+}
@@ -0,0 +1,72 @@
+package placefinder.usecases.routing;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.*;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link RouteTimeline}.
+ */
+class RouteTimelineTest {
+
+    private static Place place(String id) {
+        Place p = new Place();
+        p.setId(id);
+        return p;
+    }
+
+    private static Leg leg(double seconds, PlanStop from, PlanStop to) {
+        return new LegBuilder()
+                .withDistance(100)
+                .withDuration(seconds)
+                .withEncodedPolyline("")
+                .withStartLocation(from)
+                .withEndLocation(to)
+                .withSteps(new ArrayList<>())
+                .build();
+    }
+
+    /** origin -> A (10 min walk, 1h visit) -> B (5 min walk, 30 min visit) -> origin. */
+    private static Route sampleRoute() {
+        LocalTime start = LocalTime.of(9, 0);
+        PlanStop origin = new PlanStop(0, new Place(), start, start);
+        PlanStop a = new PlanStop(0, place("a"), LocalTime.of(9, 10), LocalTime.of(10, 10));
+        PlanStop b = new PlanStop(1, place("b"), LocalTime.of(10, 15), LocalTime.of(10, 45));
+        List<Leg> legs = List.of(leg(600, origin, a), leg(300, a, b), leg(900, b, origin));
+        return new RouteBuilder().withStops(List.of(a, b)).withLegs(legs)
+                .withDistance(300).withDuration(1800).withEncodedPolyline("").build();
+    }
+
+    @Test
+    void retime_shiftsAllStopsAndKeepsVisitLengths() {
+        Route original = sampleRoute();
+
+        Route shifted = RouteTimeline.retime(original, LocalTime.of(13, 30));
+
+        assertEquals(LocalTime.of(13, 40), shifted.getStops().get(0).getStartTime());
+        assertEquals(LocalTime.of(14, 40), shifted.getStops().get(0).getEndTime());
+        assertEquals(LocalTime.of(14, 45), shifted.getStops().get(1).getStartTime());
+        assertEquals(LocalTime.of(15, 15), shifted.getStops().get(1).getEndTime());
+        assertEquals("a", shifted.getStops().get(0).getPlace().getId());
+    }
+
+    @Test
+    void retime_linksLegsToNewStopsAndLeavesOriginalUntouched() {
+        Route original = sampleRoute();
+
+        Route shifted = RouteTimeline.retime(original, LocalTime.of(8, 0));
+
+        assertEquals(3, shifted.getLegs().size());
+        assertSame(shifted.getStops().get(0), shifted.getLegs().get(0).getEndLocation());
+        assertSame(shifted.getStops().get(0), shifted.getLegs().get(1).getStartLocation());
+        assertSame(shifted.getLegs().get(0).getStartLocation(), shifted.getLegs().get(2).getEndLocation());
+        assertEquals(LocalTime.of(8, 0), shifted.getLegs().get(0).getStartLocation().getStartTime());
+
+        assertEquals(LocalTime.of(9, 10), original.getStops().get(0).getStartTime());
+    }
+}
@@ -0,0 +1,50 @@
+package placefinder.usecases.routing;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.Place;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static placefinder.usecases.TestPlaces.place;
+
+/**
+ * Unit tests for {@link SweepClusterer}.
+ */
+class SweepClustererTest {
+
+    @Test
+    void partition_respectsLimitAndKeepsEveryPlaceOnce() {
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < 23; i++) {
+            double angle = 2 * Math.PI * i / 23;
+            places.add(place("p" + i, 43.65 + 0.01 * Math.sin(angle), -79.38 + 0.01 * Math.cos(angle)));
+        }
+
+        List<List<Place>> clusters = SweepClusterer.partition(43.65, -79.38, places, 10);
+
+        assertEquals(3, clusters.size());
+        Set<Place> seen = new HashSet<>();
+        for (List<Place> cluster : clusters) {
+            assertTrue(cluster.size() <= 10 && cluster.size() >= 7);
+            seen.addAll(cluster);
+        }
+        assertEquals(23, seen.size());
+    }
+
+    @Test
+    void partition_groupsPlacesOnTheSameSideTogether() {
+        List<Place> places = List.of(
+                place("n1", 43.70, -79.38), place("s1", 43.60, -79.38),
+                place("n2", 43.71, -79.381), place("s2", 43.59, -79.379));
+
+        List<List<Place>> clusters = SweepClusterer.partition(43.65, -79.38, places, 2);
+
+        for (List<Place> cluster : clusters) {
+            assertEquals(cluster.get(0).getId().charAt(0), cluster.get(1).getId().charAt(0));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package placefinder.usecases.routing;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.IndoorOutdoorType;
+import placefinder.entities.OpeningHours;
+import placefinder.entities.Place;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TimeWindowScheduler}.
+ */
+class TimeWindowSchedulerTest {
+
+    private static final double ORIGIN_LAT = 43.650;
+    private static final double ORIGIN_LON = -79.400;
+
+    private static Place place(String id, double lat, double lon, int openHour, int closeHour) {
+        Place place = new Place(id, id, "", lat, lon, 0, IndoorOutdoorType.INDOOR, List.of());
+        int[][] days = new int[7][];
+        for (int d = 0; d < 7; d++) {
+            days[d] = new int[] {openHour * 60, closeHour * 60};
+        }
+        place.setOpeningHours(new OpeningHours(days));
+        return place;
+    }
+
+    @Test
+    void placeThatClosesEarly_isVisitedFirst() {
+        Place lateNear = place("late", 43.651, -79.400, 9, 22);
+        Place earlyFar = place("early", 43.660, -79.400, 9, 11);
+
+        TimeWindowScheduler.Result result = new TimeWindowScheduler().schedule(
+                ORIGIN_LAT, ORIGIN_LON, DayOfWeek.WEDNESDAY, LocalTime.of(9, 0), List.of(lateNear, earlyFar));
+
+        assertEquals(List.of(earlyFar, lateNear), result.getOrder());
+        assertTrue(result.getClosed().isEmpty());
+    }
+
+    @Test
+    void placeClosedForTheDay_isLeftOut() {
+        Place open = place("open", 43.651, -79.400, 9, 22);
+        Place closedOnSunday = place("museum", 43.652, -79.400, 10, 17);
+        int[][] days = new int[7][];
+        for (int d = 0; d < 6; d++) {
+            days[d] = new int[] {10 * 60, 17 * 60};
+        }
+        days[6] = new int[0];
+        closedOnSunday.setOpeningHours(new OpeningHours(days));
+
+        TimeWindowScheduler.Result result = new TimeWindowScheduler().schedule(
+                ORIGIN_LAT, ORIGIN_LON, DayOfWeek.SUNDAY, LocalTime.of(9, 0), List.of(open, closedOnSunday));
+
+        assertEquals(List.of(open), result.getOrder());
+        assertEquals(List.of(closedOnSunday), result.getClosed());
+    }
+
+    @Test
+    void dozenStops_withStaggeredWindows_areAllScheduled() {
+        List<Place> places = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            // one place opening per hour from 8:00, each open for three hours
+            places.add(place("p" + i, ORIGIN_LAT + 0.0003 * ((i * 7) % 12), ORIGIN_LON, 8 + i, 11 + i));
+        }
+        List<Place> shuffled = new ArrayList<>(places);
+        Collections.reverse(shuffled);
+
+        TimeWindowScheduler.Result result = new TimeWindowScheduler().schedule(
+                ORIGIN_LAT, ORIGIN_LON, DayOfWeek.MONDAY, LocalTime.of(8, 0), shuffled);
+
+        assertTrue(result.getClosed().isEmpty());
+        assertEquals(12, result.getOrder().size());
+        assertSame(places.get(0), result.getOrder().get(0));
+        assertSame(places.get(11), result.getOrder().get(11));
+    }
+
+    @Test
+    void avoidedHours_moveAVisitToAnotherHour() {
+        Place gallery = new Place("gallery", "gallery", "", 43.651, -79.400, 0, IndoorOutdoorType.INDOOR, List.of());
+        Place garden = new Place("garden", "garden", "", 43.652, -79.400, 0, IndoorOutdoorType.OUTDOOR, List.of());
+        TimeWindowScheduler.AvoidedHours rainAtNine = (place, hour) -> place == garden && hour == 9;
+
+        TimeWindowScheduler scheduler = new TimeWindowScheduler();
+        TimeWindowScheduler.Result dry = scheduler.schedule(
+                ORIGIN_LAT, ORIGIN_LON, DayOfWeek.WEDNESDAY, LocalTime.of(9, 0), List.of(gallery, garden));
+        TimeWindowScheduler.Result wet = scheduler.schedule(
+                ORIGIN_LAT, ORIGIN_LON, DayOfWeek.WEDNESDAY, LocalTime.of(9, 0), List.of(gallery, garden), rainAtNine);
+
+        assertEquals(List.of(garden, gallery), dry.getOrder());
+        assertEquals(List.of(gallery, garden), wet.getOrder());
+        assertTrue(wet.getClosed().isEmpty());
+    }
+}
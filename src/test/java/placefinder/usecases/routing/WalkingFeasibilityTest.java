@@ -0,0 +1,50 @@
+package placefinder.usecases.routing;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.Place;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static placefinder.usecases.TestPlaces.place;
+
+/**
+ * Unit tests for {@link WalkingFeasibility}.
+ */
+class WalkingFeasibilityTest {
+
+    @Test
+    void nearbyStops_allFitInTheDay() {
+        List<Place> places = List.of(place("a", 43.651, -79.381), place("b", 43.655, -79.385));
+
+        WalkingFeasibility.Result result =
+                new WalkingFeasibility().check(43.65, -79.38, LocalTime.of(9, 0), places);
+
+        assertEquals(places, result.getKept());
+        assertTrue(result.getDropped().isEmpty());
+        assertTrue(result.getEstimatedDuration().toMinutes() >= 120);
+    }
+
+    @Test
+    void lateStart_dropsStopsThatRunPastTheEndOfTheDay() {
+        List<Place> places = List.of(
+                place("a", 43.651, -79.381), place("b", 43.655, -79.385),
+                place("c", 43.652, -79.379), place("far", 43.75, -79.30));
+
+        WalkingFeasibility.Result result =
+                new WalkingFeasibility().check(43.65, -79.38, LocalTime.of(20, 0), places);
+
+        assertEquals(3, result.getKept().size());
+        assertEquals("far", result.getDropped().get(0).getId());
+    }
+
+    @Test
+    void placeTooFarToReach_isDroppedEvenAlone() {
+        WalkingFeasibility.Result result = new WalkingFeasibility()
+                .check(43.65, -79.38, LocalTime.of(9, 0), List.of(place("montreal", 45.50, -73.57)));
+
+        assertTrue(result.getKept().isEmpty());
+        assertEquals(1, result.getDropped().size());
+    }
+}
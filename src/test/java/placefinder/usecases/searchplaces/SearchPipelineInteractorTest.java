@@ -0,0 +1,163 @@
+package placefinder.usecases.searchplaces;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import placefinder.entities.*;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PlacesDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.WeatherDataAccessInterface;
+import placefinder.usecases.weatheradvice.WeatherAdviceOutputBoundary;
+import placefinder.usecases.weatheradvice.WeatherAdviceOutputData;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link SearchPipelineInteractor}.
+ */
+class SearchPipelineInteractorTest {
+
+    private static class CapturingPresenter implements SearchPlacesOutputBoundary {
+        private SearchPlacesOutputData output;
+        @Override
+        public void present(SearchPlacesOutputData outputData) {
+            this.output = outputData;
+        }
+    }
+
+    private static class CapturingWeatherPresenter implements WeatherAdviceOutputBoundary {
+        private WeatherAdviceOutputData output;
+        @Override
+        public void present(WeatherAdviceOutputData outputData) {
+            this.output = outputData;
+        }
+    }
+
+    private static <T> Answer<T> after(long millis, T value) {
+        return invocation -> {
+            Thread.sleep(millis);
+            return value;
+        };
+    }
+
+    private static Place place(String id, IndoorOutdoorType type, double distanceKm, String category) {
+        return new Place(id, id, "", 43.65, -79.38, distanceKm, type, List.of(category));
+    }
+
+    @Test
+    void geocodesOnceAndRunsWeatherAndSearchesInParallel() throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geocoding = mock(GeocodingDataAccessInterface.class);
+        PlacesDataAccessInterface places = mock(PlacesDataAccessInterface.class);
+        WeatherDataAccessInterface weather = mock(WeatherDataAccessInterface.class);
+
+        Map<String, List<String>> interests = Map.of(
+                "Food", List.of("catering"),
+                "Culture", List.of("entertainment.museum"));
+        when(prefs.loadForUser(1)).then(after(300, new PreferenceProfile(1, 2.0, interests)));
+        when(geocoding.geocode("Toronto")).then(after(300, new GeocodeResult(43.65, -79.38, "Toronto, ON")));
+        when(weather.getDailyWeather(anyDouble(), anyDouble(), eq(LocalDate.of(2025, 11, 19))))
+                .then(after(300, new WeatherSummary(8, "Rain", 1, true)));
+        Place park = place("park", IndoorOutdoorType.OUTDOOR, 0.1, "leisure.park");
+        Place museum = place("museum", IndoorOutdoorType.INDOOR, 0.5, "entertainment.museum");
+        Place cafe = place("cafe", IndoorOutdoorType.INDOOR, 0.2, "catering.cafe");
+        when(places.searchPlaces(anyDouble(), anyDouble(), anyDouble(), eq(Map.of("Food", List.of("catering")))))
+                .then(after(300, List.of(cafe, park)));
+        when(places.searchPlaces(anyDouble(), anyDouble(), anyDouble(),
+                eq(Map.of("Culture", List.of("entertainment.museum")))))
+                .then(after(300, List.of(museum)));
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        CapturingWeatherPresenter weatherPresenter = new CapturingWeatherPresenter();
+        SearchPipelineInteractor interactor =
+                new SearchPipelineInteractor(prefs, geocoding, places, weather, presenter, weatherPresenter);
+
+        long start = System.nanoTime();
+        interactor.execute(new SearchPlacesInputData(1, "Toronto", "2025-11-19"));
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // sequentially this is 5 x 300 ms; in stages it is geocoding plus the slowest second-stage call
+        assertTrue(elapsedMillis < 1200, "took " + elapsedMillis + " ms");
+        verify(geocoding, times(1)).geocode("Toronto");
+
+        assertNull(presenter.output.getErrorMessage());
+        assertTrue(presenter.output.isWeatherUsed());
+        // rainy day: indoor matches first, then by distance
+        assertEquals(List.of(cafe, museum, park), presenter.output.getPlaces());
+
+        assertNull(weatherPresenter.output.getErrorMessage());
+        assertTrue(weatherPresenter.output.getSummary().contains("Toronto, ON"));
+        assertTrue(weatherPresenter.output.getAdvice().contains("umbrella"));
+    }
+
+    @Test
+    void weatherFailure_stillPresentsPlaces() throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geocoding = mock(GeocodingDataAccessInterface.class);
+        PlacesDataAccessInterface places = mock(PlacesDataAccessInterface.class);
+        WeatherDataAccessInterface weather = mock(WeatherDataAccessInterface.class);
+        when(prefs.loadForUser(1)).thenReturn(new PreferenceProfile(1, 2.0));
+        when(geocoding.geocode("Toronto")).thenReturn(new GeocodeResult(43.65, -79.38, "Toronto, ON"));
+        when(weather.getDailyWeather(anyDouble(), anyDouble(), any())).thenThrow(new RuntimeException("timeout"));
+        Place cafe = place("cafe", IndoorOutdoorType.INDOOR, 0.2, "catering.cafe");
+        when(places.searchPlaces(anyDouble(), anyDouble(), anyDouble(), isNull())).thenReturn(List.of(cafe));
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        CapturingWeatherPresenter weatherPresenter = new CapturingWeatherPresenter();
+        new SearchPipelineInteractor(prefs, geocoding, places, weather, presenter, weatherPresenter)
+                .execute(new SearchPlacesInputData(1, "Toronto", "2025-11-19"));
+
+        assertEquals(List.of(cafe), presenter.output.getPlaces());
+        assertFalse(presenter.output.isWeatherUsed());
+        assertEquals("timeout", weatherPresenter.output.getErrorMessage());
+    }
+
+    @Test
+    void unknownLocation_reportsToBothPresenters() throws Exception {
+        GeocodingDataAccessInterface geocoding = mock(GeocodingDataAccessInterface.class);
+        when(geocoding.geocode("Nowhere")).thenReturn(null);
+        CapturingPresenter presenter = new CapturingPresenter();
+        CapturingWeatherPresenter weatherPresenter = new CapturingWeatherPresenter();
+
+        new SearchPipelineInteractor(mock(PreferenceDataAccessInterface.class), geocoding,
+                mock(PlacesDataAccessInterface.class), mock(WeatherDataAccessInterface.class),
+                presenter, weatherPresenter)
+                .execute(new SearchPlacesInputData(1, "Nowhere", "2025-11-19"));
+
+        assertEquals("Could not find that location.", presenter.output.getErrorMessage());
+        assertEquals("Could not find that location.", weatherPresenter.output.getErrorMessage());
+    }
+
+    @Test
+    void searchAnsweredWithNull_countsAsNoPlaces() throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        GeocodingDataAccessInterface geocoding = mock(GeocodingDataAccessInterface.class);
+        PlacesDataAccessInterface places = mock(PlacesDataAccessInterface.class);
+        WeatherDataAccessInterface weather = mock(WeatherDataAccessInterface.class);
+
+        Map<String, List<String>> interests = Map.of(
+                "Food", List.of("catering"),
+                "Culture", List.of("entertainment.museum"));
+        when(prefs.loadForUser(1)).thenReturn(new PreferenceProfile(1, 2.0, interests));
+        when(geocoding.geocode("Toronto")).thenReturn(new GeocodeResult(43.65, -79.38, "Toronto, ON"));
+        Place cafe = place("cafe", IndoorOutdoorType.INDOOR, 0.2, "catering.cafe");
+        when(places.searchPlaces(anyDouble(), anyDouble(), anyDouble(), eq(Map.of("Food", List.of("catering")))))
+                .thenReturn(List.of(cafe));
+        when(places.searchPlaces(anyDouble(), anyDouble(), anyDouble(),
+                eq(Map.of("Culture", List.of("entertainment.museum")))))
+                .thenReturn(null);
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        new SearchPipelineInteractor(prefs, geocoding, places, weather, presenter, new CapturingWeatherPresenter())
+                .execute(new SearchPlacesInputData(1, "Toronto", "2025-11-19"));
+
+        assertNull(presenter.output.getErrorMessage());
+        assertEquals(List.of(cafe), presenter.output.getPlaces());
+    }
+}
@@ -0,0 +1,135 @@
+package placefinder.usecases.tracing;
+
+import org.junit.jupiter.api.Test;
+import placefinder.usecases.instrumentation.Instrumentation;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracerTest {
+
+    interface Search {
+        List<String> search(String query) throws Exception;
+    }
+
+    interface Lookup {
+        String find(String key) throws IOException;
+    }
+
+    private final Tracer tracer = new Tracer(3);
+
+    private Lookup lookup(Lookup target) {
+        return Instrumentation.of(tracer.gateways()).wrap(Lookup.class, target, "gateway.lookup");
+    }
+
+    private Search search(Search target) {
+        return Instrumentation.of(tracer.useCases()).wrap(Search.class, target, "usecase.search");
+    }
+
+    @Test
+    void useCaseCall_startsATraceWithItsGatewayCallsAsChildren() throws Exception {
+        Lookup lookup = lookup(key -> key.toUpperCase());
+        Search search = search(query -> List.of(lookup.find(query), lookup.find(query + "2")));
+
+        search.search("a");
+
+        List<Trace> traces = tracer.recentTraces();
+        assertEquals(1, traces.size());
+        Trace trace = traces.get(0);
+        assertEquals("usecase.search.search", trace.getName());
+        List<Span> spans = trace.getSpans();
+        assertEquals(3, spans.size());
+        assertSame(trace.getRoot(), spans.get(0));
+        assertEquals(0, spans.get(0).getParentId());
+        for (Span child : spans.subList(1, 3)) {
+            assertEquals("gateway.lookup.find", child.getName());
+            assertEquals(trace.getRoot().getId(), child.getParentId());
+            assertTrue(child.getStartOffsetNanos() >= 0);
+            assertTrue(child.getDurationNanos() <= trace.getDurationNanos());
+        }
+    }
+
+    @Test
+    void virtualThreadsStartedInASpan_continueItsTrace() throws Exception {
+        Lookup lookup = lookup(key -> key);
+        Search search = search(query -> {
+            try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+                Future<String> first = pool.submit(() -> lookup.find("x"));
+                Future<String> second = pool.submit(() -> lookup.find("y"));
+                return List.of(first.get(), second.get());
+            }
+        });
+
+        search.search("q");
+
+        Trace trace = tracer.recentTraces().get(0);
+        List<Span> spans = trace.getSpans();
+        assertEquals(3, spans.size());
+        assertEquals(trace.getRoot().getId(), spans.get(1).getParentId());
+        assertEquals(trace.getRoot().getId(), spans.get(2).getParentId());
+        assertTrue(spans.get(1).getThreadName().startsWith("#"));
+    }
+
+    @Test
+    void gatewayCallsOutsideATrace_areNotTraced() throws Exception {
+        assertEquals("k", lookup(key -> key).find("k"));
+
+        assertTrue(tracer.recentTraces().isEmpty());
+    }
+
+    @Test
+    void failingCalls_recordTheExceptionType() {
+        Lookup lookup = lookup(key -> {
+            throw new IOException("offline, key=secret");
+        });
+        Search search = search(query -> List.of(lookup.find(query)));
+
+        assertThrows(IOException.class, () -> search.search("a"));
+
+        List<Span> spans = tracer.recentTraces().get(0).getSpans();
+        assertEquals("IOException", spans.get(0).getError());
+        assertEquals("IOException", spans.get(1).getError());
+    }
+
+    @Test
+    void recentTraces_keepsTheNewestUpToCapacity() throws Exception {
+        Search search = search(query -> List.of(query));
+        for (int i = 0; i < 5; i++) {
+            search.search("q");
+        }
+
+        List<Trace> traces = tracer.recentTraces();
+        assertEquals(3, traces.size());
+        assertTrue(traces.get(0).getId() > traces.get(1).getId());
+        assertTrue(traces.get(1).getId() > traces.get(2).getId());
+    }
+
+    @Test
+    void threadInheritingAnEndedSpan_addsNothingToThatTrace() throws Exception {
+        Lookup lookup = lookup(key -> key);
+        Thread[] late = new Thread[1];
+        Search search = search(query -> {
+            late[0] = Thread.ofVirtual().unstarted(() -> {
+                try {
+                    lookup.find("late");
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            return List.of();
+        });
+        search.search("q");
+
+        late[0].start();
+        late[0].join();
+
+        Trace trace = tracer.recentTraces().get(0);
+        assertEquals(1, trace.getSpans().size());
+        assertEquals(1, tracer.recentTraces().size());
+    }
+}
@@ -5,6 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import placefinder.entities.User;
 import placefinder.usecases.dataacessinterfaces.UserDataAccessInterface;
+import placefinder.usecases.logging.AppLogger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -341,4 +346,33 @@ class VerifyEmailInteractorTest {
         assertFalse(out.isSuccess());
         assertEquals("Email and code are required.", out.getMessage());
     }
+
+    /**
+     * Logging: each attempt is logged through the {@link AppLogger}, but the
+     * verification code the user typed never appears in a record.
+     */
+    @Test
+    void attempts_areLoggedWithoutTheCode() throws Exception {
+        List<String> records = new ArrayList<>();
+        AppLogger logger = new AppLogger() {
+            @Override
+            public boolean isEnabled(Level level) {
+                return true;
+            }
+
+            @Override
+            public void log(Level level, String event, Object... fields) {
+                records.add(event + " " + Arrays.toString(fields));
+            }
+        };
+        interactor = new VerifyEmailInteractor(userDataAccessInterface, presenter, logger);
+        when(userDataAccessInterface.findByEmail("user@example.com")).thenReturn(null);
+
+        interactor.execute(new VerifyEmailInputData("user@example.com", "483920"));
+
+        assertFalse(records.isEmpty());
+        for (String record : records) {
+            assertFalse(record.contains("483920"), record);
+        }
+    }
 }
@@ -0,0 +1,75 @@
+package placefinder.usecases.warmup;
+
+import org.junit.jupiter.api.Test;
+import placefinder.entities.*;
+import placefinder.usecases.dataacessinterfaces.GeocodingDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PlanDataAccessInterface;
+import placefinder.usecases.dataacessinterfaces.PreferenceDataAccessInterface;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link WarmUpInteractor}.
+ */
+class WarmUpInteractorTest {
+
+    private static class CapturingPresenter implements WarmUpOutputBoundary {
+        private WarmUpOutputData output;
+        @Override
+        public void present(WarmUpOutputData outputData) {
+            this.output = outputData;
+        }
+    }
+
+    private static Plan plan(String origin) {
+        return new Plan(1, 7, "Day out", LocalDate.of(2025, 11, 19), LocalTime.of(9, 0),
+                origin, null, 2.0, null);
+    }
+
+    @Test
+    void loadsUserDataAndGeocodesEachAddressOnce() throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        PlanDataAccessInterface plans = mock(PlanDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        when(prefs.loadForUser(7)).thenReturn(new PreferenceProfile(7, 2.0));
+        when(prefs.listFavorites(7)).thenReturn(List.of(
+                new FavoriteLocation(1, 7, "Hotel", "2 Near St", 43.66, -79.38)));
+        when(plans.findPlansByUser(7)).thenReturn(List.of(plan("toronto"), plan("2 Near St")));
+        when(geo.geocode(anyString())).thenReturn(new GeocodeResult(43.65, -79.38, "Toronto"));
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        new WarmUpInteractor(prefs, plans, geo, presenter).execute(new WarmUpInputData(7, "Toronto"));
+
+        verify(prefs).loadForUser(7);
+        verify(geo).geocode("Toronto");
+        verify(geo).geocode("2 Near St");
+        verifyNoMoreInteractions(geo);
+        assertEquals(2, presenter.output.getPlansLoaded());
+        assertEquals(1, presenter.output.getFavoritesLoaded());
+        assertEquals(2, presenter.output.getAddressesGeocoded());
+        assertNull(presenter.output.getErrorMessage());
+    }
+
+    @Test
+    void failedLoadDoesNotStopTheRest() throws Exception {
+        PreferenceDataAccessInterface prefs = mock(PreferenceDataAccessInterface.class);
+        PlanDataAccessInterface plans = mock(PlanDataAccessInterface.class);
+        GeocodingDataAccessInterface geo = mock(GeocodingDataAccessInterface.class);
+        when(prefs.listFavorites(7)).thenReturn(List.of());
+        when(plans.findPlansByUser(7)).thenThrow(new RuntimeException("database is locked"));
+        when(geo.geocode("Toronto")).thenReturn(new GeocodeResult(43.65, -79.38, "Toronto"));
+
+        CapturingPresenter presenter = new CapturingPresenter();
+        new WarmUpInteractor(prefs, plans, geo, presenter).execute(new WarmUpInputData(7, "Toronto"));
+
+        assertEquals(0, presenter.output.getPlansLoaded());
+        assertEquals(1, presenter.output.getAddressesGeocoded());
+        assertEquals("database is locked", presenter.output.getErrorMessage());
+    }
+}